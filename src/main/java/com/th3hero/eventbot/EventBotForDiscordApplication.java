@@ -4,10 +4,12 @@ import com.kseth.development.autoconfigure.jpa.DataJpaAutoConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableAsync;
 
 // put this exclude in everything going on unless mascot finds a fix for autoconfiguration not having a static com.kseth name
 @SpringBootApplication(exclude = {DataJpaAutoConfiguration.class})
 @EnableJpaRepositories
+@EnableAsync
 public class EventBotForDiscordApplication {
 
     public static void main(String[] args) {
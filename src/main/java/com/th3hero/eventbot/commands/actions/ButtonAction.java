@@ -5,8 +5,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
-import static com.th3hero.eventbot.formatting.InteractionArguments.DRAFT_ID;
-import static com.th3hero.eventbot.formatting.InteractionArguments.EVENT_ID;
+import static com.th3hero.eventbot.formatting.InteractionArguments.*;
 
 
 @Getter
@@ -21,11 +20,25 @@ public enum ButtonAction implements DiscordActionArguments {
     EDIT_EVENT_COURSES(List.of(EVENT_ID)),
     DELETE_EVENT(List.of(EVENT_ID)),
     UNDO_EVENT_DELETION(List.of(EVENT_ID)),
-    TOGGLE_COMPLETED(List.of(EVENT_ID));
+    TOGGLE_COMPLETED(List.of(EVENT_ID)),
+    COURSE_PAGE(List.of(TARGET, TARGET_ID, CATALOG_VERSION, RANGE_START, RANGE_END, PAGE_START)),
+    COURSE_SEARCH(List.of(TARGET, TARGET_ID)),
+    VIEW_EVENTS_NEXT(List.of(COURSE_ID, EVENT_TYPE, MAX_DATE, PAGE_SIZE, CURSOR_DATE, CURSOR_ID)),
+    VIEW_EVENTS_PREVIOUS(List.of(COURSE_ID, EVENT_TYPE, MAX_DATE, PAGE_SIZE, CURSOR_DATE, CURSOR_ID));
 
 
     /**
      * The keys that the request should contain
      */
     private final List<String> requestKeys;
+
+    /**
+     * @return If the action responds with a modal, which discord only accepts as the first response to the interaction
+     */
+    public boolean repliesWithModal() {
+        return switch (this) {
+            case EDIT_DRAFT_DETAILS, EDIT_EVENT_DETAILS, DELETE_EVENT, COURSE_SEARCH -> true;
+            default -> false;
+        };
+    }
 }
\ No newline at end of file
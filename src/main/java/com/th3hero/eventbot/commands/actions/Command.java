@@ -18,6 +18,13 @@ public enum Command {
         return this.toString().toLowerCase();
     }
 
+    /**
+     * @return If the command responds with a modal, which discord only accepts as the first response to the interaction
+     */
+    public boolean repliesWithModal() {
+        return this == CREATE_EVENT;
+    }
+
     public static final Map<String, String> DESCRIPTIONS = Map.ofEntries(
         Map.entry(HELP.getDisplayName(), "Displays this help embed"),
         Map.entry(SELECT_COURSES.getDisplayName(), "Select courses you wish to be notified for"),
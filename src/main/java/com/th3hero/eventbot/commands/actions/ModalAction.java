@@ -5,8 +5,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
-import static com.th3hero.eventbot.formatting.InteractionArguments.DRAFT_ID;
-import static com.th3hero.eventbot.formatting.InteractionArguments.EVENT_ID;
+import static com.th3hero.eventbot.formatting.InteractionArguments.*;
 
 @Getter
 @RequiredArgsConstructor
@@ -14,7 +13,8 @@ public enum ModalAction implements DiscordActionArguments {
     CREATE_DRAFT(List.of(DRAFT_ID)),
     EDIT_DRAFT_DETAILS(List.of(DRAFT_ID)),
     EVENT_DELETION_REASON(List.of(EVENT_ID)),
-    EDIT_EVENT_DETAILS(List.of(EVENT_ID));
+    EDIT_EVENT_DETAILS(List.of(EVENT_ID)),
+    COURSE_SEARCH(List.of(TARGET, TARGET_ID));
 
     /**
      * The keys that the request should contain
@@ -15,9 +15,12 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -37,9 +40,10 @@ public class ButtonRequest extends InteractionRequest {
         @NonNull ButtonInteractionEvent event,
         @NonNull Member requester,
         @NonNull Guild server,
+        @NonNull InteractionAcknowledgement acknowledgement,
         @NonNull Map<String, Long> arguments
     ) {
-        super(requester, server);
+        super(requester, server, acknowledgement);
         this.action = action;
         this.event = event;
         this.arguments = arguments;
@@ -49,11 +53,15 @@ public class ButtonRequest extends InteractionRequest {
      * Create a button request from a button interaction event
      *
      * @param event The event to create the button request from
+     * @param acknowledgement The acknowledgement shared with the executor handling the event
      * @return The created button request
      * @throws IllegalInteractionException If the interaction is not supported
      * @see ButtonAction ButtonAction for supported interactions
      */
-    public static ButtonRequest fromInteraction(@NonNull final ButtonInteractionEvent event) throws IllegalInteractionException {
+    public static ButtonRequest fromInteraction(
+        @NonNull final ButtonInteractionEvent event,
+        @NonNull final InteractionAcknowledgement acknowledgement
+    ) throws IllegalInteractionException {
         final List<String> buttonIdSplits = List.of(event.getButton().getId().split("-"));
         final String buttonActionString = buttonIdSplits.subList(0, 1).getFirst();
         final List<String> idArguments = buttonIdSplits.subList(1, buttonIdSplits.size());
@@ -65,6 +73,7 @@ public class ButtonRequest extends InteractionRequest {
             event,
             event.getMember(),
             event.getGuild(),
+            acknowledgement,
             InteractionArguments.parseArguments(action, idArguments)
         );
     }
@@ -103,17 +112,37 @@ public class ButtonRequest extends InteractionRequest {
      */
     @Override
     public void deferReply(MessageMode mode) {
-        DiscordActionUtils.deferResponse(event, MessageMode.USER == mode);
+        DiscordActionUtils.deferResponse(event, acknowledgement, MessageMode.USER == mode);
         log.debug("Deferred response sent for button event {}", action);
     }
 
+    /**
+     * Replaces the components of the message the button belongs to
+     *
+     * @param components The new components of the message
+     */
+    public void editComponents(final Collection<? extends LayoutComponent> components) {
+        DiscordActionUtils.editComponentsResponse(event, acknowledgement, components);
+        log.debug("Components edited for button event {}", action);
+    }
+
+    /**
+     * Edits the message the button belongs to
+     *
+     * @param data The changes to make to the message
+     */
+    public void editMessage(final MessageEditData data) {
+        DiscordActionUtils.editMessageResponse(event, acknowledgement, data);
+        log.debug("Message edited for button event {}", action);
+    }
+
     private void sendTextResponse(final String text, final MessageMode mode, final Consumer<Message> success) {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(text).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.textResponse(event, text, true);
+            DiscordActionUtils.textResponse(event, acknowledgement, text, true);
         }
         log.debug("Text response sent for button event {}", action);
     }
@@ -122,18 +151,15 @@ public class ButtonRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessageEmbeds(embed).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.embedResponse(event, embed, true);
+            DiscordActionUtils.embedResponse(event, acknowledgement, embed, true);
         }
         log.debug("Embed response sent for button event {}", action);
     }
 
     private void sendModalResponse(final Modal modal) {
-        if (event.isAcknowledged()) {
-            throw new IllegalInteractionException("Cannot send a modal response to an acknowledged event");
-        }
-        DiscordActionUtils.modalResponse(event, modal);
+        DiscordActionUtils.modalResponse(event, acknowledgement, modal);
         log.debug("Modal response sent for button event {}", action);
     }
 
@@ -141,9 +167,9 @@ public class ButtonRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(createData).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.messageCreateDataResponse(event, createData, true);
+            DiscordActionUtils.messageCreateDataResponse(event, acknowledgement, createData, true);
         }
         log.debug("MessageCreateData response sent for button event {}", action);
     }
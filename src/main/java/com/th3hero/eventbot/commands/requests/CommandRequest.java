@@ -39,9 +39,10 @@ public class CommandRequest extends InteractionRequest {
         @NonNull SlashCommandInteractionEvent event,
         @NonNull Member requester,
         @NonNull Guild server,
+        @NonNull InteractionAcknowledgement acknowledgement,
         @NonNull Map<String, String> arguments
     ) {
-        super(requester, server);
+        super(requester, server, acknowledgement);
         this.command = command;
         this.event = event;
         this.arguments = arguments;
@@ -51,11 +52,15 @@ public class CommandRequest extends InteractionRequest {
      * Create a command request from a slash command interaction event
      *
      * @param event The event to create the command request from
+     * @param acknowledgement The acknowledgement shared with the executor handling the event
      * @return The created command request
      * @throws IllegalInteractionException If the interaction is not supported
      * @see Command Command for supported interactions
      */
-    public static CommandRequest fromInteraction(@NonNull final SlashCommandInteractionEvent event) throws IllegalInteractionException {
+    public static CommandRequest fromInteraction(
+        @NonNull final SlashCommandInteractionEvent event,
+        @NonNull final InteractionAcknowledgement acknowledgement
+    ) throws IllegalInteractionException {
         final Command command = DiscordActionArguments.actionFrom(Command.class, event.getName())
             .orElseThrow(() -> new IllegalInteractionException("Unsupported interaction with command %s".formatted(event.getName())));
 
@@ -69,6 +74,7 @@ public class CommandRequest extends InteractionRequest {
             event,
             event.getMember(),
             event.getGuild(),
+            acknowledgement,
             arguments
         );
     }
@@ -117,7 +123,7 @@ public class CommandRequest extends InteractionRequest {
      */
     @Override
     public void deferReply(final MessageMode mode) {
-        DiscordActionUtils.deferResponse(event, MessageMode.USER == mode);
+        DiscordActionUtils.deferResponse(event, acknowledgement, MessageMode.USER == mode);
         log.debug("Deferred response sent for command {}", command);
     }
 
@@ -125,9 +131,9 @@ public class CommandRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(text).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.textResponse(event, text, true);
+            DiscordActionUtils.textResponse(event, acknowledgement, text, true);
         }
         log.debug("Text response sent for slash command {}", command);
     }
@@ -136,18 +142,15 @@ public class CommandRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessageEmbeds(embed).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.embedResponse(event, embed, true);
+            DiscordActionUtils.embedResponse(event, acknowledgement, embed, true);
         }
         log.debug("Embed response sent for slash command {}", command);
     }
 
     private void sendModalResponse(final Modal modal) {
-        if (event.isAcknowledged()) {
-            throw new IllegalInteractionException("Events that have been acknowledged cannot be responded to with an exception");
-        }
-        DiscordActionUtils.modalResponse(event, modal);
+        DiscordActionUtils.modalResponse(event, acknowledgement, modal);
         log.debug("Modal response sent for slash command {}", command);
     }
 
@@ -155,9 +158,9 @@ public class CommandRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(createData).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.messageCreateDataResponse(event, createData, true);
+            DiscordActionUtils.messageCreateDataResponse(event, acknowledgement, createData, true);
         }
         log.debug("MessageCreateData response sent for slash command {}", command);
     }
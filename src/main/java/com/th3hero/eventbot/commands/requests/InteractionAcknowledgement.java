@@ -0,0 +1,59 @@
+package com.th3hero.eventbot.commands.requests;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Tracks whether the initial response to an interaction has been sent.
+ * Discord accepts exactly one initial response (a reply, an edit, a modal or a deferral), every later response goes through the interaction hook.
+ * Shared by the handler and the automatic deferral so only one of them sends the initial response.
+ */
+public final class InteractionAcknowledgement {
+    private final AtomicBoolean acknowledged = new AtomicBoolean();
+    private final ResponseTimer responseTimer;
+
+    public InteractionAcknowledgement() {
+        this(response -> () -> {});
+    }
+
+    /**
+     * @param responseTimer Times the responses sent for the interaction, supplied by whoever owns the interaction
+     */
+    public InteractionAcknowledgement(ResponseTimer responseTimer) {
+        this.responseTimer = responseTimer;
+    }
+
+    /**
+     * Claims the initial response of the interaction.
+     *
+     * @return true if the caller must send the initial response, false if it has already been sent and the hook must be used
+     */
+    public boolean acknowledge() {
+        return acknowledged.compareAndSet(false, true);
+    }
+
+    public boolean isAcknowledged() {
+        return acknowledged.get();
+    }
+
+    /**
+     * Starts timing a response that is about to be queued.
+     *
+     * @param response The kind of response being sent
+     * @param <T> The result type of the response action
+     * @return The callback to pass to <code>RestAction.queue</code>, which stops the timer once discord accepted the response
+     */
+    public <T> Consumer<T> responseTimer(String response) {
+        Runnable stop = responseTimer.start(response);
+        return result -> stop.run();
+    }
+
+    @FunctionalInterface
+    public interface ResponseTimer {
+        /**
+         * @param response The kind of response being sent
+         * @return Stops the timer
+         */
+        Runnable start(String response);
+    }
+}
@@ -20,6 +20,8 @@ public abstract class InteractionRequest {
     protected final Member requester;
     @NonNull
     protected final Guild server;
+    @NonNull
+    protected final InteractionAcknowledgement acknowledgement;
 
     @Getter(value = AccessLevel.NONE)
     protected Long eventChannelId = null;
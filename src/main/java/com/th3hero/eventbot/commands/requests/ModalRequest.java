@@ -15,8 +15,10 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -36,9 +38,10 @@ public class ModalRequest extends InteractionRequest {
         @NonNull ModalInteractionEvent event,
         @NonNull Member requester,
         @NonNull Guild server,
+        @NonNull InteractionAcknowledgement acknowledgement,
         @NonNull Map<String, Long> arguments
     ) {
-        super(requester, server);
+        super(requester, server, acknowledgement);
         this.action = action;
         this.event = event;
         this.arguments = arguments;
@@ -48,11 +51,15 @@ public class ModalRequest extends InteractionRequest {
      * Create a modal request from a modal interaction event
      *
      * @param event The event to create the modal request from
+     * @param acknowledgement The acknowledgement shared with the executor handling the event
      * @return The created modal request
      * @throws IllegalInteractionException If the interaction is not supported
      * @see ModalAction ModalAction for supported interactions
      */
-    public static ModalRequest fromInteraction(@NonNull final ModalInteractionEvent event) throws IllegalInteractionException {
+    public static ModalRequest fromInteraction(
+        @NonNull final ModalInteractionEvent event,
+        @NonNull final InteractionAcknowledgement acknowledgement
+    ) throws IllegalInteractionException {
         final List<String> modalIdSplits = List.of(event.getModalId().split("-"));
         final String modalActionString = modalIdSplits.subList(0, 1).getFirst();
         final List<String> idArguments = modalIdSplits.subList(1, modalIdSplits.size());
@@ -64,6 +71,7 @@ public class ModalRequest extends InteractionRequest {
             event,
             event.getMember(),
             event.getGuild(),
+            acknowledgement,
             InteractionArguments.parseArguments(action, idArguments)
         );
     }
@@ -100,17 +108,27 @@ public class ModalRequest extends InteractionRequest {
      */
     @Override
     public void deferReply(MessageMode mode) {
-        DiscordActionUtils.deferResponse(event, MessageMode.USER == mode);
+        DiscordActionUtils.deferResponse(event, acknowledgement, MessageMode.USER == mode);
         log.debug("Deferred response sent for modal event {}", action);
     }
 
+    /**
+     * Replaces the components of the message the modal belongs to
+     *
+     * @param components The new components of the message
+     */
+    public void editComponents(final Collection<? extends LayoutComponent> components) {
+        DiscordActionUtils.editComponentsResponse(event, acknowledgement, components);
+        log.debug("Components edited for modal event {}", action);
+    }
+
     private void sendTextResponse(final String text, final MessageMode mode, final Consumer<Message> success) {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(text).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.textResponse(event, text, true);
+            DiscordActionUtils.textResponse(event, acknowledgement, text, true);
         }
         log.debug("Text response sent for modal event {}", action);
     }
@@ -119,9 +137,9 @@ public class ModalRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessageEmbeds(embed).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.embedResponse(event, embed, true);
+            DiscordActionUtils.embedResponse(event, acknowledgement, embed, true);
         }
     }
 
@@ -129,9 +147,9 @@ public class ModalRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(createData).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.messageCreateDataResponse(event, createData, true);
+            DiscordActionUtils.messageCreateDataResponse(event, acknowledgement, createData, true);
         }
     }
 }
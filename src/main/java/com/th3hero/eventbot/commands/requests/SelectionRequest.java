@@ -37,9 +37,10 @@ public class SelectionRequest extends InteractionRequest {
         @NonNull StringSelectInteractionEvent event,
         @NonNull Member requester,
         @NonNull Guild server,
+        @NonNull InteractionAcknowledgement acknowledgement,
         @NonNull Map<String, Long> arguments
     ) {
-        super(requester, server);
+        super(requester, server, acknowledgement);
         this.action = action;
         this.event = event;
         this.arguments = arguments;
@@ -49,11 +50,15 @@ public class SelectionRequest extends InteractionRequest {
      * Create a selection request from a selection interaction event
      *
      * @param event The event to create the selection request from
+     * @param acknowledgement The acknowledgement shared with the executor handling the event
      * @return The created selection request
      * @throws IllegalInteractionException If the interaction is not supported
      * @see SelectionAction SelectionAction for supported interactions
      */
-    public static SelectionRequest fromInteraction(@NonNull final StringSelectInteractionEvent event) throws IllegalInteractionException {
+    public static SelectionRequest fromInteraction(
+        @NonNull final StringSelectInteractionEvent event,
+        @NonNull final InteractionAcknowledgement acknowledgement
+    ) throws IllegalInteractionException {
         final List<String> selectionIdSplits = List.of(event.getSelectMenu().getId().split("-"));
         final String selectionActionString = selectionIdSplits.getFirst();
         final List<String> idArguments = selectionIdSplits.subList(1, selectionIdSplits.size());
@@ -65,6 +70,7 @@ public class SelectionRequest extends InteractionRequest {
             event,
             event.getMember(),
             event.getGuild(),
+            acknowledgement,
             InteractionArguments.parseArguments(action, idArguments)
         );
     }
@@ -103,7 +109,7 @@ public class SelectionRequest extends InteractionRequest {
      */
     @Override
     public void deferReply(MessageMode mode) {
-        DiscordActionUtils.deferResponse(event, MessageMode.USER == mode);
+        DiscordActionUtils.deferResponse(event, acknowledgement, MessageMode.USER == mode);
         log.debug("Deferred response sent for selection event {}", action);
     }
 
@@ -111,9 +117,9 @@ public class SelectionRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(text).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.textResponse(event, text, true);
+            DiscordActionUtils.textResponse(event, acknowledgement, text, true);
         }
         log.debug("Text response sent for selection event {}", action);
     }
@@ -122,18 +128,15 @@ public class SelectionRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessageEmbeds(embed).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.embedResponse(event, embed, true);
+            DiscordActionUtils.embedResponse(event, acknowledgement, embed, true);
         }
         log.debug("Embed response sent for selection event {}", action);
     }
 
     private void sendModalResponse(final Modal modal) {
-        if (event.isAcknowledged()) {
-            throw new IllegalInteractionException("Cannot send a modal response to an acknowledged interaction");
-        }
-        DiscordActionUtils.modalResponse(event, modal);
+        DiscordActionUtils.modalResponse(event, acknowledgement, modal);
         log.debug("Modal response sent for selection event {}", action);
     }
 
@@ -141,9 +144,9 @@ public class SelectionRequest extends InteractionRequest {
         if (mode.equals(MessageMode.EVENT_CHANNEL)) {
             MessageChannel channel = getEventChannel();
             channel.sendMessage(createData).queue(success);
-            DiscordActionUtils.textResponse(event, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, SENT_TO_EVENT_CHANNEL.formatted(channel.getAsMention()), true);
         } else {
-            DiscordActionUtils.messageCreateDataResponse(event, createData, true);
+            DiscordActionUtils.messageCreateDataResponse(event, acknowledgement, createData, true);
         }
         log.debug("MessageCreateData response sent for selection event {}", action);
     }
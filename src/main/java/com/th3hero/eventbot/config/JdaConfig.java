@@ -1,21 +1,40 @@
 package com.th3hero.eventbot.config;
 
 import com.kseth.development.autoconfigure.discord.JdaBuilderCustomizer;
+import com.th3hero.eventbot.services.MemberCacheService;
 import net.dv8tion.jda.api.entities.Activity;
 import net.dv8tion.jda.api.requests.GatewayIntent;
 import net.dv8tion.jda.api.utils.ChunkingFilter;
-import net.dv8tion.jda.api.utils.MemberCachePolicy;
+import net.dv8tion.jda.api.utils.cache.CacheFlag;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class JdaConfig {
+    /**
+     * Members are not chunked on startup, they are cached as discord sends them if {@link MemberCacheService} wants them,
+     * up to the given number of members with the least recently seen dropped first.
+     * Caches for presences, voice, emojis, stickers and scheduled events are disabled since the bot never reads them.
+     */
     @Bean
-    JdaBuilderCustomizer jdaBuilderCustomizer() {
+    JdaBuilderCustomizer jdaBuilderCustomizer(
+        MemberCacheService memberCacheService,
+        @Value("${discord.member-cache.max-size:10000}") int memberCacheMaxSize
+    ) {
         return builder -> builder
             .enableIntents(GatewayIntent.GUILD_MEMBERS, GatewayIntent.GUILD_MESSAGES)
-            .setChunkingFilter(ChunkingFilter.ALL)
-            .setMemberCachePolicy(MemberCachePolicy.ALL)
+            .setChunkingFilter(ChunkingFilter.NONE)
+            .setMemberCachePolicy(memberCacheService.lru(memberCacheMaxSize))
+            .disableCache(
+                CacheFlag.ACTIVITY,
+                CacheFlag.CLIENT_STATUS,
+                CacheFlag.ONLINE_STATUS,
+                CacheFlag.VOICE_STATE,
+                CacheFlag.EMOJI,
+                CacheFlag.STICKER,
+                CacheFlag.SCHEDULED_EVENTS
+            )
             .setActivity(Activity.watching("For Events"));
     }
 }
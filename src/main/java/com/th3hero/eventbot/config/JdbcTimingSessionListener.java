@@ -0,0 +1,52 @@
+package com.th3hero.eventbot.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that adds the time spent executing JDBC statements, and the number executed, to per thread totals.
+ * Registered for every session through <code>hibernate.session.events.auto</code>,
+ * so callers can measure the database work of a unit of work by comparing the totals before and after it.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+    private static final ThreadLocal<long[]> THREAD_JDBC_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<long[]> THREAD_JDBC_STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private long statementStart;
+    private long batchStart;
+
+    /**
+     * @return The total time in nanoseconds the current thread has spent executing JDBC statements
+     */
+    public static long threadJdbcNanos() {
+        return THREAD_JDBC_NANOS.get()[0];
+    }
+
+    /**
+     * @return The number of JDBC statements and batches the current thread has executed
+     */
+    public static long threadJdbcStatements() {
+        return THREAD_JDBC_STATEMENTS.get()[0];
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        THREAD_JDBC_NANOS.get()[0] += System.nanoTime() - statementStart;
+        THREAD_JDBC_STATEMENTS.get()[0]++;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        THREAD_JDBC_NANOS.get()[0] += System.nanoTime() - batchStart;
+        THREAD_JDBC_STATEMENTS.get()[0]++;
+    }
+}
@@ -1,13 +1,19 @@
 package com.th3hero.eventbot.controllers.discord;
 
+import com.th3hero.eventbot.commands.actions.ButtonAction;
+import com.th3hero.eventbot.commands.actions.DiscordActionArguments;
 import com.th3hero.eventbot.commands.requests.ButtonRequest;
+import com.th3hero.eventbot.commands.requests.InteractionAcknowledgement;
 import com.th3hero.eventbot.exceptions.ConfigErrorException;
 import com.th3hero.eventbot.exceptions.DataAccessException;
 import com.th3hero.eventbot.exceptions.IllegalInteractionException;
 import com.th3hero.eventbot.exceptions.UnsupportedResponseException;
 import com.th3hero.eventbot.services.ConfigService;
+import com.th3hero.eventbot.services.CourseService;
 import com.th3hero.eventbot.services.EventDraftService;
 import com.th3hero.eventbot.services.EventService;
+import com.th3hero.eventbot.services.InteractionExecutor;
+import com.th3hero.eventbot.services.InteractionMetrics;
 import com.th3hero.eventbot.utils.DiscordActionUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.NonNull;
@@ -22,26 +28,36 @@ import org.springframework.stereotype.Controller;
 @RequiredArgsConstructor
 public class ButtonController extends ListenerAdapter {
     private final ConfigService configService;
+    private final CourseService courseService;
     private final EventDraftService eventDraftService;
     private final EventService eventService;
+    private final InteractionExecutor interactionExecutor;
+    private final InteractionMetrics interactionMetrics;
 
     @Override
     public void onButtonInteraction(@NonNull ButtonInteractionEvent event) {
+        String action = InteractionExecutor.actionName(event.getButton().getId());
+        boolean autoDefer = DiscordActionArguments.actionFrom(ButtonAction.class, action)
+            .map(buttonAction -> !buttonAction.repliesWithModal())
+            .orElse(true);
+        interactionExecutor.submit(event, "button", action, autoDefer, acknowledgement -> handleInteraction(event, acknowledgement));
+    }
+
+    private void handleInteraction(ButtonInteractionEvent event, InteractionAcknowledgement acknowledgement) {
         try {
-            final ButtonRequest request = ButtonRequest.fromInteraction(event);
-            buttonHandler(request);
+            interactionMetrics.record("button", () -> ButtonRequest.fromInteraction(event, acknowledgement), ButtonRequest::getAction, this::buttonHandler);
         } catch (EntityNotFoundException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.debug(e.getMessage(), e);
         } catch (DataAccessException | IllegalInteractionException | ConfigErrorException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.error(e.getMessage(), e);
         } catch (UnsupportedResponseException e) {
-            DiscordActionUtils.textResponse(event, "Failed to respond to the interaction.", true);
+            DiscordActionUtils.textResponse(event, acknowledgement, "Failed to respond to the interaction.", true);
             log.error(e.getMessage(), e);
         } catch (Exception e) {
             log.error("ButtonId: {}", event.getButton().getId());
-            DiscordActionUtils.textResponse(event, DiscordActionUtils.DEFAULT_ERROR_RESPONSE, true);
+            DiscordActionUtils.textResponse(event, acknowledgement, DiscordActionUtils.DEFAULT_ERROR_RESPONSE, true);
             throw e;
         }
     }
@@ -59,6 +75,9 @@ public class ButtonController extends ListenerAdapter {
             case DELETE_EVENT -> eventService.sendDeleteConformation(request);
             case UNDO_EVENT_DELETION -> eventService.undoEventDeletion(request);
             case TOGGLE_COMPLETED -> eventService.toggleEventCompleted(request);
+            case COURSE_PAGE -> courseService.sendCoursePage(request);
+            case COURSE_SEARCH -> courseService.sendCourseSearchModal(request);
+            case VIEW_EVENTS_NEXT, VIEW_EVENTS_PREVIOUS -> eventService.sendViewEventsPage(request);
             default ->
                 log.error("Received an unsupported button action: {}", request.getEvent().getButton().getId());
         }
@@ -1,13 +1,17 @@
 package com.th3hero.eventbot.controllers.discord;
 
+import com.th3hero.eventbot.commands.requests.InteractionAcknowledgement;
 import com.th3hero.eventbot.commands.requests.ModalRequest;
 import com.th3hero.eventbot.exceptions.ConfigErrorException;
 import com.th3hero.eventbot.exceptions.DataAccessException;
 import com.th3hero.eventbot.exceptions.IllegalInteractionException;
 import com.th3hero.eventbot.exceptions.UnsupportedResponseException;
 import com.th3hero.eventbot.services.ConfigService;
+import com.th3hero.eventbot.services.CourseService;
 import com.th3hero.eventbot.services.EventDraftService;
 import com.th3hero.eventbot.services.EventService;
+import com.th3hero.eventbot.services.InteractionExecutor;
+import com.th3hero.eventbot.services.InteractionMetrics;
 import com.th3hero.eventbot.utils.DiscordActionUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.NonNull;
@@ -24,22 +28,34 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ModalController extends ListenerAdapter {
     private final ConfigService configService;
+    private final CourseService courseService;
     private final EventDraftService eventDraftService;
     private final EventService eventService;
+    private final InteractionExecutor interactionExecutor;
+    private final InteractionMetrics interactionMetrics;
 
     @Override
     public void onModalInteraction(@NonNull ModalInteractionEvent event) {
+        interactionExecutor.submit(
+            event,
+            "modal",
+            InteractionExecutor.actionName(event.getModalId()),
+            true,
+            acknowledgement -> handleInteraction(event, acknowledgement)
+        );
+    }
+
+    private void handleInteraction(ModalInteractionEvent event, InteractionAcknowledgement acknowledgement) {
         try {
-            final ModalRequest request = ModalRequest.fromInteraction(event);
-            commandHandler(request);
+            interactionMetrics.record("modal", () -> ModalRequest.fromInteraction(event, acknowledgement), ModalRequest::getAction, this::commandHandler);
         } catch (EntityNotFoundException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.debug(e.getMessage(), e);
         } catch (DataAccessException | IllegalInteractionException | ConfigErrorException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.error(e.getMessage(), e);
         } catch (UnsupportedResponseException e) {
-            DiscordActionUtils.textResponse(event, "Failed to respond to the interaction.", true);
+            DiscordActionUtils.textResponse(event, acknowledgement, "Failed to respond to the interaction.", true);
             log.error(e.getMessage(), e);
         } catch (Exception e) {
             log.error("ModalId: {}", event.getModalId());
@@ -47,7 +63,7 @@ public class ModalController extends ListenerAdapter {
                 .map(option -> "%s: %s".formatted(option.getId(), option.getAsString()))
                 .toList();
             log.error("Options: {}", options);
-            DiscordActionUtils.textResponse(event, DiscordActionUtils.DEFAULT_ERROR_RESPONSE, true);
+            DiscordActionUtils.textResponse(event, acknowledgement, DiscordActionUtils.DEFAULT_ERROR_RESPONSE, true);
             throw e;
         }
     }
@@ -59,6 +75,7 @@ public class ModalController extends ListenerAdapter {
             case EDIT_DRAFT_DETAILS -> eventDraftService.updateDraftDetails(request);
             case EVENT_DELETION_REASON -> eventService.handleDeleteConformation(request);
             case EDIT_EVENT_DETAILS -> eventService.editEventDetails(request);
+            case COURSE_SEARCH -> courseService.searchCourses(request);
             default -> log.error("Received an unsupported modal type: {}", request.getEvent().getModalId());
         }
     }
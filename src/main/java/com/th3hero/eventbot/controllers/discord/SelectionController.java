@@ -1,5 +1,6 @@
 package com.th3hero.eventbot.controllers.discord;
 
+import com.th3hero.eventbot.commands.requests.InteractionAcknowledgement;
 import com.th3hero.eventbot.commands.requests.SelectionRequest;
 import com.th3hero.eventbot.exceptions.ConfigErrorException;
 import com.th3hero.eventbot.exceptions.DataAccessException;
@@ -9,6 +10,8 @@ import com.th3hero.eventbot.services.ConfigService;
 import com.th3hero.eventbot.services.CourseService;
 import com.th3hero.eventbot.services.EventDraftService;
 import com.th3hero.eventbot.services.EventService;
+import com.th3hero.eventbot.services.InteractionExecutor;
+import com.th3hero.eventbot.services.InteractionMetrics;
 import com.th3hero.eventbot.utils.DiscordActionUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.constraints.NotNull;
@@ -27,25 +30,36 @@ public class SelectionController extends ListenerAdapter {
     private final CourseService courseService;
     private final EventDraftService eventDraftService;
     private final EventService eventService;
+    private final InteractionExecutor interactionExecutor;
+    private final InteractionMetrics interactionMetrics;
 
     @Override
     public void onStringSelectInteraction(@NonNull StringSelectInteractionEvent event) {
+        interactionExecutor.submit(
+            event,
+            "selection",
+            InteractionExecutor.actionName(event.getSelectMenu().getId()),
+            true,
+            acknowledgement -> handleInteraction(event, acknowledgement)
+        );
+    }
+
+    private void handleInteraction(StringSelectInteractionEvent event, InteractionAcknowledgement acknowledgement) {
         try {
-            final SelectionRequest request = SelectionRequest.fromInteraction(event);
-            selectionHandler(request);
+            interactionMetrics.record("selection", () -> SelectionRequest.fromInteraction(event, acknowledgement), SelectionRequest::getAction, this::selectionHandler);
         } catch (EntityNotFoundException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.debug(e.getMessage(), e);
         } catch (DataAccessException | IllegalInteractionException | ConfigErrorException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.error(e.getMessage(), e);
         } catch (UnsupportedResponseException e) {
-            DiscordActionUtils.textResponse(event, "Failed to respond to the interaction.", true);
+            DiscordActionUtils.textResponse(event, acknowledgement, "Failed to respond to the interaction.", true);
             log.error(e.getMessage(), e);
         } catch (Exception e) {
             log.error("SelectionMenuId: {}", event.getSelectMenu().getId());
             log.error("Options: {}", event.getValues());
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             throw e;
         }
     }
@@ -1,6 +1,10 @@
 package com.th3hero.eventbot.controllers.discord;
 
+import com.th3hero.eventbot.commands.actions.Command;
+import com.th3hero.eventbot.commands.actions.DiscordActionArguments;
 import com.th3hero.eventbot.commands.requests.CommandRequest;
+import com.th3hero.eventbot.commands.requests.InteractionAcknowledgement;
+import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
 import com.th3hero.eventbot.exceptions.ConfigErrorException;
 import com.th3hero.eventbot.exceptions.DataAccessException;
 import com.th3hero.eventbot.exceptions.IllegalInteractionException;
@@ -28,20 +32,28 @@ public class SlashCommandController extends ListenerAdapter {
     private final StudentService studentService;
     private final EventDraftService eventDraftService;
     private final EventService eventService;
+    private final InteractionExecutor interactionExecutor;
+    private final InteractionMetrics interactionMetrics;
 
     @Override
     public void onSlashCommandInteraction(@NonNull SlashCommandInteractionEvent event) {
+        boolean autoDefer = DiscordActionArguments.actionFrom(Command.class, event.getName())
+            .map(command -> !command.repliesWithModal())
+            .orElse(true);
+        interactionExecutor.submit(event, "command", event.getName(), autoDefer, acknowledgement -> handleInteraction(event, acknowledgement));
+    }
+
+    private void handleInteraction(SlashCommandInteractionEvent event, InteractionAcknowledgement acknowledgement) {
         try {
-            final CommandRequest request = CommandRequest.fromInteraction(event);
-            commandHandler(request);
+            interactionMetrics.record("command", () -> CommandRequest.fromInteraction(event, acknowledgement), CommandRequest::getCommand, this::commandHandler);
         } catch (EntityNotFoundException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.debug(e.getMessage(), e);
         } catch (DataAccessException | IllegalInteractionException | ConfigErrorException e) {
-            DiscordActionUtils.textResponse(event, e.getMessage(), true);
+            DiscordActionUtils.textResponse(event, acknowledgement, e.getMessage(), true);
             log.warn(e.getMessage());
         } catch (UnsupportedResponseException e) {
-            DiscordActionUtils.textResponse(event, "Failed to respond to the interaction.", true);
+            DiscordActionUtils.textResponse(event, acknowledgement, "Failed to respond to the interaction.", true);
             log.error(e.getMessage(), e);
         } catch (Exception e) {
             log.error("Slash Command: {}", event.getName());
@@ -49,7 +61,7 @@ public class SlashCommandController extends ListenerAdapter {
                 .map(option -> "%s: %s".formatted(option.getName(), option.getAsString()))
                 .toList();
             log.error("Options: {}", options);
-            DiscordActionUtils.textResponse(event, DiscordActionUtils.DEFAULT_ERROR_RESPONSE, true);
+            DiscordActionUtils.textResponse(event, acknowledgement, DiscordActionUtils.DEFAULT_ERROR_RESPONSE, true);
             throw e;
         }
     }
@@ -57,7 +69,7 @@ public class SlashCommandController extends ListenerAdapter {
     public void commandHandler(@NotNull final CommandRequest request) {
         request.addEventChannel(configService.getConfigJpa().getEventChannel());
         switch (request.getCommand()) {
-            case HELP -> DiscordActionUtils.embedResponse(request.getEvent(), EmbedBuilderFactory.help(), true);
+            case HELP -> request.sendResponse(EmbedBuilderFactory.help(), MessageMode.USER);
             case SELECT_COURSES -> courseService.sendCourseSelectionMenu(request);
             case MY_COURSES -> studentService.listStudentCourses(request);
             case CREATE_EVENT -> eventDraftService.createEventDraft(request);
@@ -0,0 +1,45 @@
+package com.th3hero.eventbot.controllers.rest;
+
+import com.th3hero.eventbot.dto.event.ArchivedEvent;
+import com.th3hero.eventbot.services.EventArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/archive/events")
+@Tag(name = "Archive Controller", description = "Handles admin queries of archived events")
+public class ArchiveController {
+    private final EventArchiveService eventArchiveService;
+
+    @GetMapping
+    @Operation(summary = "Returns a page of archived events, newest first")
+    public List<ArchivedEvent> listArchivedEvents(
+        @RequestParam(required = false) Long courseId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "0") @Min(0) int page,
+        @RequestParam(defaultValue = "50") @Min(1) @Max(200) int size
+    ) {
+        return eventArchiveService.findArchivedEvents(courseId, from, to, page, size);
+    }
+
+    @GetMapping("/{eventId}")
+    @Operation(summary = "Returns an archived event by the id it had while it was live")
+    public ArchivedEvent getArchivedEvent(
+        @PathVariable @NotNull Long eventId
+    ) {
+        return eventArchiveService.getArchivedEvent(eventId);
+    }
+}
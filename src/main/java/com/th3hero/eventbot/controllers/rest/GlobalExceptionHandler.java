@@ -2,6 +2,7 @@ package com.th3hero.eventbot.controllers.rest;
 
 import com.kseth.development.rest.error.ProblemDetailFactory;
 import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -13,4 +14,9 @@ public class GlobalExceptionHandler {
     public ProblemDetail entityExistsException(EntityExistsException e) {
         return ProblemDetailFactory.createProblemDetail(HttpStatus.BAD_REQUEST, e);
     }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ProblemDetail entityNotFoundException(EntityNotFoundException e) {
+        return ProblemDetailFactory.createProblemDetail(HttpStatus.NOT_FOUND, e);
+    }
 }
@@ -0,0 +1,209 @@
+package com.th3hero.eventbot.dto.course;
+
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable snapshot of all courses with their select options already built.
+ * A new snapshot is created whenever the courses change. Snapshots built with {@link #of} take their version from their content,
+ * so a course picker only matches a catalog with the same courses, even after a restart or on another instance of the bot.
+ * The options are kept sorted by code ignoring case, which lets a prefix search find its matches with a binary search.
+ *
+ * @param version The version of the snapshot, never negative so it can be stored in an interaction id
+ * @param options The select options of all courses ordered by code
+ */
+public record CourseCatalog(
+    long version,
+    List<SelectOption> options
+) {
+    /**
+     * The number of courses shown on a single page of the course picker.
+     */
+    public static final int PAGE_SIZE = StringSelectMenu.OPTIONS_MAX_AMOUNT;
+
+    private static final Comparator<String> CODE_ORDER = String.CASE_INSENSITIVE_ORDER;
+
+    public CourseCatalog {
+        options = options.stream()
+            .sorted(Comparator.comparing(SelectOption::getValue, CODE_ORDER))
+            .toList();
+    }
+
+    /**
+     * Creates a catalog whose version is a hash of the code and name of every course in catalog order.
+     *
+     * @param options The select options of all courses
+     * @return The catalog of the courses
+     */
+    public static CourseCatalog of(List<SelectOption> options) {
+        List<SelectOption> sorted = options.stream()
+            .sorted(Comparator.comparing(SelectOption::getValue, CODE_ORDER))
+            .toList();
+        return new CourseCatalog(contentVersion(sorted), sorted);
+    }
+
+    public boolean isEmpty() {
+        return options.isEmpty();
+    }
+
+    /**
+     * @return true if the courses do not fit on a single select menu
+     */
+    public boolean isPaginated() {
+        return options.size() > PAGE_SIZE;
+    }
+
+    /**
+     * @return A range covering every course in the catalog
+     */
+    public Range fullRange() {
+        return new Range(0, options.size());
+    }
+
+    /**
+     * Finds the courses whose code starts with the given prefix, ignoring case.
+     *
+     * @param prefix The start of the course code to search for
+     * @return The range of matching courses, empty if no course matches
+     */
+    public Range prefixRange(String prefix) {
+        if (prefix.isEmpty()) {
+            return fullRange();
+        }
+        int start = lowerBound(prefix);
+        int end = lowerBound(prefix + Character.MAX_VALUE);
+        return new Range(start, end);
+    }
+
+    /**
+     * Creates a select menu for one page of a range of the catalog, applying the given defaults.
+     *
+     * @param selectMenuId The id of the select menu
+     * @param range The range of courses being paged through
+     * @param pageStart The index of the first course on the page
+     * @param defaultCodes The codes of the courses to preselect, codes not on the page are ignored
+     * @param minValues The minimum number of courses that must be selected
+     * @return A select menu with the courses of the page as options
+     */
+    public StringSelectMenu createMenu(String selectMenuId, Range range, int pageStart, Collection<String> defaultCodes, int minValues) {
+        List<SelectOption> page = options.subList(pageStart, range.pageEnd(pageStart));
+        String placeholder = "Select Courses";
+        if (range.isPaginated()) {
+            int first = pageStart - range.start() + 1;
+            placeholder += " (%d-%d of %d)".formatted(first, first + page.size() - 1, range.size());
+        }
+        return StringSelectMenu.create(selectMenuId)
+            .setPlaceholder(placeholder)
+            .setMinValues(minValues)
+            .setMaxValues(page.size())
+            .addOptions(page)
+            .setDefaultValues(defaultCodes)
+            .build();
+    }
+
+    /**
+     * @param range The range to check
+     * @return true if the range lies within the catalog
+     */
+    public boolean contains(Range range) {
+        return range.start() >= 0 && range.start() <= range.end() && range.end() <= options.size();
+    }
+
+    private static long contentVersion(List<SelectOption> options) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (SelectOption option : options) {
+            digest.update(option.getValue().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(option.getDescription()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        // Interaction ids are split on '-', so the version is kept positive
+        return ByteBuffer.wrap(digest.digest()).getLong() & Long.MAX_VALUE;
+    }
+
+    private int lowerBound(String code) {
+        int low = 0;
+        int high = options.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CODE_ORDER.compare(options.get(mid).getValue(), code) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A contiguous range of courses in the catalog.
+     *
+     * @param start The index of the first course, inclusive
+     * @param end The index of the last course, exclusive
+     */
+    public record Range(int start, int end) {
+        public int size() {
+            return end - start;
+        }
+
+        /**
+     * Creates a catalog whose version is a hash of the code and name of every course in catalog order.
+     *
+     * @param options The select options of all courses
+     * @return The catalog of the courses
+     */
+    public static CourseCatalog of(List<SelectOption> options) {
+        List<SelectOption> sorted = options.stream()
+            .sorted(Comparator.comparing(SelectOption::getValue, CODE_ORDER))
+            .toList();
+        return new CourseCatalog(contentVersion(sorted), sorted);
+    }
+
+    public boolean isEmpty() {
+            return start >= end;
+        }
+
+        public boolean isPaginated() {
+            return size() > PAGE_SIZE;
+        }
+
+        /**
+         * Clamps a page start into the range, aligned to the start of a page.
+         *
+         * @param pageStart The requested page start
+         * @return The page start to use
+         */
+        public int clampPageStart(int pageStart) {
+            if (pageStart <= start || isEmpty()) {
+                return start;
+            }
+            int lastPageStart = start + (size() - 1) / PAGE_SIZE * PAGE_SIZE;
+            return Math.min(start + (pageStart - start) / PAGE_SIZE * PAGE_SIZE, lastPageStart);
+        }
+
+        public int pageEnd(int pageStart) {
+            return Math.min(pageStart + PAGE_SIZE, end);
+        }
+
+        public boolean hasPreviousPage(int pageStart) {
+            return pageStart > start;
+        }
+
+        public boolean hasNextPage(int pageStart) {
+            return pageStart + PAGE_SIZE < end;
+        }
+    }
+}
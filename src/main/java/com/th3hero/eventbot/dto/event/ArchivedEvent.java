@@ -0,0 +1,34 @@
+package com.th3hero.eventbot.dto.event;
+
+import com.th3hero.eventbot.entities.EventJpa.EventType;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A completed event that has been moved to the archive.
+ *
+ * @param id The id the event had while it was live
+ * @param authorId The id of the discord user who created the event
+ * @param messageId The id of the discord message of the event
+ * @param title The title of the event
+ * @param note The note of the event
+ * @param eventDate The date of the event
+ * @param type The type of the event
+ * @param courseIds The ids of the courses the event was for
+ * @param creationDate The date the event was created
+ * @param archivedDate The date the event was moved to the archive
+ */
+public record ArchivedEvent(
+    Long id,
+    Long authorId,
+    Long messageId,
+    String title,
+    String note,
+    LocalDateTime eventDate,
+    EventType type,
+    Set<Long> courseIds,
+    LocalDateTime creationDate,
+    LocalDateTime archivedDate
+) {
+}
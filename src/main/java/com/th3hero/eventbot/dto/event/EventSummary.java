@@ -0,0 +1,23 @@
+package com.th3hero.eventbot.dto.event;
+
+import com.th3hero.eventbot.entities.EventJpa.EventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of an event needed to list it, loaded without the event entity or its courses.
+ *
+ * @param id The id of the event
+ * @param title The title of the event
+ * @param eventDate The date of the event
+ * @param type The type of the event
+ * @param messageId The id of the discord message of the event
+ */
+public record EventSummary(
+    Long id,
+    String title,
+    LocalDateTime eventDate,
+    EventType type,
+    Long messageId
+) {
+}
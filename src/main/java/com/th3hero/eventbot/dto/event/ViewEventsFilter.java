@@ -0,0 +1,100 @@
+package com.th3hero.eventbot.dto.event;
+
+import com.th3hero.eventbot.entities.EventJpa.EventType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.th3hero.eventbot.formatting.InteractionArguments.*;
+
+/**
+ * The filters of a <code>/view_events</code> listing, carried on its page buttons so every page uses the same filters.
+ * Every value is encoded as a non-negative long, with 0 standing for no filter.
+ *
+ * @param courseId The id of the course to list events for, {@link #STUDENT_COURSES} for the courses of the student
+ * @param type The type of event to list, null for all types
+ * @param maxDate The latest date to list events for, null for no limit
+ * @param pageSize The number of events on each page
+ */
+public record ViewEventsFilter(
+    Long courseId,
+    EventType type,
+    LocalDateTime maxDate,
+    int pageSize
+) {
+    public static final long STUDENT_COURSES = 0L;
+
+    /**
+     * Used in place of a missing max date so the lookup query does not need a null check.
+     */
+    private static final LocalDateTime NO_MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    public Set<EventType> types() {
+        return type == null ? EnumSet.allOf(EventType.class) : EnumSet.of(type);
+    }
+
+    public LocalDateTime maxDateOrLatest() {
+        return maxDate == null ? NO_MAX_DATE : maxDate;
+    }
+
+    /**
+     * Creates the arguments of a page button starting after or before the given event.
+     *
+     * @param cursor The event the page starts after or ends before
+     * @return The arguments in the order of the page button request keys
+     */
+    public List<Long> toArguments(EventSummary cursor) {
+        return List.of(
+            courseId,
+            type == null ? 0L : type.ordinal() + 1L,
+            maxDate == null ? 0L : toMicros(maxDate),
+            (long) pageSize,
+            toMicros(cursor.eventDate()),
+            cursor.id()
+        );
+    }
+
+    /**
+     * Reads the filter back from the arguments of a page button.
+     *
+     * @param arguments The parsed arguments of the button
+     * @return The filter the page was created with
+     */
+    public static ViewEventsFilter fromArguments(Map<String, Long> arguments) {
+        int typeIndex = arguments.get(EVENT_TYPE).intValue();
+        Long maxDate = arguments.get(MAX_DATE);
+        return new ViewEventsFilter(
+            arguments.get(COURSE_ID),
+            typeIndex == 0 ? null : EventType.values()[typeIndex - 1],
+            maxDate == 0 ? null : fromMicros(maxDate),
+            arguments.get(PAGE_SIZE).intValue()
+        );
+    }
+
+    /**
+     * Reads the event a page starts after or ends before from the arguments of a page button.
+     * Only the id and date are known, which is all the keyset lookup needs.
+     *
+     * @param arguments The parsed arguments of the button
+     * @return The cursor event
+     */
+    public static EventSummary cursorFromArguments(Map<String, Long> arguments) {
+        return new EventSummary(arguments.get(CURSOR_ID), null, fromMicros(arguments.get(CURSOR_DATE)), null, null);
+    }
+
+    /**
+     * Postgres stores timestamps to the microsecond, so the cursor keeps the same precision to compare exactly.
+     */
+    private static long toMicros(LocalDateTime date) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), date);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+    }
+}
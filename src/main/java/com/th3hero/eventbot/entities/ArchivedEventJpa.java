@@ -0,0 +1,105 @@
+package com.th3hero.eventbot.entities;
+
+import com.th3hero.eventbot.dto.event.ArchivedEvent;
+import com.th3hero.eventbot.entities.EventJpa.EventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A completed event that has been moved out of the live event tables once it passed the retention age.
+ * Rows are only ever written by the archive job, so the entity is read only.
+ */
+@Getter
+@Entity
+@Builder
+@Immutable
+@ToString(exclude = "courseIds")
+@Table(name = "event_archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedEventJpa implements Serializable {
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @NonNull
+    @Column
+    private Long authorId;
+
+    @Column
+    private Long messageId;
+
+    @Column
+    private String title;
+
+    @Column
+    private String note;
+
+    @NonNull
+    @Column
+    private LocalDateTime eventDate;
+
+    @NonNull
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(columnDefinition = "event_type")
+    private EventType type;
+
+    @NonNull
+    @Column
+    private LocalDateTime creationDate;
+
+    @NonNull
+    @Column
+    private LocalDateTime archivedDate;
+
+    @Builder.Default
+    @BatchSize(size = 50)
+    @ElementCollection
+    @CollectionTable(name = "event_courses_archive", joinColumns = @JoinColumn(name = "event_id"))
+    @Column(name = "course_id")
+    private Set<Long> courseIds = new HashSet<>();
+
+    public ArchivedEvent toDto() {
+        return new ArchivedEvent(
+            id,
+            authorId,
+            messageId,
+            title,
+            note,
+            eventDate,
+            type,
+            Set.copyOf(courseIds),
+            creationDate,
+            archivedDate
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        ArchivedEventJpa that = (ArchivedEventJpa) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -4,11 +4,15 @@ import com.th3hero.eventbot.dto.course.Course;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 
 @Getter
@@ -17,18 +21,26 @@ import java.util.Objects;
 @Builder
 @ToString(exclude = "students")
 @Table(name = "course")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CourseJpa.CACHE_REGION)
+@NaturalIdCache(region = CourseJpa.NATURAL_ID_CACHE_REGION)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class CourseJpa implements Serializable {
+    /**
+     * Second level cache regions of courses and of the lookup from course code to id.
+     */
+    public static final String CACHE_REGION = "course";
+    public static final String NATURAL_ID_CACHE_REGION = "course_natural_id";
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_course_id_generator")
-    @SequenceGenerator(name = "seq_course_id_generator", sequenceName = "seq_course_id", allocationSize = 1)
+    @SequenceGenerator(name = "seq_course_id_generator", sequenceName = "seq_course_id", allocationSize = 50)
     @Setter(AccessLevel.NONE)
     @Column(name = "id")
     private Long id;
 
     @NonNull
+    @NaturalId(mutable = true)
     @Column(unique = true)
     private String code;
 
@@ -39,7 +51,7 @@ public class CourseJpa implements Serializable {
     @Setter(AccessLevel.NONE)
     @Builder.Default
     @ManyToMany(mappedBy = "courses")
-    private List<StudentJpa> students = new ArrayList<>();
+    private Set<StudentJpa> students = new HashSet<>();
 
     public Course toDto() {
         return new Course(
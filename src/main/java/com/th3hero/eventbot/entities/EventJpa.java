@@ -3,12 +3,14 @@ package com.th3hero.eventbot.entities;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -16,13 +18,18 @@ import java.util.Objects;
 @Builder
 @ToString(exclude = "courses")
 @Table(name = "event")
+@NamedEntityGraph(name = EventJpa.WITH_COURSES, attributeNodes = @NamedAttributeNode("courses"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class EventJpa implements Serializable {
+    /**
+     * Entity graph loading the courses together with the event, used wherever the event is rendered as an embed.
+     */
+    public static final String WITH_COURSES = "EventJpa.courses";
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_event_id_generator")
-    @SequenceGenerator(name = "seq_event_id_generator", sequenceName = "seq_event_id", allocationSize = 1)
+    @SequenceGenerator(name = "seq_event_id_generator", sequenceName = "seq_event_id", allocationSize = 50)
     @Setter(AccessLevel.NONE)
     @Column(name = "id")
     private Long id;
@@ -48,7 +55,7 @@ public class EventJpa implements Serializable {
     @Builder.Default
     @OrderBy("code ASC")
     @ManyToMany
-    private List<CourseJpa> courses = new ArrayList<>();
+    private Set<CourseJpa> courses = new LinkedHashSet<>();
 
     @NonNull
     @Builder.Default
@@ -57,13 +64,15 @@ public class EventJpa implements Serializable {
 
     @NonNull
     @Enumerated(EnumType.STRING)
-    @Column
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(columnDefinition = "event_type")
     private EventType type;
 
     @NonNull
     @Builder.Default
     @Enumerated(EnumType.STRING)
-    @Column
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(columnDefinition = "event_status")
     private EventStatus status = EventStatus.DRAFT;
 
     public enum EventType {
@@ -103,7 +112,7 @@ public class EventJpa implements Serializable {
             return false;
         }
         EventJpa eventJpa = (EventJpa) o;
-        return id.equals(eventJpa.id);
+        return id != null && id.equals(eventJpa.id);
     }
 
     @Override
@@ -0,0 +1,111 @@
+package com.th3hero.eventbot.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Progress of reposting the active events to an event channel.
+ * Events are reposted in date order, so the date and id of the last reposted event are enough to resume.
+ * Events that failed to repost are kept separately so they can be sent again before the repost finishes.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "event_repost")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventRepostJpa implements Serializable {
+    @Id
+    @Setter(AccessLevel.NONE)
+    @Column(name = "channel_id")
+    private Long channelId;
+
+    @Column
+    private LocalDateTime lastEventDate;
+
+    @Column
+    private Long lastEventId;
+
+    @Builder.Default
+    @Column
+    private Integer reposted = 0;
+
+    /**
+     * The number of events that failed to repost and have not been reposted since.
+     */
+    @Builder.Default
+    @Column
+    private Integer failed = 0;
+
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "event_repost_failed_events", joinColumns = @JoinColumn(name = "channel_id"))
+    @Column(name = "event_id")
+    private Set<Long> failedEventIds = new HashSet<>();
+
+    @NonNull
+    @Builder.Default
+    @Column
+    private LocalDateTime startedDate = LocalDateTime.now();
+
+    public static EventRepostJpa start(Long channelId) {
+        return EventRepostJpa.builder()
+            .channelId(channelId)
+            .build();
+    }
+
+    /**
+     * Moves the position past a batch of events.
+     *
+     * @param lastEventDate The date of the last event of the batch
+     * @param lastEventId The id of the last event of the batch
+     * @param reposted The number of events in the batch that were reposted
+     * @param failedEventIds The ids of the events in the batch that failed to repost
+     */
+    public void advance(LocalDateTime lastEventDate, Long lastEventId, int reposted, Collection<Long> failedEventIds) {
+        this.lastEventDate = lastEventDate;
+        this.lastEventId = lastEventId;
+        this.reposted += reposted;
+        this.failedEventIds.addAll(failedEventIds);
+        this.failed = this.failedEventIds.size();
+    }
+
+    /**
+     * Removes events from the failed events once they no longer need to be retried.
+     *
+     * @param eventIds The ids of the events that were reposted or are no longer active
+     * @param reposted The number of those events that were reposted
+     */
+    public void resolve(Collection<Long> eventIds, int reposted) {
+        this.failedEventIds.removeAll(eventIds);
+        this.reposted += reposted;
+        this.failed = this.failedEventIds.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        EventRepostJpa that = (EventRepostJpa) o;
+        return channelId != null && channelId.equals(that.channelId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(channelId);
+    }
+}
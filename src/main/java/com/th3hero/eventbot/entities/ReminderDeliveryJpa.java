@@ -0,0 +1,82 @@
+package com.th3hero.eventbot.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The outcome of the reminder direct message of a window to a single student.
+ * Added when the reminder is queued and updated once discord answers, so a reminder still queued after a restart was never sent.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "reminder_delivery")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderDeliveryJpa implements Serializable {
+
+    @EmbeddedId
+    @Setter(AccessLevel.NONE)
+    private DeliveryId id;
+
+    @NonNull
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(columnDefinition = "reminder_delivery_status")
+    private DeliveryStatus status;
+
+    @NonNull
+    @Column
+    private LocalDateTime updatedDate;
+
+    public enum DeliveryStatus {
+        QUEUED,
+        SENT,
+        /**
+         * The student does not accept direct messages from the bot.
+         */
+        BLOCKED,
+        FAILED
+    }
+
+    @Getter
+    @Embeddable
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class DeliveryId implements Serializable {
+        @Column(name = "event_id")
+        private Long eventId;
+
+        @Column(name = "offset_time")
+        private Integer offsetTime;
+
+        @Column(name = "student_id")
+        private Long studentId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        ReminderDeliveryJpa that = (ReminderDeliveryJpa) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
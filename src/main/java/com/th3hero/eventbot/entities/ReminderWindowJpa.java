@@ -0,0 +1,79 @@
+package com.th3hero.eventbot.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A scheduled reminder for every student of an event that has the given offset.
+ * The students are not stored on the window, they are resolved when the window fires.
+ * A window with more students than fit in the direct message queue is queued over several dispatches.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "reminder_window")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderWindowJpa implements Serializable {
+
+    @EmbeddedId
+    @Setter(AccessLevel.NONE)
+    private WindowId id;
+
+    @NonNull
+    @Column
+    private LocalDateTime fireTime;
+
+    /**
+     * The id of the last student the window was queued for, empty until part of the window is queued.
+     * Recipients are queued in id order, so the window resumes after this student on the next dispatch.
+     */
+    @Column
+    private Long lastStudentId;
+
+    public static ReminderWindowJpa create(Long eventId, Integer offsetTime, LocalDateTime fireTime) {
+        return ReminderWindowJpa.builder()
+            .id(new WindowId(eventId, offsetTime))
+            .fireTime(fireTime)
+            .build();
+    }
+
+    @Getter
+    @Embeddable
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class WindowId implements Serializable {
+        @Column(name = "event_id")
+        private Long eventId;
+
+        /**
+         * The number of hours before the event the window fires.
+         */
+        @Column(name = "offset_time")
+        private Integer offsetTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        ReminderWindowJpa that = (ReminderWindowJpa) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
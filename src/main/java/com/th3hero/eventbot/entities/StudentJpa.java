@@ -4,11 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 @Slf4j
 @Getter
@@ -17,9 +17,16 @@ import java.util.Objects;
 @Builder
 @ToString(exclude = {"courses", "completedEvents"})
 @Table(name = "student")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = StudentJpa.CACHE_REGION)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class StudentJpa implements Serializable {
+    /**
+     * Second level cache regions of students and of their courses and reminder offsets.
+     */
+    public static final String CACHE_REGION = "student";
+    public static final String COURSES_CACHE_REGION = "student_courses";
+    public static final String REMINDER_OFFSETS_CACHE_REGION = "student_reminder_offsets";
 
     @Id
     @NonNull
@@ -27,22 +34,27 @@ public class StudentJpa implements Serializable {
     @Setter(AccessLevel.NONE)
     private Long id;
 
+    @Column(name = "private_channel_id")
+    private Long privateChannelId;
+
     @Setter(AccessLevel.NONE)
     @Builder.Default
     @OrderBy("code ASC")
     @ManyToMany
-    private List<CourseJpa> courses = new ArrayList<>();
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = COURSES_CACHE_REGION)
+    private Set<CourseJpa> courses = new LinkedHashSet<>();
 
     @Setter(AccessLevel.NONE)
     @Builder.Default
     @ManyToMany
-    private List<EventJpa> completedEvents = new ArrayList<>();
+    private Set<EventJpa> completedEvents = new HashSet<>();
 
     @Setter(AccessLevel.NONE)
     @Builder.Default
     @ElementCollection
     @CollectionTable(name = "student_reminder_offsets", joinColumns = @JoinColumn(name = "student_id"))
     @Column(name = "reminder_offset_time")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REMINDER_OFFSETS_CACHE_REGION)
     private List<Integer> reminderOffsetTimes = new ArrayList<>();
 
     public static StudentJpa create(
@@ -50,7 +62,7 @@ public class StudentJpa implements Serializable {
     ) {
         return StudentJpa.builder()
             .id(studentId)
-            .courses(List.of())
+            .courses(new LinkedHashSet<>())
             .reminderOffsetTimes(List.of(24, 72))
             .build();
     }
@@ -1,12 +1,18 @@
 package com.th3hero.eventbot.factories;
 
 import com.th3hero.eventbot.commands.actions.ButtonAction;
+import com.th3hero.eventbot.commands.actions.SelectionAction;
+import com.th3hero.eventbot.dto.course.CourseCatalog;
+import com.th3hero.eventbot.dto.event.EventSummary;
+import com.th3hero.eventbot.dto.event.ViewEventsFilter;
 import com.th3hero.eventbot.formatting.InteractionArguments;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 
+import java.util.List;
+
 @NoArgsConstructor(access = AccessLevel.NONE)
 public final class ButtonFactory {
 
@@ -51,4 +57,52 @@ public final class ButtonFactory {
             Button.primary(InteractionArguments.createInteractionIdString(ButtonAction.EDIT_EVENT_COURSES, eventId), EDIT_COURSES)
         );
     }
+
+    /**
+     * Creates the navigation buttons of a paginated course picker.
+     * The picker state is kept in the button ids, so the page can be rebuilt from any button press.
+     * @param target The selection the picker is for
+     * @param targetId The id of the draft or event the picker is for, 0 for a student's own courses
+     * @param catalog The catalog the picker was built from
+     * @param range The range of courses being paged through
+     * @param pageStart The index of the first course on the current page
+     * @return An ActionRow with the buttons
+     */
+    public static ActionRow coursePageButtons(SelectionAction target, Long targetId, CourseCatalog catalog, CourseCatalog.Range range, int pageStart) {
+        return ActionRow.of(
+            coursePageButton(target, targetId, catalog, range, Math.max(range.start(), pageStart - CourseCatalog.PAGE_SIZE), "Previous")
+                .withDisabled(!range.hasPreviousPage(pageStart)),
+            Button.secondary(InteractionArguments.createInteractionIdString(ButtonAction.COURSE_SEARCH, List.of((long) target.ordinal(), targetId)), "Search"),
+            coursePageButton(target, targetId, catalog, range, pageStart + CourseCatalog.PAGE_SIZE, "Next")
+                .withDisabled(!range.hasNextPage(pageStart))
+        );
+    }
+
+    /**
+     * Creates the navigation buttons of a <code>/view_events</code> listing.
+     * The buttons carry the filters and the first or last event of the page, which the next lookup continues from.
+     * @param filter The filters of the listing
+     * @param events The events on the current page
+     * @param hasPrevious If there are events before the current page
+     * @param hasNext If there are events after the current page
+     * @return An ActionRow with the buttons
+     */
+    public static ActionRow viewEventsPageButtons(ViewEventsFilter filter, List<EventSummary> events, boolean hasPrevious, boolean hasNext) {
+        return ActionRow.of(
+            Button.primary(InteractionArguments.createInteractionIdString(ButtonAction.VIEW_EVENTS_PREVIOUS, filter.toArguments(events.getFirst())), "Previous")
+                .withDisabled(!hasPrevious),
+            Button.primary(InteractionArguments.createInteractionIdString(ButtonAction.VIEW_EVENTS_NEXT, filter.toArguments(events.getLast())), "Next")
+                .withDisabled(!hasNext)
+        );
+    }
+
+    private static Button coursePageButton(SelectionAction target, Long targetId, CourseCatalog catalog, CourseCatalog.Range range, int pageStart, String label) {
+        return Button.primary(
+            InteractionArguments.createInteractionIdString(
+                ButtonAction.COURSE_PAGE,
+                List.of((long) target.ordinal(), targetId, catalog.version(), (long) range.start(), (long) range.end(), (long) pageStart)
+            ),
+            label
+        );
+    }
 }
@@ -1,6 +1,7 @@
 package com.th3hero.eventbot.factories;
 
 import com.th3hero.eventbot.commands.actions.Command;
+import com.th3hero.eventbot.dto.event.EventSummary;
 import com.th3hero.eventbot.dto.management.Announcement;
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
@@ -15,6 +16,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.awt.*;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -61,7 +63,7 @@ public final class EmbedBuilderFactory {
      * @param courses The courses to display in the embed
      * @return An embed displaying the selected courses
      */
-    public static MessageEmbed selectedCourses(List<CourseJpa> courses) {
+    public static MessageEmbed selectedCourses(Collection<CourseJpa> courses) {
         if (courses.size() > MessageEmbed.MAX_FIELD_AMOUNT) {
             throw new IllegalInteractionException("Too many courses selected. Discord limits to %d fields.".formatted(MessageEmbed.MAX_FIELD_AMOUNT));
         }
@@ -224,7 +226,7 @@ public final class EmbedBuilderFactory {
         return embedBuilder.build();
     }
 
-    public static MessageEmbed listEvents(Map<EventJpa, String> events) {
+    public static MessageEmbed listEvents(Map<EventSummary, String> events) {
         if (events.size() > MessageEmbed.MAX_FIELD_AMOUNT) {
             throw new IllegalInteractionException("Too many events. Discord limits to %d fields.".formatted(MessageEmbed.MAX_FIELD_AMOUNT));
         }
@@ -232,10 +234,10 @@ public final class EmbedBuilderFactory {
             .setColor(BLUE)
             .setTitle("Upcoming Events");
 
-        for (Map.Entry<EventJpa, String> entry : events.entrySet()) {
+        for (Map.Entry<EventSummary, String> entry : events.entrySet()) {
             embedBuilder.addField(
-                entry.getKey().getTitle(),
-                shortEventSummary(entry.getKey(), entry.getValue()),
+                entry.getKey().title(),
+                shortEventSummary(entry.getKey().eventDate(), entry.getValue()),
                 false
             );
         }
@@ -261,7 +263,7 @@ public final class EmbedBuilderFactory {
         return builder.build();
     }
 
-    private static MessageEmbed eventLayout(String title, String note, String date, String type, List<CourseJpa> courses, String authorMention) {
+    private static MessageEmbed eventLayout(String title, String note, String date, String type, Collection<CourseJpa> courses, String authorMention) {
         return new EmbedBuilder()
             .setColor(GREEN)
             .setTitle(title)
@@ -289,8 +291,8 @@ public final class EmbedBuilderFactory {
             .build();
     }
 
-    private static String shortEventSummary(EventJpa eventJpa, String jumpUrl) {
-        String date = DateFormatter.formattedDateTimeWithTimestamp(eventJpa.getEventDate());
+    private static String shortEventSummary(LocalDateTime eventDate, String jumpUrl) {
+        String date = DateFormatter.formattedDateTimeWithTimestamp(eventDate);
 
         return
             """
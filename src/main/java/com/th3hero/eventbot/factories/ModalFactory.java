@@ -1,6 +1,7 @@
 package com.th3hero.eventbot.factories;
 
 import com.th3hero.eventbot.commands.actions.ModalAction;
+import com.th3hero.eventbot.commands.actions.SelectionAction;
 import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.formatting.DateFormatter;
 import com.th3hero.eventbot.formatting.InteractionArguments;
@@ -12,6 +13,7 @@ import net.dv8tion.jda.api.interactions.components.text.TextInputStyle;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static com.th3hero.eventbot.utils.DiscordFieldsUtils.*;
 
@@ -66,6 +68,20 @@ public final class ModalFactory {
             .build();
     }
 
+    public static Modal courseSearch(SelectionAction target, Long targetId) {
+        TextInput search = TextInput.create(SEARCH, "Course code starts with", TextInputStyle.SHORT)
+            .setPlaceholder("COMP")
+            .setMaxLength(MAX_SEARCH_LENGTH)
+            .setRequired(true)
+            .build();
+
+        return Modal.create(InteractionArguments.createInteractionIdString(ModalAction.COURSE_SEARCH, List.of((long) target.ordinal(), targetId)), "Search Courses")
+            .addComponents(
+                ActionRow.of(search)
+            )
+            .build();
+    }
+
     private static Modal editDetails(
         ModalAction modalType,
         Long id,
@@ -5,9 +5,12 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.interactions.components.ItemComponent;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
 import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 
+import java.util.Collection;
+
 @NoArgsConstructor(access = AccessLevel.NONE)
 public final class ResponseFactory {
 
@@ -25,6 +28,20 @@ public final class ResponseFactory {
             .build();
     }
 
+    /**
+     * Create a response with the given embed and rows of components
+     *
+     * @param embed The embed which will be displayed
+     * @param rows The rows of components attached to the message
+     * @return The message data
+     */
+    public static MessageCreateData createResponse(MessageEmbed embed, Collection<? extends LayoutComponent> rows) {
+        return new MessageCreateBuilder()
+            .addEmbeds(embed)
+            .addComponents(rows)
+            .build();
+    }
+
     public static MessageCreateData editOptionsResponse(Long eventId) {
         return new MessageCreateBuilder()
             .addComponents(ButtonFactory.editEventButtons(eventId))
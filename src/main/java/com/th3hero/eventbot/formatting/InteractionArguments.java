@@ -14,6 +14,18 @@ import java.util.Map;
 public final class InteractionArguments {
     public static final String DRAFT_ID = "draft_id";
     public static final String EVENT_ID = "event_id";
+    public static final String TARGET = "target";
+    public static final String TARGET_ID = "target_id";
+    public static final String CATALOG_VERSION = "catalog_version";
+    public static final String RANGE_START = "range_start";
+    public static final String RANGE_END = "range_end";
+    public static final String PAGE_START = "page_start";
+    public static final String COURSE_ID = "course_id";
+    public static final String EVENT_TYPE = "event_type";
+    public static final String MAX_DATE = "max_date";
+    public static final String PAGE_SIZE = "page_size";
+    public static final String CURSOR_DATE = "cursor_date";
+    public static final String CURSOR_ID = "cursor_id";
 
     /**
      * Creates an interaction ID string for a DiscordActionArguments enum value and a single ID.
@@ -23,13 +35,29 @@ public final class InteractionArguments {
      * @return The created interaction ID string to be used in discord interactions.
      */
     public static String createInteractionIdString(DiscordActionArguments enumValue, Long id) {
-        // currently there is only requests with one key, later on this may change and another method can be made for a collection of longs
         if (enumValue.getRequestKeys().size() != 1) {
             throw new IllegalArgumentException("Enum value must have exactly one request key");
         }
         return "%s-%s".formatted(enumValue, id);
     }
 
+    /**
+     * Creates an interaction ID string for a DiscordActionArguments enum value and any number of IDs.
+     * The IDs must be given in the same order as the request keys of the enum value.
+     *
+     * @param enumValue The DiscordActionArguments enum value.
+     * @param ids The IDs to include in the interaction ID string.
+     * @return The created interaction ID string to be used in discord interactions.
+     */
+    public static String createInteractionIdString(DiscordActionArguments enumValue, List<Long> ids) {
+        if (enumValue.getRequestKeys().size() != ids.size()) {
+            throw new IllegalArgumentException("Enum value %s expects %d ids but was given %d".formatted(enumValue, enumValue.getRequestKeys().size(), ids.size()));
+        }
+        StringBuilder idString = new StringBuilder(enumValue.toString());
+        ids.forEach(id -> idString.append('-').append(id));
+        return idString.toString();
+    }
+
     /**
      * Parses a list of string arguments into a map of request keys and long values.
      * The DiscordActionArguments enum value provides the expected request keys.
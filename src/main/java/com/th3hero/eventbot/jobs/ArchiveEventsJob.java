@@ -0,0 +1,26 @@
+package com.th3hero.eventbot.jobs;
+
+import com.th3hero.eventbot.services.EventArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+
+/**
+ * Runs on a fixed interval and moves completed events past the retention age into the archive tables.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ArchiveEventsJob implements Job {
+    public static final JobKey JOB_KEY = JobKey.jobKey("archive_events");
+
+    private final EventArchiveService eventArchiveService;
+
+    @Override
+    public void execute(JobExecutionContext executionContext) {
+        eventArchiveService.archiveCompletedEvents();
+    }
+}
@@ -2,12 +2,14 @@ package com.th3hero.eventbot.jobs;
 
 import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.EventJpa.EventStatus;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
 import com.th3hero.eventbot.repositories.EventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobKey;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -18,6 +20,7 @@ public class CompleteEventsJob implements Job {
     public static final String EVENT_ID = "event_id";
 
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     public void execute(JobExecutionContext executionContext) {
@@ -33,6 +36,7 @@ public class CompleteEventsJob implements Job {
 
         event.get().setStatus(EventStatus.COMPLETED);
         eventRepository.save(event.get());
+        applicationEventPublisher.publishEvent(new UpdatedEventMessageEvent(eventId, null));
 
         log.info("Marked event as completed. id: {}", eventId);
     }
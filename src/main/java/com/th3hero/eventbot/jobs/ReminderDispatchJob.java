@@ -0,0 +1,26 @@
+package com.th3hero.eventbot.jobs;
+
+import com.th3hero.eventbot.services.ReminderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+
+/**
+ * Runs on a fixed interval and sends the reminders of every reminder window that has become due.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ReminderDispatchJob implements Job {
+    public static final JobKey JOB_KEY = JobKey.jobKey("reminder_dispatch");
+
+    private final ReminderService reminderService;
+
+    @Override
+    public void execute(JobExecutionContext executionContext) {
+        reminderService.dispatchDueReminders();
+    }
+}
@@ -4,6 +4,7 @@ import com.th3hero.eventbot.listeners.handlers.DeletionHandler;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
+import net.dv8tion.jda.api.events.message.MessageBulkDeleteEvent;
 import net.dv8tion.jda.api.events.message.MessageDeleteEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.springframework.stereotype.Component;
@@ -18,6 +19,11 @@ public class DeletionListener extends ListenerAdapter {
         deletionHandler.handleDeletedMessage(event);
     }
 
+    @Override
+    public void onMessageBulkDelete(@NonNull MessageBulkDeleteEvent event) {
+        deletionHandler.handleBulkDeletedMessages(event);
+    }
+
     @Override
     public void onChannelDelete(@NonNull ChannelDeleteEvent event) {
         deletionHandler.handleDeletedChannel(event);
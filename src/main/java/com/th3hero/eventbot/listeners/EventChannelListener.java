@@ -1,24 +1,22 @@
 package com.th3hero.eventbot.listeners;
 
 import com.th3hero.eventbot.listeners.events.UpdatedEventChannelEvent;
-import com.th3hero.eventbot.services.EventService;
+import com.th3hero.eventbot.services.EventRepostService;
 import lombok.RequiredArgsConstructor;
-import net.dv8tion.jda.api.JDA;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class EventChannelListener {
-    private final EventService eventService;
-    private final JDA jda;
+    private final EventRepostService eventRepostService;
 
     /**
-     * Listens for UpdatedEventChannelEvent and sends all events to the event channel
+     * Listens for UpdatedEventChannelEvent and reposts all events to the event channel once the new channel has been saved
      * @param event UpdatedEventChannelEvent
      */
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void updatedEventChannelListener(UpdatedEventChannelEvent event) {
-        eventService.sendAllEventsToEventChannel(jda);
+        eventRepostService.startRepost(event.eventChannelId());
     }
 }
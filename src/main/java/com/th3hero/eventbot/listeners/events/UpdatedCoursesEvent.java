@@ -0,0 +1,4 @@
+package com.th3hero.eventbot.listeners.events;
+
+public record UpdatedCoursesEvent() {
+}
@@ -1,4 +1,9 @@
 package com.th3hero.eventbot.listeners.events;
 
-public record UpdatedEventChannelEvent() {
+/**
+ * Published when the event channel of the bot is changed.
+ *
+ * @param eventChannelId The id of the new event channel
+ */
+public record UpdatedEventChannelEvent(Long eventChannelId) {
 }
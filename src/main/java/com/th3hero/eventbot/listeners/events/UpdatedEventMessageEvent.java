@@ -0,0 +1,10 @@
+package com.th3hero.eventbot.listeners.events;
+
+/**
+ * Published when the discord message of an active event changes, or when the event stops being active.
+ *
+ * @param eventId The id of the event
+ * @param messageId The id of the new message of the event, null if the event is no longer active
+ */
+public record UpdatedEventMessageEvent(Long eventId, Long messageId) {
+}
@@ -0,0 +1,12 @@
+package com.th3hero.eventbot.listeners.events;
+
+import java.util.Set;
+
+/**
+ * Published when a student changes their selected courses.
+ *
+ * @param studentId The id of the student
+ * @param removedCourseIds The ids of the courses the student is no longer taking
+ */
+public record UpdatedStudentCoursesEvent(Long studentId, Set<Long> removedCourseIds) {
+}
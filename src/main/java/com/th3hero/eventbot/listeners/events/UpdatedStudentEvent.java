@@ -0,0 +1,9 @@
+package com.th3hero.eventbot.listeners.events;
+
+/**
+ * Published when the stored data of a student changes outside of their course selection.
+ *
+ * @param studentId The id of the student
+ */
+public record UpdatedStudentEvent(Long studentId) {
+}
@@ -2,25 +2,25 @@ package com.th3hero.eventbot.listeners.handlers;
 
 
 import com.th3hero.eventbot.entities.ConfigJpa;
-import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.exceptions.ConfigErrorException;
-import com.th3hero.eventbot.factories.ButtonFactory;
-import com.th3hero.eventbot.factories.EmbedBuilderFactory;
-import com.th3hero.eventbot.repositories.EventRepository;
 import com.th3hero.eventbot.services.ConfigService;
+import com.th3hero.eventbot.services.EventMessageIndex;
+import com.th3hero.eventbot.services.EventRepostService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Permission;
-import net.dv8tion.jda.api.entities.IMentionable;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
+import net.dv8tion.jda.api.events.message.MessageBulkDeleteEvent;
 import net.dv8tion.jda.api.events.message.MessageDeleteEvent;
-import net.dv8tion.jda.api.utils.MarkdownUtil;
 import org.springframework.stereotype.Service;
 
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 
 @Slf4j
@@ -28,43 +28,56 @@ import java.util.Set;
 @Transactional
 @RequiredArgsConstructor
 public class DeletionHandler {
-    private final EventRepository eventRepository;
     private final ConfigService configService;
+    private final EventMessageIndex eventMessageIndex;
+    private final EventRepostService eventRepostService;
 
     public void handleDeletedMessage(MessageDeleteEvent event) {
         // We can't stop users with permission from deleting messages, so we just repost the message
 
-        Long deletedMessageId = event.getMessageIdLong();
-        ConfigJpa configJpa = configService.getConfigJpa();
+        // Most deleted messages aren't event messages, so they are ruled out without touching the database
+        OptionalLong eventId = eventMessageIndex.findEventId(event.getMessageIdLong());
+        if (eventId.isEmpty()) {
+            return;
+        }
+
+        repostDeletedEvents(event.getJDA(), event.getChannel().getIdLong(), List.of(eventId.getAsLong()));
+    }
 
-        // If the message isn't in the event channel, ignore it. No point searching all events in the database
-        if (!configJpa.getEventChannel().equals(event.getChannel().getIdLong())) {
+    public void handleBulkDeletedMessages(MessageBulkDeleteEvent event) {
+        List<Long> eventIds = event.getMessageIds().stream()
+            .mapToLong(Long::parseUnsignedLong)
+            .mapToObj(eventMessageIndex::findEventId)
+            .filter(OptionalLong::isPresent)
+            .map(OptionalLong::getAsLong)
+            .toList();
+        if (eventIds.isEmpty()) {
             return;
         }
 
-        Optional<EventJpa> eventJpa = eventRepository.findByMessageId(deletedMessageId);
-        if (eventJpa.isEmpty()) {
-            // The message wasn't an event message, so ignore it
+        repostDeletedEvents(event.getJDA(), event.getChannel().getIdLong(), eventIds);
+    }
+
+    /**
+     * Reposts events whose messages were deleted in the event channel as a single batch.
+     *
+     * @param jda The JDA instance the delete was received on
+     * @param channelId The id of the channel the messages were deleted in
+     * @param eventIds The ids of the events whose messages were deleted
+     */
+    private void repostDeletedEvents(JDA jda, Long channelId, List<Long> eventIds) {
+        ConfigJpa configJpa = configService.getConfigJpa();
+
+        // Event messages only live in the event channel
+        if (!configJpa.getEventChannel().equals(channelId)) {
             return;
         }
-        Long eventChannelId = configJpa.getEventChannel();
-        TextChannel channel = Optional.ofNullable(event.getJDA().getTextChannelById(eventChannelId))
+        TextChannel channel = Optional.ofNullable(jda.getTextChannelById(configJpa.getEventChannel()))
             .orElseThrow(() -> new ConfigErrorException("Configured event channel does not exist. Make sure config is setup correctly"));
 
-        // If the user has left the server we can't get their mention
-        String author = Optional.ofNullable(event.getJDA().getUserById(eventJpa.get().getAuthorId()))
-            .map(IMentionable::getAsMention)
-            .orElse(MarkdownUtil.italics("Unknown User"));
-
-        channel.sendMessageEmbeds(EmbedBuilderFactory.eventEmbed(eventJpa.get(), author))
-            .addComponents(ButtonFactory.eventButtons(eventJpa.get().getId()))
-            .queue(success -> {
-                // Save the new message id to the event
-                eventJpa.get().setMessageId(success.getIdLong());
-                eventRepository.save(eventJpa.get());
-            });
+        eventRepostService.repostEvents(channel, eventIds);
         channel.sendMessage("Event messages cannot be deleted directly. You must use the delete button on the message.").queue();
-        log.info("Reposted deleted event message for event {}", eventJpa.get().getId());
+        log.info("Reposting deleted event messages for events {}", eventIds);
     }
 
     public void handleDeletedChannel(ChannelDeleteEvent event) {
@@ -0,0 +1,106 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.entities.ArchivedEventJpa;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEventJpa, Long> {
+    /**
+     * Moves a batch of the oldest completed events before the cutoff, with their course and completion rows, into the archive tables.
+     * The whole batch is a single statement run in its own transaction, the foreign keys of the live tables are checked once the statement ends
+     * and reminder windows of the events are removed by their cascading foreign key.
+     * @param cutoff the date completed events must be before to be archived
+     * @param batchSize the maximum number of events to move
+     * @return the number of rows moved from each table
+     */
+    @Transactional
+    @Query(value = """
+        with batch as (
+            select id
+            from event
+            where status = 'COMPLETED'
+              and event_date < :cutoff
+            order by event_date, id
+            limit :batchSize
+        ),
+        removed_courses as (
+            delete from event_courses ec
+            using batch b
+            where ec.event_jpa_id = b.id
+            returning ec.event_jpa_id, ec.courses_id
+        ),
+        removed_completions as (
+            delete from student_completed_events sce
+            using batch b
+            where sce.completed_events_id = b.id
+            returning sce.completed_events_id, sce.student_jpa_id
+        ),
+        removed_events as (
+            delete from event e
+            using batch b
+            where e.id = b.id
+            returning e.id, e.author_id, e.message_id, e.title, e.note, e.event_date, e.type, e.creation_date
+        ),
+        archived_events as (
+            insert into event_archive (id, author_id, message_id, title, note, event_date, type, creation_date, archived_date)
+            select id, author_id, message_id, title, note, event_date, type, creation_date, localtimestamp
+            from removed_events
+            returning id
+        ),
+        archived_courses as (
+            insert into event_courses_archive (event_id, course_id)
+            select event_jpa_id, courses_id
+            from removed_courses
+            returning event_id
+        ),
+        archived_completions as (
+            insert into student_completed_events_archive (event_id, student_id)
+            select completed_events_id, student_jpa_id
+            from removed_completions
+            returning event_id
+        )
+        select
+            (select count(*) from archived_events) as events,
+            (select count(*) from archived_courses) as courses,
+            (select count(*) from archived_completions) as completions
+        """, nativeQuery = true)
+    ArchivedRows archiveCompletedEvents(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * Find the archived events with a date in the given range
+     * @param from the earliest event date, inclusive
+     * @param to the latest event date, inclusive
+     * @param pageable the page to load
+     * @return Page of archived events
+     */
+    Page<ArchivedEventJpa> findAllByEventDateBetween(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * Find the archived events of a course with a date in the given range
+     * @param courseId the id of the course
+     * @param from the earliest event date, inclusive
+     * @param to the latest event date, inclusive
+     * @param pageable the page to load
+     * @return Page of archived events
+     */
+    @Query("select a from ArchivedEventJpa a where :courseId member of a.courseIds and a.eventDate between :from and :to")
+    Page<ArchivedEventJpa> findAllByCourse(Long courseId, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * The number of rows a single archive batch moved out of each live table.
+     */
+    interface ArchivedRows {
+        long getEvents();
+
+        long getCourses();
+
+        long getCompletions();
+    }
+}
@@ -0,0 +1,18 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.entities.CourseJpa;
+
+import java.util.Optional;
+
+/**
+ * Lookups of courses by their natural id, the course code.
+ */
+public interface CourseNaturalIdRepository {
+    /**
+     * Find a course by its code through the natural id cache, which resolves the code to an id without a query once cached
+     *
+     * @param code the course code
+     * @return {@link Optional} of the course with the given code
+     */
+    Optional<CourseJpa> findByNaturalCode(String code);
+}
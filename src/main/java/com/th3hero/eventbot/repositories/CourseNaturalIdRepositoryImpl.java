@@ -0,0 +1,20 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.entities.CourseJpa;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class CourseNaturalIdRepositoryImpl implements CourseNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<CourseJpa> findByNaturalCode(String code) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(CourseJpa.class)
+            .loadOptional(code);
+    }
+}
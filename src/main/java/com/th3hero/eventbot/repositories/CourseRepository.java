@@ -1,20 +1,24 @@
 package com.th3hero.eventbot.repositories;
 
 import com.th3hero.eventbot.entities.CourseJpa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface CourseRepository extends JpaRepository<CourseJpa, Long> {
+public interface CourseRepository extends JpaRepository<CourseJpa, Long>, CourseNaturalIdRepository {
 
     /**
-     * Find a list of courses by their course codes
+     * Find a list of courses by their course codes. Results are kept in the query cache until a course changes
      *
      * @param courseCodes List of course codes
      * @return List of courses with the given course codes
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CourseJpa> findByCodeIn(List<String> courseCodes);
 
 }
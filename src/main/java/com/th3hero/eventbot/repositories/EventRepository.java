@@ -1,12 +1,19 @@
 package com.th3hero.eventbot.repositories;
 
+import com.th3hero.eventbot.dto.event.EventSummary;
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.EventJpa.EventStatus;
+import com.th3hero.eventbot.entities.EventJpa.EventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,13 +30,92 @@ public interface EventRepository extends JpaRepository<EventJpa, Long>, JpaSpeci
     List<EventJpa> findAllByCourse(List<CourseJpa> courses);
 
     /**
-     * Find all events that are active. No deleted, draft, or completed events are returned
+     * Find an event by its id with its courses loaded in the same query.
+     * Nearly every lookup by id renders the event embed, which lists the courses.
+     *
+     * @param id the id of the event
+     * @return {@link Optional} of the event with the given id
+     */
+    @Override
+    @EntityGraph(EventJpa.WITH_COURSES)
+    Optional<EventJpa> findById(Long id);
+
+    /**
+     * Find all events that are active with their courses loaded in the same query. No deleted, draft, or completed events are returned
      *
      * @return List of active events
      */
+    @EntityGraph(EventJpa.WITH_COURSES)
     @Query("select e from EventJpa e where e.status = 'ACTIVE'")
     List<EventJpa> findAllActive();
 
+    /**
+     * Find the ids of the next active events after the given event, ordered by date and then id.
+     * Used to walk through every active event one page at a time instead of loading them all at once.
+     *
+     * @param afterDate the date of the event the page starts after
+     * @param afterId the id of the event the page starts after
+     * @param pageable the number of ids to return
+     * @return List of event ids in ascending order
+     */
+    @Query("""
+        select e.id
+        from EventJpa e
+        where e.status = 'ACTIVE'
+          and e.eventDate >= :afterDate and (e.eventDate > :afterDate or e.id > :afterId)
+        order by e.eventDate asc, e.id asc
+        """)
+    List<Long> findActiveIdsAfter(LocalDateTime afterDate, Long afterId, Pageable pageable);
+
+    /**
+     * Count the active events after the given event, in the same order as {@link #findActiveIdsAfter}.
+     *
+     * @param afterDate the date of the event to count after
+     * @param afterId the id of the event to count after
+     * @return the number of active events after the given event
+     */
+    @Query("""
+        select count(e)
+        from EventJpa e
+        where e.status = 'ACTIVE'
+          and e.eventDate >= :afterDate and (e.eventDate > :afterDate or e.id > :afterId)
+        """)
+    long countActiveAfter(LocalDateTime afterDate, Long afterId);
+
+    /**
+     * Find the events with the given ids with their courses loaded in the same query, ordered by date and then id.
+     *
+     * @param ids the ids of the events
+     * @return List of events in ascending order
+     */
+    @EntityGraph(EventJpa.WITH_COURSES)
+    @Query("select e from EventJpa e where e.id in :ids order by e.eventDate asc, e.id asc")
+    List<EventJpa> findAllWithCoursesByIdIn(Collection<Long> ids);
+
+    /**
+     * Find the status of an event without loading the event or its courses
+     * @param id the id of the event
+     * @return {@link Optional} of the status of the event with the given id
+     */
+    @Query("select e.status from EventJpa e where e.id = :id")
+    Optional<EventStatus> findStatusById(Long id);
+
+    /**
+     * Find the message ids of every active event that has been posted
+     *
+     * @return List of event ids with their message id
+     */
+    @Query("select e.id as eventId, e.messageId as messageId from EventJpa e where e.status = 'ACTIVE' and e.messageId is not null")
+    List<EventMessage> findActiveEventMessages();
+
+    /**
+     * Find the message id of an event if it is active
+     * @param id the id of the event
+     * @return {@link Optional} of the message id, empty if the event is not active or has not been posted
+     */
+    @Query("select e.messageId from EventJpa e where e.id = :id and e.status = 'ACTIVE'")
+    Optional<Long> findActiveMessageIdById(Long id);
+
     /**
      * Find an event by its discord message id
      * @param messageId the message id of the event
@@ -37,4 +123,74 @@ public interface EventRepository extends JpaRepository<EventJpa, Long>, JpaSpeci
      */
     Optional<EventJpa> findByMessageId(Long messageId);
 
+    /**
+     * Find the next page of active events in any of the given courses, ordered by date and then id.
+     * Keyset pagination on (event_date, id) keeps every page as cheap as the first.
+     *
+     * @param courseIds ids of the courses to find events for
+     * @param types the types of event to include
+     * @param minDate the earliest date to include
+     * @param maxDate the latest date to include
+     * @param afterDate the date of the event the page starts after
+     * @param afterId the id of the event the page starts after
+     * @param pageable the number of events to return
+     * @return List of event summaries in ascending order
+     */
+    @Query("""
+        select new com.th3hero.eventbot.dto.event.EventSummary(e.id, e.title, e.eventDate, e.type, e.messageId)
+        from EventJpa e
+        where e.status = 'ACTIVE'
+          and e.type in :types
+          and e.eventDate >= :minDate and e.eventDate <= :maxDate
+          and e.id in (select ce.id from EventJpa ce join ce.courses c where c.id in :courseIds)
+          and e.eventDate >= :afterDate and (e.eventDate > :afterDate or e.id > :afterId)
+        order by e.eventDate asc, e.id asc
+        """)
+    List<EventSummary> findSummariesAfter(
+        Collection<Long> courseIds,
+        Collection<EventType> types,
+        LocalDateTime minDate,
+        LocalDateTime maxDate,
+        LocalDateTime afterDate,
+        Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * Find the previous page of active events in any of the given courses, ordered by date and then id descending.
+     *
+     * @param courseIds ids of the courses to find events for
+     * @param types the types of event to include
+     * @param minDate the earliest date to include
+     * @param maxDate the latest date to include
+     * @param beforeDate the date of the event the page ends before
+     * @param beforeId the id of the event the page ends before
+     * @param pageable the number of events to return
+     * @return List of event summaries in descending order
+     */
+    @Query("""
+        select new com.th3hero.eventbot.dto.event.EventSummary(e.id, e.title, e.eventDate, e.type, e.messageId)
+        from EventJpa e
+        where e.status = 'ACTIVE'
+          and e.type in :types
+          and e.eventDate >= :minDate and e.eventDate <= :maxDate
+          and e.id in (select ce.id from EventJpa ce join ce.courses c where c.id in :courseIds)
+          and e.eventDate <= :beforeDate and (e.eventDate < :beforeDate or e.id < :beforeId)
+        order by e.eventDate desc, e.id desc
+        """)
+    List<EventSummary> findSummariesBefore(
+        Collection<Long> courseIds,
+        Collection<EventType> types,
+        LocalDateTime minDate,
+        LocalDateTime maxDate,
+        LocalDateTime beforeDate,
+        Long beforeId,
+        Pageable pageable
+    );
+
+    interface EventMessage {
+        Long getEventId();
+
+        Long getMessageId();
+    }
 }
@@ -0,0 +1,9 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.entities.EventRepostJpa;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventRepostRepository extends JpaRepository<EventRepostJpa, Long> {
+}
@@ -0,0 +1,77 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa;
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryId;
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReminderDeliveryRepository extends JpaRepository<ReminderDeliveryJpa, DeliveryId> {
+
+    /**
+     * Record the reminders of a window as queued for the given students.
+     * A student that already has a delivery for the window is reset to queued.
+     *
+     * @param eventId the event of the window
+     * @param offsetTime the offset of the window
+     * @param studentIds the students the reminders are queued for
+     * @param time the current time
+     * @return the number of deliveries recorded
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reminder_delivery"))
+    @Query(value = """
+        insert into reminder_delivery (event_id, offset_time, student_id, status, updated_date)
+            select :eventId, :offsetTime, s.id, 'QUEUED', :time
+            from student s
+            where s.id in (:studentIds)
+        on conflict (event_id, offset_time, student_id) do update
+            set status = excluded.status, updated_date = excluded.updated_date
+        """, nativeQuery = true)
+    int insertQueued(Long eventId, Integer offsetTime, Collection<Long> studentIds, LocalDateTime time);
+
+    /**
+     * Set the outcome of the reminders of a window for the given students.
+     *
+     * @param eventId the event of the window
+     * @param offsetTime the offset of the window
+     * @param studentIds the students the outcome applies to
+     * @param status the outcome of the reminders
+     * @param time the current time
+     * @return the number of deliveries updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update ReminderDeliveryJpa d
+        set d.status = :status, d.updatedDate = :time
+        where d.id.eventId = :eventId
+          and d.id.offsetTime = :offsetTime
+          and d.id.studentId in :studentIds
+        """)
+    int updateStatus(Long eventId, Integer offsetTime, Collection<Long> studentIds, DeliveryStatus status, LocalDateTime time);
+
+    /**
+     * Find the reminders of an event that did not reach their student, either because sending failed,
+     * the student blocks direct messages or the reminder is still waiting to be sent.
+     *
+     * @param eventId the event to find the reminders for
+     * @return List of the deliveries that are not sent, ordered by offset and student
+     */
+    @Query("""
+        select d from ReminderDeliveryJpa d
+        where d.id.eventId = :eventId
+          and d.status <> com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryStatus.SENT
+        order by d.id.offsetTime, d.id.studentId
+        """)
+    List<ReminderDeliveryJpa> findAllUndelivered(Long eventId);
+}
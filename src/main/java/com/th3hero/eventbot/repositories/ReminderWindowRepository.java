@@ -0,0 +1,165 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.entities.ReminderWindowJpa;
+import com.th3hero.eventbot.entities.ReminderWindowJpa.WindowId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReminderWindowRepository extends JpaRepository<ReminderWindowJpa, WindowId> {
+
+    /**
+     * Find all reminder windows that should have fired by the given time
+     *
+     * @param time the current time
+     * @return List of due windows ordered by fire time
+     */
+    @Query("select w from ReminderWindowJpa w where w.fireTime <= :time order by w.fireTime")
+    List<ReminderWindowJpa> findAllDue(LocalDateTime time);
+
+    /**
+     * Create a window for every distinct reminder offset of the students taking a course on the event.
+     * Windows that already exist or would fire before the given time are skipped.
+     *
+     * @param eventId the event to create windows for
+     * @param time the current time
+     * @return the number of windows created
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reminder_window"))
+    @Query(value = """
+        insert into reminder_window (event_id, offset_time, fire_time)
+            select distinct e.id, sro.reminder_offset_time, e.event_date - sro.reminder_offset_time * interval '1 hour'
+            from event e
+            join event_courses ec on ec.event_jpa_id = e.id
+            join student_courses sc on sc.courses_id = ec.courses_id
+            join student_reminder_offsets sro on sro.student_id = sc.students_id
+            where e.id = :eventId
+              and e.status = 'ACTIVE'
+              and e.event_date - sro.reminder_offset_time * interval '1 hour' > :time
+        on conflict do nothing
+        """, nativeQuery = true)
+    int insertWindowsForEvent(Long eventId, LocalDateTime time);
+
+    /**
+     * Create any missing windows for the active events in a student's courses using the student's offsets.
+     * Windows that already exist or would fire before the given time are skipped.
+     *
+     * @param studentId the student to create windows for
+     * @param time the current time
+     * @return the number of windows created
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reminder_window"))
+    @Query(value = """
+        insert into reminder_window (event_id, offset_time, fire_time)
+            select distinct e.id, sro.reminder_offset_time, e.event_date - sro.reminder_offset_time * interval '1 hour'
+            from student_reminder_offsets sro
+            join student_courses sc on sc.students_id = sro.student_id
+            join event_courses ec on ec.courses_id = sc.courses_id
+            join event e on e.id = ec.event_jpa_id
+            where sro.student_id = :studentId
+              and e.status = 'ACTIVE'
+              and e.event_date - sro.reminder_offset_time * interval '1 hour' > :time
+        on conflict do nothing
+        """, nativeQuery = true)
+    int insertWindowsForStudent(Long studentId, LocalDateTime time);
+
+    /**
+     * Move the existing windows of an event to match the current event date.
+     * Windows that already fire at the right time are left untouched.
+     *
+     * @param eventId the event to update the windows of
+     * @return the number of windows moved
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reminder_window"))
+    @Query(value = """
+        update reminder_window w
+            set fire_time = e.event_date - w.offset_time * interval '1 hour'
+            from event e
+            where e.id = w.event_id
+              and w.event_id = :eventId
+              and w.fire_time <> e.event_date - w.offset_time * interval '1 hour'
+        """, nativeQuery = true)
+    int updateFireTimesForEvent(Long eventId);
+
+    /**
+     * Delete the windows of an event that would fire before the given time
+     * or no longer have a student with a matching offset taking a course on the event.
+     *
+     * @param eventId the event to delete the windows of
+     * @param time the current time
+     * @return the number of windows deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reminder_window"))
+    @Query(value = """
+        delete from reminder_window w
+            where w.event_id = :eventId
+              and (
+                w.fire_time <= :time
+                or not exists (
+                    select 1
+                    from event_courses ec
+                    join student_courses sc on sc.courses_id = ec.courses_id
+                    join student_reminder_offsets sro on sro.student_id = sc.students_id
+                    where ec.event_jpa_id = w.event_id
+                      and sro.reminder_offset_time = w.offset_time
+                )
+              )
+        """, nativeQuery = true)
+    int deleteStaleWindowsForEvent(Long eventId, LocalDateTime time);
+
+    /**
+     * Delete the windows of every event in the given courses that would fire before the given time
+     * or no longer have a student with a matching offset taking a course on the event.
+     * Used after students leave courses, so all affected events are handled in one statement.
+     *
+     * @param courseIds the courses whose events should be checked
+     * @param time the current time
+     * @return the number of windows deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reminder_window"))
+    @Query(value = """
+        delete from reminder_window w
+            where w.event_id in (
+                select ec.event_jpa_id
+                from event_courses ec
+                where ec.courses_id in (:courseIds)
+              )
+              and (
+                w.fire_time <= :time
+                or not exists (
+                    select 1
+                    from event_courses ec
+                    join student_courses sc on sc.courses_id = ec.courses_id
+                    join student_reminder_offsets sro on sro.student_id = sc.students_id
+                    where ec.event_jpa_id = w.event_id
+                      and sro.reminder_offset_time = w.offset_time
+                )
+              )
+        """, nativeQuery = true)
+    int deleteStaleWindowsForCourses(Collection<Long> courseIds, LocalDateTime time);
+
+    /**
+     * Delete all reminder windows of an event
+     *
+     * @param eventId the event to delete the windows of
+     * @return the number of windows deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ReminderWindowJpa w where w.id.eventId = :eventId")
+    int deleteAllByEventId(Long eventId);
+
+}
@@ -2,7 +2,12 @@ package com.th3hero.eventbot.repositories;
 
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.StudentJpa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +21,115 @@ public interface StudentRepository extends JpaRepository<StudentJpa, Long> {
      */
     List<StudentJpa> findAllByCoursesContains(CourseJpa courseJpa);
 
+    /**
+     * Find the ids of all students without loading the students
+     * @return List of student ids
+     */
+    @Query("select s.id from StudentJpa s")
+    List<Long> findAllIds();
+
+    /**
+     * Find the direct message channel of every student that has one
+     * @return List of student ids with their channel id
+     */
+    @Query("select s.id as studentId, s.privateChannelId as channelId from StudentJpa s where s.privateChannelId is not null")
+    List<StudentChannel> findAllPrivateChannels();
+
+    /**
+     * Find the ids of all students that should receive a reminder for an event at the given offset.
+     * Students taking a course on the event with a matching offset are included unless they have completed the event.
+     * Students are returned in id order starting after the given id, so a large window can be read in pages.
+     * @param eventId the id of the event
+     * @param offset the reminder offset in hours
+     * @param afterStudentId only students with a greater id are returned, 0 to start from the first student
+     * @param limit the maximum number of students to return
+     * @return List of student ids ordered by id
+     */
+    @Query(value = """
+        select distinct sc.students_id
+        from event_courses ec
+        join student_courses sc on sc.courses_id = ec.courses_id
+        join student_reminder_offsets sro on sro.student_id = sc.students_id
+        where ec.event_jpa_id = :eventId
+          and sro.reminder_offset_time = :offset
+          and not exists (
+              select 1
+              from student_completed_events sce
+              where sce.student_jpa_id = sc.students_id
+                and sce.completed_events_id = ec.event_jpa_id
+          )
+          and sc.students_id > :afterStudentId
+        order by sc.students_id
+        limit :limit
+        """, nativeQuery = true)
+    List<Long> findReminderRecipients(Long eventId, Integer offset, Long afterStudentId, int limit);
+
+    /**
+     * Check if a student takes any of the courses on an event, using the join table indexes only.
+     * @param studentId the id of the student
+     * @param eventId the id of the event
+     * @return true if the student takes a course on the event
+     */
+    @Query(value = """
+        select exists (
+            select 1
+            from event_courses ec
+            join student_courses sc on sc.courses_id = ec.courses_id
+            where ec.event_jpa_id = :eventId
+              and sc.students_id = :studentId
+        )
+        """, nativeQuery = true)
+    boolean takesCourseOnEvent(Long studentId, Long eventId);
+
+    /**
+     * Check if a student has marked an event as completed
+     * @param studentId the id of the student
+     * @param eventId the id of the event
+     * @return true if the student has completed the event
+     */
+    @Query(value = """
+        select exists (
+            select 1
+            from student_completed_events
+            where student_jpa_id = :studentId
+              and completed_events_id = :eventId
+        )
+        """, nativeQuery = true)
+    boolean hasCompletedEvent(Long studentId, Long eventId);
+
+    /**
+     * Mark an event as completed for a student. Does nothing if the student already completed the event
+     * @param studentId the id of the student
+     * @param eventId the id of the event
+     * @return the number of rows inserted
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_completed_events"))
+    @Query(value = """
+        insert into student_completed_events (student_jpa_id, completed_events_id)
+        values (:studentId, :eventId)
+        on conflict do nothing
+        """, nativeQuery = true)
+    int addCompletedEvent(Long studentId, Long eventId);
+
+    /**
+     * Remove an event from the completed events of a student
+     * @param studentId the id of the student
+     * @param eventId the id of the event
+     * @return the number of rows deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_completed_events"))
+    @Query(value = """
+        delete from student_completed_events
+        where student_jpa_id = :studentId
+          and completed_events_id = :eventId
+        """, nativeQuery = true)
+    int removeCompletedEvent(Long studentId, Long eventId);
+
+    interface StudentChannel {
+        Long getStudentId();
+
+        Long getChannelId();
+    }
 }
@@ -0,0 +1,234 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.listeners.events.UpdatedConfigEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the in memory caches of every running instance of the bot in line with each other through postgres LISTEN/NOTIFY.
+ * Changes to the config, courses, students and event messages are sent on a notification channel as part of the transaction making them,
+ * so other instances only hear about changes that were committed.
+ * A listener connection held by each instance evicts its local caches when a change made by another instance arrives.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationBus {
+    static final String CHANNEL = "eventbot_cache";
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(10);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ConfigService configService;
+    private final EntityCacheService entityCacheService;
+    private final CourseCatalogService courseCatalogService;
+    private final EventMessageIndex eventMessageIndex;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final CountDownLatch listening = new CountDownLatch(1);
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("cache-invalidation-listener").daemon().factory()
+    );
+    private volatile boolean running = false;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void publishConfigChange(UpdatedConfigEvent event) {
+        publish(new Invalidation(instanceId, InvalidationType.CONFIG, null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void publishCoursesChange(UpdatedCoursesEvent event) {
+        publish(new Invalidation(instanceId, InvalidationType.COURSES, null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void publishStudentChange(UpdatedStudentEvent event) {
+        publish(new Invalidation(instanceId, InvalidationType.STUDENT, event.studentId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void publishStudentChange(UpdatedStudentCoursesEvent event) {
+        publish(new Invalidation(instanceId, InvalidationType.STUDENT, event.studentId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void publishEventMessageChange(UpdatedEventMessageEvent event) {
+        publish(new Invalidation(instanceId, InvalidationType.EVENT_MESSAGE, event.eventId()));
+    }
+
+    /**
+     * Starts listening for changes made by other instances.
+     * Waits until the listener is registered, so a change committed elsewhere once the bot is ready is never missed.
+     * Does nothing if the listener is already running.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws InterruptedException {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker.execute(this::listen);
+        if (!listening.await(START_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Cache invalidation listener is not connected after {}. Retrying in the background", START_TIMEOUT);
+            return;
+        }
+        log.info("Started cache invalidation listener on channel {}", CHANNEL);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.shutdownNow();
+    }
+
+    /**
+     * Handles a notification from the channel, evicting the local caches affected by the change it describes.
+     * Changes made by this instance have already been evicted locally and are ignored.
+     *
+     * @param payload The payload of the notification
+     */
+    void receive(String payload) {
+        Invalidation invalidation = Invalidation.parse(payload);
+        if (invalidation == null) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (invalidation.origin().equals(instanceId)) {
+            return;
+        }
+
+        switch (invalidation.type()) {
+            case CONFIG -> configService.invalidateConfigCache();
+            case COURSES -> {
+                entityCacheService.evictCourses();
+                courseCatalogService.refreshCatalog();
+            }
+            case STUDENT -> entityCacheService.evictStudent(invalidation.id());
+            case EVENT_MESSAGE -> eventMessageIndex.refresh(invalidation.id());
+        }
+        meterRegistry.counter("eventbot.cache.invalidations", "direction", "received", "type", invalidation.type().name()).increment();
+        log.debug("Applied cache invalidation {} from instance {}", invalidation.type(), invalidation.origin());
+    }
+
+    private void publish(Invalidation invalidation) {
+        jdbcTemplate.queryForObject("select pg_notify(?, ?)", Object.class, CHANNEL, invalidation.format());
+        meterRegistry.counter("eventbot.cache.invalidations", "direction", "sent", "type", invalidation.type().name()).increment();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Anything changed while no listener was registered went unheard, so nothing cached can be trusted
+                evictAll();
+                listening.countDown();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receiveSafely(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lost the cache invalidation listener connection. Reconnecting in {}", RECONNECT_DELAY, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receiveSafely(String payload) {
+        try {
+            receive(payload);
+        } catch (Exception e) {
+            log.error("Failed to apply cache invalidation: {}", payload, e);
+        }
+    }
+
+    private void evictAll() {
+        try {
+            configService.invalidateConfigCache();
+            entityCacheService.evictAll();
+            courseCatalogService.refreshCatalog();
+            eventMessageIndex.load();
+        } catch (Exception e) {
+            log.error("Failed to evict local caches after connecting the cache invalidation listener", e);
+        }
+    }
+
+    enum InvalidationType {
+        CONFIG,
+        COURSES,
+        STUDENT,
+        EVENT_MESSAGE
+    }
+
+    /**
+     * A change sent on the notification channel, written as {@code origin:type[:id]}.
+     *
+     * @param origin The id of the instance that made the change
+     * @param type The kind of data that changed
+     * @param id The id of the changed row, null when the whole kind of data is invalidated
+     */
+    record Invalidation(String origin, InvalidationType type, Long id) {
+        String format() {
+            return id == null
+                ? "%s:%s".formatted(origin, type)
+                : "%s:%s:%d".formatted(origin, type, id);
+        }
+
+        static Invalidation parse(String payload) {
+            String[] parts = payload.split(":");
+            try {
+                return switch (parts.length) {
+                    case 2 -> new Invalidation(parts[0], InvalidationType.valueOf(parts[1]), null);
+                    case 3 -> new Invalidation(parts[0], InvalidationType.valueOf(parts[1]), Long.parseLong(parts[2]));
+                    default -> null;
+                };
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -4,27 +4,110 @@ import com.th3hero.eventbot.dto.config.Config;
 import com.th3hero.eventbot.dto.config.ConfigUpdate;
 import com.th3hero.eventbot.dto.config.ConfigUpload;
 import com.th3hero.eventbot.entities.ConfigJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedConfigEvent;
 import com.th3hero.eventbot.listeners.events.UpdatedEventChannelEvent;
 import com.th3hero.eventbot.repositories.ConfigRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class ConfigService {
     private final ConfigRepository configRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate primaryTransactionTemplate;
+
+    private final Object cacheLock = new Object();
+    private final AtomicReference<ConfigJpa> cachedConfig = new AtomicReference<>();
+    private final AtomicLong cacheVersion = new AtomicLong();
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public ConfigService(
+        ConfigRepository configRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.configRepository = configRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        // The cached config is loaded in its own read write transaction so it always comes from the primary
+        this.primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cacheHits = meterRegistry.counter("eventbot.config.cache", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("eventbot.config.cache", "result", "miss");
+    }
 
+    /**
+     * Gets the config of the bot. The config is read on almost every interaction, so it is served from memory
+     * and only loaded from the database after it has been changed.
+     * The returned config is shared and must not be modified, use the update methods instead.
+     *
+     * @return The config of the bot
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ConfigJpa getConfigJpa() {
+        ConfigJpa config = cachedConfig.get();
+        if (config != null) {
+            cacheHits.increment();
+            return config;
+        }
+        cacheMisses.increment();
+
+        // If the config is changed while loading, the loaded copy may be stale and is not cached
+        long version = cacheVersion.get();
+        config = primaryTransactionTemplate.execute(status -> loadConfigJpa());
+        synchronized (cacheLock) {
+            if (cacheVersion.get() == version) {
+                cachedConfig.set(config);
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Clears the cached config. Runs again once a change has been committed or rolled back,
+     * so a config read during the change is never kept.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void invalidateConfigCache(UpdatedConfigEvent event) {
+        invalidateConfigCache();
+    }
+
+    /**
+     * Clears the cached config right away, used when another instance of the bot changed the config.
+     */
+    public void invalidateConfigCache() {
+        synchronized (cacheLock) {
+            cacheVersion.incrementAndGet();
+            cachedConfig.set(null);
+        }
+    }
+
+    private void configChanged() {
+        invalidateConfigCache();
+        applicationEventPublisher.publishEvent(new UpdatedConfigEvent());
+    }
+
+    private ConfigJpa loadConfigJpa() {
         List<ConfigJpa> configList = configRepository.findAll();
         if (configList.isEmpty()) {
             log.error("No existing config was found");
@@ -39,6 +122,7 @@ public class ConfigService {
         return configList.getFirst();
     }
 
+    @Transactional(readOnly = true)
     public Config getConfig() {
         return getConfigJpa().toDto();
     }
@@ -59,8 +143,10 @@ public class ConfigService {
             configJpaBuilder.draftCleanupDelay(configUpload.draftCleanupDelay());
         }
 
+        Config config = configRepository.save(configJpaBuilder.build()).toDto();
+        configChanged();
         log.debug("Created new config");
-        return configRepository.save(configJpaBuilder.build()).toDto();
+        return config;
     }
 
     public Config updateConfig(ConfigUpdate configUpload) {
@@ -68,7 +154,7 @@ public class ConfigService {
             updateEventChannel(configUpload.eventChannel());
         }
 
-        ConfigJpa configJpa = getConfigJpa();
+        ConfigJpa configJpa = loadConfigJpa();
 
         if (configUpload.serverId() != null) {
             configJpa.setServerId(configUpload.serverId());
@@ -80,15 +166,18 @@ public class ConfigService {
             configJpa.setDraftCleanupDelay(configUpload.draftCleanupDelay());
         }
 
+        Config config = configRepository.save(configJpa).toDto();
+        configChanged();
         log.debug("Updated config");
-        return configRepository.save(configJpa).toDto();
+        return config;
     }
 
     public void updateEventChannel(Long eventChannelId) {
-        ConfigJpa configJpa = getConfigJpa();
+        ConfigJpa configJpa = loadConfigJpa();
         configJpa.setEventChannel(eventChannelId);
         configRepository.save(configJpa);
-        applicationEventPublisher.publishEvent(new UpdatedEventChannelEvent());
+        configChanged();
+        applicationEventPublisher.publishEvent(new UpdatedEventChannelEvent(eventChannelId));
     }
 
 }
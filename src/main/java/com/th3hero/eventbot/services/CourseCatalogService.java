@@ -0,0 +1,84 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.dto.course.CourseCatalog;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedCoursesEvent;
+import com.th3hero.eventbot.repositories.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+@Transactional
+public class CourseCatalogService {
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate primaryTransactionTemplate;
+
+    private final AtomicReference<CourseCatalog> catalog = new AtomicReference<>();
+
+    public CourseCatalogService(CourseRepository courseRepository, PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        // The catalog is built in its own read write transaction so it always comes from the primary
+        this.primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Gets the current course catalog, building it on first use.
+     *
+     * @return The current course catalog
+     */
+    public CourseCatalog getCatalog() {
+        CourseCatalog current = catalog.get();
+        if (current != null) {
+            return current;
+        }
+        return rebuildCatalog();
+    }
+
+    /**
+     * Rebuilds the catalog once a change to the courses has been committed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void rebuildCatalog(UpdatedCoursesEvent event) {
+        rebuildCatalog();
+    }
+
+    /**
+     * Rebuilds the catalog right away, used when another instance of the bot changed the courses.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshCatalog() {
+        rebuildCatalog();
+    }
+
+    private synchronized CourseCatalog rebuildCatalog() {
+        List<SelectOption> options = primaryTransactionTemplate.execute(status ->
+            courseRepository.findAll(Sort.by(Sort.Direction.ASC, "code")).stream()
+                .map(CourseCatalogService::toSelectOption)
+                .toList()
+        );
+
+        CourseCatalog next = CourseCatalog.of(options);
+        catalog.set(next);
+        log.debug("Built course catalog version {} with {} courses", next.version(), options.size());
+        return next;
+    }
+
+    private static SelectOption toSelectOption(CourseJpa course) {
+        return SelectOption.of(course.getCode(), course.getCode()).withDescription(course.getName());
+    }
+}
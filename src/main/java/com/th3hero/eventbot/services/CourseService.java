@@ -1,16 +1,25 @@
 package com.th3hero.eventbot.services;
 
 import com.th3hero.eventbot.commands.actions.SelectionAction;
+import com.th3hero.eventbot.commands.requests.ButtonRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
+import com.th3hero.eventbot.commands.requests.ModalRequest;
 import com.th3hero.eventbot.commands.requests.SelectionRequest;
 import com.th3hero.eventbot.dto.course.Course;
+import com.th3hero.eventbot.dto.course.CourseCatalog;
 import com.th3hero.eventbot.dto.course.CourseUpdate;
 import com.th3hero.eventbot.dto.course.CourseUpload;
 import com.th3hero.eventbot.entities.CourseJpa;
-import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.StudentJpa;
+import com.th3hero.eventbot.exceptions.IllegalInteractionException;
+import com.th3hero.eventbot.factories.ButtonFactory;
 import com.th3hero.eventbot.factories.EmbedBuilderFactory;
+import com.th3hero.eventbot.factories.ModalFactory;
+import com.th3hero.eventbot.factories.ResponseFactory;
+import com.th3hero.eventbot.formatting.InteractionArguments;
+import com.th3hero.eventbot.listeners.events.UpdatedCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentCoursesEvent;
 import com.th3hero.eventbot.repositories.CourseRepository;
 import com.th3hero.eventbot.repositories.EventRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -18,29 +27,38 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
 import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
-import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
-import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
-import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.th3hero.eventbot.formatting.InteractionArguments.*;
+import static com.th3hero.eventbot.utils.DiscordFieldsUtils.SEARCH;
+
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CourseService {
     private final CourseRepository courseRepository;
-    private final StudentService studentService;
     private final EventRepository eventRepository;
-    private final SchedulingService schedulingService;
+    private final StudentService studentService;
+    private final CourseCatalogService courseCatalogService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     private static final String MISSING_COURSE_WITH_ID = "Unable to find Course with provided id.";
+    /**
+     * Target id used by pickers that edit the requester's own courses
+     */
+    private static final Long NO_TARGET_ID = 0L;
 
+    @Transactional(readOnly = true)
     public Collection<Course> getAllCourses() {
         return courseRepository.findAll().stream()
             .map(CourseJpa::toDto)
@@ -56,9 +74,11 @@ public class CourseService {
             .toList();
 
         log.debug("Saving courses:\n {}", courses.stream().map(CourseJpa::getCode).collect(Collectors.joining("\n")));
-        return courseRepository.saveAll(courses).stream()
+        List<Course> savedCourses = courseRepository.saveAll(courses).stream()
             .map(CourseJpa::toDto)
             .toList();
+        applicationEventPublisher.publishEvent(new UpdatedCoursesEvent());
+        return savedCourses;
     }
 
     public Course updateCourse(Long courseId, CourseUpdate courseUpload) {
@@ -73,7 +93,9 @@ public class CourseService {
         }
 
         log.debug("Updating course: {}", courseId);
-        return courseRepository.save(courseJpa).toDto();
+        Course course = courseRepository.save(courseJpa).toDto();
+        applicationEventPublisher.publishEvent(new UpdatedCoursesEvent());
+        return course;
     }
 
     public void deleteCourseById(Long courseId) {
@@ -83,45 +105,119 @@ public class CourseService {
         studentService.removeCourseFromAllStudents(courseJpa);
 
         courseRepository.deleteById(courseId);
+        applicationEventPublisher.publishEvent(new UpdatedCoursesEvent());
         log.debug("Deleted course: {}", courseId);
     }
 
     /**
-     * Creates a select menu populated with the given courses as options
-     * @param selectMenuId The id of the select menu
-     * @param defaultOptions The default preselected options
-     * @return A select menu with all courses as options
+     * Creates a course picker with the given courses preselected.
+     * When the catalog does not fit in a single select menu the picker is paginated
+     * and a row of buttons is added to move between pages and search by course code.
+     *
+     * @param target The selection the picker is for
+     * @param targetId The id of the draft or event the picker is for, ignored for <code>SELECT_COURSES</code>
+     * @param selectedCourses The courses to preselect
+     * @return The rows of components making up the picker
+     * @throws EntityNotFoundException If no courses are setup
      */
-    public StringSelectMenu createCourseSelectionMenu(String selectMenuId, List<CourseJpa> defaultOptions) {
-        return createCourseSelectionMenu(selectMenuId, defaultOptions, 1);
+    public List<LayoutComponent> createCoursePicker(SelectionAction target, Long targetId, Collection<CourseJpa> selectedCourses) {
+        CourseCatalog catalog = courseCatalogService.getCatalog();
+        return createCoursePicker(target, targetId, catalog, catalog.fullRange(), 0, selectedCourses);
     }
 
-    public StringSelectMenu createCourseSelectionMenu(String selectMenuId, List<CourseJpa> defaultOptions, int minValues) {
-        List<SelectOption> options = selectOptionFromJpas(courseRepository.findAll());
-        if (options.isEmpty()) {
-            log.error("No courses are currently setup.");
-            throw new EntityNotFoundException("No courses are currently setup. Contact the bot owner.");
+    public void sendCourseSelectionMenu(InteractionRequest request) {
+        request.sendResponse(
+            ResponseFactory.createResponse(
+                EmbedBuilderFactory.courseSelectionHeader("Select any courses you wish to receive notifications for."),
+                createCoursePicker(
+                    SelectionAction.SELECT_COURSES,
+                    NO_TARGET_ID,
+                    studentService.fetchStudent(request.getRequester().getIdLong()).getCourses()
+                )
+            ),
+            MessageMode.USER
+        );
+    }
+
+    /**
+     * Moves a course picker to the page stored on the pressed button.
+     * If the catalog changed since the picker was created the picker restarts on the first page of all courses.
+     *
+     * @param request The page button request
+     */
+    public void sendCoursePage(ButtonRequest request) {
+        Map<String, Long> arguments = request.getArguments();
+        SelectionAction target = pickerTarget(arguments);
+        CourseCatalog catalog = courseCatalogService.getCatalog();
+
+        CourseCatalog.Range range = new CourseCatalog.Range(arguments.get(RANGE_START).intValue(), arguments.get(RANGE_END).intValue());
+        int pageStart = arguments.get(PAGE_START).intValue();
+        if (arguments.get(CATALOG_VERSION) != catalog.version() || !catalog.contains(range)) {
+            log.debug("Course picker is outdated. Restarting on the first page of catalog version {}", catalog.version());
+            range = catalog.fullRange();
+            pageStart = 0;
         }
-        return StringSelectMenu.create(selectMenuId)
-            .setPlaceholder("Select Courses")
-            .setMinValues(minValues)
-            .setMaxValues(options.size())
-            .addOptions(options)
-            .setDefaultValues(defaultOptions.stream().map(CourseJpa::getCode).toList())
-            .build();
+
+        Long targetId = arguments.get(TARGET_ID);
+        request.editComponents(
+            createCoursePicker(target, targetId, catalog, range, pageStart, pickerSelectedCourses(target, targetId, request))
+        );
     }
 
-    public void sendCourseSelectionMenu(InteractionRequest request) {
-        MessageCreateData data = new MessageCreateBuilder()
-            .addEmbeds(EmbedBuilderFactory.courseSelectionHeader("Select any courses you wish to receive notifications for."))
-            .addActionRow(
-                createCourseSelectionMenu(
-                    SelectionAction.SELECT_COURSES.toString(),
-                    studentService.fetchStudent(request.getRequester().getIdLong()).getCourses(),
-                    0
-                )
-            ).build();
-        request.sendResponse(data, MessageMode.USER);
+    public void sendCourseSearchModal(ButtonRequest request) {
+        request.sendResponse(
+            ModalFactory.courseSearch(pickerTarget(request.getArguments()), request.getArguments().get(TARGET_ID)),
+            MessageMode.USER
+        );
+    }
+
+    /**
+     * Narrows a course picker down to the courses whose code starts with the searched text.
+     * The matching courses are found with a binary search over the sorted catalog.
+     *
+     * @param request The course search modal request
+     */
+    public void searchCourses(ModalRequest request) {
+        SelectionAction target = pickerTarget(request.getArguments());
+        Long targetId = request.getArguments().get(TARGET_ID);
+        String prefix = Optional.ofNullable(request.getEvent().getValue(SEARCH))
+            .map(ModalMapping::getAsString)
+            .map(String::strip)
+            .orElse("");
+
+        CourseCatalog catalog = courseCatalogService.getCatalog();
+        CourseCatalog.Range range = catalog.prefixRange(prefix);
+        if (range.isEmpty()) {
+            request.sendResponse("No courses start with '%s'.".formatted(prefix), MessageMode.USER);
+            return;
+        }
+
+        request.editComponents(
+            createCoursePicker(target, targetId, catalog, range, range.start(), pickerSelectedCourses(target, targetId, request))
+        );
+    }
+
+    /**
+     * Applies the selection of a single picker page to the currently selected courses.
+     * Only the courses shown on the page are replaced, selections made on other pages are kept.
+     *
+     * @param currentCourses The courses currently selected
+     * @param request The selection request of the page
+     * @return The updated list of selected courses
+     * @throws EntityNotFoundException If any of the selected course codes are not found in the database
+     */
+    public List<CourseJpa> applyPageSelection(Collection<CourseJpa> currentCourses, SelectionRequest request) {
+        Set<String> pageCodes = request.getEvent().getSelectMenu().getOptions().stream()
+            .map(SelectOption::getValue)
+            .collect(Collectors.toSet());
+
+        List<CourseJpa> courses = new ArrayList<>(
+            currentCourses.stream()
+                .filter(course -> !pageCodes.contains(course.getCode()))
+                .toList()
+        );
+        courses.addAll(coursesFromCourseCodes(request.getEvent().getValues()));
+        return courses;
     }
 
     /**
@@ -144,44 +240,50 @@ public class CourseService {
         return courses;
     }
 
+    /**
+     * Gets a course by its code. Once cached the code is resolved to the course without querying the database
+     * @param code The course code to search for
+     * @return The course with the code, empty if there is none
+     */
+    public Optional<CourseJpa> courseFromCode(String code) {
+        return courseRepository.findByNaturalCode(code);
+    }
+
+    /**
+     * Replaces the courses of the requesting student with their selection.
+     * The interaction is acknowledged first, the reminder windows are updated in the background once the change is committed.
+     *
+     * @param request The course selection request
+     */
     public void processStudentSelectedCourses(SelectionRequest request) {
+        request.deferReply(MessageMode.USER);
         StudentJpa studentJpa = studentService.fetchStudent(request.getRequester().getIdLong());
 
-
         // Get the new list of selected course
-        List<CourseJpa> updatedCourses = coursesFromCourseCodes(request.getEvent().getValues());
-        List<CourseJpa> removedCourses = studentJpa.getCourses().stream()
+        List<CourseJpa> updatedCourses = applyPageSelection(studentJpa.getCourses(), request);
+        Set<Long> removedCourseIds = studentJpa.getCourses().stream()
             .filter(course -> !updatedCourses.contains(course))
-            .toList();
+            .map(CourseJpa::getId)
+            .collect(Collectors.toSet());
 
-        // Remove reminders for any courses that were removed
-        List<EventJpa> eventsToRemove = eventRepository.findAllByCourse(removedCourses);
-        for (EventJpa event : eventsToRemove) {
-            schedulingService.removeEventReminderTriggers(event.getId(), studentJpa.getId());
-        }
+        studentJpa.getCourses().retainAll(updatedCourses);
+        studentJpa.getCourses().addAll(updatedCourses);
+        applicationEventPublisher.publishEvent(new UpdatedStudentCoursesEvent(studentJpa.getId(), removedCourseIds));
 
-        studentJpa.getCourses().clear();
-        if (request.getEvent().getValues().isEmpty()) {
+        if (updatedCourses.isEmpty()) {
             request.sendResponse("No courses selected. You will not receive notifications for any courses.", MessageMode.USER);
             return;
         }
 
-        studentJpa.getCourses().addAll(updatedCourses);
-
-        // Add reminders for any new courses
-        List<EventJpa> events = eventRepository.findAllByCourse(studentJpa.getCourses());
-        for (EventJpa event : events) {
-            studentService.scheduleStudentForEvent(event, studentJpa);
-        }
-
         request.sendResponse(
             EmbedBuilderFactory.selectedCourses(studentJpa.getCourses()),
             MessageMode.USER
         );
     }
 
+    @Transactional(readOnly = true)
     public void autoCompleteCourseOptions(CommandAutoCompleteInteractionEvent event) {
-        StudentJpa studentJpa = studentService.fetchStudent(event.getUser().getIdLong());
+        StudentJpa studentJpa = studentService.findStudentOrDefault(event.getUser().getIdLong());
 
         // Based on the courses the student has, filter the current input
         List<Command.Choice> choices = studentJpa.getCourses().stream()
@@ -191,9 +293,50 @@ public class CourseService {
         event.replyChoices(choices).queue();
     }
 
-    private List<SelectOption> selectOptionFromJpas(List<CourseJpa> courses) {
-        return courses.stream()
-            .map(course -> SelectOption.of(course.getCode(), course.getCode()).withDescription(course.getName()))
-            .toList();
+    private List<LayoutComponent> createCoursePicker(
+        SelectionAction target,
+        Long targetId,
+        CourseCatalog catalog,
+        CourseCatalog.Range range,
+        int pageStart,
+        Collection<CourseJpa> selectedCourses
+    ) {
+        if (catalog.isEmpty()) {
+            log.error("No courses are currently setup.");
+            throw new EntityNotFoundException("No courses are currently setup. Contact the bot owner.");
+        }
+
+        String selectMenuId = target == SelectionAction.SELECT_COURSES
+            ? target.toString()
+            : InteractionArguments.createInteractionIdString(target, targetId);
+        // A page can be left empty when the selected courses are on other pages
+        int minValues = target == SelectionAction.SELECT_COURSES || catalog.isPaginated() ? 0 : 1;
+        int page = range.clampPageStart(pageStart);
+
+        List<LayoutComponent> rows = new ArrayList<>();
+        rows.add(ActionRow.of(
+            catalog.createMenu(selectMenuId, range, page, selectedCourses.stream().map(CourseJpa::getCode).toList(), minValues)
+        ));
+        if (catalog.isPaginated()) {
+            rows.add(ButtonFactory.coursePageButtons(target, targetId, catalog, range, page));
+        }
+        return rows;
+    }
+
+    private Collection<CourseJpa> pickerSelectedCourses(SelectionAction target, Long targetId, InteractionRequest request) {
+        if (target == SelectionAction.SELECT_COURSES) {
+            return studentService.fetchStudent(request.getRequester().getIdLong()).getCourses();
+        }
+        return eventRepository.findById(targetId)
+            .orElseThrow(() -> new EntityNotFoundException("Unable to find the draft or event for these courses. It may have been deleted."))
+            .getCourses();
+    }
+
+    private static SelectionAction pickerTarget(Map<String, Long> arguments) {
+        int ordinal = arguments.get(TARGET).intValue();
+        if (ordinal < 0 || ordinal >= SelectionAction.values().length) {
+            throw new IllegalInteractionException("Unknown course picker target %d".formatted(ordinal));
+        }
+        return SelectionAction.values()[ordinal];
     }
 }
@@ -0,0 +1,193 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+/**
+ * Bounded queue for direct messages to students.
+ * A single worker drains the queue and limits the number of messages waiting on discord,
+ * so a burst of reminders is paced instead of flooding the JDA rate limiter.
+ * The outcome of every message is kept until the reminder dispatcher collects it with {@link #drainOutcomes()}.
+ */
+@Slf4j
+@Service
+public class DirectMessageQueue {
+    static final int QUEUE_CAPACITY = 5000;
+    static final int MAX_IN_FLIGHT = 10;
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final PrivateChannelService privateChannelService;
+    private final BlockingQueue<PendingMessage> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private final Queue<DeliveryOutcome> outcomes = new ConcurrentLinkedQueue<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("direct-message-queue").daemon().factory()
+    );
+    private volatile boolean running = false;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter blockedCounter;
+    private final Timer latencyTimer;
+
+    public DirectMessageQueue(PrivateChannelService privateChannelService, MeterRegistry meterRegistry) {
+        this.privateChannelService = privateChannelService;
+        this.sentCounter = reminderCounter(meterRegistry, "sent");
+        this.failedCounter = reminderCounter(meterRegistry, "failed");
+        this.blockedCounter = reminderCounter(meterRegistry, "blocked");
+        this.latencyTimer = Timer.builder("eventbot.reminders.latency")
+            .description("Time from when a reminder was scheduled to fire until the direct message was delivered")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        meterRegistry.gauge("eventbot.reminders.queued", queue, BlockingQueue::size);
+    }
+
+    /**
+     * The number of messages that can be added before the queue is full.
+     * The reminder dispatcher is the only producer, so the capacity can only grow until it adds messages itself.
+     *
+     * @return The remaining capacity of the queue
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Adds a reminder direct message for each user to the queue.
+     * Callers size their batches with {@link #remainingCapacity()}, a batch that does not fit is a programming error.
+     *
+     * @param eventId The id of the event the reminders are for
+     * @param offsetTime The offset of the reminder window in hours
+     * @param userIds The ids of the users to message
+     * @param content The content of the messages
+     * @param scheduledTime The time the messages were meant to be delivered, used for latency tracking
+     * @throws IllegalStateException If the messages do not fit in the queue
+     */
+    public synchronized void enqueueAll(Long eventId, Integer offsetTime, Collection<Long> userIds, String content, LocalDateTime scheduledTime) {
+        if (userIds.size() > queue.remainingCapacity()) {
+            throw new IllegalStateException("Direct message queue cannot fit %d messages".formatted(userIds.size()));
+        }
+        for (Long userId : userIds) {
+            queue.add(new PendingMessage(eventId, offsetTime, userId, content, scheduledTime));
+        }
+    }
+
+    /**
+     * Takes the outcomes of the messages that finished since the last call.
+     *
+     * @return The outcomes in the order the messages finished
+     */
+    public List<DeliveryOutcome> drainOutcomes() {
+        List<DeliveryOutcome> drained = new ArrayList<>();
+        DeliveryOutcome outcome;
+        while ((outcome = outcomes.poll()) != null) {
+            drained.add(outcome);
+        }
+        return drained;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker.execute(() -> {
+            while (running) {
+                try {
+                    sendNext();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+        log.info("Started direct message queue");
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.shutdownNow();
+        if (!queue.isEmpty()) {
+            log.warn("Direct message queue stopped with {} unsent messages", queue.size());
+        }
+        if (!outcomes.isEmpty()) {
+            log.warn("Direct message queue stopped with {} unrecorded outcomes", outcomes.size());
+        }
+    }
+
+    /**
+     * Sends the next message in the queue once a send slot is free.
+     * The slot is taken before polling so a message is never taken off the queue by a worker that is then interrupted.
+     * Waits a short time for a message so the worker can notice when it is stopped.
+     *
+     * @throws InterruptedException If the worker is interrupted while waiting
+     */
+    void sendNext() throws InterruptedException {
+        inFlight.acquire();
+        PendingMessage message;
+        try {
+            message = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            inFlight.release();
+            throw e;
+        }
+        if (message == null) {
+            inFlight.release();
+            return;
+        }
+
+        privateChannelService.sendMessage(message.userId(), message.content())
+            .whenComplete((result, error) -> {
+                inFlight.release();
+                if (error == null) {
+                    outcomes.add(message.outcome(DeliveryStatus.SENT));
+                    sentCounter.increment();
+                    latencyTimer.record(Duration.between(message.scheduledTime(), LocalDateTime.now()));
+                    log.debug("Sent direct message to user {}", message.userId());
+                    return;
+                }
+                if (PrivateChannelService.errorResponseOf(error).orElse(null) == ErrorResponse.CANNOT_SEND_TO_USER) {
+                    outcomes.add(message.outcome(DeliveryStatus.BLOCKED));
+                    blockedCounter.increment();
+                    log.debug("User {} does not accept direct messages", message.userId());
+                    return;
+                }
+                outcomes.add(message.outcome(DeliveryStatus.FAILED));
+                failedCounter.increment();
+                log.warn("Cannot send private message to user {}", message.userId(), error);
+            });
+    }
+
+    private static Counter reminderCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("eventbot.reminders.messages")
+            .description("Reminder direct messages by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * The outcome of the reminder of a window to a single user.
+     */
+    public record DeliveryOutcome(Long eventId, Integer offsetTime, Long userId, DeliveryStatus status) {}
+
+    private record PendingMessage(Long eventId, Integer offsetTime, Long userId, String content, LocalDateTime scheduledTime) {
+        DeliveryOutcome outcome(DeliveryStatus status) {
+            return new DeliveryOutcome(eventId, offsetTime, userId, status);
+        }
+    }
+}
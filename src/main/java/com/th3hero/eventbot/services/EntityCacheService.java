@@ -0,0 +1,129 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.StudentJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Evicts courses and students from the hibernate second level cache once a change to them has completed,
+ * and publishes the hit ratio of each cache region.
+ * Changes made through the entities keep the cache up to date on their own, the eviction covers bulk and native writes
+ * and any change that was rolled back after the cache was touched.
+ */
+@Slf4j
+@Service
+public class EntityCacheService {
+    private static final String QUERY_CACHE_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    private static final List<String> CACHE_REGIONS = List.of(
+        CourseJpa.CACHE_REGION,
+        CourseJpa.NATURAL_ID_CACHE_REGION,
+        StudentJpa.CACHE_REGION,
+        StudentJpa.COURSES_CACHE_REGION,
+        StudentJpa.REMINDER_OFFSETS_CACHE_REGION,
+        QUERY_CACHE_REGION
+    );
+    private static final String STUDENT_COURSES_ROLE = StudentJpa.class.getName() + ".courses";
+    private static final String STUDENT_REMINDER_OFFSETS_ROLE = StudentJpa.class.getName() + ".reminderOffsetTimes";
+
+    private final Cache cache;
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.cache = sessionFactory.getCache();
+
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : CACHE_REGIONS) {
+            Gauge.builder("eventbot.cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                .description("Share of second level cache lookups answered from the cache")
+                .tag("region", region)
+                .register(meterRegistry);
+            FunctionCounter.builder("eventbot.cache.requests", statistics, stats -> regionCount(stats, region, CacheRegionStatistics::getHitCount))
+                .tags("region", region, "result", "hit")
+                .register(meterRegistry);
+            FunctionCounter.builder("eventbot.cache.requests", statistics, stats -> regionCount(stats, region, CacheRegionStatistics::getMissCount))
+                .tags("region", region, "result", "miss")
+                .register(meterRegistry);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void evictCourses(UpdatedCoursesEvent event) {
+        evictCourses();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void evictStudent(UpdatedStudentEvent event) {
+        evictStudent(event.studentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void evictStudent(UpdatedStudentCoursesEvent event) {
+        evictStudent(event.studentId());
+    }
+
+    /**
+     * Evicts every course, the course code lookups and the cached query results.
+     * The course lists of students are evicted as well, as they may still hold a deleted course.
+     */
+    public void evictCourses() {
+        cache.evictEntityData(CourseJpa.class);
+        cache.evictNaturalIdData(CourseJpa.class);
+        cache.evictCollectionData(STUDENT_COURSES_ROLE);
+        cache.evictQueryRegions();
+        log.debug("Evicted courses from the second level cache");
+    }
+
+    /**
+     * Evicts a student and their collections.
+     *
+     * @param studentId The id of the student to evict
+     */
+    public void evictStudent(Long studentId) {
+        cache.evictEntityData(StudentJpa.class, studentId);
+        cache.evictCollectionData(STUDENT_COURSES_ROLE, studentId);
+        cache.evictCollectionData(STUDENT_REMINDER_OFFSETS_ROLE, studentId);
+        log.debug("Evicted student {} from the second level cache", studentId);
+    }
+
+    /**
+     * Evicts every cache region, used when changes made by another instance of the bot may have been missed.
+     */
+    public void evictAll() {
+        cache.evictAllRegions();
+        log.debug("Evicted all regions of the second level cache");
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        long hits = regionCount(statistics, region, CacheRegionStatistics::getHitCount);
+        long misses = regionCount(statistics, region, CacheRegionStatistics::getMissCount);
+        return hits + misses == 0 ? Double.NaN : (double) hits / (hits + misses);
+    }
+
+    private static long regionCount(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> count) {
+        try {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+        } catch (IllegalArgumentException e) {
+            // The region does not exist while the second level cache is disabled
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.dto.event.ArchivedEvent;
+import com.th3hero.eventbot.entities.ArchivedEventJpa;
+import com.th3hero.eventbot.repositories.ArchivedEventRepository;
+import com.th3hero.eventbot.repositories.ArchivedEventRepository.ArchivedRows;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves completed events past the retention age out of the live event tables and serves them back from the archive.
+ * Archiving runs in batches, each moving a bounded number of events in its own transaction,
+ * so a large backlog never holds locks on the live tables for long.
+ */
+@Slf4j
+@Service
+public class EventArchiveService {
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private final ArchivedEventRepository archivedEventRepository;
+    private final Duration retention;
+    private final int batchSize;
+
+    private final DistributionSummary eventRows;
+    private final DistributionSummary courseRows;
+    private final DistributionSummary completionRows;
+    private final Timer runTimer;
+
+    public EventArchiveService(
+        ArchivedEventRepository archivedEventRepository,
+        MeterRegistry meterRegistry,
+        @Value("${events.archive.retention:180d}") Duration retention,
+        @Value("${events.archive.batch-size:500}") int batchSize
+    ) {
+        this.archivedEventRepository = archivedEventRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.eventRows = archivedRows(meterRegistry, "event");
+        this.courseRows = archivedRows(meterRegistry, "event_courses");
+        this.completionRows = archivedRows(meterRegistry, "student_completed_events");
+        this.runTimer = Timer.builder("eventbot.archive.duration")
+            .description("Time taken by a run of the event archive job")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Archives every completed event older than the retention age, one batch at a time until a batch comes back short.
+     *
+     * @return The number of events archived
+     */
+    public long archiveCompletedEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Timer.Sample sample = Timer.start();
+        long events = 0;
+        long courses = 0;
+        long completions = 0;
+        int batches = 0;
+
+        ArchivedRows batch;
+        do {
+            batch = archivedEventRepository.archiveCompletedEvents(cutoff, batchSize);
+            events += batch.getEvents();
+            courses += batch.getCourses();
+            completions += batch.getCompletions();
+            batches++;
+        } while (batch.getEvents() >= batchSize);
+
+        sample.stop(runTimer);
+        eventRows.record(events);
+        courseRows.record(courses);
+        completionRows.record(completions);
+        log.info("Archived {} completed events before {} in {} batches. Course rows: {}, Completion rows: {}", events, cutoff, batches, courses, completions);
+        return events;
+    }
+
+    /**
+     * Lists archived events, newest first.
+     *
+     * @param courseId The id of the course to list events for, or null for all courses
+     * @param from The earliest event date to include, or null for no lower bound
+     * @param to The latest event date to include, or null for no upper bound
+     * @param page The page to return, starting at 0
+     * @param size The number of events on a page
+     * @return The archived events on the page
+     */
+    @Transactional(readOnly = true)
+    public List<ArchivedEvent> findArchivedEvents(Long courseId, LocalDateTime from, LocalDateTime to, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "eventDate", "id"));
+        LocalDateTime start = Optional.ofNullable(from).orElse(EARLIEST);
+        LocalDateTime end = Optional.ofNullable(to).orElse(LATEST);
+
+        return (courseId == null
+            ? archivedEventRepository.findAllByEventDateBetween(start, end, pageRequest)
+            : archivedEventRepository.findAllByCourse(courseId, start, end, pageRequest)
+        ).map(ArchivedEventJpa::toDto).getContent();
+    }
+
+    /**
+     * @param eventId The id the event had while it was live
+     * @return The archived event
+     * @throws EntityNotFoundException If no archived event exists with the id
+     */
+    @Transactional(readOnly = true)
+    public ArchivedEvent getArchivedEvent(Long eventId) {
+        return archivedEventRepository.findById(eventId)
+            .map(ArchivedEventJpa::toDto)
+            .orElseThrow(() -> new EntityNotFoundException("No archived event with id %d".formatted(eventId)));
+    }
+
+    private static DistributionSummary archivedRows(MeterRegistry meterRegistry, String table) {
+        return DistributionSummary.builder("eventbot.archive.rows")
+            .description("Rows moved to the archive per run of the event archive job")
+            .tag("table", table)
+            .register(meterRegistry);
+    }
+}
@@ -13,7 +13,6 @@ import com.th3hero.eventbot.factories.EmbedBuilderFactory;
 import com.th3hero.eventbot.factories.ModalFactory;
 import com.th3hero.eventbot.factories.ResponseFactory;
 import com.th3hero.eventbot.formatting.DateFormatter;
-import com.th3hero.eventbot.formatting.InteractionArguments;
 import com.th3hero.eventbot.repositories.EventRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -123,10 +122,7 @@ public class EventDraftService {
         request.sendResponse(
             ResponseFactory.createResponse(
                 EmbedBuilderFactory.courseSelectionHeader("Select any courses the event is for(Eg. multiple sections)"),
-                courseService.createCourseSelectionMenu(
-                    InteractionArguments.createInteractionIdString(SelectionAction.DRAFT_CREATION, eventDraft.getId()),
-                    eventDraft.getCourses()
-                )
+                courseService.createCoursePicker(SelectionAction.DRAFT_CREATION, eventDraft.getId(), eventDraft.getCourses())
             ),
             MessageMode.USER
         );
@@ -142,9 +138,13 @@ public class EventDraftService {
             return;
         }
 
-        List<CourseJpa> selectedCourses = courseService.coursesFromCourseCodes(request.getEvent().getValues());
+        List<CourseJpa> selectedCourses = courseService.applyPageSelection(eventJpa.get().getCourses(), request);
+        if (selectedCourses.isEmpty()) {
+            request.sendResponse("An event must have at least one course.", MessageMode.USER);
+            return;
+        }
 
-        eventJpa.get().getCourses().clear();
+        eventJpa.get().getCourses().retainAll(selectedCourses);
         eventJpa.get().getCourses().addAll(selectedCourses);
 
         sendDraft(request, eventJpa.get());
@@ -225,10 +225,7 @@ public class EventDraftService {
         request.sendResponse(
             ResponseFactory.createResponse(
                 EmbedBuilderFactory.courseSelectionHeader("Select any courses the event is for(Eg. multiple sections)"),
-                courseService.createCourseSelectionMenu(
-                    InteractionArguments.createInteractionIdString(SelectionAction.EDIT_DRAFT_COURSES, draftJpa.getId()),
-                    draftJpa.getCourses()
-                )
+                courseService.createCoursePicker(SelectionAction.EDIT_DRAFT_COURSES, draftJpa.getId(), draftJpa.getCourses())
             ),
             MessageMode.USER
         );
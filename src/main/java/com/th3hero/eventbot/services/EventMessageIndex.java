@@ -0,0 +1,129 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.EventRepository.EventMessage;
+import com.th3hero.eventbot.utils.LongLongMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In memory index of the discord messages of active events.
+ * Every message deleted in the event channel is looked up here, so deletes of recovery and changelog messages
+ * are ignored without a database query. Loaded when the bot starts and kept up to date from {@link UpdatedEventMessageEvent}.
+ */
+@Slf4j
+@Service
+public class EventMessageIndex {
+    private static final int EXPECTED_EVENTS = 1024;
+
+    private final EventRepository eventRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongLongMap eventByMessage = new LongLongMap(EXPECTED_EVENTS);
+    private final LongLongMap messageByEvent = new LongLongMap(EXPECTED_EVENTS);
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public EventMessageIndex(EventRepository eventRepository, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.hits = meterRegistry.counter("eventbot.event_messages.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("eventbot.event_messages.lookups", "result", "miss");
+        meterRegistry.gauge("eventbot.event_messages.size", this, EventMessageIndex::size);
+    }
+
+    /**
+     * Loads the messages of every active event, replacing anything already in the index.
+     */
+    @PostConstruct
+    public void load() {
+        List<EventMessage> eventMessages = eventRepository.findActiveEventMessages();
+        lock.writeLock().lock();
+        try {
+            eventByMessage.clear();
+            messageByEvent.clear();
+            eventMessages.forEach(eventMessage -> put(eventMessage.getEventId(), eventMessage.getMessageId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed the messages of {} active events", eventMessages.size());
+    }
+
+    /**
+     * @param messageId The id of a discord message
+     * @return The id of the active event posted in the message, empty if the message isn't the message of an active event
+     */
+    public OptionalLong findEventId(long messageId) {
+        long eventId;
+        lock.readLock().lock();
+        try {
+            eventId = eventByMessage.get(messageId);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (eventId == 0) {
+            misses.increment();
+            return OptionalLong.empty();
+        }
+        hits.increment();
+        return OptionalLong.of(eventId);
+    }
+
+    /**
+     * Applies a change to the message of an event once the change has been committed.
+     *
+     * @param event The changed event message
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void updatedEventMessage(UpdatedEventMessageEvent event) {
+        update(event.eventId(), event.messageId());
+    }
+
+    /**
+     * Reloads the message of an event, used when another instance of the bot changed it.
+     *
+     * @param eventId The id of the event
+     */
+    public void refresh(Long eventId) {
+        update(eventId, eventRepository.findActiveMessageIdById(eventId).orElse(null));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return messageByEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(Long eventId, Long messageId) {
+        lock.writeLock().lock();
+        try {
+            long previousMessageId = messageByEvent.remove(eventId);
+            if (previousMessageId != 0) {
+                eventByMessage.remove(previousMessageId);
+            }
+            if (messageId != null) {
+                put(eventId, messageId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(long eventId, long messageId) {
+        messageByEvent.put(eventId, messageId);
+        eventByMessage.put(messageId, eventId);
+    }
+}
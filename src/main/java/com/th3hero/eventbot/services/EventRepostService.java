@@ -0,0 +1,411 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.EventRepostJpa;
+import com.th3hero.eventbot.factories.ButtonFactory;
+import com.th3hero.eventbot.factories.EmbedBuilderFactory;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.EventRepostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.utils.MarkdownUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reposts every active event to the event channel after it has changed.
+ * Events are sent in date order, one page at a time with a bounded number of messages waiting on discord,
+ * and the new message ids of a page are written together with the position of the repost.
+ * A repost interrupted by a restart resumes after the last written page, events of the unwritten page are sent again.
+ * Events that fail to send are kept with the position and sent again, for a bounded number of passes, before the repost finishes.
+ */
+@Slf4j
+@Service
+public class EventRepostService {
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final int MAX_RETRY_PASSES = 3;
+
+    private final JDA jda;
+    private final EventRepository eventRepository;
+    private final EventRepostRepository eventRepostRepository;
+    private final ConfigService configService;
+    private final MemberCacheService memberCacheService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int batchSize;
+    private final Semaphore inFlight;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("event-repost").daemon().factory()
+    );
+    private volatile Long targetChannelId;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final AtomicLong remaining = new AtomicLong();
+    private final Timer runTimer;
+
+    public EventRepostService(
+        JDA jda,
+        EventRepository eventRepository,
+        EventRepostRepository eventRepostRepository,
+        ConfigService configService,
+        MemberCacheService memberCacheService,
+        ApplicationEventPublisher applicationEventPublisher,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${events.repost.batch-size:50}") int batchSize,
+        @Value("${events.repost.max-in-flight:5}") int maxInFlight
+    ) {
+        this.jda = jda;
+        this.eventRepository = eventRepository;
+        this.eventRepostRepository = eventRepostRepository;
+        this.configService = configService;
+        this.memberCacheService = memberCacheService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.sentCounter = repostCounter(meterRegistry, "sent");
+        this.failedCounter = repostCounter(meterRegistry, "failed");
+        this.runTimer = Timer.builder("eventbot.repost.duration")
+            .description("Time taken to repost every active event to the event channel")
+            .register(meterRegistry);
+        meterRegistry.gauge("eventbot.repost.remaining", remaining);
+    }
+
+    /**
+     * Starts reposting every active event to a new event channel. A repost still running for a previous channel stops after its current page.
+     *
+     * @param channelId The id of the new event channel
+     */
+    public void startRepost(Long channelId) {
+        targetChannelId = channelId;
+        worker.execute(() -> {
+            TextChannel channel = jda.getTextChannelById(channelId);
+            if (channel == null) {
+                log.error("Failed to find event channel with id {}", channelId);
+                return;
+            }
+            channel.sendMessage("This channel is now the event channel. All events will be posted here going forward.").queue();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                eventRepostRepository.deleteAll();
+                eventRepostRepository.save(EventRepostJpa.start(channelId));
+            });
+            repost(channel);
+        });
+    }
+
+    /**
+     * Reposts a set of events to the event channel as a single batch, used when their messages were deleted.
+     * The events are loaded together, sent with the same limit on waiting messages and their new message ids are written in one transaction.
+     *
+     * @param channel The event channel to repost to
+     * @param eventIds The ids of the events to repost
+     */
+    public void repostEvents(TextChannel channel, Collection<Long> eventIds) {
+        worker.execute(() -> {
+            List<PendingRepost> batch = render(channel, readOnlyTransactionTemplate.execute(status -> findActive(eventIds)));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Long> messageIds;
+            try {
+                messageIds = sendBatch(channel, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted repost of {} deleted event messages", batch.size());
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> saveMessageIds(messageIds));
+            log.info("Reposted {} of {} deleted event messages in channel {}", messageIds.size(), batch.size(), channel.getName());
+        });
+    }
+
+    /**
+     * Resumes a repost that was interrupted by a restart, as long as its channel is still the event channel.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeRepost() {
+        List<EventRepostJpa> reposts = eventRepostRepository.findAll();
+        if (reposts.isEmpty()) {
+            return;
+        }
+
+        Long eventChannelId = configService.getConfigJpa().getEventChannel();
+        for (EventRepostJpa repost : reposts) {
+            if (!repost.getChannelId().equals(eventChannelId)) {
+                log.info("Dropping unfinished repost to channel {}, it is no longer the event channel", repost.getChannelId());
+                eventRepostRepository.delete(repost);
+                continue;
+            }
+
+            log.info("Resuming repost to event channel {} after {} reposted events", eventChannelId, repost.getReposted());
+            targetChannelId = eventChannelId;
+            worker.execute(() -> {
+                TextChannel channel = jda.getTextChannelById(eventChannelId);
+                if (channel == null) {
+                    log.error("Failed to find event channel with id {}", eventChannelId);
+                    return;
+                }
+                repost(channel);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        targetChannelId = null;
+        worker.shutdownNow();
+    }
+
+    /**
+     * Reposts the events after the saved position of the repost to the channel, one page at a time.
+     * Stops early when the event channel changes or the service is stopped, the saved position is kept for the next run.
+     *
+     * @param channel The event channel to repost to
+     */
+    void repost(TextChannel channel) {
+        Long channelId = channel.getIdLong();
+        Optional<EventRepostJpa> saved = eventRepostRepository.findById(channelId);
+        if (saved.isEmpty()) {
+            log.warn("No repost in progress for channel {}", channelId);
+            return;
+        }
+        EventRepostJpa progress = saved.get();
+
+        Timer.Sample sample = Timer.start();
+        remaining.set(eventRepository.countActiveAfter(lastEventDate(progress), lastEventId(progress)));
+        log.info("Reposting {} events to event channel {}", remaining.get(), channelId);
+
+        while (true) {
+            if (!channelId.equals(targetChannelId)) {
+                log.info("Stopped repost to channel {} after {} reposted events", channelId, progress.getReposted());
+                return;
+            }
+
+            List<PendingRepost> batch = nextBatch(channel, progress);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Long> messageIds;
+            try {
+                messageIds = sendBatch(channel, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted repost to channel {}, it resumes after {} reposted events", channelId, progress.getReposted());
+                return;
+            }
+            progress = saveBatch(progress, batch, messageIds);
+            remaining.addAndGet(-batch.size());
+            log.debug("Reposted {} events to event channel {}, {} remaining", progress.getReposted(), channelId, remaining.get());
+        }
+
+        try {
+            progress = retryFailed(channel, progress);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted retry of {} failed reposts to channel {}, they are retried when it resumes", progress.getFailed(), channelId);
+            return;
+        }
+        if (!channelId.equals(targetChannelId)) {
+            log.info("Stopped repost to channel {} while retrying {} failed events", channelId, progress.getFailed());
+            return;
+        }
+
+        sample.stop(runTimer);
+        remaining.set(0);
+        eventRepostRepository.deleteById(channelId);
+        log.info("All events reposted to event channel {}. Reposted: {}, Failed: {}", channelId, progress.getReposted(), progress.getFailed());
+    }
+
+    /**
+     * Sends the events that failed to repost again, one page at a time, until they are all reposted or the passes run out.
+     * Events that are no longer active are dropped from the failed events without being sent.
+     * Stops early when the event channel changes or the service is stopped, the failed events are kept for the next run.
+     *
+     * @return The position of the repost after the retries
+     */
+    private EventRepostJpa retryFailed(TextChannel channel, EventRepostJpa progress) throws InterruptedException {
+        Long channelId = channel.getIdLong();
+        for (int pass = 1; pass <= MAX_RETRY_PASSES && !progress.getFailedEventIds().isEmpty(); pass++) {
+            log.info("Retrying {} failed reposts to event channel {}, pass {} of {}", progress.getFailed(), channelId, pass, MAX_RETRY_PASSES);
+            List<Long> failedIds = List.copyOf(progress.getFailedEventIds());
+            for (int start = 0; start < failedIds.size(); start += batchSize) {
+                if (!channelId.equals(targetChannelId)) {
+                    return progress;
+                }
+                List<Long> pageIds = failedIds.subList(start, Math.min(start + batchSize, failedIds.size()));
+                List<PendingRepost> batch = render(channel, readOnlyTransactionTemplate.execute(status -> findActive(pageIds)));
+                Map<Long, Long> messageIds = sendBatch(channel, batch);
+                progress = saveRetry(progress, pageIds, batch, messageIds);
+            }
+        }
+        return progress;
+    }
+
+    /**
+     * Loads the next page of events after the position of the repost and renders their embeds.
+     */
+    private List<PendingRepost> nextBatch(TextChannel channel, EventRepostJpa progress) {
+        List<EventJpa> events = readOnlyTransactionTemplate.execute(status -> findActive(
+            eventRepository.findActiveIdsAfter(lastEventDate(progress), lastEventId(progress), PageRequest.ofSize(batchSize))
+        ));
+        return render(channel, events);
+    }
+
+    /**
+     * Loads the active events with the given ids, their courses are loaded in the same query so they can be rendered after the transaction.
+     */
+    private List<EventJpa> findActive(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return eventRepository.findAllWithCoursesByIdIn(ids).stream()
+            .filter(event -> event.getStatus().equals(EventJpa.EventStatus.ACTIVE))
+            .toList();
+    }
+
+    /**
+     * Renders the embeds of events. Authors that are not cached are retrieved together, outside of any transaction since it waits on discord.
+     */
+    private List<PendingRepost> render(TextChannel channel, List<EventJpa> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Member> authors = memberCacheService.findMembers(
+            channel.getGuild(),
+            events.stream().map(EventJpa::getAuthorId).toList()
+        );
+        return events.stream()
+            .map(event -> new PendingRepost(event.getId(), event.getEventDate(), EmbedBuilderFactory.eventEmbed(event, authorMention(authors, event))))
+            .toList();
+    }
+
+    /**
+     * Sends the events of a page, waiting for a free send slot before each one, and waits for every send to finish.
+     *
+     * @return The new message id of each event that was sent, by event id
+     */
+    private Map<Long, Long> sendBatch(TextChannel channel, List<PendingRepost> batch) throws InterruptedException {
+        Map<Long, Long> messageIds = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> sends = new ArrayList<>(batch.size());
+        for (PendingRepost repost : batch) {
+            inFlight.acquire();
+            sends.add(channel.sendMessageEmbeds(repost.embed())
+                .addComponents(ButtonFactory.eventButtons(repost.eventId()))
+                .submit()
+                .handle((message, error) -> {
+                    inFlight.release();
+                    if (error != null) {
+                        failedCounter.increment();
+                        log.error("Failed to repost event (id:{}) in channel {}", repost.eventId(), channel.getName(), error);
+                        return null;
+                    }
+                    sentCounter.increment();
+                    messageIds.put(repost.eventId(), message.getIdLong());
+                    return null;
+                }));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        return messageIds;
+    }
+
+    /**
+     * Writes the new message ids of a page and the position after it in one transaction.
+     */
+    private EventRepostJpa saveBatch(EventRepostJpa progress, List<PendingRepost> batch, Map<Long, Long> messageIds) {
+        return transactionTemplate.execute(status -> {
+            saveMessageIds(messageIds);
+
+            PendingRepost last = batch.getLast();
+            progress.advance(last.eventDate(), last.eventId(), messageIds.size(), failedEventIds(batch, messageIds));
+            return eventRepostRepository.save(progress);
+        });
+    }
+
+    /**
+     * Writes the new message ids of a page of retried events and removes the events that no longer need a retry in one transaction.
+     */
+    private EventRepostJpa saveRetry(EventRepostJpa progress, List<Long> pageIds, List<PendingRepost> batch, Map<Long, Long> messageIds) {
+        return transactionTemplate.execute(status -> {
+            saveMessageIds(messageIds);
+
+            Set<Long> resolved = new HashSet<>(pageIds);
+            resolved.removeAll(failedEventIds(batch, messageIds));
+            progress.resolve(resolved, messageIds.size());
+            return eventRepostRepository.save(progress);
+        });
+    }
+
+    private static List<Long> failedEventIds(List<PendingRepost> batch, Map<Long, Long> messageIds) {
+        return batch.stream()
+            .map(PendingRepost::eventId)
+            .filter(eventId -> !messageIds.containsKey(eventId))
+            .toList();
+    }
+
+    /**
+     * Writes new message ids of events, the updates are sent to the database as a single batch.
+     *
+     * @param messageIds The new message id of each event, by event id
+     */
+    private void saveMessageIds(Map<Long, Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        List<EventJpa> events = eventRepository.findAllById(messageIds.keySet());
+        events.forEach(event -> {
+            event.setMessageId(messageIds.get(event.getId()));
+            applicationEventPublisher.publishEvent(new UpdatedEventMessageEvent(event.getId(), event.getMessageId()));
+        });
+    }
+
+    private static String authorMention(Map<Long, Member> authors, EventJpa event) {
+        // If the user has left the server we can't get their mention
+        return Optional.ofNullable(authors.get(event.getAuthorId()))
+            .map(Member::getAsMention)
+            .orElse(MarkdownUtil.italics("Unknown User"));
+    }
+
+    private static LocalDateTime lastEventDate(EventRepostJpa progress) {
+        return Optional.ofNullable(progress.getLastEventDate()).orElse(EARLIEST);
+    }
+
+    private static Long lastEventId(EventRepostJpa progress) {
+        return Optional.ofNullable(progress.getLastEventId()).orElse(0L);
+    }
+
+    private static Counter repostCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("eventbot.repost.events")
+            .description("Events reposted to the event channel by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private record PendingRepost(Long eventId, LocalDateTime eventDate, MessageEmbed embed) {}
+}
@@ -6,6 +6,8 @@ import com.th3hero.eventbot.commands.actions.ModalAction;
 import com.th3hero.eventbot.commands.actions.SelectionAction;
 import com.th3hero.eventbot.commands.requests.*;
 import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
+import com.th3hero.eventbot.dto.event.EventSummary;
+import com.th3hero.eventbot.dto.event.ViewEventsFilter;
 import com.th3hero.eventbot.entities.ConfigJpa;
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
@@ -20,34 +22,33 @@ import com.th3hero.eventbot.factories.ModalFactory;
 import com.th3hero.eventbot.factories.ResponseFactory;
 import com.th3hero.eventbot.formatting.DateFormatter;
 import com.th3hero.eventbot.formatting.InteractionArguments;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
 import com.th3hero.eventbot.repositories.EventRepository;
 import com.th3hero.eventbot.utils.DiscordActionUtils;
 import com.th3hero.eventbot.utils.DiscordUtils;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
-import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
-import net.dv8tion.jda.api.exceptions.ErrorHandler;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.modals.ModalMapping;
-import net.dv8tion.jda.api.requests.ErrorResponse;
-import net.dv8tion.jda.api.utils.MarkdownUtil;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
 import org.apache.commons.lang3.EnumUtils;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static com.th3hero.eventbot.formatting.InteractionArguments.EVENT_ID;
 import static com.th3hero.eventbot.utils.DiscordFieldsUtils.*;
@@ -62,12 +63,12 @@ public class EventService {
     private final ConfigService configService;
     private final SchedulingService schedulingService;
     private final StudentService studentService;
+    private final ReminderService reminderService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     private static final String FAILED_TO_FIND_EVENT = "Failed to find event %s";
     private static final String UPDATED_EVENT_MESSAGE = "The event has been updated. %s";
 
-    private static final String EVENT_DATE = "eventDate";
-
     public void publishEvent(ButtonRequest request, EventJpa draftJpa) {
         if (!draftJpa.getStatus().equals(EventStatus.DRAFT)) {
             throw new DataAccessException("Attempted to publish an event that is not a draft");
@@ -77,7 +78,7 @@ public class EventService {
 
         EventJpa eventJpa = eventRepository.save(draftJpa);
 
-        scheduleEventReminders(eventJpa);
+        reminderService.scheduleEventReminders(eventJpa.getId());
         schedulingService.addEventCompletedTrigger(eventJpa.getId(), eventJpa.getEventDate());
 
         Long eventChannel = configService.getConfigJpa().getEventChannel();
@@ -90,6 +91,7 @@ public class EventService {
                 // Save the new message id to the event
                 eventJpa.setMessageId(success.getIdLong());
                 eventRepository.save(eventJpa);
+                applicationEventPublisher.publishEvent(new UpdatedEventMessageEvent(eventJpa.getId(), eventJpa.getMessageId()));
                 request.sendResponse("Event has been posted to the event channel. %s".formatted(success.getJumpUrl()), MessageMode.USER);
                 log.info("New event published (id:{}) in channel {}", eventJpa.getId(), success.getChannel().getName());
             });
@@ -129,73 +131,80 @@ public class EventService {
 
         int deletedEventCleanupDelay = configService.getConfigJpa().getDeletedEventCleanupDelay();
 
-        request.getEvent().getChannel().retrieveMessageById(eventJpa.getMessageId()).queue(
-            message -> {
-                // Get the message tied to the event and strip the buttons
-                message.editMessageComponents().queue();
-                // Send a message saying that the event has been deleted and giving the recovery option
-                deleteEventConsumer(request, message, eventJpa, reason, deletedEventCleanupDelay);
-            },
-            new ErrorHandler().handle(ErrorResponse.UNKNOWN_MESSAGE, e -> {
-                    log.error("Failed to retrieve message tied to event (id: {})", eventJpa.getId());
-                    request.sendResponse("Failed to retrieve message tied to event.", MessageMode.USER);
-                }
-            ));
+        // Strip the buttons from the message tied to the event
+        DiscordActionUtils.editMessage(
+            request.getEvent().getChannel(),
+            eventJpa.getMessageId(),
+            new MessageEditBuilder().setComponents().build(),
+            // Send a message saying that the event has been deleted and giving the recovery option
+            message -> deleteEventConsumer(request, message.getJumpUrl(), eventJpa, reason, deletedEventCleanupDelay),
+            e -> {
+                log.error("Failed to retrieve message tied to event (id: {})", eventJpa.getId());
+                request.sendResponse("Failed to retrieve message tied to event.", MessageMode.USER);
+            }
+        );
     }
 
     public void undoEventDeletion(ButtonRequest request) {
         EventJpa eventJpa = eventRepository.findById(request.getArguments().get(EVENT_ID))
             .orElseThrow(() -> new EntityNotFoundException(FAILED_TO_FIND_EVENT.formatted(request.getArguments().get(EVENT_ID))));
         eventJpa.setStatus(EventStatus.ACTIVE);
+        applicationEventPublisher.publishEvent(new UpdatedEventMessageEvent(eventJpa.getId(), eventJpa.getMessageId()));
         schedulingService.removeDeletedEventCleanupTrigger(eventJpa.getId());
         schedulingService.addEventCompletedTrigger(eventJpa.getId(), eventJpa.getEventDate());
 
-        scheduleEventReminders(eventJpa);
+        reminderService.scheduleEventReminders(eventJpa.getId());
 
         request.sendResponse("Event has been restored.", MessageMode.USER);
 
         request.getEvent().getMessage().delete().queue();
 
-        DiscordActionUtils.retrieveMessage(
-            request.getEvent().getChannel(),
+        MessageChannel channel = request.getEvent().getChannel();
+        String requesterMention = request.getRequester().getAsMention();
+        MessageEmbed restored = EmbedBuilderFactory.eventRestored(requesterMention);
+        DiscordActionUtils.editMessage(
+            channel,
             eventJpa.getMessageId(),
-            success -> {
-                success.replyEmbeds(EmbedBuilderFactory.eventRestored(request.getRequester().getAsMention())).queue();
-                success.editMessageComponents(ButtonFactory.eventButtons(eventJpa.getId())).queue();
-            },
-            e -> log.warn("Failed to retrieved deleted event message")
+            new MessageEditBuilder().setComponents(ButtonFactory.eventButtons(eventJpa.getId())).build(),
+            message -> DiscordActionUtils.replyToMessage(channel, message.getIdLong(), restored),
+            e -> {
+                log.warn("Message of deleted event (id: {}) no longer exists, reposting it", eventJpa.getId());
+                repostEvent(channel, eventJpa, requesterMention, message -> DiscordActionUtils.replyToMessage(channel, message.getIdLong(), restored));
+            }
         );
     }
 
+    /**
+     * Marks an event as completed for the requester, or re-enables its reminders if it already was.
+     * Only the status of the event and the join tables are queried, so the cost does not grow with the history of the student.
+     *
+     * @param request The toggle completed button request
+     */
     public void toggleEventCompleted(ButtonRequest request) {
-        StudentJpa studentJpa = studentService.fetchStudent(request.getRequester().getIdLong());
-        EventJpa eventJpa = eventRepository.findById(request.getArguments().get(EVENT_ID))
-            .orElseThrow(() -> new EntityNotFoundException(FAILED_TO_FIND_EVENT.formatted(request.getArguments().get(EVENT_ID))));
-        if (eventJpa.getStatus().equals(EventStatus.DELETED)) {
+        Long studentId = request.getRequester().getIdLong();
+        Long eventId = request.getArguments().get(EVENT_ID);
+        EventStatus status = eventRepository.findStatusById(eventId)
+            .orElseThrow(() -> new EntityNotFoundException(FAILED_TO_FIND_EVENT.formatted(eventId)));
+        if (status.equals(EventStatus.DELETED)) {
             request.sendResponse("This event has been deleted, actions cannot be preformed on it.", MessageMode.USER);
-            log.error("User tried to mark a deleted event as complete (id: {})", eventJpa.getId());
+            log.error("User tried to mark a deleted event as complete (id: {})", eventId);
             return;
         }
-        if (eventJpa.getStatus().equals(EventStatus.COMPLETED)) {
+        if (status.equals(EventStatus.COMPLETED)) {
             request.sendResponse("This event has already passed. It cannot be marked as completed.", MessageMode.USER);
             return;
         }
-        boolean userHasCourseOnEvent = eventJpa.getCourses().stream()
-            .anyMatch(course -> studentJpa.getCourses().contains(course));
-        if (!userHasCourseOnEvent) {
+        if (!studentService.takesCourseOnEvent(studentId, eventId)) {
             request.sendResponse("You are not signed up for any courses associated with this event.", MessageMode.USER);
             return;
         }
 
-        if (studentJpa.getCompletedEvents().contains(eventJpa)) {
-            request.sendResponse("Reminders have been re-enabled for this event.", MessageMode.USER);
-            studentJpa.getCompletedEvents().remove(eventJpa);
-            studentService.scheduleStudentForEvent(eventJpa, studentJpa);
+        // Reminder windows are shared by all students, completed events are filtered out when a window fires
+        if (studentService.toggleCompletedEvent(studentId, eventId)) {
+            request.sendResponse("All reminders have been removed for this event.", MessageMode.USER);
             return;
         }
-
-        studentService.unscheduleStudentRemindersForEvent(request, eventJpa.getId());
-        studentJpa.getCompletedEvents().add(eventJpa);
+        request.sendResponse("Reminders have been re-enabled for this event.", MessageMode.USER);
     }
 
     public void sendEventEditOptions(ButtonRequest request) {
@@ -238,10 +247,7 @@ public class EventService {
         request.sendResponse(
             ResponseFactory.createResponse(
                 EmbedBuilderFactory.courseSelectionHeader("Select the courses for the event."),
-                courseService.createCourseSelectionMenu(
-                    InteractionArguments.createInteractionIdString(SelectionAction.EDIT_EVENT_COURSES, eventJpa.getId()),
-                    eventJpa.getCourses()
-                )
+                courseService.createCoursePicker(SelectionAction.EDIT_EVENT_COURSES, eventJpa.getId(), eventJpa.getCourses())
             ),
             MessageMode.USER
         );
@@ -277,8 +283,7 @@ public class EventService {
 
         if (!eventDate.equals(eventJpa.getEventDate())) {
             eventJpa.setEventDate(eventDate);
-            schedulingService.removeReminderTriggers(eventJpa.getId());
-            scheduleEventReminders(eventJpa);
+            reminderService.rescheduleEventReminders(eventJpa.getId());
             log.debug("Event date was updated, rescheduling reminders for event (id: {})", eventJpa.getId());
         }
 
@@ -297,15 +302,21 @@ public class EventService {
         EventJpa eventJpa = eventRepository.findById(request.getArguments().get(EVENT_ID))
             .orElseThrow(() -> new EntityNotFoundException(FAILED_TO_FIND_EVENT.formatted(request.getArguments().get(EVENT_ID))));
 
-        List<CourseJpa> selectedCourses = courseService.coursesFromCourseCodes(request.getEvent().getValues());
+        List<CourseJpa> selectedCourses = courseService.applyPageSelection(eventJpa.getCourses(), request);
+        if (selectedCourses.isEmpty()) {
+            request.sendResponse("An event must have at least one course.", MessageMode.USER);
+            return;
+        }
 
         MessageEmbed embed = EmbedBuilderFactory.editedEventCoursesChangelog(eventJpa, selectedCourses, request.getRequester().getAsMention());
+        boolean coursesChanged = !new HashSet<>(eventJpa.getCourses()).equals(new HashSet<>(selectedCourses));
 
-        eventJpa.getCourses().clear();
+        eventJpa.getCourses().retainAll(selectedCourses);
         eventJpa.getCourses().addAll(selectedCourses);
 
-        schedulingService.removeReminderTriggers(eventJpa.getId());
-        scheduleEventReminders(eventJpa);
+        if (coursesChanged) {
+            reminderService.rescheduleEventReminders(eventJpa.getId());
+        }
 
         updateMessage(
             request,
@@ -317,8 +328,9 @@ public class EventService {
 
     }
 
+    @Transactional(readOnly = true)
     public void filterViewEvents(CommandRequest request) {
-        StudentJpa studentJpa = studentService.fetchStudent(request.getRequester().getIdLong());
+        StudentJpa studentJpa = studentService.findStudentOrDefault(request.getRequester().getIdLong());
         if (studentJpa.getCourses().isEmpty()) {
             request.sendResponse(
                 "You are not signed up for any courses with the bot. Please use `/%s`".formatted(Command.SELECT_COURSES.getDisplayName()),
@@ -342,15 +354,16 @@ public class EventService {
         String courseField = request.getArguments().get(COURSE);
 
         // If they didn't specify a course, use the courses they are signed up for
-        List<CourseJpa> courses;
+        Collection<CourseJpa> courses;
         if (courseField == null) {
             courses = studentJpa.getCourses();
         } else {
-            courses = courseService.coursesFromCourseCodes(List.of(courseField));
-            if (courses.isEmpty()) {
+            Optional<CourseJpa> course = courseService.courseFromCode(courseField);
+            if (course.isEmpty()) {
                 request.sendResponse("Unable to find course matching '%s'".formatted(courseField), MessageMode.USER);
                 return;
             }
+            courses = List.of(course.get());
         }
 
         String eventTypeString = request.getArguments().get(TYPE);
@@ -368,38 +381,49 @@ public class EventService {
 
         // We don't want to list events that have already passed and
         // if they haven't specified a time period we don't limit how far in the future we show events for
-        LocalDateTime minDate = LocalDateTime.now();
-        LocalDateTime maxDate = timePeriodField != null ? minDate.plusDays(timePeriodField) : null;
+        LocalDateTime maxDate = timePeriodField != null ? LocalDateTime.now().plusDays(timePeriodField) : null;
+        int pageSize = upcomingField != null ? upcomingField : MessageEmbed.MAX_FIELD_AMOUNT;
+        Long courseId = courseField != null ? courses.iterator().next().getId() : ViewEventsFilter.STUDENT_COURSES;
 
-        Specification<EventJpa> spec = getActiveEventsByCourseAndDateRange(courses, minDate, maxDate, eventType);
-        int maxEvents = upcomingField != null ? upcomingField : MessageEmbed.MAX_FIELD_AMOUNT;
-
-        List<EventJpa> events = eventRepository.findBy(
-            spec,
-            query -> query.sortBy(Sort.by(Sort.Direction.ASC, EVENT_DATE)).limit(maxEvents).all()
-        );
+        ViewEventsFilter filter = new ViewEventsFilter(courseId, eventType, maxDate, pageSize);
+        EventPage page = findEventPage(filter, courseIds(courses), null, true);
+        if (page.events().isEmpty()) {
+            request.sendResponse("No events found matching the criteria.", MessageMode.USER);
+            return;
+        }
 
-        sendViewEvents(request, events);
+        request.sendResponse(viewEventsResponse(filter, page), MessageMode.USER);
     }
 
-    public void sendAllEventsToEventChannel(JDA jda) {
-        Long eventChannelId = configService.getConfigJpa().getEventChannel();
-        TextChannel eventChannel = jda.getTextChannelById(eventChannelId);
-        if (eventChannel == null) {
-            log.error("Failed to find event channel with id {}", eventChannelId);
+    /**
+     * Moves a <code>/view_events</code> listing to the next or previous page.
+     * The page is found from the event at the edge of the current page, so every page costs the same to load.
+     *
+     * @param request The page button request
+     */
+    @Transactional(readOnly = true)
+    public void sendViewEventsPage(ButtonRequest request) {
+        ViewEventsFilter filter = ViewEventsFilter.fromArguments(request.getArguments());
+        EventSummary cursor = ViewEventsFilter.cursorFromArguments(request.getArguments());
+        boolean forward = request.getAction() == ButtonAction.VIEW_EVENTS_NEXT;
+
+        List<Long> courseIds = filter.courseId() == ViewEventsFilter.STUDENT_COURSES
+            ? courseIds(studentService.findStudentOrDefault(request.getRequester().getIdLong()).getCourses())
+            : List.of(filter.courseId());
+
+        EventPage page = findEventPage(filter, courseIds, cursor, forward);
+        if (page.events().isEmpty() || !page.hasPrevious()) {
+            // Back at the start of the listing, or the events around the cursor have passed since the page was sent
+            page = findEventPage(filter, courseIds, null, true);
+        }
+        if (page.events().isEmpty()) {
+            request.editMessage(
+                new MessageEditBuilder().setContent("No events found matching the criteria.").setEmbeds().setComponents().build()
+            );
             return;
         }
 
-        eventChannel.sendMessage("This channel is now the event channel. All events will be posted here going forward.").queue();
-
-        List<EventJpa> events = eventRepository.findAllActive();
-        for (EventJpa event : events) {
-            String author = Optional.ofNullable(jda.getUserById(event.getAuthorId()))
-                .map(User::getAsMention)
-                .orElse(MarkdownUtil.italics("Unknown User"));
-            repostEvent(eventChannel, event, author);
-        }
-        log.debug("All events reposted to event channel");
+        request.editMessage(MessageEditData.fromCreateData(viewEventsResponse(filter, page)));
     }
 
     /**
@@ -419,38 +443,33 @@ public class EventService {
     }
 
     /**
-     * Schedules reminders for all students in the courses associated with the event.
-     *
-     * @param eventJpa The event to schedule reminders for
+     * Edits the message of an event by its id and replies to it with the changelog.
+     * If the message no longer exists the event is reposted and the changelog replies to the new message.
      */
-    private void scheduleEventReminders(EventJpa eventJpa) {
-        for (CourseJpa courseJpa : eventJpa.getCourses()) {
-            courseJpa.getStudents().forEach(student -> studentService.scheduleStudentForEvent(eventJpa, student));
-        }
-    }
-
-    private static void updateMessage(InteractionRequest request, MessageChannel channel, EventJpa eventJpa, MessageEmbed embed, String requesterMention) {
-        MessageEmbed editEmbed = EmbedBuilderFactory.eventEmbed(eventJpa, requesterMention);
-        DiscordActionUtils.retrieveMessage(
+    private void updateMessage(InteractionRequest request, MessageChannel channel, EventJpa eventJpa, MessageEmbed embed, String requesterMention) {
+        Consumer<Message> replyWithChangelog = message -> {
+            DiscordActionUtils.replyToMessage(channel, message.getIdLong(), embed);
+            request.sendResponse(UPDATED_EVENT_MESSAGE.formatted(message.getJumpUrl()), MessageMode.USER);
+        };
+        DiscordActionUtils.editMessage(
             channel,
             eventJpa.getMessageId(),
-            message -> {
-                message.editMessageEmbeds(editEmbed).queue();
-                message.replyEmbeds(embed).queue();
-                request.sendResponse(UPDATED_EVENT_MESSAGE.formatted(message.getJumpUrl()), MessageMode.USER);
-            },
-            error -> request.sendResponse("Failed to retrieve message tied to event.", MessageMode.USER)
+            new MessageEditBuilder().setEmbeds(EmbedBuilderFactory.eventEmbed(eventJpa, requesterMention)).build(),
+            replyWithChangelog,
+            error -> {
+                log.warn("Message of event (id: {}) no longer exists, reposting it", eventJpa.getId());
+                repostEvent(channel, eventJpa, requesterMention, replyWithChangelog);
+            }
         );
     }
 
-    private void deleteEventConsumer(ModalRequest request, Message message, EventJpa eventJpa, String reason, int deletedEventCleanupDelay) {
-        String jumpUrl = message.getJumpUrl();
-
+    private void deleteEventConsumer(ModalRequest request, String jumpUrl, EventJpa eventJpa, String reason, int deletedEventCleanupDelay) {
         // remove all the reminders and soft delete the event
-        schedulingService.removeReminderTriggers(eventJpa.getId());
+        reminderService.removeEventReminders(eventJpa.getId());
         schedulingService.removeEventCompleteTrigger(eventJpa.getId());
         eventJpa.setStatus(EventStatus.DELETED);
         eventRepository.save(eventJpa);
+        applicationEventPublisher.publishEvent(new UpdatedEventMessageEvent(eventJpa.getId(), null));
 
         // Send the recovery message
         request.getEvent().getChannel().sendMessageEmbeds(
@@ -474,14 +493,16 @@ public class EventService {
         request.sendResponse("Event has been deleted. %s".formatted(jumpUrl), MessageMode.USER);
     }
 
-    private void repostEvent(TextChannel channel, EventJpa eventJpa, String author) {
+    private void repostEvent(MessageChannel channel, EventJpa eventJpa, String author, Consumer<Message> reposted) {
         channel.sendMessageEmbeds(EmbedBuilderFactory.eventEmbed(eventJpa, author))
             .addComponents(ButtonFactory.eventButtons(eventJpa.getId()))
             .queue(success -> {
                     // Save the new message id to the event
                     eventJpa.setMessageId(success.getIdLong());
                     eventRepository.save(eventJpa);
+                    applicationEventPublisher.publishEvent(new UpdatedEventMessageEvent(eventJpa.getId(), eventJpa.getMessageId()));
                     log.info("Event reposted (id:{}) in channel {}", eventJpa.getId(), success.getChannel().getName());
+                    reposted.accept(success);
                 },
                 error -> log.error("Failed to repost event (id:{}) in channel {}", eventJpa.getId(), channel.getName())
             );
@@ -496,40 +517,57 @@ public class EventService {
         return false;
     }
 
-    private static Specification<EventJpa> getActiveEventsByCourseAndDateRange(List<CourseJpa> courses, LocalDateTime minDate, LocalDateTime maxDate, EventType eventType) {
-        return (root, query, builder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            if (courses != null) {
-                Join<EventJpa, CourseJpa> courseJoin = root.join("courses");
-                predicates.add(courseJoin.in(courses));
-            }
-            if (minDate != null) {
-                predicates.add(builder.greaterThanOrEqualTo(root.get(EVENT_DATE), minDate));
-            }
-            if (maxDate != null) {
-                predicates.add(builder.lessThanOrEqualTo(root.get(EVENT_DATE), maxDate));
-            }
-            if (eventType != null) {
-                predicates.add(builder.equal(root.get("type"), eventType));
-            }
-            predicates.add(builder.equal(root.get("status"), EventStatus.ACTIVE));
-            return builder.and(predicates.toArray(new Predicate[0]));
-        };
-    }
-
-    private void sendViewEvents(CommandRequest request, List<EventJpa> events) {
-        if (events.isEmpty()) {
-            request.sendResponse("No events found matching the criteria.", MessageMode.USER);
-            return;
+    /**
+     * Loads one page of events. One extra event is looked up to tell if there is another page in the same direction.
+     *
+     * @param cursor The event at the edge of the current page, null for the first page
+     * @param forward true to load the page after the cursor, false for the page before it
+     */
+    private EventPage findEventPage(ViewEventsFilter filter, Collection<Long> courseIds, EventSummary cursor, boolean forward) {
+        if (courseIds.isEmpty()) {
+            return new EventPage(List.of(), false, false);
+        }
+        Pageable pageable = PageRequest.ofSize(filter.pageSize() + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (forward) {
+            List<EventSummary> events = cursor == null
+                ? eventRepository.findSummariesAfter(courseIds, filter.types(), now, filter.maxDateOrLatest(), now, 0L, pageable)
+                : eventRepository.findSummariesAfter(courseIds, filter.types(), now, filter.maxDateOrLatest(), cursor.eventDate(), cursor.id(), pageable);
+            boolean hasNext = events.size() > filter.pageSize();
+            return new EventPage(hasNext ? events.subList(0, filter.pageSize()) : events, cursor != null, hasNext);
         }
 
+        List<EventSummary> events = eventRepository.findSummariesBefore(courseIds, filter.types(), now, filter.maxDateOrLatest(), cursor.eventDate(), cursor.id(), pageable);
+        boolean hasPrevious = events.size() > filter.pageSize();
+        List<EventSummary> page = new ArrayList<>(hasPrevious ? events.subList(0, filter.pageSize()) : events);
+        Collections.reverse(page);
+        return new EventPage(page, hasPrevious, true);
+    }
+
+    private MessageCreateData viewEventsResponse(ViewEventsFilter filter, EventPage page) {
         ConfigJpa configJpa = configService.getConfigJpa();
+        Map<EventSummary, String> eventMessageMap = new LinkedHashMap<>();
+        for (EventSummary event : page.events()) {
+            eventMessageMap.put(event, DiscordUtils.generateJumpUrl(configJpa, event.messageId()));
+        }
 
-        Map<EventJpa, String> eventMessageMap = new LinkedHashMap<>();
-        for (EventJpa event : events) {
-            eventMessageMap.put(event, DiscordUtils.generateJumpUrl(configJpa, event.getMessageId()));
+        MessageEmbed embed = EmbedBuilderFactory.listEvents(eventMessageMap);
+        if (!page.hasPrevious() && !page.hasNext()) {
+            return ResponseFactory.createResponse(embed, List.of());
         }
+        return ResponseFactory.createResponse(
+            embed,
+            List.of(ButtonFactory.viewEventsPageButtons(filter, page.events(), page.hasPrevious(), page.hasNext()))
+        );
+    }
 
-        request.sendResponse(EmbedBuilderFactory.listEvents(eventMessageMap), MessageMode.USER);
+    private static List<Long> courseIds(Collection<CourseJpa> courses) {
+        return courses.stream().map(CourseJpa::getId).toList();
     }
+
+    /**
+     * A page of a <code>/view_events</code> listing in ascending order.
+     */
+    private record EventPage(List<EventSummary> events, boolean hasPrevious, boolean hasNext) {}
 }
@@ -0,0 +1,175 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.commands.requests.InteractionAcknowledgement;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IMessageEditCallback;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs discord interaction handlers on virtual threads so blocking database work does not hold up the JDA event thread.
+ * Interactions from the same user run one at a time in the order they were received.
+ * A handler that has not acknowledged its interaction once the defer deadline passes is deferred,
+ * so a slow handler can still respond through the interaction hook. Interactions waiting behind another of the same user are deferred straight away.
+ * Component interactions are deferred as an edit of their message, every other interaction as an ephemeral reply.
+ * Handlers that respond with a modal opt out, since discord only accepts a modal as the first response.
+ * Every response sent through the acknowledgement of an interaction is timed as <code>eventbot.interactions.response</code>.
+ */
+@Slf4j
+@Service
+public class InteractionExecutor {
+    private final MeterRegistry meterRegistry;
+    private final Duration deferAfter;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService deferScheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("interaction-defer").daemon().factory()
+    );
+    private final Map<Long, CompletableFuture<Void>> userQueues = new ConcurrentHashMap<>();
+    private final Map<List<String>, AtomicInteger> queuedInteractions = new ConcurrentHashMap<>();
+
+    public InteractionExecutor(
+        MeterRegistry meterRegistry,
+        @Value("${discord.interactions.defer-after:2s}") Duration deferAfter
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.deferAfter = deferAfter;
+    }
+
+    /**
+     * Queues an interaction handler behind any interactions of the same user that are still running.
+     *
+     * @param event The interaction being handled
+     * @param type The type of interaction, used to tag metrics
+     * @param action The action of the interaction, used to tag metrics
+     * @param autoDefer If the interaction may be deferred, false for handlers that respond with a modal
+     * @param handler The handler to run, given the acknowledgement it must respond through
+     * @return A future completed once the handler has finished
+     */
+    public CompletableFuture<Void> submit(
+        GenericInteractionCreateEvent event,
+        String type,
+        String action,
+        boolean autoDefer,
+        Consumer<InteractionAcknowledgement> handler
+    ) {
+        Long userId = event.getUser().getIdLong();
+        Tags tags = Tags.of("type", type, "action", action);
+        AtomicInteger queued = queuedInteractions(type, action);
+        queued.incrementAndGet();
+        long submittedAt = System.nanoTime();
+        InteractionAcknowledgement acknowledgement = new InteractionAcknowledgement(response -> responseTimer(tags, response));
+        Runnable defer = autoDefer && event instanceof IReplyCallback callback
+            ? () -> defer(callback, acknowledgement, tags)
+            : null;
+
+        AtomicBoolean waiting = new AtomicBoolean();
+        CompletableFuture<Void> task = userQueues.compute(userId, (id, previous) -> {
+            waiting.set(previous != null);
+            return (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous.exceptionally(error -> null))
+                .thenRunAsync(() -> run(() -> handler.accept(acknowledgement), defer, tags, queued, submittedAt), executor);
+        });
+        if (waiting.get() && defer != null) {
+            defer.run();
+        }
+        task.whenComplete((result, error) -> userQueues.remove(userId, task));
+        return task;
+    }
+
+    /**
+     * Gets the action name from a component id, which starts with the action followed by its arguments.
+     *
+     * @param componentId The id of a button, select menu or modal
+     * @return The action part of the id
+     */
+    public static String actionName(String componentId) {
+        return StringUtils.substringBefore(componentId, "-");
+    }
+
+    @PreDestroy
+    public void stop() {
+        deferScheduler.shutdownNow();
+        executor.shutdown();
+        if (!userQueues.isEmpty()) {
+            log.warn("Interaction executor stopped with {} users waiting on interactions", userQueues.size());
+        }
+    }
+
+    private void run(Runnable handler, Runnable defer, Tags tags, AtomicInteger queued, long submittedAt) {
+        queued.decrementAndGet();
+        meterRegistry.timer("eventbot.interactions.wait", tags).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+        // The deadline only starts once the handler runs, time spent waiting behind the user's other interactions does not count
+        ScheduledFuture<?> autoDefer = defer == null
+            ? null
+            : deferScheduler.schedule(defer, deferAfter.toMillis(), TimeUnit.MILLISECONDS);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            handler.run();
+        } catch (Exception e) {
+            log.error("Unhandled exception while handling interaction {}", tags, e);
+        } finally {
+            if (autoDefer != null) {
+                autoDefer.cancel(false);
+            }
+            sample.stop(meterRegistry.timer("eventbot.interactions.handling", tags));
+        }
+    }
+
+    private void defer(IReplyCallback callback, InteractionAcknowledgement acknowledgement, Tags tags) {
+        if (!acknowledgement.acknowledge()) {
+            return;
+        }
+        if (editsMessage(callback)) {
+            ((IMessageEditCallback) callback).deferEdit().queue(acknowledgement.responseTimer("defer"));
+        } else {
+            callback.deferReply(true).queue(acknowledgement.responseTimer("defer"));
+        }
+        meterRegistry.counter("eventbot.interactions.deferred", tags).increment();
+        log.debug("Deferred interaction {}", tags);
+    }
+
+    /**
+     * Times a response from when it is queued until discord accepted it, tagged with the interaction it belongs to.
+     */
+    private Runnable responseTimer(Tags tags, String response) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return () -> sample.stop(meterRegistry.timer("eventbot.interactions.response", tags.and("response", response)));
+    }
+
+    /**
+     * Components and modals opened from a component belong to a message, which their handlers edit.
+     * Modals opened from a slash command have no message to edit.
+     */
+    private static boolean editsMessage(IReplyCallback callback) {
+        return switch (callback) {
+            case ModalInteractionEvent modal -> modal.getMessage() != null;
+            case IMessageEditCallback ignored -> true;
+            default -> false;
+        };
+    }
+
+    private AtomicInteger queuedInteractions(String type, String action) {
+        return queuedInteractions.computeIfAbsent(List.of(type, action), key -> meterRegistry.gauge(
+            "eventbot.interactions.queued",
+            Tags.of("type", type, "action", action),
+            new AtomicInteger()
+        ));
+    }
+}
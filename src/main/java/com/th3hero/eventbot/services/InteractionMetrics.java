@@ -0,0 +1,87 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.config.JdbcTimingSessionListener;
+import com.th3hero.eventbot.exceptions.ConfigErrorException;
+import com.th3hero.eventbot.exceptions.DataAccessException;
+import com.th3hero.eventbot.exceptions.IllegalInteractionException;
+import com.th3hero.eventbot.exceptions.UnsupportedResponseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records the latency and outcome of discord interactions, tagged by interaction type and action.
+ * <ul>
+ *     <li><code>eventbot.interactions.parse</code> time spent parsing the interaction into a request</li>
+ *     <li><code>eventbot.interactions.handler</code> time spent in the handler, tagged with the outcome</li>
+ *     <li><code>eventbot.interactions.database</code> time the handler spent executing JDBC statements</li>
+ *     <li><code>eventbot.interactions.outcomes</code> count of handled interactions by outcome</li>
+ * </ul>
+ * The time until discord accepted each response is recorded by {@link InteractionExecutor}, which owns the interaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class InteractionMetrics {
+    static final String UNKNOWN_ACTION = "UNKNOWN";
+    static final String SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Parses and handles an interaction while recording its metrics. Exceptions are recorded and rethrown.
+     *
+     * @param type The type of interaction
+     * @param parser Parses the interaction into a request
+     * @param action Gets the action of the parsed request
+     * @param handler Handles the request
+     * @param <R> The type of request
+     */
+    public <R> void record(String type, Supplier<R> parser, Function<R, ? extends Enum<?>> action, Consumer<R> handler) {
+        R request;
+        Timer.Sample parseSample = Timer.start(meterRegistry);
+        try {
+            request = parser.get();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("eventbot.interactions.outcomes", "type", type, "action", UNKNOWN_ACTION, "outcome", outcomeOf(e)).increment();
+            throw e;
+        } finally {
+            parseSample.stop(meterRegistry.timer("eventbot.interactions.parse", "type", type));
+        }
+
+        Tags tags = Tags.of("type", type, "action", action.apply(request).name());
+        String outcome = SUCCESS;
+        long jdbcNanos = JdbcTimingSessionListener.threadJdbcNanos();
+        Timer.Sample handlerSample = Timer.start(meterRegistry);
+        try {
+            handler.accept(request);
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            handlerSample.stop(meterRegistry.timer("eventbot.interactions.handler", tags.and("outcome", outcome)));
+            meterRegistry.timer("eventbot.interactions.database", tags)
+                .record(JdbcTimingSessionListener.threadJdbcNanos() - jdbcNanos, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("eventbot.interactions.outcomes", tags.and("outcome", outcome)).increment();
+        }
+    }
+
+    static String outcomeOf(RuntimeException e) {
+        return switch (e) {
+            case EntityNotFoundException ignored -> "not_found";
+            case DataAccessException ignored -> "data_access";
+            case org.springframework.dao.DataAccessException ignored -> "data_access";
+            case IllegalInteractionException ignored -> "illegal_interaction";
+            case ConfigErrorException ignored -> "config_error";
+            case UnsupportedResponseException ignored -> "unsupported_response";
+            default -> "unexpected";
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.repositories.StudentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which guild members discord keeps in memory. Only registered students, administrators and the owner are cached,
+ * every other member is dropped as soon as their event has been handled.
+ * Members that are needed but not cached are retrieved from discord with {@link #findMembers}.
+ */
+@Slf4j
+@Service
+public class MemberCacheService implements MemberCachePolicy {
+    private final StudentRepository studentRepository;
+    private final Set<Long> studentIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter cachedLookups;
+    private final Counter retrievedLookups;
+
+    public MemberCacheService(StudentRepository studentRepository, MeterRegistry meterRegistry) {
+        this.studentRepository = studentRepository;
+        this.cachedLookups = lookupCounter(meterRegistry, "cached");
+        this.retrievedLookups = lookupCounter(meterRegistry, "retrieved");
+        meterRegistry.gauge("eventbot.members.students", studentIds, Set::size);
+    }
+
+    /**
+     * Loads the ids of every registered student, runs before discord connects so members are cached as they are first seen.
+     */
+    @PostConstruct
+    public void load() {
+        List<Long> ids = studentRepository.findAllIds();
+        studentIds.clear();
+        studentIds.addAll(ids);
+        log.info("Caching the members of {} registered students", ids.size());
+    }
+
+    @Override
+    public boolean cacheMember(@NonNull Member member) {
+        return studentIds.contains(member.getIdLong()) || member.isOwner() || member.hasPermission(Permission.ADMINISTRATOR);
+    }
+
+    /**
+     * Caches the member of a new student from the next time discord sends them.
+     *
+     * @param studentId The id of the student
+     */
+    public void addStudent(Long studentId) {
+        studentIds.add(studentId);
+    }
+
+    /**
+     * Stops caching the member of a student that has been removed.
+     *
+     * @param studentId The id of the student
+     */
+    public void removeStudent(Long studentId) {
+        studentIds.remove(studentId);
+    }
+
+    /**
+     * Finds members of a guild, members that are not cached are retrieved from discord in a single request.
+     * Blocks while retrieving, so it must not be called from a discord event thread.
+     *
+     * @param guild The guild the members are in
+     * @param memberIds The ids of the members
+     * @return The members by id, members that have left the guild are missing
+     */
+    public Map<Long, Member> findMembers(Guild guild, Collection<Long> memberIds) {
+        Map<Long, Member> members = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long memberId : new HashSet<>(memberIds)) {
+            Member member = guild.getMemberById(memberId);
+            if (member == null) {
+                missing.add(memberId);
+            } else {
+                members.put(memberId, member);
+            }
+        }
+        cachedLookups.increment(members.size());
+        if (missing.isEmpty()) {
+            return members;
+        }
+
+        retrievedLookups.increment(missing.size());
+        try {
+            guild.retrieveMembersByIds(missing).get()
+                .forEach(member -> members.put(member.getIdLong(), member));
+        } catch (RuntimeException e) {
+            log.warn("Failed to retrieve {} members of guild {}", missing.size(), guild.getName(), e);
+        }
+        return members;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("eventbot.members.lookups")
+            .description("Member lookups by whether the member was cached or retrieved from discord")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
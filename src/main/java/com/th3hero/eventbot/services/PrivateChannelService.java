@@ -0,0 +1,277 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.listeners.events.UpdatedStudentEvent;
+import com.th3hero.eventbot.repositories.StudentRepository;
+import com.th3hero.eventbot.repositories.StudentRepository.StudentChannel;
+import com.th3hero.eventbot.utils.LongLongMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sends direct messages to users through their direct message channel.
+ * Channel ids are saved on the student and kept in memory, so a user with a saved channel is messaged in a single request
+ * to the create message route of the channel, also right after a restart when JDA has no private channels cached.
+ * Users without a saved channel have their channel opened through JDA first, as do users whose saved channel discord reports as unknown.
+ * A send that discord rate limits is handed to JDA as well, which waits out the rate limit.
+ */
+@Slf4j
+@Service
+public class PrivateChannelService {
+    private static final int EXPECTED_CHANNELS = 1024;
+    private static final long SAVE_TIMEOUT_SECONDS = 5;
+    private static final String CREATE_MESSAGE_URL = "https://discord.com/api/v10/channels/%d/messages";
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final JDA jda;
+    private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongLongMap channelByUser = new LongLongMap(EXPECTED_CHANNELS);
+    // Channels are opened on JDA callback threads, so they are saved by a worker instead of blocking the callback
+    private final ExecutorService saveWorker = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("private-channel-save").daemon().factory()
+    );
+
+    private final Counter savedLookups;
+    private final Counter openedLookups;
+    private final Counter reopenedLookups;
+
+    public PrivateChannelService(
+        JDA jda,
+        StudentRepository studentRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.jda = jda;
+        this.studentRepository = studentRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savedLookups = meterRegistry.counter("eventbot.private_channels.lookups", "result", "saved");
+        this.openedLookups = meterRegistry.counter("eventbot.private_channels.lookups", "result", "opened");
+        this.reopenedLookups = meterRegistry.counter("eventbot.private_channels.lookups", "result", "reopened");
+    }
+
+    /**
+     * Loads the saved direct message channel of every student, replacing anything already in memory.
+     */
+    @PostConstruct
+    public void load() {
+        List<StudentChannel> channels = studentRepository.findAllPrivateChannels();
+        lock.writeLock().lock();
+        try {
+            channelByUser.clear();
+            channels.forEach(channel -> channelByUser.put(channel.getStudentId(), channel.getChannelId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded the direct message channels of {} students", channels.size());
+    }
+
+    /**
+     * Waits for channels that are still being saved.
+     */
+    @PreDestroy
+    public void stop() {
+        saveWorker.shutdown();
+        try {
+            if (!saveWorker.awaitTermination(SAVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Stopped before every direct message channel was saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends a direct message to a user. The saved channel of the user is messaged directly,
+     * if there is none, discord no longer knows it or the send is rate limited the channel is opened through JDA and saved.
+     *
+     * @param userId The id of the user to message
+     * @param content The content of the message
+     * @return Completed once the message was sent
+     */
+    public CompletableFuture<Void> sendMessage(long userId, String content) {
+        OptionalLong channelId = findChannelId(userId);
+        if (channelId.isEmpty()) {
+            openedLookups.increment();
+            return openAndSend(userId, content);
+        }
+        savedLookups.increment();
+        return sendToChannel(channelId.getAsLong(), content)
+            .exceptionallyCompose(error -> {
+                if (!(error instanceof DirectMessageException e) || !e.shouldReopen()) {
+                    return CompletableFuture.failedFuture(error);
+                }
+                reopenedLookups.increment();
+                log.debug("Direct message channel of user {} could not be messaged directly ({}), opening it again", userId, e.getStatus());
+                return openAndSend(userId, content);
+            });
+    }
+
+    /**
+     * @param error An error a direct message failed with
+     * @return The discord error of the failure, empty if discord did not reject the message
+     */
+    public static Optional<ErrorResponse> errorResponseOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        return switch (cause) {
+            case ErrorResponseException e -> Optional.of(e.getErrorResponse());
+            case DirectMessageException e -> Optional.ofNullable(e.getErrorResponse());
+            case null, default -> Optional.empty();
+        };
+    }
+
+    /**
+     * @param userId The id of a user
+     * @return The id of the saved direct message channel of the user, empty if there is none
+     */
+    public OptionalLong findChannelId(long userId) {
+        long channelId;
+        lock.readLock().lock();
+        try {
+            channelId = channelByUser.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return channelId == 0 ? OptionalLong.empty() : OptionalLong.of(channelId);
+    }
+
+    private CompletableFuture<Void> openAndSend(long userId, String content) {
+        return jda.openPrivateChannelById(userId)
+            .flatMap(channel -> {
+                rememberChannel(userId, channel.getIdLong());
+                return channel.sendMessage(content);
+            })
+            .map(message -> (Void) null)
+            .submit();
+    }
+
+    /**
+     * Posts a message to a channel by its id through the http client and token of JDA, which does not need the channel to be cached.
+     */
+    private CompletableFuture<Void> sendToChannel(long channelId, String content) {
+        Request request = new Request.Builder()
+            .url(CREATE_MESSAGE_URL.formatted(channelId))
+            // JDA keeps the token with its "Bot " prefix
+            .header("Authorization", jda.getToken())
+            .post(RequestBody.create(DataObject.empty().put("content", content).toJson(), JSON))
+            .build();
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        jda.getHttpClient().newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    if (response.isSuccessful()) {
+                        result.complete(null);
+                    } else {
+                        result.completeExceptionally(DirectMessageException.from(channelId, response));
+                    }
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Keeps the channel of a user in memory and saves it on the student if it changed.
+     * Users that are not students are only kept in memory.
+     */
+    private void rememberChannel(long userId, long channelId) {
+        long previous;
+        lock.writeLock().lock();
+        try {
+            previous = channelByUser.get(userId);
+            channelByUser.put(userId, channelId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (previous != channelId) {
+            saveWorker.execute(() -> saveChannelId(userId, channelId));
+        }
+    }
+
+    private void saveChannelId(long userId, long channelId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                studentRepository.findById(userId).ifPresent(student -> {
+                    student.setPrivateChannelId(channelId);
+                    applicationEventPublisher.publishEvent(new UpdatedStudentEvent(userId));
+                })
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to save the direct message channel of user {}", userId, e);
+        }
+    }
+
+    /**
+     * A direct message that discord rejected when it was sent straight to a saved channel.
+     */
+    @Getter
+    static class DirectMessageException extends RuntimeException {
+        private final int status;
+        private final ErrorResponse errorResponse;
+
+        DirectMessageException(long channelId, int status, ErrorResponse errorResponse) {
+            super("Failed to send a direct message to channel %d. Status: %d, Error: %s".formatted(channelId, status, errorResponse));
+            this.status = status;
+            this.errorResponse = errorResponse;
+        }
+
+        static DirectMessageException from(long channelId, Response response) throws IOException {
+            ErrorResponse errorResponse = null;
+            String body = response.body() == null ? "" : response.body().string();
+            if (!body.isBlank()) {
+                DataObject error = DataObject.fromJson(body);
+                if (error.hasKey("code")) {
+                    errorResponse = ErrorResponse.fromCode(error.getInt("code"));
+                }
+            }
+            return new DirectMessageException(channelId, response.code(), errorResponse);
+        }
+
+        boolean shouldReopen() {
+            return status == TOO_MANY_REQUESTS || errorResponse == ErrorResponse.UNKNOWN_CHANNEL;
+        }
+    }
+}
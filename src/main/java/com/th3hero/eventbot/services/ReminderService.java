@@ -0,0 +1,268 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.entities.ConfigJpa;
+import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.EventJpa.EventStatus;
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa;
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryStatus;
+import com.th3hero.eventbot.entities.ReminderWindowJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentCoursesEvent;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.ReminderDeliveryRepository;
+import com.th3hero.eventbot.repositories.ReminderWindowRepository;
+import com.th3hero.eventbot.repositories.StudentRepository;
+import com.th3hero.eventbot.services.DirectMessageQueue.DeliveryOutcome;
+import com.th3hero.eventbot.utils.DiscordUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ReminderService {
+    private final ReminderWindowRepository reminderWindowRepository;
+    private final ReminderDeliveryRepository reminderDeliveryRepository;
+    private final StudentRepository studentRepository;
+    private final EventRepository eventRepository;
+    private final ConfigService configService;
+    private final DirectMessageQueue directMessageQueue;
+
+    /**
+     * Creates a reminder window for each distinct offset of the students taking a course on the event.
+     *
+     * @param eventId The id of the event to schedule reminders for
+     */
+    public void scheduleEventReminders(Long eventId) {
+        int created = reminderWindowRepository.insertWindowsForEvent(eventId, LocalDateTime.now());
+        log.debug("Scheduled {} reminder windows for event {}", created, eventId);
+    }
+
+    /**
+     * Creates any reminder windows a student needs for the events in their courses.
+     * Existing windows are shared with other students and left as is.
+     *
+     * @param studentId The id of the student to schedule reminders for
+     */
+    public void scheduleStudentReminders(Long studentId) {
+        int created = reminderWindowRepository.insertWindowsForStudent(studentId, LocalDateTime.now());
+        log.debug("Scheduled {} reminder windows for student {}", created, studentId);
+    }
+
+    /**
+     * Brings the reminder windows of an event in line with its current date and courses.
+     * Only the windows that differ are touched: moved windows are updated in place,
+     * windows without recipients or in the past are removed and windows for new offsets are added.
+     * Used when the date or courses of the event change.
+     *
+     * @param eventId The id of the event to reschedule reminders for
+     */
+    public void rescheduleEventReminders(Long eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        int moved = reminderWindowRepository.updateFireTimesForEvent(eventId);
+        int removed = reminderWindowRepository.deleteStaleWindowsForEvent(eventId, now);
+        int created = reminderWindowRepository.insertWindowsForEvent(eventId, now);
+        log.debug("Rescheduled reminder windows for event {}. Moved: {}, Removed: {}, Created: {}", eventId, moved, removed, created);
+    }
+
+    /**
+     * Updates the reminder windows affected by a student changing their courses once the change is committed.
+     * Runs off the discord gateway thread, windows for all events of the removed courses are cleaned up in one statement
+     * and windows for the remaining courses are added in another.
+     *
+     * @param event The student course change
+     */
+    @Async
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void updateStudentReminders(UpdatedStudentCoursesEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = event.removedCourseIds().isEmpty()
+            ? 0
+            : reminderWindowRepository.deleteStaleWindowsForCourses(event.removedCourseIds(), now);
+        int created = reminderWindowRepository.insertWindowsForStudent(event.studentId(), now);
+        log.debug("Updated reminder windows for student {}. Removed: {}, Created: {}", event.studentId(), removed, created);
+    }
+
+    /**
+     * Removes all reminder windows of an event.
+     *
+     * @param eventId The id of the event to remove reminders for
+     */
+    public void removeEventReminders(Long eventId) {
+        int removed = reminderWindowRepository.deleteAllByEventId(eventId);
+        log.debug("Removed {} reminder windows for event {}", removed, eventId);
+    }
+
+    /**
+     * Queues the reminders of every window that is due and removes the windows once all their reminders are queued.
+     * All due windows are handled in a single pass, so the events and config are only loaded once per tick.
+     * Only as many recipients as fit in the direct message queue are read. A window that does not fit completely
+     * keeps the id of the last student queued and continues after it on the next tick.
+     * The reminders are handed to the queue only once the window changes are committed, so a failed commit
+     * does not send the same reminders again on the next tick.
+     * Each tick first records the outcome of the reminders sent since the previous tick, see {@link ReminderDeliveryJpa}.
+     */
+    public void dispatchDueReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        recordDeliveryOutcomes(now);
+
+        List<ReminderWindowJpa> dueWindows = reminderWindowRepository.findAllDue(now);
+        if (dueWindows.isEmpty()) {
+            return;
+        }
+
+        Set<Long> eventIds = dueWindows.stream()
+            .map(window -> window.getId().getEventId())
+            .collect(Collectors.toSet());
+        Map<Long, EventJpa> events = eventRepository.findAllById(eventIds).stream()
+            .collect(Collectors.toMap(EventJpa::getId, Function.identity()));
+        ConfigJpa config = configService.getConfigJpa();
+
+        List<ReminderWindowJpa> handledWindows = new ArrayList<>();
+        List<ReminderBatch> batches = new ArrayList<>();
+        int capacity = directMessageQueue.remainingCapacity();
+        int queued = 0;
+        for (ReminderWindowJpa window : dueWindows) {
+            EventJpa eventJpa = events.get(window.getId().getEventId());
+            if (!isDeliverable(window, eventJpa, now)) {
+                handledWindows.add(window);
+                continue;
+            }
+            if (queued == capacity) {
+                continue;
+            }
+
+            ReminderBatch batch = nextBatch(window, eventJpa, config, capacity - queued);
+            if (!batch.recipients().isEmpty()) {
+                reminderDeliveryRepository.insertQueued(batch.eventId(), batch.offsetTime(), batch.recipients(), now);
+            }
+            batches.add(batch);
+            queued += batch.recipients().size();
+            if (batch.complete()) {
+                handledWindows.add(window);
+            } else {
+                window.setLastStudentId(batch.recipients().getLast());
+            }
+        }
+
+        if (!handledWindows.isEmpty()) {
+            reminderWindowRepository.deleteAllInBatch(handledWindows);
+        }
+        if (handledWindows.size() < dueWindows.size()) {
+            log.warn("Kept {} reminder windows that did not fit in the direct message queue", dueWindows.size() - handledWindows.size());
+        }
+        enqueueAfterCommit(batches);
+        log.debug("Dispatched {} reminder windows with {} reminders", handledWindows.size(), queued);
+    }
+
+    /**
+     * Hands the batches to the direct message queue once the current transaction commits.
+     * The dispatcher is the only producer of the queue, so the capacity the batches were sized with is still free then.
+     */
+    private void enqueueAfterCommit(List<ReminderBatch> batches) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(batches);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(batches);
+            }
+        });
+    }
+
+    private void enqueue(List<ReminderBatch> batches) {
+        for (ReminderBatch batch : batches) {
+            directMessageQueue.enqueueAll(batch.eventId(), batch.offsetTime(), batch.recipients(), batch.content(), batch.scheduledTime());
+        }
+    }
+
+    /**
+     * Saves the outcomes of the reminders that finished sending, with one update per window and outcome.
+     */
+    private void recordDeliveryOutcomes(LocalDateTime now) {
+        List<DeliveryOutcome> outcomes = directMessageQueue.drainOutcomes();
+        if (outcomes.isEmpty()) {
+            return;
+        }
+
+        outcomes.stream()
+            .collect(Collectors.groupingBy(
+                outcome -> new DeliveryGroup(outcome.eventId(), outcome.offsetTime(), outcome.status()),
+                Collectors.mapping(DeliveryOutcome::userId, Collectors.toList())
+            ))
+            .forEach((group, studentIds) ->
+                reminderDeliveryRepository.updateStatus(group.eventId(), group.offsetTime(), studentIds, group.status(), now)
+            );
+        log.debug("Recorded the outcome of {} reminders", outcomes.size());
+    }
+
+    /**
+     * Checks if the reminders of a window should still be sent.
+     *
+     * @return false if the event of the window is missing, no longer active or has already passed
+     */
+    private boolean isDeliverable(ReminderWindowJpa window, EventJpa eventJpa, LocalDateTime now) {
+        Long eventId = window.getId().getEventId();
+        Integer offset = window.getId().getOffsetTime();
+
+        if (eventJpa == null) {
+            log.warn("Dropping reminder window for missing event. Event id: {}, Offset: {}", eventId, offset);
+            return false;
+        }
+        if (!eventJpa.getStatus().equals(EventStatus.ACTIVE)) {
+            log.warn("Dropping reminder window for an event that is not active. Event id: {}, Status: {}", eventId, eventJpa.getStatus());
+            return false;
+        }
+        if (eventJpa.getEventDate().isBefore(now)) {
+            log.debug("Dropping reminder window for an event that has already passed. Event id: {}, Offset: {}", eventId, offset);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next recipients of a window, starting after the last student queued.
+     * One recipient more than the limit is read to tell if the window has more recipients left.
+     *
+     * @param limit The maximum number of recipients to return, at least 1
+     * @return The recipients to queue and if they are the last of the window
+     */
+    private ReminderBatch nextBatch(ReminderWindowJpa window, EventJpa eventJpa, ConfigJpa config, int limit) {
+        Long eventId = window.getId().getEventId();
+        Integer offset = window.getId().getOffsetTime();
+
+        String content = "%d hour reminder for event: %s".formatted(offset, DiscordUtils.generateJumpUrl(config, eventJpa.getMessageId()));
+        Long afterStudentId = Objects.requireNonNullElse(window.getLastStudentId(), 0L);
+        List<Long> recipients = studentRepository.findReminderRecipients(eventId, offset, afterStudentId, limit + 1);
+        if (recipients.size() > limit) {
+            log.debug("Queueing {} hour reminders for event {} to {} students, more are left", offset, eventId, limit);
+            return new ReminderBatch(eventId, offset, recipients.subList(0, limit), content, window.getFireTime(), false);
+        }
+        log.debug("Queueing {} hour reminders for event {} to {} students", offset, eventId, recipients.size());
+        return new ReminderBatch(eventId, offset, recipients, content, window.getFireTime(), true);
+    }
+
+    private record ReminderBatch(Long eventId, Integer offsetTime, List<Long> recipients, String content, LocalDateTime scheduledTime, boolean complete) {}
+
+    private record DeliveryGroup(Long eventId, Integer offsetTime, DeliveryStatus status) {}
+}
@@ -1,20 +1,20 @@
 package com.th3hero.eventbot.services;
 
 import com.th3hero.eventbot.formatting.DateFormatter;
+import com.th3hero.eventbot.jobs.ArchiveEventsJob;
 import com.th3hero.eventbot.jobs.CompleteEventsJob;
 import com.th3hero.eventbot.jobs.DeletedEventCleanupJob;
 import com.th3hero.eventbot.jobs.DraftCleanupJob;
-import com.th3hero.eventbot.jobs.EventReminderJob;
+import com.th3hero.eventbot.jobs.ReminderDispatchJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
-import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.SchedulingException;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Set;
 
 @Slf4j
 @Component
@@ -26,8 +26,11 @@ public class SchedulingService {
     private static final String DRAFT_CLEANUP_GROUP = "DRAFT_CLEANUP";
     private static final String DELETE_EVENT_CLEANUP_GROUP = "DELETED_EVENT_CLEANUP";
     private static final String COMPLETED_EVENT_GROUP = "COMPLETED_EVENT";
+    private static final String REMINDER_DISPATCH_GROUP = "REMINDER_DISPATCH";
+    private static final String EVENT_ARCHIVE_GROUP = "EVENT_ARCHIVE";
 
-    private static final String REMINDER_TRIGGER_GROUP_FORMAT = "%d-%d";
+    private static final int REMINDER_DISPATCH_INTERVAL_SECONDS = 60;
+    private static final int EVENT_ARCHIVE_INTERVAL_HOURS = 24;
 
     /**
      * Adds a trigger to the scheduler to clean up a draft after a certain amount of time.
@@ -72,117 +75,68 @@ public class SchedulingService {
     }
 
     /**
-     * Adds a trigger to the scheduler to send a reminder notification for an event.
-     * @param eventId The id of the event to send a reminder for
-     * @param studentId The id of the student to send the reminder to
-     * @param offset The offset in hours from the event time to send the reminder
-     * @param eventTime The date/time of the event
+     * Adds the repeating trigger that dispatches due reminder windows. Does nothing if the trigger already exists.
      * @throws SchedulingException If the trigger cannot be added
      */
-    public void addEventReminderTrigger(Long eventId, Long studentId, Integer offset, LocalDateTime eventTime, LocalDateTime endDate) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void addReminderDispatchTrigger() {
         try {
-            createJobIfNone(EventReminderJob.JOB_KEY, EventReminderJob.class, "Reminder notifications for events");
+            createJobIfNone(ReminderDispatchJob.JOB_KEY, ReminderDispatchJob.class, "Dispatch of due event reminders");
 
-            String groupKey = REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId);
-            TriggerKey triggerKey = TriggerKey.triggerKey(offset.toString(), groupKey);
+            TriggerKey triggerKey = TriggerKey.triggerKey(ReminderDispatchJob.JOB_KEY.getName(), REMINDER_DISPATCH_GROUP);
 
             if (scheduler.checkExists(triggerKey)) {
                 return;
             }
 
-            Trigger reminderTrigger = TriggerBuilder.newTrigger()
+            Trigger dispatchTrigger = TriggerBuilder.newTrigger()
                 .withIdentity(triggerKey)
-                .usingJobData(EventReminderJob.STUDENT_ID, studentId)
-                .usingJobData(EventReminderJob.EVENT_ID, eventId)
-                .usingJobData(EventReminderJob.OFFSET_ID, offset)
-                .forJob(EventReminderJob.JOB_KEY)
-                .startAt(DateFormatter.toDate(eventTime))
-                .endAt(DateFormatter.toDate(endDate))
+                .forJob(ReminderDispatchJob.JOB_KEY)
+                .startNow()
                 .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                    .withMisfireHandlingInstructionFireNow()
-                    .withRepeatCount(0))
+                    .withIntervalInSeconds(REMINDER_DISPATCH_INTERVAL_SECONDS)
+                    .repeatForever()
+                    .withMisfireHandlingInstructionNextWithRemainingCount())
                 .build();
-            scheduler.scheduleJob(reminderTrigger);
-            log.debug("Added new reminder trigger for event: {}", eventId);
+            scheduler.scheduleJob(dispatchTrigger);
+            log.info("Added reminder dispatch trigger");
 
         } catch (SchedulerException e) {
-            log.error("Failed to add trigger for event reminder: {}", eventId, e);
-            throw new SchedulingException("Failed to schedule event reminder.");
+            log.error("Failed to add reminder dispatch trigger", e);
+            throw new SchedulingException("Failed to schedule reminder dispatch.");
         }
     }
 
     /**
-     * Removes a specific reminder trigger for a student on a specific event.
-     * @param eventId The id of the event
-     * @param studentId The id of the student
-     * @param offset The offset of the reminder from the event date
-     * @throws SchedulingException If the trigger cannot be removed
+     * Adds the repeating trigger that moves old completed events to the archive. Does nothing if the trigger already exists.
+     * @throws SchedulingException If the trigger cannot be added
      */
-    public void removeEventReminderTriggers(Long eventId, Long studentId, Integer offset) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void addEventArchiveTrigger() {
         try {
-            String groupKey = REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId);
-            scheduler.unscheduleJob(TriggerKey.triggerKey(offset.toString(), groupKey));
-            log.debug("Removed trigger for event {} for student {} with offset {}", eventId, studentId, offset);
-        } catch (SchedulerException e) {
-            log.error("Failed to remove trigger for event {} for student {} with offset {}", eventId, studentId, offset);
-            throw new SchedulingException("Failed to remove event reminder.");
-        }
-    }
+            createJobIfNone(ArchiveEventsJob.JOB_KEY, ArchiveEventsJob.class, "Archival of old completed events");
 
-    /**
-     * Removes all reminder triggers for a student on a specific event.{}
-, am evenId The id of the event
-     * @param studentId The id of the student
-     * @return True if triggers were removed, false if no triggers were found
-     * @throws SchedulingException If the triggers cannot be removed
-     */
-    public boolean removeEventReminderTriggers(Long eventId, Long studentId) {
-        try {
-            Set<TriggerKey> keys = scheduler.getTriggerKeys(GroupMatcher.triggerGroupEquals(REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId)));
-            if (keys.isEmpty()) {
-                return false;
-            }
-            log.debug("Removed triggers on event {} for student {}", eventId, studentId);
-            return scheduler.unscheduleJobs(new ArrayList<>(keys));
-        } catch (SchedulerException e) {
-            log.error("Failed to remove trigger for event {} for student {}", eventId, studentId);
-            throw new SchedulingException("Failed to remove event reminders.");
-        }
-    }
+            TriggerKey triggerKey = TriggerKey.triggerKey(ArchiveEventsJob.JOB_KEY.getName(), EVENT_ARCHIVE_GROUP);
 
-    /**
-     * Removes all reminder triggers for a student from all events.
-     * @param studentId The id of the student
-     * @throws SchedulingException If the triggers cannot be removed
-     */
-    public void removeAllEventReminderTriggers(Long studentId) {
-        try {
-            Set<TriggerKey> keys = scheduler.getTriggerKeys(GroupMatcher.triggerGroupEndsWith("-%s".formatted(studentId)));
-            if (keys.isEmpty()) {
+            if (scheduler.checkExists(triggerKey)) {
                 return;
             }
-            log.debug("Removed all triggers for student {}", studentId);
-            scheduler.unscheduleJobs(new ArrayList<>(keys));
-        } catch (SchedulerException e) {
-            log.error("Scheduling error when removing all triggers for student {}", studentId, e);
-        }
-    }
 
-    /**
-     * Removes all reminder triggers for an event from all students.
-     * @param eventId The id of the event
-     * @throws SchedulingException If the triggers cannot be removed
-     */
-    public void removeReminderTriggers(Long eventId) {
-        try {
-            Set<TriggerKey> keys = scheduler.getTriggerKeys(GroupMatcher.triggerGroupStartsWith("%d-".formatted(eventId)));
-            if (keys.isEmpty()) {
-                return;
-            }
-            scheduler.unscheduleJobs(new ArrayList<>(keys));
-            log.debug("Removed all triggers for event: {}", eventId);
+            Trigger archiveTrigger = TriggerBuilder.newTrigger()
+                .withIdentity(triggerKey)
+                .forJob(ArchiveEventsJob.JOB_KEY)
+                .startNow()
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                    .withIntervalInHours(EVENT_ARCHIVE_INTERVAL_HOURS)
+                    .repeatForever()
+                    .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+            scheduler.scheduleJob(archiveTrigger);
+            log.info("Added event archive trigger");
+
         } catch (SchedulerException e) {
-            log.error("Failed to remove reminder trigger for event: {}", eventId, e);
+            log.error("Failed to add event archive trigger", e);
+            throw new SchedulingException("Failed to schedule event archival.");
         }
     }
 
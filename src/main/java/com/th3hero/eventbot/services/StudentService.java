@@ -1,15 +1,13 @@
 package com.th3hero.eventbot.services;
 
-import com.th3hero.eventbot.commands.requests.ButtonRequest;
 import com.th3hero.eventbot.commands.requests.CommandRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
 import com.th3hero.eventbot.entities.CourseJpa;
-import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.StudentJpa;
 import com.th3hero.eventbot.exceptions.IllegalInteractionException;
 import com.th3hero.eventbot.factories.EmbedBuilderFactory;
-import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentEvent;
 import com.th3hero.eventbot.repositories.StudentRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +16,10 @@ import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInterac
 import net.dv8tion.jda.api.interactions.commands.Command;
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,8 +31,10 @@ import static com.th3hero.eventbot.utils.DiscordFieldsUtils.OFFSET;
 @RequiredArgsConstructor
 public class StudentService {
     private final StudentRepository studentRepository;
-    private final SchedulingService schedulingService;
-    private final EventRepository eventRepository;
+    private final ReminderService reminderService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MemberCacheService memberCacheService;
+    private final PrivateChannelService privateChannelService;
 
     /**
      * Fetches a student based on the provided studentId or creates a new student if one does not exist.
@@ -44,9 +44,51 @@ public class StudentService {
      */
     public StudentJpa fetchStudent(Long studentId) {
         return studentRepository.findById(studentId)
-            .orElseGet(() -> studentRepository.save(StudentJpa.create(studentId)));
+            .orElseGet(() -> {
+                memberCacheService.addStudent(studentId);
+                return studentRepository.save(StudentJpa.create(studentId));
+            });
     }
 
+    /**
+     * Gets a student without creating them, for use on read only paths.
+     * A student that has not used the bot yet gets the defaults of a new student, which are not saved.
+     *
+     * @param studentId The id of the student
+     * @return The student, or an unsaved student with the defaults if there is none
+     */
+    public StudentJpa findStudentOrDefault(Long studentId) {
+        return studentRepository.findById(studentId)
+            .orElseGet(() -> StudentJpa.create(studentId));
+    }
+
+    /**
+     * Checks if a student takes any course on an event without loading either of their course lists.
+     *
+     * @param studentId The id of the student
+     * @param eventId The id of the event
+     * @return true if the student takes at least one course on the event
+     */
+    public boolean takesCourseOnEvent(Long studentId, Long eventId) {
+        return studentRepository.takesCourseOnEvent(studentId, eventId);
+    }
+
+    /**
+     * Flips whether a student has completed an event, touching only the single row in the completed events table.
+     *
+     * @param studentId The id of the student
+     * @param eventId The id of the event
+     * @return true if the event is now completed, false if it was completed before and has been removed
+     */
+    public boolean toggleCompletedEvent(Long studentId, Long eventId) {
+        if (studentRepository.removeCompletedEvent(studentId, eventId) > 0) {
+            return false;
+        }
+        studentRepository.addCompletedEvent(studentId, eventId);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
     public void listStudentCourses(InteractionRequest request) {
         StudentJpa studentJpa = studentRepository.findById(request.getRequester().getIdLong())
             .orElseThrow(() -> new EntityNotFoundException("Student with ID %d not found".formatted(request.getRequester().getIdLong())));
@@ -64,8 +106,9 @@ public class StudentService {
      *
      * @param event the command auto complete event
      */
+    @Transactional(readOnly = true)
     public void reminderOffsetAutoComplete(CommandAutoCompleteInteractionEvent event) {
-        StudentJpa studentJpa = fetchStudent(event.getUser().getIdLong());
+        StudentJpa studentJpa = findStudentOrDefault(event.getUser().getIdLong());
         List<Command.Choice> choices = studentJpa.getReminderOffsetTimes().stream()
             .filter(offset -> offset.toString().startsWith(event.getFocusedOption().getValue()))
             .map(offset -> new Command.Choice(offset.toString(), offset))
@@ -94,53 +137,29 @@ public class StudentService {
         }
     }
 
-    /**
-     * Schedules a student for reminders on an event.
-     *
-     * @param eventJpa the event to schedule the student for
-     * @param studentJpa the student to schedule reminders for
-     */
-    public void scheduleStudentForEvent(EventJpa eventJpa, StudentJpa studentJpa) {
-        for (Integer offset : studentJpa.getReminderOffsetTimes()) {
-            if (eventJpa.getEventDate().minusHours(offset).isBefore(LocalDateTime.now())) {
-                continue;
-            }
-            schedulingService.addEventReminderTrigger(
-                eventJpa.getId(),
-                studentJpa.getId(),
-                offset,
-                eventJpa.getEventDate().minusHours(offset),
-                eventJpa.getEventDate()
-            );
-        }
-    }
-
-    public void unscheduleStudentRemindersForEvent(ButtonRequest request, Long eventId) {
-        StudentJpa studentJpa = fetchStudent(request.getRequester().getIdLong());
-        boolean removed = schedulingService.removeEventReminderTriggers(eventId, studentJpa.getId());
-        String message = removed ?
-            "All reminders have been removed for this event." :
-            "You have no reminders on this event.";
-
-        request.sendResponse(message, MessageMode.USER);
-    }
-
     /**
      * Removes a course from all students.
      *
      * @param courseJpa the course to remove from all students
      */
     public void removeCourseFromAllStudents(CourseJpa courseJpa) {
-        studentRepository.findAllByCoursesContains(courseJpa).forEach(studentJpa -> studentJpa.getCourses().remove(courseJpa));
+        studentRepository.findAllByCoursesContains(courseJpa).forEach(studentJpa -> {
+            studentJpa.getCourses().remove(courseJpa);
+            applicationEventPublisher.publishEvent(new UpdatedStudentEvent(studentJpa.getId()));
+        });
     }
 
     public void notificationTest(CommandRequest request) {
-        request.getRequester().getUser().openPrivateChannel().queue(
-            channel -> channel.sendMessage("This is a test notification. You're all good to receive reminders from the bot for your selected courses.").queue(
-                success -> request.sendResponse("Test notification sent.", MessageMode.USER),
-                error -> request.sendResponse("Failed to send test notification. Make sure your discord settings allow direct messages from server members.", MessageMode.USER)
-            )
-        );
+        privateChannelService.sendMessage(
+            request.getRequester().getIdLong(),
+            "This is a test notification. You're all good to receive reminders from the bot for your selected courses."
+        ).whenComplete((result, error) -> {
+            if (error == null) {
+                request.sendResponse("Test notification sent.", MessageMode.USER);
+            } else {
+                request.sendResponse("Failed to send test notification. Make sure your discord settings allow direct messages from server members.", MessageMode.USER);
+            }
+        });
     }
 
     public enum ReminderConfigOptions {
@@ -170,14 +189,8 @@ public class StudentService {
             return;
         }
         studentJpa.getReminderOffsetTimes().add(newOffset);
-        eventRepository.findAllByCourse(studentJpa.getCourses())
-            .forEach(event -> schedulingService.addEventReminderTrigger(
-                event.getId(),
-                studentJpa.getId(),
-                newOffset,
-                event.getEventDate().minusHours(newOffset),
-                event.getEventDate()
-            ));
+        applicationEventPublisher.publishEvent(new UpdatedStudentEvent(studentJpa.getId()));
+        reminderService.scheduleStudentReminders(studentJpa.getId());
         request.sendResponse("You will now be reminded %d hours before an event.".formatted(newOffset), MessageMode.USER);
     }
 
@@ -187,13 +200,9 @@ public class StudentService {
             request.sendResponse("You have no offset for %d".formatted(targetOffset), MessageMode.USER);
             return;
         }
+        // Windows with this offset are left in place, the student is no longer a recipient when they fire
         studentJpa.getReminderOffsetTimes().remove(targetOffset);
-        eventRepository.findAllByCourse(studentJpa.getCourses())
-            .forEach(event -> schedulingService.removeEventReminderTriggers(
-                event.getId(),
-                studentJpa.getId(),
-                targetOffset
-            ));
+        applicationEventPublisher.publishEvent(new UpdatedStudentEvent(studentJpa.getId()));
         request.sendResponse("You will no longer be reminded %d hours before an event.".formatted(targetOffset), MessageMode.USER);
     }
 }
@@ -1,5 +1,6 @@
 package com.th3hero.eventbot.utils;
 
+import com.th3hero.eventbot.commands.requests.InteractionAcknowledgement;
 import com.th3hero.eventbot.exceptions.IllegalInteractionException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -8,12 +9,16 @@ import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import net.dv8tion.jda.api.exceptions.ErrorHandler;
 import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.interactions.callbacks.IMessageEditCallback;
 import net.dv8tion.jda.api.interactions.callbacks.IModalCallback;
 import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 import net.dv8tion.jda.api.requests.ErrorResponse;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
 
+import java.util.Collection;
 import java.util.function.Consumer;
 
 @NoArgsConstructor(access = AccessLevel.NONE)
@@ -25,18 +30,20 @@ public final class DiscordActionUtils {
      * Safely handle sending a text response to an event. The response will be a reply if the event is unacknowledged, otherwise it will use the hook.
      *
      * @param event The event to respond to
+     * @param acknowledgement The acknowledgement of the event
      * @param text The text to send
      * @param isUserReply If the response should be ephemeral
      */
     public static <T extends IReplyCallback> void textResponse(
         final T event,
+        final InteractionAcknowledgement acknowledgement,
         final String text,
         final boolean isUserReply
     ) {
-        if (event.isAcknowledged()) {
-            event.getHook().sendMessage(text).setEphemeral(isUserReply).queue();
+        if (acknowledgement.acknowledge()) {
+            event.reply(text).setEphemeral(isUserReply).queue(acknowledgement.responseTimer("text"));
         } else {
-            event.reply(text).setEphemeral(isUserReply).queue();
+            event.getHook().sendMessage(text).setEphemeral(isUserReply).queue(acknowledgement.responseTimer("text"));
         }
     }
 
@@ -44,18 +51,20 @@ public final class DiscordActionUtils {
      * Safely handle sending an embed response to an event. The response will be a reply if the event is unacknowledged, otherwise it will use the hook.
      *
      * @param event The event to respond to
+     * @param acknowledgement The acknowledgement of the event
      * @param embed The embed to send
      * @param isUserReply If the response should be ephemeral
      */
     public static <T extends IReplyCallback> void embedResponse(
         final T event,
+        final InteractionAcknowledgement acknowledgement,
         final MessageEmbed embed,
         final boolean isUserReply
     ) {
-        if (event.isAcknowledged()) {
-            event.getHook().sendMessageEmbeds(embed).setEphemeral(isUserReply).queue();
+        if (acknowledgement.acknowledge()) {
+            event.replyEmbeds(embed).setEphemeral(isUserReply).queue(acknowledgement.responseTimer("embed"));
         } else {
-            event.replyEmbeds(embed).setEphemeral(isUserReply).queue();
+            event.getHook().sendMessageEmbeds(embed).setEphemeral(isUserReply).queue(acknowledgement.responseTimer("embed"));
         }
     }
 
@@ -63,32 +72,79 @@ public final class DiscordActionUtils {
      * Safely handle sending a modal response to an event.
      *
      * @param event The event to respond to
+     * @param acknowledgement The acknowledgement of the event
      * @param modal The modal to send
      * @throws IllegalInteractionException If the event is already acknowledged
      */
-    public static <T extends IModalCallback> void modalResponse(final T event, final Modal modal) {
-        if (event.isAcknowledged()) {
+    public static <T extends IModalCallback> void modalResponse(
+        final T event,
+        final InteractionAcknowledgement acknowledgement,
+        final Modal modal
+    ) {
+        if (!acknowledgement.acknowledge()) {
             throw new IllegalInteractionException("Cannot send a modal to an acknowledged event.");
         }
-        event.replyModal(modal).queue();
+        event.replyModal(modal).queue(acknowledgement.responseTimer("modal"));
     }
 
     /**
      * Safely handle sending a message create data response to an event. The response will be a reply if the event is unacknowledged, otherwise it will use the hook.
      *
      * @param event The event to respond to
+     * @param acknowledgement The acknowledgement of the event
      * @param data The data to send
      * @param isUserReply If the response should be ephemeral
      */
     public static <T extends IReplyCallback> void messageCreateDataResponse(
         final T event,
+        final InteractionAcknowledgement acknowledgement,
         final MessageCreateData data,
         final boolean isUserReply
     ) {
-        if (event.isAcknowledged()) {
-            event.getHook().sendMessage(data).setEphemeral(isUserReply).queue();
+        if (acknowledgement.acknowledge()) {
+            event.reply(data).setEphemeral(isUserReply).queue(acknowledgement.responseTimer("data"));
         } else {
-            event.reply(data).setEphemeral(isUserReply).queue();
+            event.getHook().sendMessage(data).setEphemeral(isUserReply).queue(acknowledgement.responseTimer("data"));
+        }
+    }
+
+    /**
+     * Safely handle editing the message a component belongs to. The message is edited by the interaction if it is unacknowledged,
+     * otherwise through the hook, which edits the same message after a deferred edit.
+     *
+     * @param event The event to respond to
+     * @param acknowledgement The acknowledgement of the event
+     * @param data The changes to make to the message
+     */
+    public static <T extends IMessageEditCallback> void editMessageResponse(
+        final T event,
+        final InteractionAcknowledgement acknowledgement,
+        final MessageEditData data
+    ) {
+        if (acknowledgement.acknowledge()) {
+            event.editMessage(data).queue(acknowledgement.responseTimer("edit"));
+        } else {
+            event.getHook().editOriginal(data).queue(acknowledgement.responseTimer("edit"));
+        }
+    }
+
+    /**
+     * Safely handle replacing the components of the message a component belongs to. The components are edited by the interaction if it is unacknowledged,
+     * otherwise through the hook.
+     *
+     * @param event The event to respond to
+     * @param acknowledgement The acknowledgement of the event
+     * @param components The new components of the message
+     */
+    public static <T extends IMessageEditCallback> void editComponentsResponse(
+        final T event,
+        final InteractionAcknowledgement acknowledgement,
+        final Collection<? extends LayoutComponent> components
+    ) {
+        if (acknowledgement.acknowledge()) {
+            event.editComponents(components).queue(acknowledgement.responseTimer("edit"));
+        } else {
+            event.getHook().editOriginalComponents(components).queue(acknowledgement.responseTimer("edit"));
         }
     }
 
@@ -96,41 +152,66 @@ public final class DiscordActionUtils {
      * Safely handle sending a deferred reply. If the interaction is already acknowledged, then this is a NOOP function.
      *
      * @param event The event to defer
+     * @param acknowledgement The acknowledgement of the event
      * @param isUserReply If the chain should be ephemeral
      */
-    public static <T extends IReplyCallback> void deferResponse(final T event, final boolean isUserReply) {
-        if (!event.isAcknowledged()) {
-            event.deferReply(isUserReply).queue();
+    public static <T extends IReplyCallback> void deferResponse(
+        final T event,
+        final InteractionAcknowledgement acknowledgement,
+        final boolean isUserReply
+    ) {
+        if (acknowledgement.acknowledge()) {
+            event.deferReply(isUserReply).queue(acknowledgement.responseTimer("defer"));
         }
     }
 
     /**
-     * Retrieves a message from a given channel by its ID.
+     * Edits a message in a given channel by its ID without retrieving it first.
+     * Only the parts set on the edit data are changed, so embeds and components are replaced in a single request.
      *
-     * @param channel The channel from which the message will be retrieved.
-     * @param messageId The ID of the message to be retrieved.
-     * @param success A Consumer to be executed upon successful retrieval of the message.
-     * @param error A Consumer to be executed upon encountering an error
+     * @param channel The channel where the message to be edited is located.
+     * @param messageId The ID of the message to be edited.
+     * @param data The changes to make to the message.
+     * @param success A Consumer to be executed with the edited message.
+     * @param unknownMessage A Consumer to be executed if the message no longer exists
      */
-    public static void retrieveMessage(
+    public static void editMessage(
         final MessageChannel channel,
         final Long messageId,
+        final MessageEditData data,
         final Consumer<Message> success,
-        final Consumer<? super ErrorResponseException> error
+        final Consumer<? super ErrorResponseException> unknownMessage
     ) {
-        channel.retrieveMessageById(messageId).queue(
+        channel.editMessageById(messageId, data).queue(
             success,
-            new ErrorHandler().handle(ErrorResponse.UNKNOWN_MESSAGE, error)
+            new ErrorHandler().handle(ErrorResponse.UNKNOWN_MESSAGE, unknownMessage)
         );
     }
 
     /**
-     * Deletes a message in a given channel by its ID.
+     * Sends an embed as a reply to a message in a given channel by its ID without retrieving the message first.
+     *
+     * @param channel The channel where the message to reply to is located.
+     * @param messageId The ID of the message to reply to.
+     * @param embed The embed to send.
+     */
+    public static void replyToMessage(
+        final MessageChannel channel,
+        final Long messageId,
+        final MessageEmbed embed
+    ) {
+        channel.sendMessageEmbeds(embed)
+            .setMessageReference(messageId)
+            .queue();
+    }
+
+    /**
+     * Deletes a message in a given channel by its ID without retrieving it first.
      *
      * @param channel The channel where the message to be deleted is located.
      * @param messageId The ID of the message to be deleted.
      * @param success A Consumer to be executed upon successful deletion of the message.
-     * @param error A Consumer to be executed upon encountering an error
+     * @param error A Consumer to be executed if the message no longer exists
      */
     public static void deleteMessage(
         final MessageChannel channel,
@@ -138,11 +219,9 @@ public final class DiscordActionUtils {
         final Consumer<Void> success,
         final Consumer<? super ErrorResponseException> error
     ) {
-        retrieveMessage(
-            channel,
-            messageId,
-            message -> message.delete().queue(success),
-            error
+        channel.deleteMessageById(messageId).queue(
+            success,
+            new ErrorHandler().handle(ErrorResponse.UNKNOWN_MESSAGE, error)
         );
     }
 
@@ -21,6 +21,7 @@ public class DiscordFieldsUtils {
     public static final String UPCOMING = "upcoming";
     public static final String COURSE = "course";
     public static final String TIME_PERIOD = "time_period";
+    public static final String SEARCH = "search";
 
     public static final int MIN_TITLE_LENGTH = 4;
     public static final int MAX_TITLE_LENGTH = 128;
@@ -31,6 +32,7 @@ public class DiscordFieldsUtils {
     public static final int MAX_TIME_LENGTH = 5;
     public static final int MIN_REASON_LENGTH = 5;
     public static final int MAX_REASON_LENGTH = 256;
+    public static final int MAX_SEARCH_LENGTH = 32;
 
     public static final int MIN_OFFSET_VALUE = 0;
     public static final int MIN_FILTER_VALUE = 1;
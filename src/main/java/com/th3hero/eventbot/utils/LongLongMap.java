@@ -0,0 +1,149 @@
+package com.th3hero.eventbot.utils;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from long keys to long values that stores both in plain arrays instead of boxing them.
+ * Zero is used to mark empty slots, so it can't be used as a key and is returned for missing keys.
+ * Discord snowflakes and database ids are never zero. Not thread safe.
+ */
+public final class LongLongMap {
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * @param expectedSize The number of entries the map should hold without growing
+     */
+    public LongLongMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param key The key to look up
+     * @return The value of the key, or zero if the map doesn't contain the key
+     */
+    public long get(long key) {
+        int slot = slotOf(key);
+        return slot < 0 ? EMPTY : values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * @param key The key to store the value under, must not be zero
+     * @param value The value to store
+     * @return The previous value of the key, or zero if the map didn't contain the key
+     */
+    public long put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Zero can't be used as a key");
+        }
+        if ((size + 1) * 2L > keys.length) {
+            resize(keys.length * 2);
+        }
+
+        int slot = idealSlot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return EMPTY;
+    }
+
+    /**
+     * Removes a key. Entries after it in the same run of slots are shifted back, so lookups never need markers for removed keys.
+     *
+     * @param key The key to remove
+     * @return The value the key had, or zero if the map didn't contain the key
+     */
+    public long remove(long key) {
+        int gap = slotOf(key);
+        if (gap < 0) {
+            return EMPTY;
+        }
+        long previous = values[gap];
+
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int ideal = idealSlot(keys[next]);
+            // The entry can fill the gap if its ideal slot is not between the gap and where it sits now
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = EMPTY;
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, EMPTY);
+        size = 0;
+    }
+
+    private int slotOf(long key) {
+        if (key == EMPTY) {
+            return -1;
+        }
+        int slot = idealSlot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int idealSlot(long key) {
+        // Snowflakes share their low bits within a millisecond, so the bits are mixed before masking
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // Kept at most half full so runs of taken slots stay short
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+    }
+}
@@ -0,0 +1,30 @@
+-- One reminder window per event/offset pair. Recipients are resolved when the window fires
+create table reminder_window (
+    event_id bigint not null,
+    offset_time integer not null,
+    fire_time timestamp not null,
+    constraint fk_reminder_window_event_id foreign key (event_id)
+        references event(id) on delete cascade,
+    constraint reminder_window_pk primary key (event_id, offset_time)
+);
+create index reminder_window_fire_time_index on reminder_window(fire_time);
+
+-- Seed windows for active events from the offsets of the students currently taking their courses
+insert into reminder_window (event_id, offset_time, fire_time)
+    select distinct e.id, sro.reminder_offset_time, e.event_date - sro.reminder_offset_time * interval '1 hour'
+    from event e
+    join event_courses ec on ec.event_jpa_id = e.id
+    join student_courses sc on sc.courses_id = ec.courses_id
+    join student_reminder_offsets sro on sro.student_id = sc.students_id
+    where e.status = 'ACTIVE'
+      and e.event_date - sro.reminder_offset_time * interval '1 hour' > localtimestamp;
+
+-- Drop the legacy per student reminder triggers, they are replaced by the windows above
+delete from qrtz_simple_triggers
+    where (sched_name, trigger_name, trigger_group) in (
+        select sched_name, trigger_name, trigger_group
+        from qrtz_triggers
+        where job_name = 'event_reminder'
+    );
+delete from qrtz_triggers where job_name = 'event_reminder';
+delete from qrtz_job_details where job_name = 'event_reminder';
@@ -0,0 +1,6 @@
+-- Reminder recipients are found by offset and then joined on the student, for both dispatch and stale window cleanup
+create index student_reminder_offsets_offset_student_index on student_reminder_offsets(reminder_offset_time, student_id);
+
+-- Per student window creation and student removal look offsets up by student, the composite index covers both
+create index student_reminder_offsets_student_offset_index on student_reminder_offsets(student_id, reminder_offset_time);
+drop index if exists student_reminder_offsets_student_id_index;
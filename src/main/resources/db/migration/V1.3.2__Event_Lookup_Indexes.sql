@@ -0,0 +1,12 @@
+-- Store the event status and type as native enums instead of free text
+create type event_status as enum ('DRAFT', 'ACTIVE', 'COMPLETED', 'DELETED');
+create type event_type as enum ('ASSIGNMENT', 'LAB', 'QUIZ', 'MIDTERM', 'EXAM', 'OTHER');
+alter table event
+    alter column status type event_status using status::event_status,
+    alter column type type event_type using type::event_type;
+
+-- Nearly every event lookup is for upcoming active events, completed and deleted events are left out of the index
+create index event_active_date_index on event(event_date) where status = 'ACTIVE';
+
+-- Button, reaction and message cleanup handlers find the event of a discord message
+create index event_message_id_index on event(message_id);
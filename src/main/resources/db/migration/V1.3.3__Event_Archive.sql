@@ -0,0 +1,34 @@
+-- Completed events past the retention age are moved out of the live tables into these archive tables.
+-- Course and student ids are kept without foreign keys so archived rows outlive the courses and students they reference
+create table event_archive (
+    id bigint primary key,
+    author_id bigint not null,
+    message_id bigint,
+    title text,
+    note text,
+    event_date timestamp not null,
+    type event_type not null,
+    creation_date timestamp not null,
+    archived_date timestamp not null
+);
+create index event_archive_event_date_index on event_archive(event_date);
+
+create table event_courses_archive (
+    event_id bigint not null,
+    course_id bigint not null,
+    constraint fk_event_courses_archive_event_id foreign key (event_id)
+        references event_archive(id),
+    constraint event_courses_archive_pk primary key (event_id, course_id)
+);
+create index event_courses_archive_course_id_index on event_courses_archive(course_id);
+
+create table student_completed_events_archive (
+    event_id bigint not null,
+    student_id bigint not null,
+    constraint fk_student_completed_events_archive_event_id foreign key (event_id)
+        references event_archive(id),
+    constraint student_completed_events_archive_pk primary key (event_id, student_id)
+);
+
+-- The archive job looks for completed events past the retention age
+create index event_completed_date_index on event(event_date) where status = 'COMPLETED';
@@ -0,0 +1,5 @@
+-- Course and event ids are handed out in blocks of 50 by the pooled optimizer,
+-- so the increment has to match the allocation size of the entities.
+-- The next block starts right after the last id already in use.
+alter sequence seq_course_id increment by 50;
+alter sequence seq_event_id increment by 50;
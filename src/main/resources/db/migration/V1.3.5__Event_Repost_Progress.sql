@@ -0,0 +1,11 @@
+-- Progress of reposting every active event to a new event channel, so a repost interrupted by a restart resumes where it stopped.
+-- Events are reposted in date order, the date and id of the last reposted event mark the position.
+-- The row is removed once the repost finishes
+create table event_repost (
+    channel_id bigint primary key,
+    last_event_date timestamp,
+    last_event_id bigint,
+    reposted integer not null default 0,
+    failed integer not null default 0,
+    started_date timestamp not null
+);
@@ -0,0 +1,3 @@
+-- Id of the direct message channel between the bot and a student, so reminders are sent to it without opening it first.
+-- Empty until the bot first messages the student
+alter table student add column private_channel_id bigint;
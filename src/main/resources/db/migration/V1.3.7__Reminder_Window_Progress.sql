@@ -0,0 +1,4 @@
+-- Id of the last student a reminder window was queued for, so a window with more recipients than fit in the
+-- direct message queue is queued over several ticks. Recipients are queued in id order.
+-- Empty until part of the window is queued
+alter table reminder_window add column last_student_id bigint;
@@ -0,0 +1,18 @@
+-- Outcome of every reminder direct message, so it is possible to tell which students missed a reminder.
+-- A row is added as QUEUED in the transaction that queues the reminder and updated once discord answers.
+-- Rows left QUEUED were never sent, for example because the bot restarted first
+create type reminder_delivery_status as enum ('QUEUED', 'SENT', 'BLOCKED', 'FAILED');
+
+create table reminder_delivery (
+    event_id bigint not null,
+    offset_time integer not null,
+    student_id bigint not null,
+    status reminder_delivery_status not null,
+    updated_date timestamp not null,
+    constraint fk_reminder_delivery_event_id foreign key (event_id)
+        references event(id) on delete cascade,
+    constraint fk_reminder_delivery_student_id foreign key (student_id)
+        references student(id) on delete cascade,
+    constraint reminder_delivery_pk primary key (event_id, offset_time, student_id)
+);
+create index reminder_delivery_student_id_index on reminder_delivery(student_id);
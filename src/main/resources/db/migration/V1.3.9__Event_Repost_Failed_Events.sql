@@ -0,0 +1,11 @@
+-- Events that failed to repost, they are sent again before the repost finishes.
+-- Kept with the repost so the retry also happens when the repost resumes after a restart
+create table event_repost_failed_events (
+    channel_id bigint not null,
+    event_id bigint not null,
+    constraint fk_event_repost_failed_events_channel_id foreign key (channel_id)
+        references event_repost(channel_id) on delete cascade,
+    constraint fk_event_repost_failed_events_event_id foreign key (event_id)
+        references event(id) on delete cascade,
+    constraint event_repost_failed_events_pk primary key (channel_id, event_id)
+);
@@ -1,8 +1,10 @@
 package com.th3hero.eventbot;
 
 import com.th3hero.eventbot.dto.config.ConfigUpload;
+import com.th3hero.eventbot.dto.course.CourseCatalog;
 import com.th3hero.eventbot.dto.course.CourseUpdate;
 import com.th3hero.eventbot.dto.course.CourseUpload;
+import com.th3hero.eventbot.dto.event.EventSummary;
 import com.th3hero.eventbot.entities.ConfigJpa;
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
@@ -26,6 +28,7 @@ import net.dv8tion.jda.internal.entities.UserImpl;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -95,7 +98,7 @@ public class TestEntities {
             .eventDate(TEST_DATE)
             .creationDate(TEST_DATE)
             .type(EventJpa.EventType.ASSIGNMENT)
-            .courses(new ArrayList<>(List.of()))
+            .courses(new LinkedHashSet<>())
             .status(EventStatus.DRAFT)
             .build();
     }
@@ -124,7 +127,7 @@ public class TestEntities {
             .note("Test Note%s".formatted(seed))
             .eventDate(TEST_DATE)
             .type(EventJpa.EventType.ASSIGNMENT)
-            .courses(new ArrayList<>(courses))
+            .courses(new LinkedHashSet<>(courses))
             .status(EventStatus.ACTIVE)
             .build();
     }
@@ -137,7 +140,7 @@ public class TestEntities {
             .note("Test Note%s".formatted(seed))
             .eventDate(TEST_DATE)
             .type(EventJpa.EventType.ASSIGNMENT)
-            .courses(new ArrayList<>(courses))
+            .courses(new LinkedHashSet<>(courses))
             .status(EventStatus.ACTIVE)
             .build();
     }
@@ -146,7 +149,7 @@ public class TestEntities {
         return StudentJpa.builder()
             .id(1234L + seed)
             .reminderOffsetTimes(new ArrayList<>(List.of(24, 72)))
-            .courses(new ArrayList<>(courses))
+            .courses(new LinkedHashSet<>(courses))
             .build();
     }
 
@@ -194,4 +197,23 @@ public class TestEntities {
             .addOptions(options)
             .build();
     }
+
+    public static CourseCatalog courseCatalog(int courseCount) {
+        List<SelectOption> options = new ArrayList<>();
+        for (int seed = 1; seed <= courseCount; seed++) {
+            CourseJpa course = courseJpa(seed);
+            options.add(SelectOption.of(course.getCode(), course.getCode()).withDescription(course.getName()));
+        }
+        return new CourseCatalog(1, options);
+    }
+
+    public static EventSummary eventSummary(int seed) {
+        return new EventSummary(
+            (long) seed,
+            "Test Event%s".formatted(seed),
+            TEST_DATE.plusDays(seed),
+            EventJpa.EventType.ASSIGNMENT,
+            1234L + seed
+        );
+    }
 }
@@ -32,7 +32,7 @@ class ButtonRequestTest {
         when(interactionEvent.getGuild())
             .thenReturn(guild);
 
-        final var request = ButtonRequest.fromInteraction(interactionEvent);
+        final var request = ButtonRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement());
 
         assertThat(request.getEvent()).isEqualTo(interactionEvent);
         assertThat(request.getRequester()).isEqualTo(member);
@@ -52,7 +52,7 @@ class ButtonRequestTest {
             .thenReturn("INVALID_ACTION-1234");
 
         assertThatExceptionOfType(IllegalInteractionException.class)
-            .isThrownBy(() -> ButtonRequest.fromInteraction(interactionEvent));
+            .isThrownBy(() -> ButtonRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement()));
     }
 
     @Test
@@ -72,7 +72,7 @@ class ButtonRequestTest {
             .thenReturn(guild);
 
         assertThatExceptionOfType(IllegalInteractionException.class)
-            .isThrownBy(() -> ButtonRequest.fromInteraction(interactionEvent))
+            .isThrownBy(() -> ButtonRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement()))
             .withMessage("Failed to parse arguments");
     }
 }
\ No newline at end of file
@@ -27,7 +27,7 @@ class CommandRequestTest {
         when(interactionEvent.getGuild())
             .thenReturn(guild);
 
-        final var request = CommandRequest.fromInteraction(interactionEvent);
+        final var request = CommandRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement());
 
         assertThat(request.getEvent()).isEqualTo(interactionEvent);
         assertThat(request.getRequester()).isEqualTo(member);
@@ -44,6 +44,6 @@ class CommandRequestTest {
             .thenReturn("NOT_A_COMMAND");
 
         assertThatExceptionOfType(IllegalInteractionException.class)
-            .isThrownBy(() -> CommandRequest.fromInteraction(interactionEvent));
+            .isThrownBy(() -> CommandRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement()));
     }
 }
\ No newline at end of file
@@ -28,7 +28,7 @@ class ModalRequestTest {
         when(interactionEvent.getGuild())
             .thenReturn(guild);
 
-        final var request = ModalRequest.fromInteraction(interactionEvent);
+        final var request = ModalRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement());
 
         assertThat(request.getEvent()).isEqualTo(interactionEvent);
         assertThat(request.getRequester()).isEqualTo(member);
@@ -45,7 +45,7 @@ class ModalRequestTest {
             .thenReturn("INVALID_ACTION-1234");
 
         assertThatExceptionOfType(IllegalInteractionException.class)
-            .isThrownBy(() -> ModalRequest.fromInteraction(interactionEvent));
+            .isThrownBy(() -> ModalRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement()));
     }
 
     @Test
@@ -62,7 +62,7 @@ class ModalRequestTest {
             .thenReturn(guild);
 
         assertThatExceptionOfType(IllegalInteractionException.class)
-            .isThrownBy(() -> ModalRequest.fromInteraction(interactionEvent))
+            .isThrownBy(() -> ModalRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement()))
             .withMessage("Failed to parse arguments");
     }
 }
\ No newline at end of file
@@ -32,7 +32,7 @@ class SelectionRequestTest {
         when(interactionEvent.getGuild())
             .thenReturn(guild);
 
-        final var request = SelectionRequest.fromInteraction(interactionEvent);
+        final var request = SelectionRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement());
 
         assertThat(request.getEvent()).isEqualTo(interactionEvent);
         assertThat(request.getRequester()).isEqualTo(member);
@@ -52,7 +52,7 @@ class SelectionRequestTest {
             .thenReturn("INVALID_ACTION-1234");
 
         assertThatExceptionOfType(IllegalInteractionException.class)
-            .isThrownBy(() -> SelectionRequest.fromInteraction(interactionEvent));
+            .isThrownBy(() -> SelectionRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement()));
     }
 
     @Test
@@ -72,7 +72,7 @@ class SelectionRequestTest {
             .thenReturn(guild);
 
         assertThatExceptionOfType(IllegalInteractionException.class)
-            .isThrownBy(() -> SelectionRequest.fromInteraction(interactionEvent))
+            .isThrownBy(() -> SelectionRequest.fromInteraction(interactionEvent, new InteractionAcknowledgement()))
             .withMessage("Failed to parse arguments");
     }
 }
\ No newline at end of file
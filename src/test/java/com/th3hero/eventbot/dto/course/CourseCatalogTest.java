@@ -0,0 +1,102 @@
+package com.th3hero.eventbot.dto.course;
+
+import com.th3hero.eventbot.TestEntities;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCatalogTest {
+
+    @Test
+    void options_sortedIgnoringCase() {
+        final var catalog = new CourseCatalog(1, List.of(
+            SelectOption.of("math101", "math101"),
+            SelectOption.of("COMP202", "COMP202"),
+            SelectOption.of("Biol110", "Biol110")
+        ));
+
+        assertThat(catalog.options()).extracting(SelectOption::getValue)
+            .containsExactly("Biol110", "COMP202", "math101");
+    }
+
+    @Test
+    void of_versionFromContent() {
+        final var options = List.of(
+            SelectOption.of("COMP202", "COMP202").withDescription("Programming"),
+            SelectOption.of("math101", "math101").withDescription("Calculus")
+        );
+
+        final var catalog = CourseCatalog.of(options);
+
+        assertThat(catalog.version()).isNotNegative();
+        assertThat(CourseCatalog.of(options.reversed()).version()).isEqualTo(catalog.version());
+        assertThat(CourseCatalog.of(options.subList(0, 1)).version()).isNotEqualTo(catalog.version());
+        assertThat(CourseCatalog.of(List.of(
+            SelectOption.of("COMP202", "COMP202").withDescription("Programming II"),
+            SelectOption.of("math101", "math101").withDescription("Calculus")
+        )).version()).isNotEqualTo(catalog.version());
+    }
+
+    @Test
+    void prefixRange() {
+        final var catalog = TestEntities.courseCatalog(30);
+
+        final var range = catalog.prefixRange("test2");
+
+        assertThat(catalog.options().subList(range.start(), range.end())).extracting(SelectOption::getValue)
+            .containsExactly("TEST2", "TEST20", "TEST21", "TEST22", "TEST23", "TEST24", "TEST25", "TEST26", "TEST27", "TEST28", "TEST29");
+    }
+
+    @Test
+    void prefixRange_noMatches() {
+        final var catalog = TestEntities.courseCatalog(30);
+
+        assertThat(catalog.prefixRange("MATH").isEmpty()).isTrue();
+        assertThat(catalog.prefixRange("TEST4").isEmpty()).isTrue();
+    }
+
+    @Test
+    void prefixRange_emptyPrefix() {
+        final var catalog = TestEntities.courseCatalog(30);
+
+        assertThat(catalog.prefixRange("")).isEqualTo(catalog.fullRange());
+    }
+
+    @Test
+    void createMenu_lastPage() {
+        final var catalog = TestEntities.courseCatalog(60);
+        final var range = catalog.fullRange();
+
+        final var menu = catalog.createMenu("MENU", range, 50, List.of("TEST9", "TEST1"), 0);
+
+        assertThat(menu.getOptions()).containsExactlyElementsOf(catalog.options().subList(50, 60));
+        assertThat(menu.getMaxValues()).isEqualTo(10);
+        assertThat(menu.getPlaceholder()).isEqualTo("Select Courses (51-60 of 60)");
+        assertThat(menu.getOptions().stream().filter(SelectOption::isDefault).map(SelectOption::getValue).toList())
+            .containsExactly("TEST9");
+    }
+
+    @Test
+    void range_clampPageStart() {
+        final var range = new CourseCatalog.Range(10, 70);
+
+        assertThat(range.clampPageStart(0)).isEqualTo(10);
+        assertThat(range.clampPageStart(40)).isEqualTo(35);
+        assertThat(range.clampPageStart(500)).isEqualTo(60);
+        assertThat(range.hasPreviousPage(10)).isFalse();
+        assertThat(range.hasNextPage(60)).isFalse();
+        assertThat(range.hasNextPage(35)).isTrue();
+    }
+
+    @Test
+    void contains() {
+        final var catalog = TestEntities.courseCatalog(30);
+
+        assertThat(catalog.contains(new CourseCatalog.Range(0, 30))).isTrue();
+        assertThat(catalog.contains(new CourseCatalog.Range(0, 31))).isFalse();
+        assertThat(catalog.contains(new CourseCatalog.Range(5, 4))).isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package com.th3hero.eventbot.dto.event;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.commands.actions.ButtonAction;
+import com.th3hero.eventbot.entities.EventJpa.EventType;
+import com.th3hero.eventbot.formatting.InteractionArguments;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewEventsFilterTest {
+
+    @Test
+    void arguments_roundTrip() {
+        final var filter = new ViewEventsFilter(7L, EventType.EXAM, LocalDateTime.of(2099, 1, 15, 10, 30, 0, 123_456_000), 10);
+        final var cursor = new EventSummary(42L, "Title", LocalDateTime.of(2099, 1, 2, 3, 4, 5, 678_901_000), EventType.EXAM, 1L);
+
+        final var buttonId = InteractionArguments.createInteractionIdString(ButtonAction.VIEW_EVENTS_NEXT, filter.toArguments(cursor));
+        final var arguments = InteractionArguments.parseArguments(
+            ButtonAction.VIEW_EVENTS_NEXT,
+            filter.toArguments(cursor).stream().map(String::valueOf).toList()
+        );
+
+        assertThat(buttonId).hasSizeLessThanOrEqualTo(100);
+        assertThat(ViewEventsFilter.fromArguments(arguments)).isEqualTo(filter);
+        final var parsedCursor = ViewEventsFilter.cursorFromArguments(arguments);
+        assertThat(parsedCursor.id()).isEqualTo(cursor.id());
+        assertThat(parsedCursor.eventDate()).isEqualTo(cursor.eventDate());
+    }
+
+    @Test
+    void arguments_noFilters() {
+        final var filter = new ViewEventsFilter(ViewEventsFilter.STUDENT_COURSES, null, null, 25);
+
+        final var arguments = InteractionArguments.parseArguments(
+            ButtonAction.VIEW_EVENTS_PREVIOUS,
+            filter.toArguments(TestEntities.eventSummary(1)).stream().map(String::valueOf).toList()
+        );
+
+        final var parsed = ViewEventsFilter.fromArguments(arguments);
+        assertThat(parsed).isEqualTo(filter);
+        assertThat(parsed.types()).isEqualTo(EnumSet.allOf(EventType.class));
+        assertThat(parsed.maxDateOrLatest()).isAfter(TestEntities.TEST_DATE);
+    }
+}
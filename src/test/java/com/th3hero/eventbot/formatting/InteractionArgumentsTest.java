@@ -29,6 +29,19 @@ class InteractionArgumentsTest {
         });
     }
 
+    @Test
+    void createInteractionIdString_multipleIds() {
+        var result = InteractionArguments.createInteractionIdString(TestInteractionEnum.TEST_INTERACTION_TWO, List.of(1L, 2L));
+        assertThat(result).isEqualTo("TEST_INTERACTION_TWO-1-2");
+    }
+
+    @Test
+    void createInteractionIdString_wrongNumberOfIds() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+            InteractionArguments.createInteractionIdString(TestInteractionEnum.TEST_INTERACTION_TWO, List.of(1L));
+        });
+    }
+
     @Test
     void parseArguments() {
         var action = TestInteractionEnum.TEST_INTERACTION_TWO;
@@ -0,0 +1,30 @@
+package com.th3hero.eventbot.jobs;
+
+import com.th3hero.eventbot.services.EventArchiveService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveEventsJobTest {
+    @Mock
+    private EventArchiveService eventArchiveService;
+
+    @InjectMocks
+    private ArchiveEventsJob archiveEventsJob;
+
+    @Test
+    void execute() {
+        final JobExecutionContext executionContext = mock(JobExecutionContext.class);
+
+        archiveEventsJob.execute(executionContext);
+
+        verify(eventArchiveService).archiveCompletedEvents();
+    }
+}
@@ -3,6 +3,7 @@ package com.th3hero.eventbot.jobs;
 import com.th3hero.eventbot.TestEntities;
 import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.EventJpa.EventStatus;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
 import com.th3hero.eventbot.repositories.EventRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.quartz.Trigger;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -19,12 +21,15 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class CompleteEventsJobTest {
     @Mock
     private EventRepository eventRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private CompleteEventsJob completeEventsJob;
@@ -47,6 +52,7 @@ class CompleteEventsJobTest {
         completeEventsJob.execute(executionContext);
 
         assertEquals(EventStatus.COMPLETED, event.getStatus());
+        verify(applicationEventPublisher).publishEvent(new UpdatedEventMessageEvent(event.getId(), null));
     }
 
     @Test
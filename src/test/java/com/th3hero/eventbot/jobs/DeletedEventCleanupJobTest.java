@@ -8,13 +8,10 @@ import com.th3hero.eventbot.repositories.EventRepository;
 import com.th3hero.eventbot.services.ConfigService;
 import jakarta.persistence.EntityNotFoundException;
 import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.requests.restaction.AuditableRestAction;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -53,10 +50,8 @@ class DeletedEventCleanupJobTest {
         dataMap.put(DeletedEventCleanupJob.EVENT_ID, event.getId());
         dataMap.put(DeletedEventCleanupJob.DELETION_MESSAGE_ID, deletionMessageId);
         final var channel = mock(TextChannel.class);
-        final RestAction<Message> messageRestAction = mock(RestAction.class);
-        final var eventMessage = mock(Message.class);
-        final var recoveryMessage = mock(Message.class);
-        final AuditableRestAction<Void> deleteRestAction = mock(AuditableRestAction.class);
+        final AuditableRestAction<Void> eventDeleteAction = mock(AuditableRestAction.class);
+        final AuditableRestAction<Void> recoveryDeleteAction = mock(AuditableRestAction.class);
 
         when(executionContext.getTrigger())
             .thenReturn(trigger);
@@ -68,30 +63,17 @@ class DeletedEventCleanupJobTest {
             .thenReturn(config);
         when(jda.getTextChannelById(config.getEventChannel()))
             .thenReturn(channel);
-        when(channel.retrieveMessageById(event.getMessageId()))
-            .thenReturn(messageRestAction);
-        when(channel.retrieveMessageById(deletionMessageId))
-            .thenReturn(messageRestAction);
-        when(eventMessage.delete())
-            .thenReturn(deleteRestAction);
-        when(recoveryMessage.delete())
-            .thenReturn(deleteRestAction);
+        when(channel.deleteMessageById(event.getMessageId()))
+            .thenReturn(eventDeleteAction);
+        when(channel.deleteMessageById(deletionMessageId))
+            .thenReturn(recoveryDeleteAction);
 
         deletedEventCleanupJob.execute(executionContext);
 
-        final ArgumentCaptor<Consumer<Message>> eventMessageCaptor = ArgumentCaptor.forClass(Consumer.class);
-        verify(channel.retrieveMessageById(event.getMessageId()), times(2))
-            .queue(eventMessageCaptor.capture(), any(Consumer.class));
-        final Consumer<Message> eventMessageValue = eventMessageCaptor.getValue();
-        eventMessageValue.accept(eventMessage);
-        verify(eventMessage).delete();
-
-        final ArgumentCaptor<Consumer<Message>> recoveryMessageCaptor = ArgumentCaptor.forClass(Consumer.class);
-        verify(channel.retrieveMessageById(deletionMessageId), times(2))
-            .queue(recoveryMessageCaptor.capture(), any(Consumer.class));
-        final Consumer<Message> recoveryMessageValue = recoveryMessageCaptor.getValue();
-        recoveryMessageValue.accept(recoveryMessage);
-        verify(recoveryMessage).delete();
+        verify(eventRepository).delete(event);
+        verify(eventDeleteAction).queue(any(Consumer.class), any(Consumer.class));
+        verify(recoveryDeleteAction).queue(any(Consumer.class), any(Consumer.class));
+        verify(channel, never()).retrieveMessageById(anyLong());
     }
 
     @Test
@@ -0,0 +1,30 @@
+package com.th3hero.eventbot.jobs;
+
+import com.th3hero.eventbot.services.ReminderService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderDispatchJobTest {
+    @Mock
+    private ReminderService reminderService;
+
+    @InjectMocks
+    private ReminderDispatchJob reminderDispatchJob;
+
+    @Test
+    void execute() {
+        final JobExecutionContext executionContext = mock(JobExecutionContext.class);
+
+        reminderDispatchJob.execute(executionContext);
+
+        verify(reminderService).dispatchDueReminders();
+    }
+}
@@ -0,0 +1,118 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.entities.ArchivedEventJpa;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.EventJpa.EventStatus;
+import com.th3hero.eventbot.entities.StudentJpa;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.th3hero.eventbot.TestEntities.TEST_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArchivedEventRepositoryTest {
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void archiveCompletedEvents() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo));
+
+        EventJpa old = TestEntities.eventJpa(1, List.of(courseOne, courseTwo));
+        old.setStatus(EventStatus.COMPLETED);
+        EventJpa recent = TestEntities.eventJpa(2, List.of(courseOne));
+        recent.setStatus(EventStatus.COMPLETED);
+        recent.setEventDate(TEST_DATE.plusDays(2));
+        EventJpa active = TestEntities.eventJpa(3, List.of(courseOne));
+        eventRepository.saveAllAndFlush(List.of(old, recent, active));
+
+        StudentJpa student = TestEntities.studentJpa(1, List.of(courseOne));
+        student.getCompletedEvents().add(old);
+        student.getCompletedEvents().add(recent);
+        studentRepository.saveAndFlush(student);
+        entityManager.clear();
+
+        ArchivedEventRepository.ArchivedRows rows = archivedEventRepository.archiveCompletedEvents(TEST_DATE.plusDays(1), 10);
+        entityManager.clear();
+
+        assertThat(rows.getEvents()).isEqualTo(1);
+        assertThat(rows.getCourses()).isEqualTo(2);
+        assertThat(rows.getCompletions()).isEqualTo(1);
+        assertThat(eventRepository.findById(old.getId())).isEmpty();
+        assertThat(eventRepository.findById(recent.getId())).isPresent();
+        assertThat(eventRepository.findById(active.getId())).isPresent();
+        assertThat(studentRepository.hasCompletedEvent(student.getId(), old.getId())).isFalse();
+        assertThat(studentRepository.hasCompletedEvent(student.getId(), recent.getId())).isTrue();
+
+        ArchivedEventJpa archived = archivedEventRepository.findById(old.getId()).orElseThrow();
+        assertThat(archived.getTitle()).isEqualTo(old.getTitle());
+        assertThat(archived.getEventDate()).isEqualTo(TEST_DATE);
+        assertThat(archived.getType()).isEqualTo(old.getType());
+        assertThat(archived.getCourseIds()).containsExactlyInAnyOrder(courseOne.getId(), courseTwo.getId());
+    }
+
+    @Test
+    void archiveCompletedEvents_limitedToBatchSize() {
+        CourseJpa course = TestEntities.courseJpa(1);
+        courseRepository.saveAndFlush(course);
+
+        List<EventJpa> events = List.of(
+            TestEntities.eventJpa(1, List.of(course)),
+            TestEntities.eventJpa(2, List.of(course)),
+            TestEntities.eventJpa(3, List.of(course))
+        );
+        events.forEach(event -> event.setStatus(EventStatus.COMPLETED));
+        eventRepository.saveAllAndFlush(events);
+        entityManager.clear();
+
+        ArchivedEventRepository.ArchivedRows first = archivedEventRepository.archiveCompletedEvents(TEST_DATE.plusDays(1), 2);
+        ArchivedEventRepository.ArchivedRows second = archivedEventRepository.archiveCompletedEvents(TEST_DATE.plusDays(1), 2);
+
+        assertThat(first.getEvents()).isEqualTo(2);
+        assertThat(second.getEvents()).isEqualTo(1);
+        assertThat(archivedEventRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void findAllByCourse() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo));
+
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(courseOne));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(courseTwo));
+        eventOne.setStatus(EventStatus.COMPLETED);
+        eventTwo.setStatus(EventStatus.COMPLETED);
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo));
+        archivedEventRepository.archiveCompletedEvents(TEST_DATE.plusDays(1), 10);
+        entityManager.clear();
+
+        List<ArchivedEventJpa> archived = archivedEventRepository.findAllByCourse(
+            courseTwo.getId(), TEST_DATE.minusDays(1), TEST_DATE.plusDays(1), PageRequest.ofSize(10)
+        ).getContent();
+
+        assertThat(archived).extracting(ArchivedEventJpa::getId).containsExactly(eventTwo.getId());
+    }
+}
@@ -0,0 +1,102 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.config.JdbcTimingSessionListener;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.EventJpa;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the statements and throughput of bulk writes, like a course import or moving many events at once.
+ * Ids come from pooled sequences and rows are sent in batches, so the statement count grows with the number of batches
+ * instead of the number of rows.
+ */
+@Slf4j
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BulkWriteBenchmarkTest {
+    private static final int BATCH_SIZE = 50;
+    private static final int COURSES = 500;
+    private static final int EVENTS = 200;
+
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void bulkCourseImport() {
+        List<CourseJpa> courses = IntStream.range(0, COURSES)
+            .mapToObj(TestEntities::courseJpa)
+            .toList();
+
+        Measurement measurement = measure(COURSES, () -> {
+            courseRepository.saveAll(courses);
+            entityManager.flush();
+        });
+
+        log.info("Imported {} courses: {}", COURSES, measurement);
+        // One sequence call per block of ids and one insert per batch, with room for the first block of a fresh sequence
+        assertThat(measurement.statements()).isLessThanOrEqualTo(2L * COURSES / BATCH_SIZE + 2);
+        assertThat(courseRepository.count()).isEqualTo(COURSES);
+    }
+
+    @Test
+    void bulkEventWrites() {
+        List<CourseJpa> courses = courseRepository.saveAllAndFlush(List.of(TestEntities.courseJpa(1), TestEntities.courseJpa(2)));
+        List<EventJpa> events = IntStream.range(0, EVENTS)
+            .mapToObj(seed -> TestEntities.eventJpa(seed, courses))
+            .toList();
+
+        Measurement inserts = measure(EVENTS, () -> {
+            eventRepository.saveAll(events);
+            entityManager.flush();
+        });
+
+        log.info("Inserted {} events with {} courses each: {}", EVENTS, courses.size(), inserts);
+        // Sequence blocks, event batches and the batches of the two course rows of every event
+        int eventBatches = EVENTS / BATCH_SIZE;
+        assertThat(inserts.statements()).isLessThanOrEqualTo(eventBatches + eventBatches + courses.size() * eventBatches + 2L);
+
+        Measurement updates = measure(EVENTS, () -> {
+            events.forEach(event -> event.setEventDate(event.getEventDate().plusDays(1)));
+            entityManager.flush();
+        });
+
+        log.info("Updated {} events: {}", EVENTS, updates);
+        assertThat(updates.statements()).isEqualTo(eventBatches);
+    }
+
+    private static Measurement measure(int rows, Runnable work) {
+        long statementsBefore = JdbcTimingSessionListener.threadJdbcStatements();
+        long start = System.nanoTime();
+        work.run();
+        long nanos = System.nanoTime() - start;
+        return new Measurement(rows, JdbcTimingSessionListener.threadJdbcStatements() - statementsBefore, nanos);
+    }
+
+    private record Measurement(int rows, long statements, long nanos) {
+        double rowsPerSecond() {
+            return rows * 1_000_000_000d / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return "%d statements in %d ms, %.0f rows/s".formatted(statements, nanos / 1_000_000, rowsPerSecond());
+        }
+    }
+}
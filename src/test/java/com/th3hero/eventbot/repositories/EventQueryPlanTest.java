@@ -0,0 +1,186 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.EventJpa.EventType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the query plans of the hot event lookups against a seeded database with realistic row counts.
+ * The SQL Hibernate generates for each repository method is captured and explained, so the check follows changes to the queries.
+ * Most events are completed and in the past, the active events are the most recent ones,
+ * which is how the table looks once the bot has been running for a few terms.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.th3hero.eventbot.repositories.EventQueryPlanTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventQueryPlanTest {
+    private static final int COURSES = 200;
+    private static final int EVENTS = 50_000;
+    private static final int ACTIVE_EVENTS = 1_000;
+    private static final long MESSAGE_ID_OFFSET = 100_000;
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private List<Long> courseIds;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createNativeQuery("""
+            insert into course (id, code, name)
+                select nextval('seq_course_id'), 'PLAN' || g, 'Plan Course ' || g
+                from generate_series(1, :courses) g
+            """)
+            .setParameter("courses", COURSES)
+            .executeUpdate();
+        entityManager.createNativeQuery("""
+            insert into event (id, author_id, message_id, title, event_date, type, creation_date, status)
+                select nextval('seq_event_id'), 1, :messageIdOffset + g, 'Plan Event ' || g,
+                    localtimestamp + (g - :completedEvents) * interval '1 hour', 'ASSIGNMENT'::event_type, localtimestamp,
+                    (case when g > :completedEvents then 'ACTIVE' else 'COMPLETED' end)::event_status
+                from generate_series(1, :events) g
+            """)
+            .setParameter("messageIdOffset", MESSAGE_ID_OFFSET)
+            .setParameter("completedEvents", EVENTS - ACTIVE_EVENTS)
+            .setParameter("events", EVENTS)
+            .executeUpdate();
+        entityManager.createNativeQuery("""
+            insert into event_courses (event_jpa_id, courses_id)
+                select e.id, c.id
+                from event e
+                join course c on c.code in ('PLAN' || (e.message_id % :courses + 1), 'PLAN' || ((e.message_id + 7) % :courses + 1))
+                where e.message_id > :messageIdOffset
+            """)
+            .setParameter("courses", COURSES)
+            .setParameter("messageIdOffset", MESSAGE_ID_OFFSET)
+            .executeUpdate();
+        entityManager.createNativeQuery("analyze course, event, event_courses").executeUpdate();
+
+        List<?> ids = entityManager.createNativeQuery("select id from course where code in ('PLAN1', 'PLAN2')").getResultList();
+        courseIds = ids.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    @Test
+    void findAllActive_usesActiveIndex() {
+        String plan = explain(() -> eventRepository.findAllActive());
+
+        assertThat(plan).contains("event_active_date_index");
+        assertNoSequentialScan(plan);
+    }
+
+    @Test
+    void findByMessageId_usesMessageIdIndex() {
+        String plan = explain(() -> eventRepository.findByMessageId(MESSAGE_ID_OFFSET + EVENTS / 2));
+
+        assertThat(plan).contains("event_message_id_index");
+        assertNoSequentialScan(plan);
+    }
+
+    @Test
+    void findAllByCourse_noSequentialScan() {
+        List<CourseJpa> courses = entityManager.createQuery("select c from CourseJpa c where c.id in :ids", CourseJpa.class)
+            .setParameter("ids", courseIds)
+            .getResultList();
+
+        String plan = explain(() -> eventRepository.findAllByCourse(courses));
+
+        assertNoSequentialScan(plan);
+    }
+
+    @Test
+    void findSummariesAfter_noSequentialScan() {
+        LocalDateTime now = LocalDateTime.now();
+
+        String plan = explain(() -> eventRepository.findSummariesAfter(
+            courseIds, EnumSet.allOf(EventType.class), now, now.plusDays(30), now, 0L, PageRequest.ofSize(25)
+        ));
+
+        assertNoSequentialScan(plan);
+    }
+
+    @Test
+    void findSummariesBefore_noSequentialScan() {
+        LocalDateTime now = LocalDateTime.now();
+
+        String plan = explain(() -> eventRepository.findSummariesBefore(
+            courseIds, EnumSet.allOf(EventType.class), now, now.plusDays(30), now.plusDays(30), Long.MAX_VALUE, PageRequest.ofSize(25)
+        ));
+
+        assertNoSequentialScan(plan);
+    }
+
+    /**
+     * Runs a repository method and explains the first statement Hibernate generated for it.
+     * The statement is prepared with its parameters left in place and explained with a generic plan,
+     * which is the plan the database falls back to for a statement that is run over and over.
+     */
+    private String explain(Runnable query) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.run();
+        assertThat(CapturingStatementInspector.STATEMENTS).isNotEmpty();
+        String sql = CapturingStatementInspector.STATEMENTS.getFirst();
+
+        AtomicInteger parameters = new AtomicInteger();
+        String prepared = PARAMETER.matcher(sql).replaceAll(match -> "\\$" + parameters.incrementAndGet());
+        String arguments = parameters.get() == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters.get(), "null")) + ")";
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            StringJoiner plan = new StringJoiner("\n");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set local plan_cache_mode = force_generic_plan");
+                statement.execute("prepare plan_query as " + prepared);
+                try (ResultSet rows = statement.executeQuery("explain execute plan_query" + arguments)) {
+                    while (rows.next()) {
+                        plan.add(rows.getString(1));
+                    }
+                }
+                statement.execute("deallocate plan_query");
+            }
+            return "%s%n%s".formatted(sql, plan);
+        });
+    }
+
+    private static void assertNoSequentialScan(String plan) {
+        assertThat(plan)
+            .as("Query plan:%n%s", plan)
+            .doesNotContain("Seq Scan on event ");
+    }
+
+    /**
+     * Keeps the SQL of every statement Hibernate prepares, so the plan of the real query can be checked.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
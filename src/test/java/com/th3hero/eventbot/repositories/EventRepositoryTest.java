@@ -1,19 +1,26 @@
 package com.th3hero.eventbot.repositories;
 
 import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.config.JdbcTimingSessionListener;
+import com.th3hero.eventbot.dto.event.EventSummary;
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.EventJpa.EventStatus;
+import com.th3hero.eventbot.entities.EventJpa.EventType;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
+import static com.th3hero.eventbot.TestEntities.TEST_DATE;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -111,6 +118,64 @@ class EventRepositoryTest {
         assertThat(events).containsExactlyInAnyOrder(eventOne, eventThree);
     }
 
+    @Test
+    void findActiveIdsAfter() {
+        EventJpa eventOne = TestEntities.eventJpa(1);
+        eventOne.setEventDate(TEST_DATE.plusDays(1));
+        EventJpa eventTwo = TestEntities.eventJpa(2);
+        EventJpa eventThree = TestEntities.eventJpa(3);
+        eventThree.setStatus(EventStatus.DELETED);
+        EventJpa eventFour = TestEntities.eventJpa(4);
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo, eventThree, eventFour));
+        entityManager.clear();
+
+        List<Long> firstPage = eventRepository.findActiveIdsAfter(TEST_DATE.minusYears(1), 0L, PageRequest.ofSize(2));
+        List<Long> secondPage = eventRepository.findActiveIdsAfter(TEST_DATE, firstPage.getLast(), PageRequest.ofSize(2));
+
+        // Events are ordered by date first, so the later event comes last even though it was created first
+        assertThat(firstPage).containsExactly(eventTwo.getId(), eventFour.getId());
+        assertThat(secondPage).containsExactly(eventOne.getId());
+        assertThat(eventRepository.countActiveAfter(TEST_DATE, firstPage.getLast())).isEqualTo(1);
+    }
+
+    @Test
+    void findAllWithCoursesByIdIn() {
+        CourseJpa course = TestEntities.courseJpa(1);
+        courseRepository.saveAndFlush(course);
+
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(course));
+        eventOne.setEventDate(TEST_DATE.plusDays(1));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(course));
+        EventJpa eventThree = TestEntities.eventJpa(3, List.of(course));
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo, eventThree));
+        entityManager.clear();
+
+        List<EventJpa> events = eventRepository.findAllWithCoursesByIdIn(List.of(eventOne.getId(), eventTwo.getId()));
+
+        assertThat(events).containsExactly(eventTwo, eventOne);
+        assertThat(events).allSatisfy(event -> assertThat(Hibernate.isInitialized(event.getCourses())).isTrue());
+    }
+
+    @Test
+    void findActiveEventMessages() {
+        EventJpa eventOne = TestEntities.eventJpa(1);
+        EventJpa eventTwo = TestEntities.eventJpa(2);
+        eventTwo.setStatus(EventStatus.DELETED);
+        EventJpa eventThree = TestEntities.eventJpa(3);
+        eventThree.setMessageId(null);
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo, eventThree));
+        entityManager.clear();
+
+        List<EventRepository.EventMessage> eventMessages = eventRepository.findActiveEventMessages();
+
+        assertThat(eventMessages).singleElement().satisfies(eventMessage -> {
+            assertThat(eventMessage.getEventId()).isEqualTo(eventOne.getId());
+            assertThat(eventMessage.getMessageId()).isEqualTo(eventOne.getMessageId());
+        });
+        assertThat(eventRepository.findActiveMessageIdById(eventOne.getId())).contains(eventOne.getMessageId());
+        assertThat(eventRepository.findActiveMessageIdById(eventTwo.getId())).isEmpty();
+    }
+
     @Test
     void findEventJpaByMessageId() {
         Long targetEventId = 1111L;
@@ -142,4 +207,79 @@ class EventRepositoryTest {
         assertThat(event).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void findSummariesAfter() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo));
+
+        // Every event shares the same date so the id decides the order, one event has both courses
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(courseOne, courseTwo));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(courseOne));
+        EventJpa eventThree = TestEntities.eventJpa(3, List.of(courseTwo));
+        EventJpa eventFour = TestEntities.eventJpa(4, List.of(courseOne));
+        eventFour.setStatus(EventStatus.COMPLETED);
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo, eventThree, eventFour));
+        entityManager.clear();
+
+        List<EventSummary> firstPage = eventRepository.findSummariesAfter(
+            List.of(courseOne.getId(), courseTwo.getId()), EnumSet.allOf(EventType.class), TEST_DATE, TEST_DATE, TEST_DATE, 0L, PageRequest.ofSize(2)
+        );
+        List<EventSummary> secondPage = eventRepository.findSummariesAfter(
+            List.of(courseOne.getId(), courseTwo.getId()), EnumSet.allOf(EventType.class), TEST_DATE, TEST_DATE, TEST_DATE, firstPage.getLast().id(), PageRequest.ofSize(2)
+        );
+
+        assertThat(firstPage).extracting(EventSummary::id).containsExactly(eventOne.getId(), eventTwo.getId());
+        assertThat(secondPage).extracting(EventSummary::id).containsExactly(eventThree.getId());
+        assertThat(secondPage.getFirst()).isEqualTo(
+            new EventSummary(eventThree.getId(), eventThree.getTitle(), TEST_DATE, EventType.ASSIGNMENT, eventThree.getMessageId())
+        );
+    }
+
+    @Test
+    void findSummariesBefore() {
+        CourseJpa course = TestEntities.courseJpa(1);
+        courseRepository.saveAndFlush(course);
+
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(course));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(course));
+        EventJpa eventThree = TestEntities.eventJpa(3, List.of(course));
+        eventThree.setType(EventType.QUIZ);
+        EventJpa eventFour = TestEntities.eventJpa(4, List.of(course));
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo, eventThree, eventFour));
+        entityManager.clear();
+
+        List<EventSummary> events = eventRepository.findSummariesBefore(
+            List.of(course.getId()), EnumSet.of(EventType.ASSIGNMENT), TEST_DATE, TEST_DATE, TEST_DATE, eventFour.getId(), PageRequest.ofSize(5)
+        );
+
+        assertThat(events).extracting(EventSummary::id).containsExactly(eventTwo.getId(), eventOne.getId());
+    }
+
+    @Test
+    void updateCourses_onlyWritesChangedRows() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        CourseJpa courseThree = TestEntities.courseJpa(3);
+        CourseJpa courseFour = TestEntities.courseJpa(4);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo, courseThree, courseFour));
+
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(courseOne, courseTwo, courseThree)));
+        entityManager.clear();
+
+        EventJpa loaded = eventRepository.findById(event.getId()).orElseThrow();
+        List<CourseJpa> selected = List.of(courseOne, courseTwo, courseFour);
+        final long statementsBefore = JdbcTimingSessionListener.threadJdbcStatements();
+
+        loaded.getCourses().retainAll(selected);
+        loaded.getCourses().addAll(selected);
+        entityManager.flush();
+
+        final long statements = JdbcTimingSessionListener.threadJdbcStatements() - statementsBefore;
+        entityManager.clear();
+
+        assertThat(statements).isEqualTo(2);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCourses())
+            .containsExactly(courseOne, courseTwo, courseFour);
+    }
+}
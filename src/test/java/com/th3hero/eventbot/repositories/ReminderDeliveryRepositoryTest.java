@@ -0,0 +1,94 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa;
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryStatus;
+import com.th3hero.eventbot.entities.StudentJpa;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReminderDeliveryRepositoryTest {
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private ReminderDeliveryRepository reminderDeliveryRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertQueued() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        StudentJpa studentOne = TestEntities.studentJpa(1, List.of(course));
+        StudentJpa studentTwo = TestEntities.studentJpa(2, List.of(course));
+        studentRepository.saveAllAndFlush(List.of(studentOne, studentTwo));
+        entityManager.clear();
+
+        int inserted = reminderDeliveryRepository.insertQueued(event.getId(), 24, List.of(studentOne.getId(), studentTwo.getId()), LocalDateTime.now());
+
+        assertThat(inserted).isEqualTo(2);
+        assertThat(reminderDeliveryRepository.findAll())
+            .allMatch(delivery -> delivery.getStatus() == DeliveryStatus.QUEUED);
+    }
+
+    @Test
+    void insertQueued_existingDelivery() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        StudentJpa student = studentRepository.saveAndFlush(TestEntities.studentJpa(1, List.of(course)));
+        reminderDeliveryRepository.insertQueued(event.getId(), 24, List.of(student.getId()), LocalDateTime.now());
+        reminderDeliveryRepository.updateStatus(event.getId(), 24, List.of(student.getId()), DeliveryStatus.FAILED, LocalDateTime.now());
+        entityManager.clear();
+
+        int inserted = reminderDeliveryRepository.insertQueued(event.getId(), 24, List.of(student.getId()), LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(reminderDeliveryRepository.findAll())
+            .singleElement()
+            .extracting(ReminderDeliveryJpa::getStatus)
+            .isEqualTo(DeliveryStatus.QUEUED);
+    }
+
+    @Test
+    void updateStatus() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        StudentJpa studentOne = TestEntities.studentJpa(1, List.of(course));
+        StudentJpa studentTwo = TestEntities.studentJpa(2, List.of(course));
+        studentRepository.saveAllAndFlush(List.of(studentOne, studentTwo));
+        reminderDeliveryRepository.insertQueued(event.getId(), 24, List.of(studentOne.getId(), studentTwo.getId()), LocalDateTime.now());
+        reminderDeliveryRepository.insertQueued(event.getId(), 1, List.of(studentOne.getId()), LocalDateTime.now());
+        entityManager.clear();
+
+        int updated = reminderDeliveryRepository.updateStatus(event.getId(), 24, List.of(studentOne.getId()), DeliveryStatus.SENT, LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reminderDeliveryRepository.findAllUndelivered(event.getId()))
+            .extracting(delivery -> delivery.getId().getOffsetTime(), delivery -> delivery.getId().getStudentId())
+            .containsExactly(
+                tuple(1, studentOne.getId()),
+                tuple(24, studentTwo.getId())
+            );
+    }
+}
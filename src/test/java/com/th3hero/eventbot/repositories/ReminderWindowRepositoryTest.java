@@ -0,0 +1,174 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.ReminderWindowJpa;
+import com.th3hero.eventbot.entities.StudentJpa;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReminderWindowRepositoryTest {
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private ReminderWindowRepository reminderWindowRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void insertWindowsForEvent() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        StudentJpa studentOne = TestEntities.studentJpa(1, List.of(course));
+        StudentJpa studentTwo = TestEntities.studentJpa(2, List.of(course));
+        studentTwo.getReminderOffsetTimes().add(1);
+        studentRepository.saveAllAndFlush(List.of(studentOne, studentTwo));
+        entityManager.clear();
+
+        int created = reminderWindowRepository.insertWindowsForEvent(event.getId(), LocalDateTime.now());
+
+        assertThat(created).isEqualTo(3);
+        assertThat(reminderWindowRepository.findAll())
+            .extracting(window -> window.getId().getOffsetTime())
+            .containsExactlyInAnyOrder(1, 24, 72);
+        assertThat(reminderWindowRepository.findAll())
+            .allMatch(window -> window.getFireTime().equals(event.getEventDate().minusHours(window.getId().getOffsetTime())));
+    }
+
+    @Test
+    void insertWindowsForEvent_existingWindows() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        studentRepository.saveAndFlush(TestEntities.studentJpa(1, List.of(course)));
+        entityManager.clear();
+
+        reminderWindowRepository.insertWindowsForEvent(event.getId(), LocalDateTime.now());
+        int created = reminderWindowRepository.insertWindowsForEvent(event.getId(), LocalDateTime.now());
+
+        assertThat(created).isZero();
+        assertThat(reminderWindowRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void insertWindowsForStudent() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo));
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(courseOne));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(courseTwo));
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo));
+        StudentJpa student = studentRepository.saveAndFlush(TestEntities.studentJpa(1, List.of(courseOne)));
+        entityManager.clear();
+
+        int created = reminderWindowRepository.insertWindowsForStudent(student.getId(), LocalDateTime.now());
+
+        assertThat(created).isEqualTo(2);
+        assertThat(reminderWindowRepository.findAll())
+            .allMatch(window -> window.getId().getEventId().equals(eventOne.getId()));
+    }
+
+    @Test
+    void findAllDue() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        LocalDateTime now = LocalDateTime.now();
+        ReminderWindowJpa due = ReminderWindowJpa.create(event.getId(), 72, now.minusMinutes(1));
+        ReminderWindowJpa notDue = ReminderWindowJpa.create(event.getId(), 24, now.plusMinutes(1));
+        reminderWindowRepository.saveAllAndFlush(List.of(due, notDue));
+        entityManager.clear();
+
+        List<ReminderWindowJpa> windows = reminderWindowRepository.findAllDue(now);
+
+        assertThat(windows).containsExactly(due);
+    }
+
+    @Test
+    void updateFireTimesForEvent() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        ReminderWindowJpa moved = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(48));
+        ReminderWindowJpa unchanged = ReminderWindowJpa.create(event.getId(), 72, event.getEventDate().minusHours(72));
+        reminderWindowRepository.saveAllAndFlush(List.of(moved, unchanged));
+        entityManager.clear();
+
+        int updated = reminderWindowRepository.updateFireTimesForEvent(event.getId());
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reminderWindowRepository.findAll())
+            .allMatch(window -> window.getFireTime().equals(event.getEventDate().minusHours(window.getId().getOffsetTime())));
+    }
+
+    @Test
+    void deleteStaleWindowsForEvent() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        studentRepository.saveAndFlush(TestEntities.studentJpa(1, List.of(course)));
+        LocalDateTime now = LocalDateTime.now();
+        ReminderWindowJpa kept = ReminderWindowJpa.create(event.getId(), 24, now.plusHours(1));
+        ReminderWindowJpa inPast = ReminderWindowJpa.create(event.getId(), 72, now.minusHours(1));
+        ReminderWindowJpa noRecipients = ReminderWindowJpa.create(event.getId(), 5, now.plusHours(1));
+        reminderWindowRepository.saveAllAndFlush(List.of(kept, inPast, noRecipients));
+        entityManager.clear();
+
+        int removed = reminderWindowRepository.deleteStaleWindowsForEvent(event.getId(), now);
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(reminderWindowRepository.findAll()).containsExactly(kept);
+    }
+
+    @Test
+    void deleteStaleWindowsForCourses() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo));
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(courseOne));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(courseTwo));
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo));
+        studentRepository.saveAndFlush(TestEntities.studentJpa(1, List.of(courseTwo)));
+        LocalDateTime now = LocalDateTime.now();
+        ReminderWindowJpa abandoned = ReminderWindowJpa.create(eventOne.getId(), 24, now.plusHours(1));
+        ReminderWindowJpa otherCourse = ReminderWindowJpa.create(eventTwo.getId(), 5, now.plusHours(1));
+        reminderWindowRepository.saveAllAndFlush(List.of(abandoned, otherCourse));
+        entityManager.clear();
+
+        int removed = reminderWindowRepository.deleteStaleWindowsForCourses(List.of(courseOne.getId()), now);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(reminderWindowRepository.findAll()).containsExactly(otherCourse);
+    }
+
+    @Test
+    void deleteAllByEventId() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(course));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(course));
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo));
+        ReminderWindowJpa windowOne = ReminderWindowJpa.create(eventOne.getId(), 24, LocalDateTime.now());
+        ReminderWindowJpa windowTwo = ReminderWindowJpa.create(eventTwo.getId(), 24, LocalDateTime.now());
+        reminderWindowRepository.saveAllAndFlush(List.of(windowOne, windowTwo));
+        entityManager.clear();
+
+        int removed = reminderWindowRepository.deleteAllByEventId(eventOne.getId());
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(reminderWindowRepository.findAll()).containsExactly(windowTwo);
+    }
+}
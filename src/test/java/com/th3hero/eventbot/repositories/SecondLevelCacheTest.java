@@ -0,0 +1,139 @@
+package com.th3hero.eventbot.repositories;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.StudentJpa;
+import com.th3hero.eventbot.services.EntityCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a surrounding test transaction so every lookup commits and goes through the second level cache like it does in the bot.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EntityCacheService.class, SimpleMeterRegistry.class})
+class SecondLevelCacheTest {
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EntityCacheService entityCacheService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void course_findByCodeIn_servedFromQueryCache() {
+        CourseJpa course = courseRepository.save(TestEntities.courseJpa(1));
+        statistics.clear();
+
+        courseRepository.findByCodeIn(List.of(course.getCode()));
+        List<CourseJpa> courses = courseRepository.findByCodeIn(List.of(course.getCode()));
+
+        assertThat(courses).containsExactly(course);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void course_findByNaturalCode_servedFromCache() {
+        CourseJpa course = courseRepository.save(TestEntities.courseJpa(1));
+        transactionTemplate.executeWithoutResult(status -> courseRepository.findByNaturalCode(course.getCode()));
+        statistics.clear();
+
+        CourseJpa found = transactionTemplate.execute(status -> courseRepository.findByNaturalCode(course.getCode()).orElseThrow());
+
+        assertThat(found).isEqualTo(course);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void student_withCourses_servedFromCache() {
+        CourseJpa courseOne = courseRepository.save(TestEntities.courseJpa(1));
+        CourseJpa courseTwo = courseRepository.save(TestEntities.courseJpa(2));
+        StudentJpa student = studentRepository.save(TestEntities.studentJpa(1, List.of(courseOne, courseTwo)));
+        transactionTemplate.executeWithoutResult(status -> studentRepository.findById(student.getId()).orElseThrow().getCourses().size());
+        statistics.clear();
+
+        List<CourseJpa> courses = transactionTemplate.execute(status ->
+            List.copyOf(studentRepository.findById(student.getId()).orElseThrow().getCourses())
+        );
+
+        assertThat(courses).containsExactly(courseOne, courseTwo);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(meterRegistry.get("eventbot.cache.hit.ratio").tag("region", StudentJpa.CACHE_REGION).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void evictStudent() {
+        CourseJpa course = courseRepository.save(TestEntities.courseJpa(1));
+        StudentJpa student = studentRepository.save(TestEntities.studentJpa(1, List.of(course)));
+        transactionTemplate.executeWithoutResult(status -> studentRepository.findById(student.getId()).orElseThrow().getCourses().size());
+
+        entityCacheService.evictStudent(student.getId());
+
+        assertThat(entityManagerFactory.getCache().contains(StudentJpa.class, student.getId())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(CourseJpa.class, course.getId())).isTrue();
+    }
+
+    @Test
+    void evictCourses() {
+        CourseJpa course = courseRepository.save(TestEntities.courseJpa(1));
+        courseRepository.findByCodeIn(List.of(course.getCode()));
+
+        entityCacheService.evictCourses();
+
+        assertThat(entityManagerFactory.getCache().contains(CourseJpa.class, course.getId())).isFalse();
+        statistics.clear();
+        courseRepository.findByCodeIn(List.of(course.getCode()));
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+}
@@ -1,7 +1,9 @@
 package com.th3hero.eventbot.repositories;
 
 import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.config.JdbcTimingSessionListener;
 import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.StudentJpa;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,6 +26,8 @@ class StudentRepositoryTest {
     @Autowired
     private StudentRepository studentRepository;
     @Autowired
+    private EventRepository eventRepository;
+    @Autowired
     private EntityManager entityManager;
 
     @Test
@@ -61,4 +66,152 @@ class StudentRepositoryTest {
 
         assertThat(students).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllIds() {
+        StudentJpa studentOne = TestEntities.studentJpa(1, List.of());
+        StudentJpa studentTwo = TestEntities.studentJpa(2, List.of());
+        studentRepository.saveAllAndFlush(List.of(studentOne, studentTwo));
+        entityManager.clear();
+
+        List<Long> ids = studentRepository.findAllIds();
+
+        assertThat(ids).containsExactlyInAnyOrder(studentOne.getId(), studentTwo.getId());
+    }
+
+    @Test
+    void findAllPrivateChannels() {
+        StudentJpa studentOne = TestEntities.studentJpa(1, List.of());
+        StudentJpa studentTwo = TestEntities.studentJpa(2, List.of());
+        studentOne.setPrivateChannelId(555L);
+        studentRepository.saveAllAndFlush(List.of(studentOne, studentTwo));
+        entityManager.clear();
+
+        List<StudentRepository.StudentChannel> channels = studentRepository.findAllPrivateChannels();
+
+        assertThat(channels).singleElement().satisfies(channel -> {
+            assertThat(channel.getStudentId()).isEqualTo(studentOne.getId());
+            assertThat(channel.getChannelId()).isEqualTo(555L);
+        });
+    }
+
+    @Test
+    void findReminderRecipients() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo));
+
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(courseOne)));
+
+        StudentJpa studentOne = TestEntities.studentJpa(1, List.of(courseOne));
+        StudentJpa studentTwo = TestEntities.studentJpa(2, List.of(courseOne, courseTwo));
+        StudentJpa otherCourse = TestEntities.studentJpa(3, List.of(courseTwo));
+        StudentJpa otherOffset = TestEntities.studentJpa(4, List.of(courseOne));
+        otherOffset.getReminderOffsetTimes().remove(Integer.valueOf(24));
+        StudentJpa completed = TestEntities.studentJpa(5, List.of(courseOne));
+        completed.getCompletedEvents().add(event);
+
+        studentRepository.saveAllAndFlush(List.of(studentOne, studentTwo, otherCourse, otherOffset, completed));
+        entityManager.clear();
+
+        List<Long> recipients = studentRepository.findReminderRecipients(event.getId(), 24, 0L, 10);
+
+        assertThat(recipients).containsExactlyInAnyOrder(studentOne.getId(), studentTwo.getId());
+    }
+
+    @Test
+    void findReminderRecipients_paged() {
+        CourseJpa course = courseRepository.saveAndFlush(TestEntities.courseJpa(1));
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        List<StudentJpa> students = studentRepository.saveAllAndFlush(List.of(
+            TestEntities.studentJpa(1, List.of(course)),
+            TestEntities.studentJpa(2, List.of(course)),
+            TestEntities.studentJpa(3, List.of(course))
+        ));
+        entityManager.clear();
+
+        List<Long> firstPage = studentRepository.findReminderRecipients(event.getId(), 24, 0L, 2);
+        List<Long> secondPage = studentRepository.findReminderRecipients(event.getId(), 24, firstPage.getLast(), 2);
+
+        assertThat(firstPage).hasSize(2).isSorted();
+        assertThat(secondPage).hasSize(1);
+        assertThat(Stream.concat(firstPage.stream(), secondPage.stream()))
+            .containsExactlyInAnyOrderElementsOf(students.stream().map(StudentJpa::getId).toList());
+    }
+
+    @Test
+    void reminderOffsetIndexes() {
+        List<?> indexes = entityManager.createNativeQuery("select indexname from pg_indexes where tablename = 'student_reminder_offsets'")
+            .getResultList();
+
+        assertThat(indexes)
+            .contains("student_reminder_offsets_offset_student_index", "student_reminder_offsets_student_offset_index")
+            .doesNotContain("student_reminder_offsets_student_id_index");
+    }
+
+    @Test
+    void updateCollections_onlyWritesChangedRows() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        CourseJpa courseThree = TestEntities.courseJpa(3);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo, courseThree));
+
+        EventJpa eventOne = TestEntities.eventJpa(1, List.of(courseOne));
+        EventJpa eventTwo = TestEntities.eventJpa(2, List.of(courseOne));
+        eventRepository.saveAllAndFlush(List.of(eventOne, eventTwo));
+
+        StudentJpa student = TestEntities.studentJpa(1, List.of(courseOne, courseTwo));
+        student.getCompletedEvents().add(eventOne);
+        studentRepository.saveAndFlush(student);
+        entityManager.clear();
+
+        StudentJpa loaded = studentRepository.findById(student.getId()).orElseThrow();
+        loaded.getCourses().size();
+        loaded.getCompletedEvents().size();
+        final long statementsBefore = JdbcTimingSessionListener.threadJdbcStatements();
+
+        loaded.getCompletedEvents().add(eventTwo);
+        loaded.getCourses().add(courseThree);
+        entityManager.flush();
+
+        final long statements = JdbcTimingSessionListener.threadJdbcStatements() - statementsBefore;
+
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void takesCourseOnEvent() {
+        CourseJpa courseOne = TestEntities.courseJpa(1);
+        CourseJpa courseTwo = TestEntities.courseJpa(2);
+        courseRepository.saveAllAndFlush(List.of(courseOne, courseTwo));
+
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(courseOne)));
+        StudentJpa inCourse = TestEntities.studentJpa(1, List.of(courseOne, courseTwo));
+        StudentJpa otherCourse = TestEntities.studentJpa(2, List.of(courseTwo));
+        studentRepository.saveAllAndFlush(List.of(inCourse, otherCourse));
+        entityManager.clear();
+
+        assertThat(studentRepository.takesCourseOnEvent(inCourse.getId(), event.getId())).isTrue();
+        assertThat(studentRepository.takesCourseOnEvent(otherCourse.getId(), event.getId())).isFalse();
+        assertThat(studentRepository.takesCourseOnEvent(3L, event.getId())).isFalse();
+    }
+
+    @Test
+    void addAndRemoveCompletedEvent() {
+        CourseJpa course = TestEntities.courseJpa(1);
+        courseRepository.saveAndFlush(course);
+
+        EventJpa event = eventRepository.saveAndFlush(TestEntities.eventJpa(1, List.of(course)));
+        StudentJpa student = studentRepository.saveAndFlush(TestEntities.studentJpa(1, List.of(course)));
+        entityManager.clear();
+
+        assertThat(studentRepository.hasCompletedEvent(student.getId(), event.getId())).isFalse();
+        assertThat(studentRepository.addCompletedEvent(student.getId(), event.getId())).isEqualTo(1);
+        assertThat(studentRepository.addCompletedEvent(student.getId(), event.getId())).isZero();
+        assertThat(studentRepository.hasCompletedEvent(student.getId(), event.getId())).isTrue();
+
+        assertThat(studentRepository.removeCompletedEvent(student.getId(), event.getId())).isEqualTo(1);
+        assertThat(studentRepository.removeCompletedEvent(student.getId(), event.getId())).isZero();
+        assertThat(studentRepository.hasCompletedEvent(student.getId(), event.getId())).isFalse();
+    }
+}
@@ -0,0 +1,303 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.dto.config.ConfigUpdate;
+import com.th3hero.eventbot.entities.ConfigJpa;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.StudentJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentEvent;
+import com.th3hero.eventbot.listeners.handlers.MemberHandler;
+import com.th3hero.eventbot.repositories.ConfigRepository;
+import com.th3hero.eventbot.repositories.CourseRepository;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the cache services of the test context next to a second application context standing in for another instance of the bot.
+ * The second context holds its own connection pool, second level cache and listener connection to the same database,
+ * and leaves out discord and quartz since only the caches are under test.
+ * Runs without a surrounding test transaction so notifications are delivered on commit like they are in the bot,
+ * and with the second level cache enabled so evictions can be seen.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+    CacheInvalidationBus.class,
+    ConfigService.class,
+    EntityCacheService.class,
+    CourseCatalogService.class,
+    EventMessageIndex.class,
+    MemberHandler.class,
+    MemberCacheService.class,
+    SimpleMeterRegistry.class
+})
+class CacheInvalidationBusIT {
+    private static final long DELIVERY_TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private ConfigRepository configRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    @Autowired
+    private ConfigService configService;
+    @Autowired
+    private MemberHandler memberHandler;
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private ConfigurableApplicationContext otherInstance;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        configRepository.save(TestEntities.configJpa());
+
+        // The bus of the test context keeps listening across tests until the context is closed
+        cacheInvalidationBus.start();
+        // The bus of the other instance is listening once the context has started
+        otherInstance = new SpringApplicationBuilder(OtherInstance.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.profiles.active=test",
+                // The test context already migrated the database
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=true",
+                // A cache manager of its own, otherwise both contexts would share the second level cache of the default manager
+                "--spring.jpa.properties.hibernate.javax.cache.uri=application.conf"
+            );
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherInstance.close();
+        eventRepository.deleteAll();
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+        configRepository.deleteAll();
+        configService.invalidateConfigCache();
+    }
+
+    @Test
+    void configChange_evictsOtherInstance() throws InterruptedException {
+        final var otherConfigService = otherInstance.getBean(ConfigService.class);
+        final var staleServerId = otherConfigService.getConfigJpa().getServerId();
+
+        configService.updateConfig(new ConfigUpdate(staleServerId + 1, null, null, null));
+
+        awaitDelivery(() -> otherConfigService.getConfigJpa().getServerId().equals(staleServerId + 1));
+        assertThat(meterRegistry.get("eventbot.cache.invalidations").tags("direction", "sent", "type", "CONFIG").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void coursesChange_evictsOtherInstance() throws InterruptedException {
+        final var course = courseRepository.save(TestEntities.courseJpa(1));
+        final var otherCatalogService = otherInstance.getBean(CourseCatalogService.class);
+        final var staleVersion = otherCatalogService.getCatalog().version();
+        loadOnOtherInstance(course);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            courseRepository.save(TestEntities.courseJpa(2));
+            applicationEventPublisher.publishEvent(new UpdatedCoursesEvent());
+        });
+
+        awaitDelivery(() -> otherCatalogService.getCatalog().version() != staleVersion);
+        assertThat(otherCatalogService.getCatalog().options())
+            .extracting(SelectOption::getValue)
+            .containsExactly("TEST1", "TEST2");
+        assertThat(otherCache().contains(CourseJpa.class, course.getId())).isFalse();
+    }
+
+    @Test
+    void studentChange_evictsOtherInstance() throws InterruptedException {
+        final var student = studentRepository.save(TestEntities.studentJpa(1, List.of()));
+        final var courseStudent = studentRepository.save(TestEntities.studentJpa(2, List.of()));
+        final var unchangedStudent = studentRepository.save(TestEntities.studentJpa(3, List.of()));
+        loadOnOtherInstance(student);
+        loadOnOtherInstance(courseStudent);
+        loadOnOtherInstance(unchangedStudent);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(new UpdatedStudentEvent(student.getId()));
+            applicationEventPublisher.publishEvent(new UpdatedStudentCoursesEvent(courseStudent.getId(), Set.of()));
+        });
+
+        awaitDelivery(() -> !otherCache().contains(StudentJpa.class, student.getId())
+            && !otherCache().contains(StudentJpa.class, courseStudent.getId()));
+        assertThat(otherCache().contains(StudentJpa.class, unchangedStudent.getId())).isTrue();
+    }
+
+    @Test
+    void studentRemoved_evictsOtherInstance() throws InterruptedException {
+        final var student = studentRepository.save(TestEntities.studentJpa(1, List.of()));
+        loadOnOtherInstance(student);
+        final var user = mock(User.class);
+        final var event = mock(GuildMemberRemoveEvent.class);
+
+        when(user.getIdLong())
+            .thenReturn(student.getId());
+        when(user.getName())
+            .thenReturn("student");
+        when(event.getUser())
+            .thenReturn(user);
+
+        memberHandler.handleRemovedMember(event);
+
+        awaitDelivery(() -> !otherCache().contains(StudentJpa.class, student.getId()));
+        assertThat(otherInstance.getBean(StudentRepository.class).findById(student.getId())).isEmpty();
+    }
+
+    @Test
+    void eventMessageChange_refreshesOtherInstance() throws InterruptedException {
+        final var otherEventMessageIndex = otherInstance.getBean(EventMessageIndex.class);
+
+        final EventJpa event = transactionTemplate.execute(status -> {
+            EventJpa saved = eventRepository.save(TestEntities.eventJpa(1));
+            applicationEventPublisher.publishEvent(new UpdatedEventMessageEvent(saved.getId(), saved.getMessageId()));
+            return saved;
+        });
+
+        awaitDelivery(() -> otherEventMessageIndex.findEventId(event.getMessageId()).isPresent());
+        assertThat(otherEventMessageIndex.findEventId(event.getMessageId())).hasValue(event.getId());
+    }
+
+    @Test
+    void change_fromOtherInstance() throws InterruptedException {
+        final var staleServerId = configService.getConfigJpa().getServerId();
+
+        otherInstance.getBean(ConfigService.class).updateConfig(new ConfigUpdate(staleServerId + 1, null, null, null));
+
+        awaitDelivery(() -> configService.getConfigJpa().getServerId().equals(staleServerId + 1));
+        assertThat(meterRegistry.get("eventbot.cache.invalidations").tags("direction", "received", "type", "CONFIG").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void change_rolledBack() throws InterruptedException {
+        final var course = courseRepository.save(TestEntities.courseJpa(1));
+        final var otherCatalogService = otherInstance.getBean(CourseCatalogService.class);
+        final var catalog = otherCatalogService.getCatalog();
+        loadOnOtherInstance(course);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            courseRepository.save(TestEntities.courseJpa(2));
+            applicationEventPublisher.publishEvent(new UpdatedCoursesEvent());
+            status.setRollbackOnly();
+        });
+
+        TimeUnit.MILLISECONDS.sleep(1000);
+        assertThat(otherCatalogService.getCatalog()).isSameAs(catalog);
+        assertThat(otherCache().contains(CourseJpa.class, course.getId())).isTrue();
+    }
+
+    @Test
+    void receive_malformedPayload() {
+        final var otherCatalogService = otherInstance.getBean(CourseCatalogService.class);
+        final var catalog = otherCatalogService.getCatalog();
+        final var otherCacheInvalidationBus = otherInstance.getBean(CacheInvalidationBus.class);
+
+        otherCacheInvalidationBus.receive("not an invalidation");
+        otherCacheInvalidationBus.receive("instance:UNKNOWN");
+        otherCacheInvalidationBus.receive("instance:COURSES:abc");
+
+        assertThat(otherCatalogService.getCatalog()).isSameAs(catalog);
+    }
+
+    private void loadOnOtherInstance(CourseJpa course) {
+        new TransactionTemplate(otherInstance.getBean(PlatformTransactionManager.class))
+            .executeWithoutResult(status -> otherInstance.getBean(CourseRepository.class).findById(course.getId()));
+        assertThat(otherCache().contains(CourseJpa.class, course.getId())).isTrue();
+    }
+
+    private void loadOnOtherInstance(StudentJpa student) {
+        new TransactionTemplate(otherInstance.getBean(PlatformTransactionManager.class))
+            .executeWithoutResult(status -> otherInstance.getBean(StudentRepository.class).findById(student.getId()));
+        assertThat(otherCache().contains(StudentJpa.class, student.getId())).isTrue();
+    }
+
+    private Cache otherCache() {
+        return otherInstance.getBean(EntityManagerFactory.class).getCache();
+    }
+
+    private static void awaitDelivery(BooleanSupplier delivered) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DELIVERY_TIMEOUT_MILLIS);
+        while (!delivered.getAsBoolean() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertThat(delivered.getAsBoolean()).as("change delivered within %d ms", DELIVERY_TIMEOUT_MILLIS).isTrue();
+    }
+
+    /**
+     * The cache services of another instance of the bot on top of the JPA setup.
+     * Not a configuration class, so the test context does not pick it up in place of the application.
+     */
+    @AutoConfigureDataJpa
+    @EntityScan(basePackageClasses = ConfigJpa.class)
+    @EnableJpaRepositories(basePackageClasses = ConfigRepository.class)
+    @Import({
+        CacheInvalidationBus.class,
+        ConfigService.class,
+        EntityCacheService.class,
+        CourseCatalogService.class,
+        EventMessageIndex.class,
+        SimpleMeterRegistry.class
+    })
+    static class OtherInstance {
+    }
+}
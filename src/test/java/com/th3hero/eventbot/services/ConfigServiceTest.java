@@ -3,15 +3,19 @@ package com.th3hero.eventbot.services;
 import com.th3hero.eventbot.TestEntities;
 import com.th3hero.eventbot.dto.config.ConfigUpdate;
 import com.th3hero.eventbot.entities.ConfigJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedConfigEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedEventChannelEvent;
 import com.th3hero.eventbot.repositories.ConfigRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 
@@ -26,10 +30,18 @@ class ConfigServiceTest {
     private ConfigRepository configRepository;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private ConfigService configService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        configService = new ConfigService(configRepository, applicationEventPublisher, transactionManager, meterRegistry);
+    }
+
     @Test
     void getConfigJpa() {
         final ConfigJpa configJpa = TestEntities.configJpa();
@@ -42,6 +54,36 @@ class ConfigServiceTest {
         assertThat(result).isEqualTo(configJpa);
     }
 
+    @Test
+    void getConfigJpa_cached() {
+        final ConfigJpa configJpa = TestEntities.configJpa();
+
+        when(configRepository.findAll())
+            .thenReturn(List.of(configJpa));
+
+        configService.getConfigJpa();
+        final var result = configService.getConfigJpa();
+
+        assertThat(result).isEqualTo(configJpa);
+        verify(configRepository, times(1)).findAll();
+        assertThat(meterRegistry.get("eventbot.config.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.config.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getConfigJpa_invalidated() {
+        final ConfigJpa configJpa = TestEntities.configJpa();
+
+        when(configRepository.findAll())
+            .thenReturn(List.of(configJpa));
+
+        configService.getConfigJpa();
+        configService.invalidateConfigCache(new UpdatedConfigEvent());
+        configService.getConfigJpa();
+
+        verify(configRepository, times(2)).findAll();
+    }
+
     @Test
     void getConfigJpa_noConfig() {
         when(configRepository.findAll())
@@ -116,6 +158,8 @@ class ConfigServiceTest {
 
         final var result = configService.updateConfig(configUpdate);
 
+        verify(applicationEventPublisher).publishEvent(new UpdatedEventChannelEvent(configUpdate.eventChannel()));
+        verify(applicationEventPublisher, times(2)).publishEvent(any(UpdatedConfigEvent.class));
         verify(configRepository, times(2)).save(argThat(config ->
             config.getServerId().equals(configUpdate.serverId()) &&
             config.getEventChannel().equals(configUpdate.eventChannel()) &&
@@ -193,4 +237,24 @@ class ConfigServiceTest {
         assertThat(result).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void updateConfig_refreshesCachedConfig() {
+        final var cachedConfig = TestEntities.configJpa();
+        final var updatedConfig = TestEntities.configJpa();
+        updatedConfig.setServerId(69420L);
+
+        when(configRepository.findAll())
+            .thenReturn(List.of(cachedConfig))
+            .thenReturn(List.of(updatedConfig));
+        when(configRepository.save(any(ConfigJpa.class)))
+            .thenAnswer(i -> i.getArgument(0));
+
+        configService.getConfigJpa();
+        configService.updateConfig(new ConfigUpdate(69420L, null, null, null));
+        final var result = configService.getConfigJpa();
+
+        assertThat(result).isSameAs(updatedConfig);
+        verify(applicationEventPublisher).publishEvent(any(UpdatedConfigEvent.class));
+    }
+
+}
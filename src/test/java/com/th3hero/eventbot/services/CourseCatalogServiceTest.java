@@ -0,0 +1,80 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.dto.course.CourseCatalog;
+import com.th3hero.eventbot.listeners.events.UpdatedCoursesEvent;
+import com.th3hero.eventbot.repositories.CourseRepository;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseCatalogServiceTest {
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CourseCatalogService courseCatalogService;
+
+    @Test
+    void getCatalog() {
+        final var courseOne = TestEntities.courseJpa(1);
+        final var courseTwo = TestEntities.courseJpa(2);
+
+        when(courseRepository.findAll(any(Sort.class)))
+            .thenReturn(List.of(courseOne, courseTwo));
+
+        final var catalog = courseCatalogService.getCatalog();
+
+        assertThat(catalog.version()).isEqualTo(CourseCatalog.of(List.of(
+            SelectOption.of(courseOne.getCode(), courseOne.getCode()).withDescription(courseOne.getName()),
+            SelectOption.of(courseTwo.getCode(), courseTwo.getCode()).withDescription(courseTwo.getName())
+        )).version());
+        assertThat(catalog.options()).extracting(SelectOption::getValue)
+            .containsExactly(courseOne.getCode(), courseTwo.getCode());
+        assertThat(catalog.options()).extracting(SelectOption::getDescription)
+            .containsExactly(courseOne.getName(), courseTwo.getName());
+    }
+
+    @Test
+    void getCatalog_cached() {
+        when(courseRepository.findAll(any(Sort.class)))
+            .thenReturn(List.of(TestEntities.courseJpa(1)));
+
+        final var first = courseCatalogService.getCatalog();
+        final var second = courseCatalogService.getCatalog();
+
+        assertThat(second).isSameAs(first);
+        verify(courseRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void rebuildCatalog() {
+        final var courseOne = TestEntities.courseJpa(1);
+        final var courseTwo = TestEntities.courseJpa(2);
+
+        when(courseRepository.findAll(any(Sort.class)))
+            .thenReturn(List.of(courseOne))
+            .thenReturn(List.of(courseOne, courseTwo));
+
+        final var previous = courseCatalogService.getCatalog();
+        courseCatalogService.rebuildCatalog(new UpdatedCoursesEvent());
+        final var catalog = courseCatalogService.getCatalog();
+
+        assertThat(catalog.version()).isNotEqualTo(previous.version());
+        assertThat(catalog.options()).hasSize(2);
+    }
+}
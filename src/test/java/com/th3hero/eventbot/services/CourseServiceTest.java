@@ -1,30 +1,46 @@
 package com.th3hero.eventbot.services;
 
 import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.commands.actions.SelectionAction;
+import com.th3hero.eventbot.commands.requests.ButtonRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
+import com.th3hero.eventbot.commands.requests.ModalRequest;
 import com.th3hero.eventbot.commands.requests.SelectionRequest;
+import com.th3hero.eventbot.dto.course.CourseCatalog;
 import com.th3hero.eventbot.dto.course.CourseUpdate;
 import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedCoursesEvent;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentCoursesEvent;
 import com.th3hero.eventbot.repositories.CourseRepository;
 import com.th3hero.eventbot.repositories.EventRepository;
 import jakarta.persistence.EntityNotFoundException;
 import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.components.LayoutComponent;
+import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
 import net.dv8tion.jda.api.requests.restaction.interactions.AutoCompleteCallbackAction;
 import net.dv8tion.jda.internal.entities.UserImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.th3hero.eventbot.formatting.InteractionArguments.*;
+import static com.th3hero.eventbot.utils.DiscordFieldsUtils.SEARCH;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,11 +52,13 @@ class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
     @Mock
+    private EventRepository eventRepository;
+    @Mock
     private StudentService studentService;
     @Mock
-    private EventRepository eventRepository;
+    private CourseCatalogService courseCatalogService;
     @Mock
-    private SchedulingService schedulingService;
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private CourseService courseService;
@@ -67,6 +85,7 @@ class CourseServiceTest {
             TestEntities.courseJpa(2).toDto(),
             TestEntities.courseJpa(3).toDto()
         );
+        verify(applicationEventPublisher).publishEvent(any(UpdatedCoursesEvent.class));
     }
 
     @Test
@@ -95,6 +114,7 @@ class CourseServiceTest {
             course.getCode().equals(courseUpdate.code()) &&
                 course.getName().equals(courseUpdate.name())
         ));
+        verify(applicationEventPublisher).publishEvent(any(UpdatedCoursesEvent.class));
     }
 
     @Test
@@ -108,6 +128,7 @@ class CourseServiceTest {
         assertThatExceptionOfType(EntityNotFoundException.class)
             .isThrownBy(() -> courseService.updateCourse(courseId, courseUpdate));
         verify(courseRepository, never()).save(any());
+        verify(applicationEventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -162,6 +183,7 @@ class CourseServiceTest {
 
         verify(studentService).removeCourseFromAllStudents(courseJpa);
         verify(courseRepository).deleteById(courseId);
+        verify(applicationEventPublisher).publishEvent(any(UpdatedCoursesEvent.class));
     }
 
     @Test
@@ -178,29 +200,186 @@ class CourseServiceTest {
     }
 
     @Test
-    void createCourseSelectionMenu() {
-        final var menuId = "MENU";
+    void createCoursePicker() {
         final var courseOne = TestEntities.courseJpa(1);
         final var courseTwo = TestEntities.courseJpa(2);
         final var courseThree = TestEntities.courseJpa(3);
-        final var courses = List.of(courseOne, courseTwo, courseThree);
 
-        when(courseRepository.findAll())
-            .thenReturn(courses);
+        when(courseCatalogService.getCatalog())
+            .thenReturn(TestEntities.courseCatalog(3));
 
-        final var menu = courseService.createCourseSelectionMenu(menuId, List.of(courseTwo));
+        final var rows = courseService.createCoursePicker(SelectionAction.DRAFT_CREATION, 5L, List.of(courseTwo));
 
-        assertThat(menu.getId()).isEqualTo(menuId);
-        assertThat(menu.getOptions().stream().map(SelectOption::getLabel).toList()).containsExactlyInAnyOrder(
+        assertThat(rows).hasSize(1);
+        final var menu = (StringSelectMenu) rows.getFirst().getComponents().getFirst();
+        assertThat(menu.getId()).isEqualTo("DRAFT_CREATION-5");
+        assertThat(menu.getMinValues()).isEqualTo(1);
+        assertThat(menu.getOptions().stream().map(SelectOption::getLabel).toList()).containsExactly(
             courseOne.getCode(),
             courseTwo.getCode(),
             courseThree.getCode()
         );
-        assertThat(menu.getOptions().stream().map(SelectOption::getDescription).toList()).containsExactlyInAnyOrder(
+        assertThat(menu.getOptions().stream().map(SelectOption::getDescription).toList()).containsExactly(
             courseOne.getName(),
             courseTwo.getName(),
             courseThree.getName()
         );
+        assertThat(menu.getOptions().stream().filter(SelectOption::isDefault).map(SelectOption::getValue).toList())
+            .containsExactly(courseTwo.getCode());
+    }
+
+    @Test
+    void createCoursePicker_paginated() {
+        final var catalog = TestEntities.courseCatalog(60);
+
+        when(courseCatalogService.getCatalog())
+            .thenReturn(catalog);
+
+        final var rows = courseService.createCoursePicker(SelectionAction.SELECT_COURSES, 0L, List.of());
+
+        assertThat(rows).hasSize(2);
+        final var menu = (StringSelectMenu) rows.getFirst().getComponents().getFirst();
+        assertThat(menu.getId()).isEqualTo("SELECT_COURSES");
+        assertThat(menu.getMinValues()).isZero();
+        assertThat(menu.getOptions()).containsExactlyElementsOf(catalog.options().subList(0, CourseCatalog.PAGE_SIZE));
+
+        final var buttons = rows.get(1).getComponents().stream().map(Button.class::cast).toList();
+        assertThat(buttons).extracting(Button::getId).containsExactly(
+            "COURSE_PAGE-0-0-1-0-60-0",
+            "COURSE_SEARCH-0-0",
+            "COURSE_PAGE-0-0-1-0-60-25"
+        );
+        assertThat(buttons).extracting(Button::isDisabled).containsExactly(true, false, false);
+    }
+
+    @Test
+    void createCoursePicker_noCourses() {
+        when(courseCatalogService.getCatalog())
+            .thenReturn(new CourseCatalog(1, List.of()));
+
+        assertThatExceptionOfType(EntityNotFoundException.class)
+            .isThrownBy(() -> courseService.createCoursePicker(SelectionAction.SELECT_COURSES, 0L, List.of()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void sendCoursePage() {
+        final var request = mock(ButtonRequest.class);
+        final var draft = TestEntities.eventJpaWithId(1);
+
+        when(request.getArguments())
+            .thenReturn(pageArguments(SelectionAction.EDIT_DRAFT_COURSES, draft.getId(), 1L, 0, 60, 50));
+        when(courseCatalogService.getCatalog())
+            .thenReturn(TestEntities.courseCatalog(60));
+        when(eventRepository.findById(draft.getId()))
+            .thenReturn(Optional.of(draft));
+
+        courseService.sendCoursePage(request);
+
+        final ArgumentCaptor<Collection<LayoutComponent>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(request).editComponents(captor.capture());
+        final var menu = (StringSelectMenu) captor.getValue().iterator().next().getComponents().getFirst();
+        assertThat(menu.getId()).isEqualTo("EDIT_DRAFT_COURSES-%d".formatted(draft.getId()));
+        assertThat(menu.getOptions()).hasSize(10);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void sendCoursePage_outdatedCatalog() {
+        final var request = mock(ButtonRequest.class);
+        final var student = TestEntities.studentJpa(1, List.of());
+        final var member = TestEntities.member();
+        final var catalog = TestEntities.courseCatalog(60);
+
+        when(request.getArguments())
+            .thenReturn(pageArguments(SelectionAction.SELECT_COURSES, 0L, 0L, 5, 10, 5));
+        when(request.getRequester())
+            .thenReturn(member);
+        when(courseCatalogService.getCatalog())
+            .thenReturn(catalog);
+        when(studentService.fetchStudent(member.getIdLong()))
+            .thenReturn(student);
+
+        courseService.sendCoursePage(request);
+
+        final ArgumentCaptor<Collection<LayoutComponent>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(request).editComponents(captor.capture());
+        final var menu = (StringSelectMenu) captor.getValue().iterator().next().getComponents().getFirst();
+        assertThat(menu.getOptions()).containsExactlyElementsOf(catalog.options().subList(0, CourseCatalog.PAGE_SIZE));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void searchCourses() {
+        final var request = mock(ModalRequest.class);
+        final var event = mock(ModalInteractionEvent.class);
+        final var student = TestEntities.studentJpa(1, List.of());
+        final var member = TestEntities.member();
+        final var searchMapping = TestEntities.modalMapping(SEARCH, "test1");
+
+        when(request.getArguments())
+            .thenReturn(Map.of(TARGET, (long) SelectionAction.SELECT_COURSES.ordinal(), TARGET_ID, 0L));
+        when(request.getEvent())
+            .thenReturn(event);
+        when(request.getRequester())
+            .thenReturn(member);
+        when(event.getValue(SEARCH))
+            .thenReturn(searchMapping);
+        when(courseCatalogService.getCatalog())
+            .thenReturn(TestEntities.courseCatalog(60));
+        when(studentService.fetchStudent(member.getIdLong()))
+            .thenReturn(student);
+
+        courseService.searchCourses(request);
+
+        final ArgumentCaptor<Collection<LayoutComponent>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(request).editComponents(captor.capture());
+        final var menu = (StringSelectMenu) captor.getValue().iterator().next().getComponents().getFirst();
+        assertThat(menu.getOptions()).extracting(SelectOption::getValue)
+            .containsExactly("TEST1", "TEST10", "TEST11", "TEST12", "TEST13", "TEST14", "TEST15", "TEST16", "TEST17", "TEST18", "TEST19");
+    }
+
+    @Test
+    void searchCourses_noMatches() {
+        final var request = mock(ModalRequest.class);
+        final var event = mock(ModalInteractionEvent.class);
+        final var searchMapping = TestEntities.modalMapping(SEARCH, "MATH");
+
+        when(request.getArguments())
+            .thenReturn(Map.of(TARGET, (long) SelectionAction.SELECT_COURSES.ordinal(), TARGET_ID, 0L));
+        when(request.getEvent())
+            .thenReturn(event);
+        when(event.getValue(SEARCH))
+            .thenReturn(searchMapping);
+        when(courseCatalogService.getCatalog())
+            .thenReturn(TestEntities.courseCatalog(60));
+
+        courseService.searchCourses(request);
+
+        verify(request).sendResponse("No courses start with 'MATH'.", MessageMode.USER);
+        verify(request, never()).editComponents(anyCollection());
+    }
+
+    @Test
+    void applyPageSelection() {
+        final var request = mock(SelectionRequest.class);
+        final var event = mock(StringSelectInteractionEvent.class);
+        final var pageCourse = TestEntities.courseJpa(2);
+        final var otherPageCourse = TestEntities.courseJpa(40);
+        final var deselectedCourse = TestEntities.courseJpa(3);
+
+        when(request.getEvent())
+            .thenReturn(event);
+        when(event.getSelectMenu())
+            .thenReturn(TestEntities.courseSelectMenu());
+        when(event.getValues())
+            .thenReturn(List.of(pageCourse.getCode()));
+        when(courseRepository.findByCodeIn(List.of(pageCourse.getCode())))
+            .thenReturn(List.of(pageCourse));
+
+        final var result = courseService.applyPageSelection(List.of(otherPageCourse, deselectedCourse), request);
+
+        assertThat(result).containsExactlyInAnyOrder(otherPageCourse, pageCourse);
     }
 
     @Test
@@ -245,9 +424,6 @@ class CourseServiceTest {
         final var courseThree = TestEntities.courseJpa(3);
         final var student = TestEntities.studentJpa(1, List.of(courseOne, courseTwo, courseThree));
         final var updatedCourses = List.of(courseOne, courseTwo);
-        final var removedCourses = List.of(courseThree);
-        final var eventsToRemove = List.of(TestEntities.eventJpaWithId(1));
-        final var eventsToAdd = List.of(TestEntities.eventJpa(2));
 
         final var member = TestEntities.member();
 
@@ -255,21 +431,23 @@ class CourseServiceTest {
             .thenReturn(member);
         when(request.getEvent())
             .thenReturn(event);
+        when(event.getSelectMenu())
+            .thenReturn(TestEntities.courseSelectMenu());
         when(event.getValues())
             .thenReturn(updatedCourses.stream().map(CourseJpa::getCode).collect(Collectors.toList()));
         when(studentService.fetchStudent(studentId))
             .thenReturn(student);
-        when(eventRepository.findAllByCourse(removedCourses))
-            .thenReturn(eventsToRemove);
-        when(eventRepository.findAllByCourse(updatedCourses))
-            .thenReturn(eventsToAdd);
         when(courseRepository.findByCodeIn(any()))
             .thenReturn(updatedCourses);
 
         courseService.processStudentSelectedCourses(request);
 
-        verify(schedulingService).removeEventReminderTriggers(anyLong(), anyLong());
-        verify(studentService).scheduleStudentForEvent(any(), eq(student));
+        assertThat(student.getCourses()).containsExactlyInAnyOrderElementsOf(updatedCourses);
+        verify(request).deferReply(MessageMode.USER);
+        final var eventCaptor = ArgumentCaptor.forClass(UpdatedStudentCoursesEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().studentId()).isEqualTo(student.getId());
+        assertThat(eventCaptor.getValue().removedCourseIds()).hasSize(1);
         verify(request).sendResponse(any(), eq(MessageMode.USER));
     }
 
@@ -281,8 +459,6 @@ class CourseServiceTest {
         final var courseTwo = TestEntities.courseJpa(2);
         final var courseThree = TestEntities.courseJpa(3);
         final var student = TestEntities.studentJpa(1, List.of(courseOne, courseTwo, courseThree));
-        final var removedCourses = List.of(courseOne, courseTwo, courseThree);
-        final var eventsToRemove = List.of(TestEntities.eventJpaWithId(1));
         final var member = TestEntities.member();
 
         when(request.getRequester())
@@ -291,19 +467,18 @@ class CourseServiceTest {
             .thenReturn(student.getId());
         when(request.getEvent())
             .thenReturn(event);
+        when(event.getSelectMenu())
+            .thenReturn(TestEntities.courseSelectMenu());
         when(event.getValues())
             .thenReturn(List.of());
         when(studentService.fetchStudent(student.getId()))
             .thenReturn(student);
-        when(eventRepository.findAllByCourse(removedCourses))
-            .thenReturn(eventsToRemove);
 
         courseService.processStudentSelectedCourses(request);
 
         verify(request).sendResponse("No courses selected. You will not receive notifications for any courses.", MessageMode.USER);
-        verify(eventRepository).findAllByCourse(any());
-        verify(schedulingService).removeEventReminderTriggers(anyLong(), anyLong());
-        verify(studentService, never()).scheduleStudentForEvent(any(), any());
+        assertThat(student.getCourses()).isEmpty();
+        verify(applicationEventPublisher).publishEvent(any(UpdatedStudentCoursesEvent.class));
         verify(request, never()).sendResponse(any(MessageEmbed.class), any());
     }
 
@@ -317,7 +492,7 @@ class CourseServiceTest {
 
         when(event.getUser())
             .thenReturn(new UserImpl(1L, null));
-        when(studentService.fetchStudent(anyLong()))
+        when(studentService.findStudentOrDefault(anyLong()))
             .thenReturn(student);
         when(event.getFocusedOption())
             .thenReturn(focusedOption);
@@ -342,7 +517,7 @@ class CourseServiceTest {
 
         when(event.getUser())
             .thenReturn(new UserImpl(1L, null));
-        when(studentService.fetchStudent(anyLong()))
+        when(studentService.findStudentOrDefault(anyLong()))
             .thenReturn(student);
         when(event.getFocusedOption())
             .thenReturn(focusedOption);
@@ -355,4 +530,15 @@ class CourseServiceTest {
 
         verify(event).replyChoices(List.of());
     }
-}
\ No newline at end of file
+
+    private static Map<String, Long> pageArguments(SelectionAction target, Long targetId, Long version, int rangeStart, int rangeEnd, int pageStart) {
+        return Map.of(
+            TARGET, (long) target.ordinal(),
+            TARGET_ID, targetId,
+            CATALOG_VERSION, version,
+            RANGE_START, (long) rangeStart,
+            RANGE_END, (long) rangeEnd,
+            PAGE_START, (long) pageStart
+        );
+    }
+}
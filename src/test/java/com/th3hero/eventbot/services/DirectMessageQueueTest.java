@@ -0,0 +1,117 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryStatus;
+import com.th3hero.eventbot.services.DirectMessageQueue.DeliveryOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DirectMessageQueueTest {
+    private static final Long EVENT_ID = 10L;
+    private static final Integer OFFSET = 24;
+
+    @Mock
+    private PrivateChannelService privateChannelService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DirectMessageQueue directMessageQueue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        directMessageQueue = new DirectMessageQueue(privateChannelService, meterRegistry);
+    }
+
+    @Test
+    void sendNext() throws InterruptedException {
+        final var userId = 1L;
+
+        when(privateChannelService.sendMessage(userId, "Reminder"))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        directMessageQueue.enqueueAll(EVENT_ID, OFFSET, List.of(userId), "Reminder", LocalDateTime.now().minusSeconds(5));
+        directMessageQueue.sendNext();
+
+        assertThat(meterRegistry.get("eventbot.reminders.messages").tag("outcome", "sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.reminders.latency").timer().count()).isEqualTo(1);
+        assertThat(directMessageQueue.drainOutcomes()).containsExactly(new DeliveryOutcome(EVENT_ID, OFFSET, userId, DeliveryStatus.SENT));
+        assertThat(directMessageQueue.drainOutcomes()).isEmpty();
+    }
+
+    @Test
+    void sendNext_userBlocksMessages() throws InterruptedException {
+        final var userId = 1L;
+        final var error = mock(ErrorResponseException.class);
+
+        when(error.getErrorResponse())
+            .thenReturn(ErrorResponse.CANNOT_SEND_TO_USER);
+        when(privateChannelService.sendMessage(userId, "Reminder"))
+            .thenReturn(CompletableFuture.failedFuture(error));
+
+        directMessageQueue.enqueueAll(EVENT_ID, OFFSET, List.of(userId), "Reminder", LocalDateTime.now());
+        directMessageQueue.sendNext();
+
+        assertThat(meterRegistry.get("eventbot.reminders.messages").tag("outcome", "blocked").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.reminders.latency").timer().count()).isZero();
+        assertThat(directMessageQueue.drainOutcomes()).containsExactly(new DeliveryOutcome(EVENT_ID, OFFSET, userId, DeliveryStatus.BLOCKED));
+    }
+
+    @Test
+    void sendNext_failure() throws InterruptedException {
+        final var userId = 1L;
+
+        when(privateChannelService.sendMessage(userId, "Reminder"))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        directMessageQueue.enqueueAll(EVENT_ID, OFFSET, List.of(userId), "Reminder", LocalDateTime.now());
+        directMessageQueue.sendNext();
+
+        assertThat(meterRegistry.get("eventbot.reminders.messages").tag("outcome", "failed").counter().count()).isEqualTo(1);
+        assertThat(directMessageQueue.drainOutcomes()).containsExactly(new DeliveryOutcome(EVENT_ID, OFFSET, userId, DeliveryStatus.FAILED));
+    }
+
+    @Test
+    void sendNext_emptyQueue() throws InterruptedException {
+        directMessageQueue.sendNext();
+
+        verifyNoInteractions(privateChannelService);
+    }
+
+    @Test
+    void sendNext_interrupted() {
+        directMessageQueue.enqueueAll(EVENT_ID, OFFSET, List.of(1L), "Reminder", LocalDateTime.now());
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(directMessageQueue::sendNext)
+            .isInstanceOf(InterruptedException.class);
+
+        verifyNoInteractions(privateChannelService);
+        assertThat(meterRegistry.get("eventbot.reminders.queued").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueueAll_queueFull() {
+        final var fullQueue = LongStream.range(0, DirectMessageQueue.QUEUE_CAPACITY - 1).boxed().toList();
+        directMessageQueue.enqueueAll(EVENT_ID, OFFSET, fullQueue, "Reminder", LocalDateTime.now());
+
+        assertThat(directMessageQueue.remainingCapacity()).isEqualTo(1);
+        assertThatThrownBy(() -> directMessageQueue.enqueueAll(EVENT_ID, OFFSET, List.of(1L, 2L), "Reminder", LocalDateTime.now()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("eventbot.reminders.queued").gauge().value()).isEqualTo(DirectMessageQueue.QUEUE_CAPACITY - 1);
+    }
+}
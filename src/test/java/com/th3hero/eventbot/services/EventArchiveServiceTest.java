@@ -0,0 +1,95 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.repositories.ArchivedEventRepository;
+import com.th3hero.eventbot.repositories.ArchivedEventRepository.ArchivedRows;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventArchiveServiceTest {
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private ArchivedEventRepository archivedEventRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventArchiveService eventArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventArchiveService = new EventArchiveService(archivedEventRepository, meterRegistry, Duration.ofDays(30), BATCH_SIZE);
+    }
+
+    @Test
+    void archiveCompletedEvents() {
+        when(archivedEventRepository.archiveCompletedEvents(any(LocalDateTime.class), eq(BATCH_SIZE)))
+            .thenReturn(rows(2, 3, 4))
+            .thenReturn(rows(1, 1, 0));
+
+        final var archived = eventArchiveService.archiveCompletedEvents();
+
+        assertThat(archived).isEqualTo(3);
+        verify(archivedEventRepository, times(2)).archiveCompletedEvents(any(LocalDateTime.class), eq(BATCH_SIZE));
+        assertThat(meterRegistry.get("eventbot.archive.rows").tag("table", "event").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("eventbot.archive.rows").tag("table", "event_courses").summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("eventbot.archive.rows").tag("table", "student_completed_events").summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("eventbot.archive.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void archiveCompletedEvents_cutoffFromRetention() {
+        when(archivedEventRepository.archiveCompletedEvents(any(LocalDateTime.class), eq(BATCH_SIZE)))
+            .thenReturn(rows(0, 0, 0));
+
+        eventArchiveService.archiveCompletedEvents();
+
+        verify(archivedEventRepository).archiveCompletedEvents(
+            argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusDays(29)) && cutoff.isAfter(LocalDateTime.now().minusDays(31))),
+            eq(BATCH_SIZE)
+        );
+        assertThat(meterRegistry.get("eventbot.archive.rows").tag("table", "event").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getArchivedEvent_notFound() {
+        when(archivedEventRepository.findById(1L))
+            .thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(EntityNotFoundException.class)
+            .isThrownBy(() -> eventArchiveService.getArchivedEvent(1L));
+    }
+
+    private static ArchivedRows rows(long events, long courses, long completions) {
+        return new ArchivedRows() {
+            @Override
+            public long getEvents() {
+                return events;
+            }
+
+            @Override
+            public long getCourses() {
+                return courses;
+            }
+
+            @Override
+            public long getCompletions() {
+                return completions;
+            }
+        };
+    }
+}
@@ -7,7 +7,6 @@ import com.th3hero.eventbot.commands.requests.CommandRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
 import com.th3hero.eventbot.commands.requests.ModalRequest;
 import com.th3hero.eventbot.commands.requests.SelectionRequest;
-import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.exceptions.DataAccessException;
 import com.th3hero.eventbot.exceptions.IllegalInteractionException;
@@ -18,6 +17,7 @@ import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.modals.Modal;
 import net.dv8tion.jda.api.requests.restaction.AuditableRestAction;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
@@ -88,8 +88,8 @@ class EventDraftServiceTest {
             .thenReturn(Optional.of(draft));
         when(request.getAction())
             .thenReturn(ButtonAction.EDIT_DRAFT_COURSES);
-        when(courseService.createCourseSelectionMenu(any(), any()))
-            .thenReturn(menu);
+        when(courseService.createCoursePicker(any(), any(), any()))
+            .thenReturn(List.of(ActionRow.of(menu)));
 
         eventDraftService.handleEventDraftActions(request);
 
@@ -248,8 +248,8 @@ class EventDraftServiceTest {
             .thenReturn(titleModalMap);
         when(jdaEvent.getValue(NOTE))
             .thenReturn(noteModalMap);
-        when(courseService.createCourseSelectionMenu(any(), any()))
-            .thenReturn(menu);
+        when(courseService.createCoursePicker(any(), any(), any()))
+            .thenReturn(List.of(ActionRow.of(menu)));
 
         eventDraftService.addDraftDetails(request);
 
@@ -308,8 +308,8 @@ class EventDraftServiceTest {
             .thenReturn(titleModalMap);
         when(jdaEvent.getValue(NOTE))
             .thenReturn(noteModalMap);
-        when(courseService.createCourseSelectionMenu(any(), any()))
-            .thenReturn(menu);
+        when(courseService.createCoursePicker(any(), any(), any()))
+            .thenReturn(List.of(ActionRow.of(menu)));
 
         eventDraftService.addDraftDetails(request);
 
@@ -335,11 +335,7 @@ class EventDraftServiceTest {
             .thenReturn(arguments);
         when(eventRepository.findById(draftId))
             .thenReturn(Optional.of(draft));
-        when(request.getEvent())
-            .thenReturn(jdaEvent);
-        when(jdaEvent.getValues())
-            .thenReturn(courses.stream().map(CourseJpa::getCode).toList());
-        when(courseService.coursesFromCourseCodes(request.getEvent().getValues()))
+        when(courseService.applyPageSelection(any(), eq(request)))
             .thenReturn(courses);
         when(configService.getConfigJpa())
             .thenReturn(TestEntities.configJpa());
@@ -378,7 +374,7 @@ class EventDraftServiceTest {
         eventDraftService.setCoursesOnDraft(request);
 
         verify(request).sendResponse("Failed to find draft. It may have already been deleted.", MessageMode.USER);
-        verify(courseService, never()).coursesFromCourseCodes(any());
+        verify(courseService, never()).applyPageSelection(any(), any());
     }
 
     @Test
@@ -0,0 +1,97 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.EventRepository.EventMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventMessageIndexTest {
+    @Mock
+    private EventRepository eventRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventMessageIndex eventMessageIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventMessageIndex = new EventMessageIndex(eventRepository, meterRegistry);
+    }
+
+    @Test
+    void load() {
+        final var eventMessage = mock(EventMessage.class);
+
+        when(eventMessage.getEventId())
+            .thenReturn(1L);
+        when(eventMessage.getMessageId())
+            .thenReturn(1234L);
+        when(eventRepository.findActiveEventMessages())
+            .thenReturn(List.of(eventMessage));
+
+        eventMessageIndex.load();
+
+        assertThat(eventMessageIndex.findEventId(1234L)).isEqualTo(OptionalLong.of(1L));
+        assertThat(eventMessageIndex.findEventId(5678L)).isEmpty();
+        assertThat(eventMessageIndex.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.event_messages.lookups").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.event_messages.lookups").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void updatedEventMessage_reposted() {
+        eventMessageIndex.updatedEventMessage(new UpdatedEventMessageEvent(1L, 1234L));
+        eventMessageIndex.updatedEventMessage(new UpdatedEventMessageEvent(1L, 5678L));
+
+        assertThat(eventMessageIndex.findEventId(1234L)).isEmpty();
+        assertThat(eventMessageIndex.findEventId(5678L)).isEqualTo(OptionalLong.of(1L));
+        assertThat(eventMessageIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void updatedEventMessage_noLongerActive() {
+        eventMessageIndex.updatedEventMessage(new UpdatedEventMessageEvent(1L, 1234L));
+        eventMessageIndex.updatedEventMessage(new UpdatedEventMessageEvent(1L, null));
+
+        assertThat(eventMessageIndex.findEventId(1234L)).isEmpty();
+        assertThat(eventMessageIndex.size()).isZero();
+    }
+
+    @Test
+    void refresh() {
+        eventMessageIndex.updatedEventMessage(new UpdatedEventMessageEvent(1L, 1234L));
+
+        when(eventRepository.findActiveMessageIdById(1L))
+            .thenReturn(Optional.of(5678L));
+
+        eventMessageIndex.refresh(1L);
+
+        assertThat(eventMessageIndex.findEventId(1234L)).isEmpty();
+        assertThat(eventMessageIndex.findEventId(5678L)).isEqualTo(OptionalLong.of(1L));
+    }
+
+    @Test
+    void refresh_eventDeleted() {
+        eventMessageIndex.updatedEventMessage(new UpdatedEventMessageEvent(1L, 1234L));
+
+        when(eventRepository.findActiveMessageIdById(1L))
+            .thenReturn(Optional.empty());
+
+        eventMessageIndex.refresh(1L);
+
+        assertThat(eventMessageIndex.findEventId(1234L)).isEmpty();
+    }
+}
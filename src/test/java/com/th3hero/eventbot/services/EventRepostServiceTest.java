@@ -0,0 +1,396 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.entities.EventJpa;
+import com.th3hero.eventbot.entities.EventRepostJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.EventRepostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.th3hero.eventbot.TestEntities.TEST_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRepostServiceTest {
+    private static final int BATCH_SIZE = 2;
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    private JDA jda;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private EventRepostRepository eventRepostRepository;
+    @Mock
+    private ConfigService configService;
+    @Mock
+    private MemberCacheService memberCacheService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventRepostService eventRepostService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventRepostService = new EventRepostService(
+            jda,
+            eventRepository,
+            eventRepostRepository,
+            configService,
+            memberCacheService,
+            applicationEventPublisher,
+            transactionManager,
+            meterRegistry,
+            BATCH_SIZE,
+            1
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepostService.stop();
+    }
+
+    @Test
+    void startRepost() {
+        final var channelId = 4321L;
+        final var channel = mock(TextChannel.class);
+        final var announcement = mock(MessageCreateAction.class);
+        final var createAction = mock(MessageCreateAction.class, RETURNS_SELF);
+        final var events = List.of(TestEntities.eventJpaWithId(1), TestEntities.eventJpaWithId(2), TestEntities.eventJpaWithId(3));
+        final var messageIds = List.of(101L, 102L, 103L);
+        final var sends = messageIds.stream().map(EventRepostServiceTest::sent).toList();
+
+        when(jda.getTextChannelById(channelId))
+            .thenReturn(channel);
+        when(channel.getIdLong())
+            .thenReturn(channelId);
+        when(channel.sendMessage(anyString()))
+            .thenReturn(announcement);
+        when(eventRepostRepository.save(any(EventRepostJpa.class)))
+            .then(returnsFirstArg());
+        when(eventRepostRepository.findById(channelId))
+            .thenAnswer(invocation -> Optional.of(EventRepostJpa.start(channelId)));
+        when(eventRepository.countActiveAfter(EARLIEST, 0L))
+            .thenReturn(3L);
+        when(eventRepository.findActiveIdsAfter(any(LocalDateTime.class), anyLong(), eq(PageRequest.ofSize(BATCH_SIZE))))
+            .thenReturn(List.of(events.get(0).getId(), events.get(1).getId()))
+            .thenReturn(List.of(events.get(2).getId()))
+            .thenReturn(List.of());
+        when(eventRepository.findAllWithCoursesByIdIn(anyCollection()))
+            .thenAnswer(invocation -> eventsWithIds(events, invocation.<Collection<Long>>getArgument(0)));
+        when(eventRepository.findAllById(anyIterable()))
+            .thenAnswer(invocation -> eventsWithIds(events, invocation.<Collection<Long>>getArgument(0)));
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(createAction);
+        when(createAction.submit())
+            .thenReturn(sends.get(0), sends.get(1), sends.get(2));
+
+        eventRepostService.startRepost(channelId);
+
+        verify(eventRepostRepository, timeout(TIMEOUT_MILLIS)).deleteById(channelId);
+        verify(announcement).queue();
+        verify(eventRepostRepository).deleteAll();
+        verify(eventRepository).findActiveIdsAfter(EARLIEST, 0L, PageRequest.ofSize(BATCH_SIZE));
+        verify(eventRepository).findActiveIdsAfter(TEST_DATE, events.get(1).getId(), PageRequest.ofSize(BATCH_SIZE));
+        verify(eventRepository).findActiveIdsAfter(TEST_DATE, events.get(2).getId(), PageRequest.ofSize(BATCH_SIZE));
+        verify(channel, times(events.size())).sendMessageEmbeds(any(MessageEmbed.class));
+
+        assertThat(events).extracting(EventJpa::getMessageId).containsExactlyElementsOf(messageIds);
+        verify(applicationEventPublisher).publishEvent(new UpdatedEventMessageEvent(events.get(0).getId(), messageIds.get(0)));
+        verify(applicationEventPublisher, times(events.size())).publishEvent(any(UpdatedEventMessageEvent.class));
+        final ArgumentCaptor<EventRepostJpa> progressCaptor = ArgumentCaptor.forClass(EventRepostJpa.class);
+        verify(eventRepostRepository, times(3)).save(progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getReposted()).isEqualTo(3);
+        assertThat(progressCaptor.getValue().getLastEventId()).isEqualTo(events.get(2).getId());
+        assertThat(meterRegistry.get("eventbot.repost.events").tag("outcome", "sent").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("eventbot.repost.remaining").gauge().value()).isZero();
+        assertThat(meterRegistry.get("eventbot.repost.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void startRepost_failedSend() {
+        final var channelId = 4321L;
+        final var channel = mock(TextChannel.class);
+        final var announcement = mock(MessageCreateAction.class);
+        final var createAction = mock(MessageCreateAction.class, RETURNS_SELF);
+        final var event = TestEntities.eventJpaWithId(1);
+        final var originalMessageId = event.getMessageId();
+
+        when(jda.getTextChannelById(channelId))
+            .thenReturn(channel);
+        when(channel.getIdLong())
+            .thenReturn(channelId);
+        when(channel.sendMessage(anyString()))
+            .thenReturn(announcement);
+        when(eventRepostRepository.save(any(EventRepostJpa.class)))
+            .then(returnsFirstArg());
+        when(eventRepostRepository.findById(channelId))
+            .thenAnswer(invocation -> Optional.of(EventRepostJpa.start(channelId)));
+        when(eventRepository.findActiveIdsAfter(any(LocalDateTime.class), anyLong(), eq(PageRequest.ofSize(BATCH_SIZE))))
+            .thenReturn(List.of(event.getId()))
+            .thenReturn(List.of());
+        when(eventRepository.findAllWithCoursesByIdIn(List.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(createAction);
+        when(createAction.submit())
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Missing permissions")));
+
+        eventRepostService.startRepost(channelId);
+
+        verify(eventRepostRepository, timeout(TIMEOUT_MILLIS)).deleteById(channelId);
+        assertThat(event.getMessageId()).isEqualTo(originalMessageId);
+        // Saved once when started, once for the page and once for each retry pass
+        final ArgumentCaptor<EventRepostJpa> progressCaptor = ArgumentCaptor.forClass(EventRepostJpa.class);
+        verify(eventRepostRepository, times(2 + EventRepostService.MAX_RETRY_PASSES)).save(progressCaptor.capture());
+        verify(channel, times(1 + EventRepostService.MAX_RETRY_PASSES)).sendMessageEmbeds(any(MessageEmbed.class));
+        assertThat(progressCaptor.getValue().getReposted()).isZero();
+        assertThat(progressCaptor.getValue().getFailed()).isEqualTo(1);
+        assertThat(progressCaptor.getValue().getFailedEventIds()).containsExactly(event.getId());
+        assertThat(meterRegistry.get("eventbot.repost.events").tag("outcome", "failed").counter().count())
+            .isEqualTo(1 + EventRepostService.MAX_RETRY_PASSES);
+    }
+
+    @Test
+    void startRepost_failedSendRetried() {
+        final var channelId = 4321L;
+        final var channel = mock(TextChannel.class);
+        final var announcement = mock(MessageCreateAction.class);
+        final var createAction = mock(MessageCreateAction.class, RETURNS_SELF);
+        final var event = TestEntities.eventJpaWithId(1);
+
+        when(jda.getTextChannelById(channelId))
+            .thenReturn(channel);
+        when(channel.getIdLong())
+            .thenReturn(channelId);
+        when(channel.sendMessage(anyString()))
+            .thenReturn(announcement);
+        when(eventRepostRepository.save(any(EventRepostJpa.class)))
+            .then(returnsFirstArg());
+        when(eventRepostRepository.findById(channelId))
+            .thenAnswer(invocation -> Optional.of(EventRepostJpa.start(channelId)));
+        when(eventRepository.findActiveIdsAfter(any(LocalDateTime.class), anyLong(), eq(PageRequest.ofSize(BATCH_SIZE))))
+            .thenReturn(List.of(event.getId()))
+            .thenReturn(List.of());
+        when(eventRepository.findAllWithCoursesByIdIn(List.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(eventRepository.findAllById(anyIterable()))
+            .thenReturn(List.of(event));
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(createAction);
+        when(createAction.submit())
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Rate limited")), sent(101L));
+
+        eventRepostService.startRepost(channelId);
+
+        verify(eventRepostRepository, timeout(TIMEOUT_MILLIS)).deleteById(channelId);
+        verify(channel, times(2)).sendMessageEmbeds(any(MessageEmbed.class));
+        assertThat(event.getMessageId()).isEqualTo(101L);
+        verify(applicationEventPublisher).publishEvent(new UpdatedEventMessageEvent(event.getId(), 101L));
+        final ArgumentCaptor<EventRepostJpa> progressCaptor = ArgumentCaptor.forClass(EventRepostJpa.class);
+        verify(eventRepostRepository, times(3)).save(progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getReposted()).isEqualTo(1);
+        assertThat(progressCaptor.getValue().getFailed()).isZero();
+        assertThat(progressCaptor.getValue().getFailedEventIds()).isEmpty();
+    }
+
+    @Test
+    void startRepost_failedEventNoLongerActive() {
+        final var channelId = 4321L;
+        final var channel = mock(TextChannel.class);
+        final var announcement = mock(MessageCreateAction.class);
+        final var createAction = mock(MessageCreateAction.class, RETURNS_SELF);
+        final var event = TestEntities.eventJpaWithId(1);
+
+        when(jda.getTextChannelById(channelId))
+            .thenReturn(channel);
+        when(channel.getIdLong())
+            .thenReturn(channelId);
+        when(channel.sendMessage(anyString()))
+            .thenReturn(announcement);
+        when(eventRepostRepository.save(any(EventRepostJpa.class)))
+            .then(returnsFirstArg());
+        when(eventRepostRepository.findById(channelId))
+            .thenAnswer(invocation -> Optional.of(EventRepostJpa.start(channelId)));
+        when(eventRepository.findActiveIdsAfter(any(LocalDateTime.class), anyLong(), eq(PageRequest.ofSize(BATCH_SIZE))))
+            .thenReturn(List.of(event.getId()))
+            .thenReturn(List.of());
+        when(eventRepository.findAllWithCoursesByIdIn(List.of(event.getId())))
+            .thenReturn(List.of(event))
+            .thenReturn(List.of());
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(createAction);
+        when(createAction.submit())
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Missing permissions")));
+
+        eventRepostService.startRepost(channelId);
+
+        verify(eventRepostRepository, timeout(TIMEOUT_MILLIS)).deleteById(channelId);
+        verify(channel, times(1)).sendMessageEmbeds(any(MessageEmbed.class));
+        final ArgumentCaptor<EventRepostJpa> progressCaptor = ArgumentCaptor.forClass(EventRepostJpa.class);
+        verify(eventRepostRepository, times(3)).save(progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getReposted()).isZero();
+        assertThat(progressCaptor.getValue().getFailedEventIds()).isEmpty();
+    }
+
+    @Test
+    void startRepost_missingChannel() {
+        final var channelId = 4321L;
+
+        when(jda.getTextChannelById(channelId))
+            .thenReturn(null);
+
+        eventRepostService.startRepost(channelId);
+
+        verify(jda, timeout(TIMEOUT_MILLIS)).getTextChannelById(channelId);
+        verify(eventRepostRepository, after(200).never()).save(any(EventRepostJpa.class));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void repostEvents() {
+        final var channel = mock(TextChannel.class);
+        final var guild = mock(Guild.class);
+        final var createAction = mock(MessageCreateAction.class, RETURNS_SELF);
+        final var events = List.of(TestEntities.eventJpaWithId(1), TestEntities.eventJpaWithId(2));
+        final var eventIds = events.stream().map(EventJpa::getId).toList();
+        final var sends = List.of(sent(101L), sent(102L));
+
+        when(eventRepository.findAllWithCoursesByIdIn(eventIds))
+            .thenReturn(events);
+        when(channel.getGuild())
+            .thenReturn(guild);
+        when(eventRepository.findAllById(anyIterable()))
+            .thenReturn(events);
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(createAction);
+        when(createAction.submit())
+            .thenReturn(sends.get(0), sends.get(1));
+
+        eventRepostService.repostEvents(channel, eventIds);
+
+        verify(applicationEventPublisher, timeout(TIMEOUT_MILLIS)).publishEvent(new UpdatedEventMessageEvent(events.get(1).getId(), 102L));
+        verify(eventRepository, times(1)).findAllWithCoursesByIdIn(anyCollection());
+        verify(memberCacheService).findMembers(guild, events.stream().map(EventJpa::getAuthorId).toList());
+        verify(channel, times(events.size())).sendMessageEmbeds(any(MessageEmbed.class));
+        verify(channel, never()).sendMessage(anyString());
+        verifyNoInteractions(eventRepostRepository);
+        assertThat(events).extracting(EventJpa::getMessageId).containsExactly(101L, 102L);
+    }
+
+    @Test
+    void resumeRepost() {
+        final var config = TestEntities.configJpa();
+        final var channel = mock(TextChannel.class);
+        final var createAction = mock(MessageCreateAction.class, RETURNS_SELF);
+        final var event = TestEntities.eventJpaWithId(3);
+        final var lastEventId = 1236L;
+        final var progress = EventRepostJpa.start(config.getEventChannel());
+        progress.advance(TEST_DATE, lastEventId, 2, List.of());
+        final var send = sent(999L);
+
+        when(eventRepostRepository.findAll())
+            .thenReturn(List.of(progress));
+        when(configService.getConfigJpa())
+            .thenReturn(config);
+        when(jda.getTextChannelById(config.getEventChannel()))
+            .thenReturn(channel);
+        when(channel.getIdLong())
+            .thenReturn(config.getEventChannel());
+        when(eventRepostRepository.findById(config.getEventChannel()))
+            .thenReturn(Optional.of(progress));
+        when(eventRepository.findActiveIdsAfter(TEST_DATE, lastEventId, PageRequest.ofSize(BATCH_SIZE)))
+            .thenReturn(List.of(event.getId()));
+        when(eventRepository.findActiveIdsAfter(TEST_DATE, event.getId(), PageRequest.ofSize(BATCH_SIZE)))
+            .thenReturn(List.of());
+        when(eventRepository.findAllWithCoursesByIdIn(List.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(eventRepository.findAllById(anyIterable()))
+            .thenReturn(List.of(event));
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(createAction);
+        when(createAction.submit())
+            .thenReturn(send);
+        when(eventRepostRepository.save(progress))
+            .thenReturn(progress);
+
+        eventRepostService.resumeRepost();
+
+        verify(eventRepostRepository, timeout(TIMEOUT_MILLIS)).deleteById(config.getEventChannel());
+        verify(channel, never()).sendMessage(anyString());
+        verify(eventRepostRepository, never()).deleteAll();
+        assertThat(event.getMessageId()).isEqualTo(999L);
+        assertThat(progress.getReposted()).isEqualTo(3);
+    }
+
+    @Test
+    void resumeRepost_channelChanged() {
+        final var config = TestEntities.configJpa();
+        final var progress = EventRepostJpa.start(1111L);
+
+        when(eventRepostRepository.findAll())
+            .thenReturn(List.of(progress));
+        when(configService.getConfigJpa())
+            .thenReturn(config);
+
+        eventRepostService.resumeRepost();
+
+        verify(eventRepostRepository).delete(progress);
+        verifyNoInteractions(jda, eventRepository);
+    }
+
+    @Test
+    void resumeRepost_nothingToResume() {
+        when(eventRepostRepository.findAll())
+            .thenReturn(List.of());
+
+        eventRepostService.resumeRepost();
+
+        verifyNoInteractions(configService, jda, eventRepository);
+    }
+
+    private static List<EventJpa> eventsWithIds(List<EventJpa> events, Collection<Long> ids) {
+        return events.stream()
+            .filter(event -> ids.contains(event.getId()))
+            .toList();
+    }
+
+    private static CompletableFuture<Message> sent(Long messageId) {
+        final var message = mock(Message.class);
+        when(message.getIdLong())
+            .thenReturn(messageId);
+        return CompletableFuture.completedFuture(message);
+    }
+}
@@ -1,14 +1,18 @@
 package com.th3hero.eventbot.services;
 
 import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.commands.actions.ButtonAction;
+import com.th3hero.eventbot.commands.requests.ButtonRequest;
 import com.th3hero.eventbot.commands.requests.CommandRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
+import com.th3hero.eventbot.config.JdbcTimingSessionListener;
 import com.th3hero.eventbot.config.SlashCommandConfig;
 import com.th3hero.eventbot.entities.ConfigJpa;
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.EventJpa.EventStatus;
 import com.th3hero.eventbot.entities.EventJpa.EventType;
+import com.th3hero.eventbot.entities.StudentJpa;
 import com.th3hero.eventbot.formatting.DateFormatter;
 import com.th3hero.eventbot.repositories.ConfigRepository;
 import com.th3hero.eventbot.repositories.CourseRepository;
@@ -20,8 +24,11 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
 import net.dv8tion.jda.api.utils.MarkdownUtil;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,11 +40,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static com.th3hero.eventbot.TestEntities.TEST_DATE;
+import static com.th3hero.eventbot.formatting.InteractionArguments.DRAFT_ID;
 import static com.th3hero.eventbot.utils.DiscordFieldsUtils.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -52,6 +61,8 @@ class EventServiceIT {
     private JDA jda;
     @MockBean
     private SlashCommandConfig slashCommandConfig;
+    @MockBean
+    private SchedulingService schedulingService;
 
     @Autowired
     private EntityManager entityManager;
@@ -66,6 +77,59 @@ class EventServiceIT {
 
     @Autowired
     private EventService eventService;
+    @Autowired
+    private EventDraftService eventDraftService;
+
+    @Test
+    void publishEvent_statementCountIndependentOfRecipients() {
+        final var config = TestEntities.configJpa();
+        configRepository.saveAndFlush(config);
+        final List<CourseJpa> courses = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            courses.add(TestEntities.courseJpa(i));
+        }
+        courseRepository.saveAllAndFlush(courses);
+        final List<StudentJpa> students = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            students.add(TestEntities.studentJpa(i, List.of(courses.get(i % courses.size()))));
+        }
+        studentRepository.saveAllAndFlush(students);
+        final var draft = TestEntities.eventJpa(1, courses);
+        draft.setStatus(EventStatus.DRAFT);
+        eventRepository.saveAndFlush(draft);
+        entityManager.clear();
+
+        final var request = mock(ButtonRequest.class);
+        final var jdaEvent = mock(ButtonInteractionEvent.class);
+        final var channel = mock(TextChannel.class);
+        final var messageAction = mock(MessageCreateAction.class, RETURNS_SELF);
+
+        when(request.getArguments())
+            .thenReturn(Map.of(DRAFT_ID, draft.getId()));
+        when(request.getAction())
+            .thenReturn(ButtonAction.CONFIRM_DRAFT);
+        when(request.getRequester())
+            .thenReturn(TestEntities.member());
+        when(request.getEvent())
+            .thenReturn(jdaEvent);
+        when(jdaEvent.getJDA())
+            .thenReturn(jda);
+        when(jda.getTextChannelById(config.getEventChannel()))
+            .thenReturn(channel);
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(messageAction);
+
+        final long statementsBefore = JdbcTimingSessionListener.threadJdbcStatements();
+        eventDraftService.handleEventDraftActions(request);
+        entityManager.flush();
+        final long statements = JdbcTimingSessionListener.threadJdbcStatements() - statementsBefore;
+
+        // Load the draft with its courses, load the config, update the status and insert the reminder windows
+        assertThat(statements).isLessThanOrEqualTo(4);
+        final ArgumentCaptor<MessageEmbed> embedCaptor = ArgumentCaptor.forClass(MessageEmbed.class);
+        verify(channel).sendMessageEmbeds(embedCaptor.capture());
+        assertThat(embedCaptor.getValue().getFields()).anyMatch(field -> courses.stream().allMatch(course -> field.getValue().contains(course.getCode())));
+    }
 
     @SuppressWarnings("unchecked")
     @Test
@@ -139,15 +203,17 @@ class EventServiceIT {
 
         verify(request).deferReply(MessageMode.USER);
         verify(request, never()).sendResponse(anyString(), any());
-        final ArgumentCaptor<MessageEmbed> embedArgumentCaptor = ArgumentCaptor.forClass(MessageEmbed.class);
-        verify(request).sendResponse(embedArgumentCaptor.capture(), eq(MessageMode.USER));
-        final var embed = embedArgumentCaptor.getValue();
+        final ArgumentCaptor<MessageCreateData> responseCaptor = ArgumentCaptor.forClass(MessageCreateData.class);
+        verify(request).sendResponse(responseCaptor.capture(), eq(MessageMode.USER));
+        final var embed = responseCaptor.getValue().getEmbeds().getFirst();
 
         assertThat(embed.getFields()).hasSize(2);
         assertThat(embed.getFields().get(0).getName()).isEqualTo(eventTwo.getTitle());
         assertThat(embed.getFields().get(0).getValue()).isEqualTo(summary(eventTwo, config));
         assertThat(embed.getFields().get(1).getName()).isEqualTo(eventThree.getTitle());
         assertThat(embed.getFields().get(1).getValue()).isEqualTo(summary(eventThree, config));
+        // eventFour is on the next page
+        assertThat(responseCaptor.getValue().getComponents()).hasSize(1);
     }
 
     @SuppressWarnings("unchecked")
@@ -218,9 +284,9 @@ class EventServiceIT {
 
         verify(request).deferReply(MessageMode.USER);
         verify(request, never()).sendResponse(anyString(), any());
-        final ArgumentCaptor<MessageEmbed> embedArgumentCaptor = ArgumentCaptor.forClass(MessageEmbed.class);
-        verify(request).sendResponse(embedArgumentCaptor.capture(), eq(MessageMode.USER));
-        final var embed = embedArgumentCaptor.getValue();
+        final ArgumentCaptor<MessageCreateData> responseCaptor = ArgumentCaptor.forClass(MessageCreateData.class);
+        verify(request).sendResponse(responseCaptor.capture(), eq(MessageMode.USER));
+        final var embed = responseCaptor.getValue().getEmbeds().getFirst();
         assertThat(embed.getFields()).hasSize(2);
         assertThat(embed.getFields().get(0).getName()).isEqualTo(eventTwo.getTitle());
         assertThat(embed.getFields().get(0).getValue()).isEqualTo(summary(eventTwo, config));
@@ -299,9 +365,9 @@ class EventServiceIT {
 
         verify(request).deferReply(MessageMode.USER);
         verify(request, never()).sendResponse(anyString(), any());
-        final ArgumentCaptor<MessageEmbed> embedArgumentCaptor = ArgumentCaptor.forClass(MessageEmbed.class);
-        verify(request).sendResponse(embedArgumentCaptor.capture(), eq(MessageMode.USER));
-        final var embed = embedArgumentCaptor.getValue();
+        final ArgumentCaptor<MessageCreateData> responseCaptor = ArgumentCaptor.forClass(MessageCreateData.class);
+        verify(request).sendResponse(responseCaptor.capture(), eq(MessageMode.USER));
+        final var embed = responseCaptor.getValue().getEmbeds().getFirst();
 
         assertThat(embed.getFields()).hasSize(3);
         assertThat(embed.getFields().get(0).getName()).isEqualTo(eventTwo.getTitle());
@@ -378,9 +444,9 @@ class EventServiceIT {
 
         verify(request).deferReply(MessageMode.USER);
         verify(request, never()).sendResponse(anyString(), any());
-        final ArgumentCaptor<MessageEmbed> embedArgumentCaptor = ArgumentCaptor.forClass(MessageEmbed.class);
-        verify(request).sendResponse(embedArgumentCaptor.capture(), eq(MessageMode.USER));
-        final var embed = embedArgumentCaptor.getValue();
+        final ArgumentCaptor<MessageCreateData> responseCaptor = ArgumentCaptor.forClass(MessageCreateData.class);
+        verify(request).sendResponse(responseCaptor.capture(), eq(MessageMode.USER));
+        final var embed = responseCaptor.getValue().getEmbeds().getFirst();
 
         assertThat(embed.getFields()).hasSize(2);
         assertThat(embed.getFields().get(0).getName()).isEqualTo(eventTwo.getTitle());
@@ -457,9 +523,9 @@ class EventServiceIT {
 
         verify(request).deferReply(MessageMode.USER);
         verify(request, never()).sendResponse(anyString(), any());
-        final ArgumentCaptor<MessageEmbed> embedArgumentCaptor = ArgumentCaptor.forClass(MessageEmbed.class);
-        verify(request).sendResponse(embedArgumentCaptor.capture(), eq(MessageMode.USER));
-        final var embed = embedArgumentCaptor.getValue();
+        final ArgumentCaptor<MessageCreateData> responseCaptor = ArgumentCaptor.forClass(MessageCreateData.class);
+        verify(request).sendResponse(responseCaptor.capture(), eq(MessageMode.USER));
+        final var embed = responseCaptor.getValue().getEmbeds().getFirst();
 
         assertThat(embed.getFields()).hasSize(2);
         assertThat(embed.getFields().get(0).getName()).isEqualTo(eventTwo.getTitle());
@@ -490,7 +556,7 @@ class EventServiceIT {
             .note("Test Note%s".formatted(seed))
             .eventDate(TEST_DATE)
             .type(EventType.ASSIGNMENT)
-            .courses(new ArrayList<>(List.of(course)))
+            .courses(new LinkedHashSet<>(List.of(course)))
             .status(EventStatus.ACTIVE)
             .build();
     }
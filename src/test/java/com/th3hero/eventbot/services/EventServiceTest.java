@@ -1,17 +1,21 @@
 package com.th3hero.eventbot.services;
 
 import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.commands.actions.ButtonAction;
 import com.th3hero.eventbot.commands.actions.Command;
+import com.th3hero.eventbot.commands.actions.SelectionAction;
 import com.th3hero.eventbot.commands.requests.*;
 import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
+import com.th3hero.eventbot.dto.event.ViewEventsFilter;
 import com.th3hero.eventbot.entities.CourseJpa;
 import com.th3hero.eventbot.entities.EventJpa;
 import com.th3hero.eventbot.entities.EventJpa.EventStatus;
-import com.th3hero.eventbot.entities.StudentJpa;
+import com.th3hero.eventbot.entities.EventJpa.EventType;
 import com.th3hero.eventbot.exceptions.ConfigErrorException;
 import com.th3hero.eventbot.exceptions.DataAccessException;
 import com.th3hero.eventbot.factories.ButtonFactory;
 import com.th3hero.eventbot.formatting.InteractionArguments;
+import com.th3hero.eventbot.listeners.events.UpdatedEventMessageEvent;
 import com.th3hero.eventbot.repositories.EventRepository;
 import jakarta.persistence.EntityNotFoundException;
 import net.dv8tion.jda.api.JDA;
@@ -28,18 +32,22 @@ import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.LayoutComponent;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.interactions.modals.Modal;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
 import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.requests.restaction.AuditableRestAction;
 import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
 import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
 import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -67,6 +75,10 @@ class EventServiceTest {
     private SchedulingService schedulingService;
     @Mock
     private StudentService studentService;
+    @Mock
+    private ReminderService reminderService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private EventService eventService;
@@ -113,7 +125,7 @@ class EventServiceTest {
         verify(schedulingService).removeDraftCleanupTrigger(draft.getId());
         verify(schedulingService).addEventCompletedTrigger(event.getId(), event.getEventDate());
 
-        verify(studentService, times(9)).scheduleStudentForEvent(eq(event), any(StudentJpa.class));
+        verify(reminderService).scheduleEventReminders(event.getId());
 
         final ArgumentCaptor<Consumer<Message>> messageCaptor = ArgumentCaptor.forClass(Consumer.class);
         verify(messageCreateAction).queue(messageCaptor.capture());
@@ -125,6 +137,7 @@ class EventServiceTest {
         final EventJpa savedEvent = jpaCaptor.getValue();
         assertThat(savedEvent.getMessageId()).isEqualTo(messageId);
         assertThat(savedEvent.getStatus()).isEqualTo(EventStatus.ACTIVE);
+        verify(applicationEventPublisher).publishEvent(new UpdatedEventMessageEvent(event.getId(), messageId));
 
         verify(request).sendResponse("Event has been posted to the event channel. null", MessageMode.USER);
     }
@@ -257,7 +270,6 @@ class EventServiceTest {
         arguments.put(InteractionArguments.EVENT_ID, event.getId());
         final var jdaEvent = mock(ModalInteractionEvent.class);
         final var channel = mock(MessageChannelUnion.class);
-        final RestAction<Message> messageRestAction = mock(RestAction.class);
         final var message = mock(Message.class);
         final var messageEditAction = mock(MessageEditAction.class);
         final var messageCreateAction = mock(MessageCreateAction.class);
@@ -277,9 +289,7 @@ class EventServiceTest {
             .thenReturn(config);
         when(jdaEvent.getChannel())
             .thenReturn(channel);
-        when(channel.retrieveMessageById(event.getMessageId()))
-            .thenReturn(messageRestAction);
-        when(message.editMessageComponents())
+        when(channel.editMessageById(eq(event.getMessageId()), any(MessageEditData.class)))
             .thenReturn(messageEditAction);
         when(request.getRequester())
             .thenReturn(requester);
@@ -291,15 +301,20 @@ class EventServiceTest {
 
         eventService.handleDeleteConformation(request);
 
+        final ArgumentCaptor<MessageEditData> editCaptor = ArgumentCaptor.forClass(MessageEditData.class);
+        verify(channel).editMessageById(eq(event.getMessageId()), editCaptor.capture());
+        assertThat(editCaptor.getValue().getComponents()).isEmpty();
+        verify(channel, never()).retrieveMessageById(anyLong());
+
         final ArgumentCaptor<Consumer<Message>> messageCaptor = ArgumentCaptor.forClass(Consumer.class);
-        verify(messageRestAction).queue(messageCaptor.capture(), any());
+        verify(messageEditAction).queue(messageCaptor.capture(), any());
         final Consumer<Message> messageValue = messageCaptor.getValue();
         messageValue.accept(message);
-        verify(messageEditAction).queue();
 
-        verify(schedulingService).removeReminderTriggers(event.getId());
+        verify(reminderService).removeEventReminders(event.getId());
         verify(schedulingService).removeEventCompleteTrigger(event.getId());
         verify(eventRepository).save(argThat(e -> e.getStatus().equals(EventStatus.DELETED)));
+        verify(applicationEventPublisher).publishEvent(new UpdatedEventMessageEvent(event.getId(), null));
 
         final ArgumentCaptor<Consumer<Message>> recoveryMessageCaptor = ArgumentCaptor.forClass(Consumer.class);
         verify(messageCreateAction).queue(recoveryMessageCaptor.capture());
@@ -384,7 +399,6 @@ class EventServiceTest {
         final var message = mock(Message.class);
         final AuditableRestAction<Void> restAction = mock(AuditableRestAction.class);
         final var channel = mock(MessageChannelUnion.class);
-        final RestAction<Message> messageRestAction = mock(RestAction.class);
         final var messageCreateAction = mock(MessageCreateAction.class);
         final var messageEditAction = mock(MessageEditAction.class);
 
@@ -400,28 +414,37 @@ class EventServiceTest {
             .thenReturn(restAction);
         when(jdaEvent.getChannel())
             .thenReturn(channel);
-        when(channel.retrieveMessageById(event.getMessageId()))
-            .thenReturn(messageRestAction);
+        when(channel.editMessageById(eq(event.getMessageId()), any(MessageEditData.class)))
+            .thenReturn(messageEditAction);
         when(request.getRequester())
             .thenReturn(requester);
-        when(message.replyEmbeds(any(MessageEmbed.class)))
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
             .thenReturn(messageCreateAction);
-        when(message.editMessageComponents(any(ActionRow.class)))
-            .thenReturn(messageEditAction);
+        when(messageCreateAction.setMessageReference(anyLong()))
+            .thenReturn(messageCreateAction);
+        when(message.getIdLong())
+            .thenReturn(event.getMessageId());
 
         eventService.undoEventDeletion(request);
 
         verify(schedulingService).removeDeletedEventCleanupTrigger(event.getId());
         verify(schedulingService).addEventCompletedTrigger(event.getId(), event.getEventDate());
+        verify(reminderService).scheduleEventReminders(event.getId());
         verify(request).sendResponse("Event has been restored.", MessageMode.USER);
+        verify(applicationEventPublisher).publishEvent(new UpdatedEventMessageEvent(event.getId(), event.getMessageId()));
+
+        final ArgumentCaptor<MessageEditData> editCaptor = ArgumentCaptor.forClass(MessageEditData.class);
+        verify(channel).editMessageById(eq(event.getMessageId()), editCaptor.capture());
+        assertThat(editCaptor.getValue().getComponents()).containsExactly(ButtonFactory.eventButtons(event.getId()));
 
         final ArgumentCaptor<Consumer<Message>> messageCaptor = ArgumentCaptor.forClass(Consumer.class);
-        verify(messageRestAction).queue(messageCaptor.capture(), any());
+        verify(messageEditAction).queue(messageCaptor.capture(), any());
         final Consumer<Message> messageValue = messageCaptor.getValue();
         messageValue.accept(message);
 
-        verify(message).replyEmbeds(any(MessageEmbed.class));
-        verify(message).editMessageComponents(ButtonFactory.eventButtons(event.getId()));
+        verify(channel).sendMessageEmbeds(any(MessageEmbed.class));
+        verify(messageCreateAction).setMessageReference(event.getMessageId().longValue());
+        verify(messageCreateAction).queue();
     }
 
     @Test
@@ -447,110 +470,105 @@ class EventServiceTest {
     void toggleEventCompleted_userNotCompleted() {
         final var request = mock(ButtonRequest.class);
         final var requester = TestEntities.member();
-        final var event = TestEntities.eventJpaWithId(1);
+        final var eventId = 1234L;
+        final var studentId = 1L;
         final Map<String, Long> arguments = new HashMap<>();
-        arguments.put(InteractionArguments.EVENT_ID, event.getId());
-        final var student = TestEntities.studentJpa(1, List.of(event.getCourses().getFirst()));
+        arguments.put(InteractionArguments.EVENT_ID, eventId);
 
         when(request.getArguments())
             .thenReturn(arguments);
         when(request.getRequester())
             .thenReturn(requester);
         when(requester.getIdLong())
-            .thenReturn(student.getId());
-        when(studentService.fetchStudent(student.getId()))
-            .thenReturn(student);
-        when(eventRepository.findById(event.getId()))
-            .thenReturn(Optional.of(event));
+            .thenReturn(studentId);
+        when(eventRepository.findStatusById(eventId))
+            .thenReturn(Optional.of(EventStatus.ACTIVE));
+        when(studentService.takesCourseOnEvent(studentId, eventId))
+            .thenReturn(true);
+        when(studentService.toggleCompletedEvent(studentId, eventId))
+            .thenReturn(true);
 
         eventService.toggleEventCompleted(request);
 
-        verify(studentService).unscheduleStudentRemindersForEvent(request, event.getId());
-        verify(studentService, never()).scheduleStudentForEvent(event, student);
+        verify(request).sendResponse("All reminders have been removed for this event.", MessageMode.USER);
+        verify(eventRepository, never()).findById(any());
     }
 
     @Test
     void toggleEventCompleted_userAlreadyCompleted() {
         final var request = mock(ButtonRequest.class);
         final var requester = TestEntities.member();
-        final var event = TestEntities.eventJpaWithId(1);
+        final var eventId = 1234L;
+        final var studentId = 1L;
         final Map<String, Long> arguments = new HashMap<>();
-        arguments.put(InteractionArguments.EVENT_ID, event.getId());
-        final var student = TestEntities.studentJpa(1, List.of(event.getCourses().getFirst()));
-        student.getCompletedEvents().add(event);
+        arguments.put(InteractionArguments.EVENT_ID, eventId);
 
         when(request.getArguments())
             .thenReturn(arguments);
         when(request.getRequester())
             .thenReturn(requester);
         when(requester.getIdLong())
-            .thenReturn(student.getId());
-        when(studentService.fetchStudent(student.getId()))
-            .thenReturn(student);
-        when(eventRepository.findById(event.getId()))
-            .thenReturn(Optional.of(event));
+            .thenReturn(studentId);
+        when(eventRepository.findStatusById(eventId))
+            .thenReturn(Optional.of(EventStatus.ACTIVE));
+        when(studentService.takesCourseOnEvent(studentId, eventId))
+            .thenReturn(true);
+        when(studentService.toggleCompletedEvent(studentId, eventId))
+            .thenReturn(false);
 
         eventService.toggleEventCompleted(request);
 
-        verify(studentService).scheduleStudentForEvent(event, student);
         verify(request).sendResponse("Reminders have been re-enabled for this event.", MessageMode.USER);
-        verify(studentService, never()).unscheduleStudentRemindersForEvent(request, event.getId());
     }
 
     @Test
     void toggleEventCompleted_eventHasFinished() {
         final var request = mock(ButtonRequest.class);
         final var requester = TestEntities.member();
-        final var event = TestEntities.eventJpaWithId(1);
-        event.setStatus(EventStatus.COMPLETED);
+        final var eventId = 1234L;
+        final var studentId = 1L;
         final Map<String, Long> arguments = new HashMap<>();
-        arguments.put(InteractionArguments.EVENT_ID, event.getId());
-        final var student = TestEntities.studentJpa(1, List.of(event.getCourses().getFirst()));
+        arguments.put(InteractionArguments.EVENT_ID, eventId);
 
         when(request.getArguments())
             .thenReturn(arguments);
         when(request.getRequester())
             .thenReturn(requester);
         when(requester.getIdLong())
-            .thenReturn(student.getId());
-        when(studentService.fetchStudent(student.getId()))
-            .thenReturn(student);
-        when(eventRepository.findById(event.getId()))
-            .thenReturn(Optional.of(event));
+            .thenReturn(studentId);
+        when(eventRepository.findStatusById(eventId))
+            .thenReturn(Optional.of(EventStatus.COMPLETED));
 
         eventService.toggleEventCompleted(request);
 
         verify(request).sendResponse("This event has already passed. It cannot be marked as completed.", MessageMode.USER);
-        verify(studentService, never()).scheduleStudentForEvent(event, student);
-        verify(studentService, never()).unscheduleStudentRemindersForEvent(request, event.getId());
+        verify(studentService, never()).toggleCompletedEvent(any(), any());
     }
 
     @Test
     void toggleEventCompleted_userNotAssociatedWithEvent() {
         final var request = mock(ButtonRequest.class);
         final var requester = TestEntities.member();
-        final var event = TestEntities.eventJpaWithId(1);
-        final var randomCourse = TestEntities.courseJpa(1);
+        final var eventId = 1234L;
+        final var studentId = 1L;
         final Map<String, Long> arguments = new HashMap<>();
-        arguments.put(InteractionArguments.EVENT_ID, event.getId());
-        final var student = TestEntities.studentJpa(1, List.of(randomCourse));
+        arguments.put(InteractionArguments.EVENT_ID, eventId);
 
         when(request.getArguments())
             .thenReturn(arguments);
         when(request.getRequester())
             .thenReturn(requester);
         when(requester.getIdLong())
-            .thenReturn(student.getId());
-        when(studentService.fetchStudent(student.getId()))
-            .thenReturn(student);
-        when(eventRepository.findById(event.getId()))
-            .thenReturn(Optional.of(event));
+            .thenReturn(studentId);
+        when(eventRepository.findStatusById(eventId))
+            .thenReturn(Optional.of(EventStatus.ACTIVE));
+        when(studentService.takesCourseOnEvent(studentId, eventId))
+            .thenReturn(false);
 
         eventService.toggleEventCompleted(request);
 
         verify(request).sendResponse("You are not signed up for any courses associated with this event.", MessageMode.USER);
-        verify(studentService, never()).scheduleStudentForEvent(event, student);
-        verify(studentService, never()).unscheduleStudentRemindersForEvent(request, event.getId());
+        verify(studentService, never()).toggleCompletedEvent(any(), any());
     }
 
     @Test
@@ -560,52 +578,43 @@ class EventServiceTest {
         final var eventId = 1234L;
         final Map<String, Long> arguments = new HashMap<>();
         arguments.put(InteractionArguments.EVENT_ID, eventId);
-        final var student = TestEntities.studentJpa(1, List.of());
 
         when(request.getArguments())
             .thenReturn(arguments);
         when(request.getRequester())
             .thenReturn(requester);
         when(requester.getIdLong())
-            .thenReturn(student.getId());
-        when(studentService.fetchStudent(student.getId()))
-            .thenReturn(student);
-        when(eventRepository.findById(eventId))
+            .thenReturn(1L);
+        when(eventRepository.findStatusById(eventId))
             .thenReturn(Optional.empty());
 
         assertThatExceptionOfType(EntityNotFoundException.class)
             .isThrownBy(() -> eventService.toggleEventCompleted(request));
 
-        verify(studentService, never()).scheduleStudentForEvent(any(), any());
-        verify(studentService, never()).unscheduleStudentRemindersForEvent(any(), any());
+        verify(request, never()).sendResponse(anyString(), any());
     }
 
     @Test
     void toggleEventCompleted_eventDeleted() {
         final var request = mock(ButtonRequest.class);
         final var requester = TestEntities.member();
-        final var event = TestEntities.eventJpaWithId(1);
-        event.setStatus(EventStatus.DELETED);
+        final var eventId = 1234L;
         final Map<String, Long> arguments = new HashMap<>();
-        arguments.put(InteractionArguments.EVENT_ID, event.getId());
-        final var student = TestEntities.studentJpa(1, List.of());
+        arguments.put(InteractionArguments.EVENT_ID, eventId);
 
         when(request.getArguments())
             .thenReturn(arguments);
         when(request.getRequester())
             .thenReturn(requester);
         when(requester.getIdLong())
-            .thenReturn(student.getId());
-        when(studentService.fetchStudent(student.getId()))
-            .thenReturn(student);
-        when(eventRepository.findById(event.getId()))
-            .thenReturn(Optional.of(event));
+            .thenReturn(1L);
+        when(eventRepository.findStatusById(eventId))
+            .thenReturn(Optional.of(EventStatus.DELETED));
 
         eventService.toggleEventCompleted(request);
 
         verify(request).sendResponse("This event has been deleted, actions cannot be preformed on it.", MessageMode.USER);
-        verify(studentService, never()).scheduleStudentForEvent(any(), any());
-        verify(studentService, never()).unscheduleStudentRemindersForEvent(any(), any());
+        verify(studentService, never()).toggleCompletedEvent(any(), any());
     }
 
     @Test
@@ -742,8 +751,8 @@ class EventServiceTest {
             .thenReturn(arguments);
         when(eventRepository.findById(event.getId()))
             .thenReturn(Optional.of(event));
-        when(courseService.createCourseSelectionMenu(any(), eq(event.getCourses())))
-            .thenReturn(menu);
+        when(courseService.createCoursePicker(SelectionAction.EDIT_EVENT_COURSES, event.getId(), event.getCourses()))
+            .thenReturn(List.of(ActionRow.of(menu)));
 
         eventService.sendEventEditCourses(request);
 
@@ -797,7 +806,6 @@ class EventServiceTest {
         arguments.put(InteractionArguments.EVENT_ID, event.getId());
         final var jdaEvent = mock(ModalInteractionEvent.class);
         final var channel = mock(MessageChannelUnion.class);
-        final RestAction<Message> messageRestAction = mock(RestAction.class);
         final var message = mock(Message.class);
         final var messageCreateAction = mock(MessageCreateAction.class);
         final var messageEditAction = mock(MessageEditAction.class);
@@ -833,12 +841,14 @@ class EventServiceTest {
             .thenReturn(requester);
         when(eventRepository.save(any(EventJpa.class)))
             .thenAnswer(i -> i.getArgument(0));
-        when(channel.retrieveMessageById(event.getMessageId()))
-            .thenReturn(messageRestAction);
-        when(message.replyEmbeds(any(MessageEmbed.class)))
-            .thenReturn(messageCreateAction);
-        when(message.editMessageEmbeds(any(MessageEmbed.class)))
+        when(channel.editMessageById(eq(event.getMessageId()), any(MessageEditData.class)))
             .thenReturn(messageEditAction);
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(messageCreateAction);
+        when(messageCreateAction.setMessageReference(anyLong()))
+            .thenReturn(messageCreateAction);
+        when(message.getIdLong())
+            .thenReturn(event.getMessageId());
 
         eventService.editEventDetails(request);
 
@@ -848,16 +858,20 @@ class EventServiceTest {
                 e.getEventDate().equals(LocalDateTime.of(2025, 5, 25, 16, 35))
         ));
 
-        verify(schedulingService).removeReminderTriggers(event.getId());
+        verify(reminderService).rescheduleEventReminders(event.getId());
         verify(request, never()).sendResponse("Failed to parse date and time", MessageMode.USER);
 
         final ArgumentCaptor<Consumer<Message>> messageCaptor = ArgumentCaptor.forClass(Consumer.class);
-        verify(messageRestAction).queue(messageCaptor.capture(), any());
+        verify(messageEditAction).queue(messageCaptor.capture(), any());
         final Consumer<Message> messageConsumer = messageCaptor.getValue();
         messageConsumer.accept(message);
 
-        verify(message).editMessageEmbeds(any(MessageEmbed.class));
-        verify(message).replyEmbeds(any(MessageEmbed.class));
+        final ArgumentCaptor<MessageEditData> editCaptor = ArgumentCaptor.forClass(MessageEditData.class);
+        verify(channel).editMessageById(eq(event.getMessageId()), editCaptor.capture());
+        assertThat(editCaptor.getValue().getEmbeds()).hasSize(1);
+        verify(channel, never()).retrieveMessageById(anyLong());
+        verify(channel).sendMessageEmbeds(any(MessageEmbed.class));
+        verify(messageCreateAction).setMessageReference(event.getMessageId().longValue());
 
         verify(request).sendResponse("The event has been updated. null", MessageMode.USER);
     }
@@ -872,7 +886,7 @@ class EventServiceTest {
         arguments.put(InteractionArguments.EVENT_ID, event.getId());
         final var jdaEvent = mock(ModalInteractionEvent.class);
         final var channel = mock(MessageChannelUnion.class);
-        final RestAction<Message> messageRestAction = mock(RestAction.class);
+        final var messageEditAction = mock(MessageEditAction.class);
 
         final var title = "New Title";
         final var note = "New Note";
@@ -904,8 +918,8 @@ class EventServiceTest {
             .thenReturn(requester);
         when(eventRepository.save(any(EventJpa.class)))
             .thenAnswer(i -> i.getArgument(0));
-        when(channel.retrieveMessageById(event.getMessageId()))
-            .thenReturn(messageRestAction);
+        when(channel.editMessageById(eq(event.getMessageId()), any(MessageEditData.class)))
+            .thenReturn(messageEditAction);
 
         eventService.editEventDetails(request);
 
@@ -915,7 +929,7 @@ class EventServiceTest {
                 e.getEventDate().equals(TEST_DATE)
         ));
 
-        verify(schedulingService, never()).removeReminderTriggers(event.getId());
+        verify(reminderService, never()).rescheduleEventReminders(event.getId());
         verify(request, never()).sendResponse("Failed to parse date and time", MessageMode.USER);
     }
 
@@ -971,7 +985,7 @@ class EventServiceTest {
         arguments.put(InteractionArguments.EVENT_ID, event.getId());
         final var jdaEvent = mock(ModalInteractionEvent.class);
         final var channel = mock(MessageChannelUnion.class);
-        final RestAction<Message> messageRestAction = mock(RestAction.class);
+        final var messageEditAction = mock(MessageEditAction.class);
 
 
         final var title = "New Title";
@@ -1002,8 +1016,8 @@ class EventServiceTest {
             .thenReturn(requester);
         when(eventRepository.save(any(EventJpa.class)))
             .thenAnswer(i -> i.getArgument(0));
-        when(channel.retrieveMessageById(event.getMessageId()))
-            .thenReturn(messageRestAction);
+        when(channel.editMessageById(eq(event.getMessageId()), any(MessageEditData.class)))
+            .thenReturn(messageEditAction);
 
         eventService.editEventDetails(request);
 
@@ -1013,7 +1027,7 @@ class EventServiceTest {
                 e.getEventDate().equals(LocalDateTime.of(2025, 5, 25, 16, 35))
         ));
 
-        verify(schedulingService).removeReminderTriggers(event.getId());
+        verify(reminderService).rescheduleEventReminders(event.getId());
         verify(request, never()).sendResponse("Failed to parse date and time", MessageMode.USER);
     }
 
@@ -1100,7 +1114,6 @@ class EventServiceTest {
         final var jdaEvent = mock(StringSelectInteractionEvent.class);
         final var courses = List.of(TestEntities.courseJpa(1), TestEntities.courseJpa(2), TestEntities.courseJpa(3));
         final var channel = mock(MessageChannelUnion.class);
-        final RestAction<Message> messageRestAction = mock(RestAction.class);
         final var message = mock(Message.class);
         final var messageCreateAction = mock(MessageCreateAction.class);
         final var messageEditAction = mock(MessageEditAction.class);
@@ -1111,38 +1124,119 @@ class EventServiceTest {
             .thenReturn(Optional.of(event));
         when(request.getEvent())
             .thenReturn(jdaEvent);
-        when(jdaEvent.getValues())
-            .thenReturn(List.of());
-        when(courseService.coursesFromCourseCodes(any()))
+        when(courseService.applyPageSelection(any(), eq(request)))
             .thenReturn(courses);
         when(jdaEvent.getChannel())
             .thenReturn(channel);
         when(request.getRequester())
             .thenReturn(requester);
-        when(channel.retrieveMessageById(event.getMessageId()))
-            .thenReturn(messageRestAction);
-        when(message.replyEmbeds(any(MessageEmbed.class)))
-            .thenReturn(messageCreateAction);
-        when(message.editMessageEmbeds(any(MessageEmbed.class)))
+        when(channel.editMessageById(eq(event.getMessageId()), any(MessageEditData.class)))
             .thenReturn(messageEditAction);
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(messageCreateAction);
+        when(messageCreateAction.setMessageReference(anyLong()))
+            .thenReturn(messageCreateAction);
+        when(message.getIdLong())
+            .thenReturn(event.getMessageId());
 
         eventService.editEventCourses(request);
 
         assertThat(event.getCourses()).containsExactlyInAnyOrderElementsOf(courses);
 
-        verify(schedulingService).removeReminderTriggers(event.getId());
+        verify(reminderService).rescheduleEventReminders(event.getId());
 
         final ArgumentCaptor<Consumer<Message>> messageCaptor = ArgumentCaptor.forClass(Consumer.class);
-        verify(messageRestAction).queue(messageCaptor.capture(), any());
+        verify(messageEditAction).queue(messageCaptor.capture(), any());
         final Consumer<Message> messageConsumer = messageCaptor.getValue();
         messageConsumer.accept(message);
 
-        verify(message).editMessageEmbeds(any(MessageEmbed.class));
-        verify(message).replyEmbeds(any(MessageEmbed.class));
+        final ArgumentCaptor<MessageEditData> editCaptor = ArgumentCaptor.forClass(MessageEditData.class);
+        verify(channel).editMessageById(eq(event.getMessageId()), editCaptor.capture());
+        assertThat(editCaptor.getValue().getEmbeds()).hasSize(1);
+        verify(channel, never()).retrieveMessageById(anyLong());
+        verify(channel).sendMessageEmbeds(any(MessageEmbed.class));
+        verify(messageCreateAction).setMessageReference(event.getMessageId().longValue());
+
+        verify(request).sendResponse("The event has been updated. null", MessageMode.USER);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void editEventCourses_unknownMessageReposts() {
+        final var request = mock(SelectionRequest.class);
+        final var requester = TestEntities.member();
+        final var event = TestEntities.eventJpaWithId(1);
+        final Map<String, Long> arguments = new HashMap<>();
+        arguments.put(InteractionArguments.EVENT_ID, event.getId());
+        final var jdaEvent = mock(StringSelectInteractionEvent.class);
+        final var courses = List.of(TestEntities.courseJpa(1), TestEntities.courseJpa(2), TestEntities.courseJpa(3));
+        final var channel = mock(MessageChannelUnion.class);
+        final var repostedMessage = mock(Message.class);
+        final var repostedMessageId = 999L;
+        final var messageCreateAction = mock(MessageCreateAction.class, RETURNS_SELF);
+        final var messageEditAction = mock(MessageEditAction.class);
+        final var unknownMessage = mock(ErrorResponseException.class);
+
+        when(request.getArguments())
+            .thenReturn(arguments);
+        when(eventRepository.findById(event.getId()))
+            .thenReturn(Optional.of(event));
+        when(request.getEvent())
+            .thenReturn(jdaEvent);
+        when(courseService.applyPageSelection(any(), eq(request)))
+            .thenReturn(courses);
+        when(jdaEvent.getChannel())
+            .thenReturn(channel);
+        when(request.getRequester())
+            .thenReturn(requester);
+        when(channel.editMessageById(eq(event.getMessageId()), any(MessageEditData.class)))
+            .thenReturn(messageEditAction);
+        when(unknownMessage.getErrorResponse())
+            .thenReturn(ErrorResponse.UNKNOWN_MESSAGE);
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
+            .thenReturn(messageCreateAction);
+        when(repostedMessage.getIdLong())
+            .thenReturn(repostedMessageId);
+        when(repostedMessage.getChannel())
+            .thenReturn(channel);
+
+        eventService.editEventCourses(request);
+
+        final ArgumentCaptor<Consumer<Throwable>> errorCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(messageEditAction).queue(any(), errorCaptor.capture());
+        errorCaptor.getValue().accept(unknownMessage);
+
+        final ArgumentCaptor<Consumer<Message>> repostCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(messageCreateAction).queue(repostCaptor.capture(), any());
+        repostCaptor.getValue().accept(repostedMessage);
 
+        verify(eventRepository).save(argThat(e -> e.getMessageId().equals(repostedMessageId)));
+        verify(messageCreateAction).setMessageReference(repostedMessageId);
         verify(request).sendResponse("The event has been updated. null", MessageMode.USER);
     }
 
+    @Test
+    void editEventCourses_noCoursesSelected() {
+        final var request = mock(SelectionRequest.class);
+        final var event = TestEntities.eventJpaWithId(1);
+        final var originalCourses = List.copyOf(event.getCourses());
+        final Map<String, Long> arguments = new HashMap<>();
+        arguments.put(InteractionArguments.EVENT_ID, event.getId());
+
+        when(request.getArguments())
+            .thenReturn(arguments);
+        when(eventRepository.findById(event.getId()))
+            .thenReturn(Optional.of(event));
+        when(courseService.applyPageSelection(any(), eq(request)))
+            .thenReturn(List.of());
+
+        eventService.editEventCourses(request);
+
+        verify(request).sendResponse("An event must have at least one course.", MessageMode.USER);
+        assertThat(event.getCourses()).containsExactlyElementsOf(originalCourses);
+        verify(reminderService, never()).rescheduleEventReminders(any());
+    }
+
     @Test
     void editEventCourses_missingEvent() {
         final var request = mock(SelectionRequest.class);
@@ -1158,7 +1252,7 @@ class EventServiceTest {
         assertThatExceptionOfType(EntityNotFoundException.class)
             .isThrownBy(() -> eventService.editEventCourses(request));
 
-        verify(schedulingService, never()).removeReminderTriggers(event.getId());
+        verify(reminderService, never()).rescheduleEventReminders(event.getId());
     }
 
     @SuppressWarnings("unchecked")
@@ -1176,13 +1270,13 @@ class EventServiceTest {
 
         when(request.getRequester())
             .thenReturn(requester);
-        when(studentService.fetchStudent(requester.getIdLong()))
+        when(studentService.findStudentOrDefault(requester.getIdLong()))
             .thenReturn(student);
         when(request.getArguments())
             .thenReturn(arguments);
-        when(courseService.coursesFromCourseCodes(List.of(course.getCode())))
-            .thenReturn(List.of(course));
-        when(eventRepository.findBy(any(Specification.class), any()))
+        when(courseService.courseFromCode(course.getCode()))
+            .thenReturn(Optional.of(course));
+        when(eventRepository.findSummariesAfter(any(), eq(EnumSet.allOf(EventType.class)), any(), any(), any(), eq(0L), eq(PageRequest.ofSize(4))))
             .thenReturn(List.of());
 
         eventService.filterViewEvents(request);
@@ -1200,7 +1294,7 @@ class EventServiceTest {
 
         when(request.getRequester())
             .thenReturn(requester);
-        when(studentService.fetchStudent(requester.getIdLong()))
+        when(studentService.findStudentOrDefault(requester.getIdLong()))
             .thenReturn(student);
 
         eventService.filterViewEvents(request);
@@ -1230,80 +1324,86 @@ class EventServiceTest {
             .thenReturn(requester);
         when(requester.getIdLong())
             .thenReturn(student.getId());
-        when(studentService.fetchStudent(student.getId()))
+        when(studentService.findStudentOrDefault(student.getId()))
             .thenReturn(student);
         when(request.getArguments())
             .thenReturn(arguments);
-        when(courseService.coursesFromCourseCodes(List.of(courseOne.getCode())))
-            .thenReturn(List.of(courseOne));
+        when(courseService.courseFromCode(courseOne.getCode()))
+            .thenReturn(Optional.of(courseOne));
 
         assertThatExceptionOfType(IllegalArgumentException.class)
             .isThrownBy(() -> eventService.filterViewEvents(request));
 
         verify(request).deferReply(MessageMode.USER);
         verify(request).sendResponse("Something unexpected went wrong. Failed to parse event type.", MessageMode.USER);
-        verify(eventRepository, never()).findBy(any(Specification.class), any());
+        verify(eventRepository, never()).findSummariesAfter(any(), any(), any(), any(), any(), any(), any());
 
     }
 
-    @SuppressWarnings("unchecked")
     @Test
-    void sendAllEventsToEventChannel() {
-        final var jda = mock(JDA.class);
-        final var config = TestEntities.configJpa();
-        final var channel = mock(TextChannel.class);
-        final var messageCreateAction = mock(MessageCreateAction.class);
-        final var events = List.of(TestEntities.eventJpaWithId(1), TestEntities.eventJpaWithId(2), TestEntities.eventJpaWithId(3));
-        final var message = mock(Message.class);
-        final var messageIds = List.of(123L, 456L, 789L);
-        final var channelUnion = mock(MessageChannelUnion.class);
+    void sendViewEventsPage_next() {
+        final var request = mock(ButtonRequest.class);
+        final var filter = new ViewEventsFilter(5L, null, null, 2);
+        final var cursor = TestEntities.eventSummary(2);
+        final var events = List.of(TestEntities.eventSummary(3), TestEntities.eventSummary(4), TestEntities.eventSummary(5));
 
-        when(configService.getConfigJpa())
-            .thenReturn(config);
-        when(jda.getTextChannelById(config.getEventChannel()))
-            .thenReturn(channel);
-        when(channel.sendMessage(anyString()))
-            .thenReturn(messageCreateAction);
-        when(eventRepository.findAllActive())
+        when(request.getArguments())
+            .thenReturn(InteractionArguments.parseArguments(ButtonAction.VIEW_EVENTS_NEXT, filter.toArguments(cursor).stream().map(String::valueOf).toList()));
+        when(request.getAction())
+            .thenReturn(ButtonAction.VIEW_EVENTS_NEXT);
+        when(eventRepository.findSummariesAfter(eq(List.of(5L)), eq(EnumSet.allOf(EventType.class)), any(), any(), eq(cursor.eventDate()), eq(cursor.id()), eq(PageRequest.ofSize(3))))
             .thenReturn(events);
-        when(channel.sendMessageEmbeds(any(MessageEmbed.class)))
-            .thenReturn(messageCreateAction);
-        when(messageCreateAction.addComponents(any(ActionRow.class)))
-            .thenReturn(messageCreateAction);
-        when(message.getChannel())
-            .thenReturn(channelUnion);
-        when(message.getIdLong())
-            .thenReturn(messageIds.get(0), messageIds.get(1), messageIds.get(2));
-
-        eventService.sendAllEventsToEventChannel(jda);
-
-        verify(channel).sendMessage("This channel is now the event channel. All events will be posted here going forward.");
-        verify(channel, times(events.size())).sendMessageEmbeds(any(MessageEmbed.class));
-
-        final ArgumentCaptor<Consumer<Message>> messageCaptor = ArgumentCaptor.forClass(Consumer.class);
-        verify(messageCreateAction, times(events.size())).queue(messageCaptor.capture(), any());
-        final List<Consumer<Message>> messageConsumers = messageCaptor.getAllValues();
-        for (int i = 0; i < messageConsumers.size(); i++) {
-            final Consumer<Message> messageConsumer = messageConsumers.get(i);
-            messageConsumer.accept(message);
-            int finalI = i;
-            verify(eventRepository).save(argThat(e -> e.getMessageId().equals(messageIds.get(finalI))));
-        }
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+
+        eventService.sendViewEventsPage(request);
+
+        final ArgumentCaptor<MessageEditData> captor = ArgumentCaptor.forClass(MessageEditData.class);
+        verify(request).editMessage(captor.capture());
+        final var embed = captor.getValue().getEmbeds().getFirst();
+        assertThat(embed.getFields()).extracting(MessageEmbed.Field::getName)
+            .containsExactly("Test Event3", "Test Event4");
+        final var buttons = captor.getValue().getComponents().getFirst().getButtons();
+        assertThat(buttons).noneMatch(Button::isDisabled);
+        assertThat(buttons.getLast().getId()).isEqualTo(
+            InteractionArguments.createInteractionIdString(ButtonAction.VIEW_EVENTS_NEXT, filter.toArguments(events.get(1)))
+        );
     }
 
     @Test
-    void sendAllEventsToEventChannel_failedToGetChannel() {
-        final var jda = mock(JDA.class);
-        final var config = TestEntities.configJpa();
+    void sendViewEventsPage_previousToFirstPage() {
+        final var request = mock(ButtonRequest.class);
+        final var member = TestEntities.member();
+        final var course = TestEntities.courseJpa(1);
+        final var student = TestEntities.studentJpa(1, List.of(course));
+        final var filter = new ViewEventsFilter(ViewEventsFilter.STUDENT_COURSES, EventType.QUIZ, null, 2);
+        final var cursor = TestEntities.eventSummary(3);
+        final var events = List.of(TestEntities.eventSummary(1), TestEntities.eventSummary(2), TestEntities.eventSummary(3));
 
+        when(request.getArguments())
+            .thenReturn(InteractionArguments.parseArguments(ButtonAction.VIEW_EVENTS_PREVIOUS, filter.toArguments(cursor).stream().map(String::valueOf).toList()));
+        when(request.getAction())
+            .thenReturn(ButtonAction.VIEW_EVENTS_PREVIOUS);
+        when(request.getRequester())
+            .thenReturn(member);
+        when(studentService.findStudentOrDefault(member.getIdLong()))
+            .thenReturn(student);
+        when(eventRepository.findSummariesBefore(any(), eq(EnumSet.of(EventType.QUIZ)), any(), any(), eq(cursor.eventDate()), eq(cursor.id()), eq(PageRequest.ofSize(3))))
+            .thenReturn(List.of(TestEntities.eventSummary(2)));
+        when(eventRepository.findSummariesAfter(any(), eq(EnumSet.of(EventType.QUIZ)), any(), any(), any(), eq(0L), eq(PageRequest.ofSize(3))))
+            .thenReturn(events);
         when(configService.getConfigJpa())
-            .thenReturn(config);
-        when(jda.getTextChannelById(config.getEventChannel()))
-            .thenReturn(null);
+            .thenReturn(TestEntities.configJpa());
 
-        eventService.sendAllEventsToEventChannel(jda);
+        eventService.sendViewEventsPage(request);
 
-        verify(eventRepository, never()).findAllActive();
+        final ArgumentCaptor<MessageEditData> captor = ArgumentCaptor.forClass(MessageEditData.class);
+        verify(request).editMessage(captor.capture());
+        assertThat(captor.getValue().getEmbeds().getFirst().getFields()).extracting(MessageEmbed.Field::getName)
+            .containsExactly("Test Event1", "Test Event2");
+        final var buttons = captor.getValue().getComponents().getFirst().getButtons();
+        assertThat(buttons.getFirst().isDisabled()).isTrue();
+        assertThat(buttons.getLast().isDisabled()).isFalse();
     }
 
     private void adminMocks(InteractionRequest request) {
@@ -1337,7 +1437,7 @@ class EventServiceTest {
             .note("Test Note%s".formatted(seed))
             .eventDate(TEST_DATE)
             .type(EventJpa.EventType.ASSIGNMENT)
-            .courses(new ArrayList<>(List.of(course)))
+            .courses(new LinkedHashSet<>(List.of(course)))
             .build();
     }
 }
\ No newline at end of file
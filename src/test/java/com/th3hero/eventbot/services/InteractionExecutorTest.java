@@ -0,0 +1,209 @@
+package com.th3hero.eventbot.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.requests.restaction.interactions.MessageEditCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class InteractionExecutorTest {
+    private SimpleMeterRegistry meterRegistry;
+    private InteractionExecutor interactionExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interactionExecutor = new InteractionExecutor(meterRegistry, Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        interactionExecutor.stop();
+    }
+
+    @Test
+    void submit() {
+        final var event = interaction(1L);
+        final var handled = new CopyOnWriteArrayList<String>();
+
+        interactionExecutor.submit(event, "button", "EDIT_EVENT", true, acknowledgement -> handled.add("handled")).join();
+
+        assertThat(handled).containsExactly("handled");
+        assertThat(meterRegistry.get("eventbot.interactions.handling").tag("type", "button").tag("action", "EDIT_EVENT").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.interactions.wait").tag("action", "EDIT_EVENT").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.interactions.queued").tag("action", "EDIT_EVENT").gauge().value()).isZero();
+        verify(event, never()).deferReply(anyBoolean());
+        verify(event, never()).deferEdit();
+    }
+
+    @Test
+    void submit_recordsResponses() {
+        interactionExecutor.submit(interaction(1L), "button", "EDIT_EVENT", true, acknowledgement -> acknowledgement.responseTimer("text").accept(null)).join();
+
+        assertThat(meterRegistry.get("eventbot.interactions.response").tag("type", "button").tag("action", "EDIT_EVENT").tag("response", "text").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_sameUserRunsInOrder() throws InterruptedException {
+        final var event = interaction(1L);
+        final var release = new CountDownLatch(1);
+        final List<Integer> order = new CopyOnWriteArrayList<>();
+
+        final var first = interactionExecutor.submit(event, "button", "EDIT_EVENT", true, acknowledgement -> {
+            awaitQuietly(release);
+            order.add(1);
+        });
+        final var second = interactionExecutor.submit(event, "button", "DELETE_EVENT", true, acknowledgement -> order.add(2));
+
+        TimeUnit.MILLISECONDS.sleep(20);
+        assertThat(second).isNotDone();
+        assertThat(meterRegistry.get("eventbot.interactions.queued").tag("action", "DELETE_EVENT").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        first.join();
+        second.join();
+
+        assertThat(order).containsExactly(1, 2);
+        // Only the waiting interaction is deferred straight away
+        verify(event, times(1)).deferEdit();
+    }
+
+    @Test
+    void submit_otherUsersRunConcurrently() {
+        final var release = new CountDownLatch(1);
+
+        final var blocked = interactionExecutor.submit(interaction(1L), "button", "EDIT_EVENT", true, acknowledgement -> awaitQuietly(release));
+        interactionExecutor.submit(interaction(2L), "button", "EDIT_EVENT", true, acknowledgement -> {}).join();
+
+        assertThat(blocked).isNotDone();
+        release.countDown();
+        blocked.join();
+    }
+
+    @Test
+    void submit_handlerFailureDoesNotBlockUser() {
+        final var event = interaction(1L);
+        final var handled = new CopyOnWriteArrayList<String>();
+
+        interactionExecutor.submit(event, "button", "EDIT_EVENT", true, acknowledgement -> {
+            throw new IllegalStateException("Failed");
+        });
+        interactionExecutor.submit(event, "button", "EDIT_EVENT", true, acknowledgement -> handled.add("handled")).join();
+
+        assertThat(handled).containsExactly("handled");
+    }
+
+    @Test
+    void submit_slowHandlerIsDeferred() {
+        final var event = interaction(1L);
+        final var release = new CountDownLatch(1);
+        final var editAction = event.deferEdit();
+
+        final var task = interactionExecutor.submit(event, "button", "EDIT_EVENT", true, acknowledgement -> awaitQuietly(release));
+
+        verify(editAction, timeout(1000)).queue(any());
+        release.countDown();
+        task.join();
+
+        verify(event, never()).deferReply(anyBoolean());
+        assertThat(meterRegistry.get("eventbot.interactions.deferred").tag("action", "EDIT_EVENT").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_slowCommandIsDeferredAsReply() {
+        final var event = mock(SlashCommandInteractionEvent.class);
+        final var user = mock(User.class);
+        final var replyAction = mock(ReplyCallbackAction.class);
+        final var release = new CountDownLatch(1);
+
+        when(event.getUser())
+            .thenReturn(user);
+        when(user.getIdLong())
+            .thenReturn(1L);
+        when(event.deferReply(true))
+            .thenReturn(replyAction);
+
+        final var task = interactionExecutor.submit(event, "command", "VIEW_EVENTS", true, acknowledgement -> awaitQuietly(release));
+
+        verify(replyAction, timeout(1000)).queue(any());
+        release.countDown();
+        task.join();
+    }
+
+    @Test
+    void submit_modalHandlerIsNotDeferred() throws InterruptedException {
+        final var event = interaction(1L);
+        final var release = new CountDownLatch(1);
+
+        final var first = interactionExecutor.submit(event, "button", "EDIT_EVENT", true, acknowledgement -> awaitQuietly(release));
+        final var modal = interactionExecutor.submit(event, "button", "COURSE_SEARCH", false, acknowledgement -> {});
+        verify(event, timeout(1000)).deferEdit();
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+        first.join();
+        modal.join();
+
+        // The first interaction is deferred after the deadline, the waiting modal interaction never is
+        verify(event, times(1)).deferEdit();
+    }
+
+    @Test
+    void submit_acknowledgedHandlerIsNotDeferred() throws InterruptedException {
+        final var event = interaction(1L);
+        final var release = new CountDownLatch(1);
+        final var claimed = new CopyOnWriteArrayList<Boolean>();
+
+        final var task = interactionExecutor.submit(event, "button", "EDIT_EVENT", true, acknowledgement -> {
+            claimed.add(acknowledgement.acknowledge());
+            awaitQuietly(release);
+        });
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+        task.join();
+
+        assertThat(claimed).containsExactly(true);
+        verify(event, never()).deferEdit();
+    }
+
+    @Test
+    void actionName() {
+        assertThat(InteractionExecutor.actionName("COURSE_PAGE-0-0-1-0-60-25")).isEqualTo("COURSE_PAGE");
+        assertThat(InteractionExecutor.actionName("SELECT_COURSES")).isEqualTo("SELECT_COURSES");
+    }
+
+    private static ButtonInteractionEvent interaction(Long userId) {
+        final var event = mock(ButtonInteractionEvent.class);
+        final var user = mock(User.class);
+        final var editAction = mock(MessageEditCallbackAction.class);
+        when(event.getUser())
+            .thenReturn(user);
+        when(user.getIdLong())
+            .thenReturn(userId);
+        when(event.deferEdit())
+            .thenReturn(editAction);
+        return event;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
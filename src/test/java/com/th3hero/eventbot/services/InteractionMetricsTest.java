@@ -0,0 +1,74 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.commands.actions.ButtonAction;
+import com.th3hero.eventbot.config.JdbcTimingSessionListener;
+import com.th3hero.eventbot.exceptions.DataAccessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InteractionMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private InteractionMetrics interactionMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interactionMetrics = new InteractionMetrics(meterRegistry);
+    }
+
+    @Test
+    void record() {
+        interactionMetrics.record("button", () -> ButtonAction.EDIT_EVENT, action -> action, action -> {
+            final var listener = new JdbcTimingSessionListener();
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+        });
+
+        assertThat(meterRegistry.get("eventbot.interactions.parse").tag("type", "button").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.interactions.handler").tag("action", "EDIT_EVENT").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.interactions.database").tag("action", "EDIT_EVENT").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.interactions.outcomes").tag("action", "EDIT_EVENT").tag("outcome", "success").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void record_handlerThrows() {
+        final var exception = new EntityNotFoundException("Event not found");
+
+        assertThatThrownBy(() -> interactionMetrics.record("button", () -> ButtonAction.DELETE_EVENT, action -> action, action -> {
+            throw exception;
+        })).isSameAs(exception);
+
+        assertThat(meterRegistry.get("eventbot.interactions.handler").tag("action", "DELETE_EVENT").tag("outcome", "not_found").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.interactions.outcomes").tag("action", "DELETE_EVENT").tag("outcome", "not_found").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void record_parseFails() {
+        final var exception = new DataAccessException("Failed to parse");
+
+        assertThatThrownBy(() -> interactionMetrics.record("modal", () -> {
+            throw exception;
+        }, action -> ButtonAction.EDIT_EVENT, action -> {})).isSameAs(exception);
+
+        assertThat(meterRegistry.get("eventbot.interactions.parse").tag("type", "modal").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.interactions.outcomes").tag("action", InteractionMetrics.UNKNOWN_ACTION).tag("outcome", "data_access").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("eventbot.interactions.handler").timer()).isNull();
+    }
+
+    @Test
+    void record_handlerQueryFails() {
+        final var exception = new DataRetrievalFailureException("Connection refused");
+
+        assertThatThrownBy(() -> interactionMetrics.record("button", () -> ButtonAction.EDIT_EVENT, action -> action, action -> {
+            throw exception;
+        })).isSameAs(exception);
+
+        assertThat(meterRegistry.get("eventbot.interactions.outcomes").tag("action", "EDIT_EVENT").tag("outcome", "data_access").counter().count()).isEqualTo(1);
+    }
+}
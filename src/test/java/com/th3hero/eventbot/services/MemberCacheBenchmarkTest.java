@@ -0,0 +1,186 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.repositories.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
+import net.dv8tion.jda.api.utils.data.DataArray;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import net.dv8tion.jda.internal.JDAImpl;
+import net.dv8tion.jda.internal.entities.EntityBuilder;
+import net.dv8tion.jda.internal.entities.GuildImpl;
+import net.dv8tion.jda.internal.utils.UnlockHook;
+import net.dv8tion.jda.internal.utils.config.AuthorizationConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the member cache the bot used to run with, every member chunked on startup and cached, with the one it runs with now,
+ * students and administrators only with an LRU bound.
+ * A simulated large guild is sent as GUILD_MEMBERS_CHUNK payloads of 1000 members, the most discord sends per chunk.
+ * Each payload is parsed and its members are built by JDA's own entity builder into the member cache of a JDA instance
+ * that never connects, so the cache policy decides what is kept exactly as it does in the bot.
+ * Under the old configuration all chunks arrive on startup, so the time to process them is the startup delay they cause.
+ * Under the new one no chunks are requested and members arrive one by one through events, the same payloads are fed
+ * to show what caching them costs. Heap is measured as the difference in used heap after a full collection.
+ */
+@Slf4j
+class MemberCacheBenchmarkTest {
+    private static final long GUILD_ID = 1000L;
+    private static final long ADMIN_ROLE_ID = 2000L;
+    private static final int MEMBERS_PER_CHUNK = 1000;
+    private static final int MEMBERS = 50_000;
+    private static final int STUDENTS = 2_000;
+    private static final int ADMINS = 5;
+    private static final int LRU_MAX_SIZE = 1_000;
+
+    private static List<String> chunkPayloads;
+    private static List<Long> studentIds;
+
+    @BeforeAll
+    static void simulateGuild() {
+        // Students are spread through the guild instead of overlapping the admins
+        studentIds = LongStream.rangeClosed(1, STUDENTS).map(i -> i * (MEMBERS / STUDENTS)).boxed().toList();
+
+        chunkPayloads = new ArrayList<>();
+        int chunkCount = Math.ceilDiv(MEMBERS, MEMBERS_PER_CHUNK);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            DataArray members = DataArray.empty();
+            for (long id = chunk * MEMBERS_PER_CHUNK + 1L; id <= Math.min((chunk + 1L) * MEMBERS_PER_CHUNK, MEMBERS); id++) {
+                members.add(memberJson(id));
+            }
+            chunkPayloads.add(DataObject.empty()
+                .put("op", 0)
+                .put("t", "GUILD_MEMBERS_CHUNK")
+                .put("d", DataObject.empty()
+                    .put("guild_id", Long.toUnsignedString(GUILD_ID))
+                    .put("members", members)
+                    .put("chunk_index", chunk)
+                    .put("chunk_count", chunkCount))
+                .toString());
+        }
+    }
+
+    @Test
+    void memberCache() {
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        when(studentRepository.findAllIds())
+            .thenReturn(studentIds);
+        MemberCacheService memberCacheService = new MemberCacheService(studentRepository, new SimpleMeterRegistry());
+        memberCacheService.load();
+
+        Measurement all = measure(MemberCachePolicy.ALL);
+        Measurement selective = measure(memberCacheService.lru(LRU_MAX_SIZE));
+
+        log.info("Chunk and cache every member: {}", all);
+        log.info("Cache students and administrators, at most {}: {}", LRU_MAX_SIZE, selective);
+        assertThat(all.cachedMembers()).isEqualTo(MEMBERS);
+        assertThat(selective.cachedMembers()).isEqualTo(Math.min(STUDENTS + ADMINS, LRU_MAX_SIZE));
+        assertThat(selective.heapBytes()).isLessThan(all.heapBytes());
+    }
+
+    /**
+     * Feeds every chunk of the guild to a fresh JDA instance with the given policy.
+     * The instance is kept reachable until the heap is measured, so its cache is counted.
+     */
+    private static Measurement measure(MemberCachePolicy policy) {
+        long heapBefore = usedHeapAfterGc();
+
+        JDAImpl jda = new JDAImpl(new AuthorizationConfig("benchmark"));
+        jda.setMemberCachePolicy(policy);
+        GuildImpl guild = createGuild(jda);
+        EntityBuilder entityBuilder = jda.getEntityBuilder();
+
+        long start = System.nanoTime();
+        for (String payload : chunkPayloads) {
+            DataArray members = DataObject.fromJson(payload).getObject("d").getArray("members");
+            for (int i = 0; i < members.length(); i++) {
+                entityBuilder.createMember(guild, members.getObject(i));
+            }
+        }
+        long nanos = System.nanoTime() - start;
+
+        long heapBytes = usedHeapAfterGc() - heapBefore;
+        return new Measurement(guild.getMemberCache().size(), nanos, heapBytes);
+    }
+
+    /**
+     * Creates the guild with its public role and an administrator role, so permission checks work like in a loaded guild.
+     */
+    private static GuildImpl createGuild(JDAImpl jda) {
+        GuildImpl guild = new GuildImpl(jda, GUILD_ID);
+        try (UnlockHook hook = jda.getGuildsView().writeLock()) {
+            jda.getGuildsView().getMap().put(GUILD_ID, guild);
+        }
+        jda.getEntityBuilder().createRole(guild, roleJson(GUILD_ID, "@everyone", 0, 0), GUILD_ID);
+        jda.getEntityBuilder().createRole(guild, roleJson(ADMIN_ROLE_ID, "Admin", 1, Permission.ADMINISTRATOR.getRawValue()), GUILD_ID);
+        return guild;
+    }
+
+    private static DataObject memberJson(long id) {
+        DataArray roles = DataArray.empty();
+        if (id <= ADMINS) {
+            roles.add(Long.toUnsignedString(ADMIN_ROLE_ID));
+        }
+        return DataObject.empty()
+            .put("user", DataObject.empty()
+                .put("id", Long.toUnsignedString(id))
+                .put("username", "member" + id)
+                .put("global_name", "Member " + id)
+                .put("discriminator", "0")
+                .put("avatar", null)
+                .put("bot", false)
+                .put("public_flags", 0))
+            .put("roles", roles)
+            .put("nick", null)
+            .put("avatar", null)
+            .put("joined_at", "2024-01-01T00:00:00.000000+00:00")
+            .put("premium_since", null)
+            .put("communication_disabled_until", null)
+            .put("pending", false)
+            .put("deaf", false)
+            .put("mute", false)
+            .put("flags", 0);
+    }
+
+    private static DataObject roleJson(long id, String name, int position, long permissions) {
+        return DataObject.empty()
+            .put("id", Long.toUnsignedString(id))
+            .put("name", name)
+            .put("color", 0)
+            .put("hoist", false)
+            .put("position", position)
+            .put("permissions", Long.toUnsignedString(permissions))
+            .put("managed", false)
+            .put("mentionable", false)
+            .put("flags", 0);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private record Measurement(int cachedMembers, long nanos, long heapBytes) {
+        @Override
+        public String toString() {
+            return "%d of %d members cached in %.1f ms over %d chunks, %.1f MB of heap".formatted(
+                cachedMembers, MEMBERS, nanos / 1_000_000d, Math.ceilDiv(MEMBERS, MEMBERS_PER_CHUNK), heapBytes / 1024d / 1024d
+            );
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.repositories.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.utils.concurrent.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCacheServiceTest {
+    @Mock
+    private StudentRepository studentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberCacheService memberCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberCacheService = new MemberCacheService(studentRepository, meterRegistry);
+    }
+
+    @Test
+    void cacheMember_student() {
+        final var member = mock(Member.class);
+
+        when(studentRepository.findAllIds())
+            .thenReturn(List.of(1234L));
+        when(member.getIdLong())
+            .thenReturn(1234L);
+
+        memberCacheService.load();
+
+        assertThat(memberCacheService.cacheMember(member)).isTrue();
+        assertThat(meterRegistry.get("eventbot.members.students").gauge().value()).isEqualTo(1);
+        verify(member, never()).hasPermission(Permission.ADMINISTRATOR);
+    }
+
+    @Test
+    void cacheMember_admin() {
+        final var member = mock(Member.class);
+
+        when(member.getIdLong())
+            .thenReturn(1234L);
+        when(member.isOwner())
+            .thenReturn(false);
+        when(member.hasPermission(Permission.ADMINISTRATOR))
+            .thenReturn(true);
+
+        assertThat(memberCacheService.cacheMember(member)).isTrue();
+    }
+
+    @Test
+    void cacheMember_otherMember() {
+        final var member = mock(Member.class);
+
+        when(member.getIdLong())
+            .thenReturn(1234L);
+        when(member.isOwner())
+            .thenReturn(false);
+        when(member.hasPermission(Permission.ADMINISTRATOR))
+            .thenReturn(false);
+
+        assertThat(memberCacheService.cacheMember(member)).isFalse();
+    }
+
+    @Test
+    void addStudent_removeStudent() {
+        final var member = mock(Member.class);
+
+        when(member.getIdLong())
+            .thenReturn(1234L);
+
+        memberCacheService.addStudent(1234L);
+        assertThat(memberCacheService.cacheMember(member)).isTrue();
+
+        memberCacheService.removeStudent(1234L);
+        assertThat(memberCacheService.cacheMember(member)).isFalse();
+    }
+
+    @Test
+    void findMembers() {
+        final var guild = mock(Guild.class);
+        final var cached = mock(Member.class);
+        final var retrieved = mock(Member.class);
+        @SuppressWarnings("unchecked")
+        final Task<List<Member>> task = mock(Task.class);
+
+        when(guild.getMemberById(1L))
+            .thenReturn(cached);
+        when(guild.getMemberById(2L))
+            .thenReturn(null);
+        when(guild.getMemberById(3L))
+            .thenReturn(null);
+        when(guild.retrieveMembersByIds(anyCollection()))
+            .thenReturn(task);
+        when(task.get())
+            .thenReturn(List.of(retrieved));
+        when(retrieved.getIdLong())
+            .thenReturn(2L);
+
+        final var result = memberCacheService.findMembers(guild, List.of(1L, 2L, 3L, 1L));
+
+        // Member 3 has left the guild
+        assertThat(result).isEqualTo(Map.of(1L, cached, 2L, retrieved));
+        verify(guild).retrieveMembersByIds(argThat((List<Long> ids) -> ids.size() == 2 && ids.containsAll(List.of(2L, 3L))));
+        assertThat(meterRegistry.get("eventbot.members.lookups").tag("result", "cached").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("eventbot.members.lookups").tag("result", "retrieved").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void findMembers_allCached() {
+        final var guild = mock(Guild.class);
+        final var member = mock(Member.class);
+
+        when(guild.getMemberById(1L))
+            .thenReturn(member);
+
+        final var result = memberCacheService.findMembers(guild, List.of(1L));
+
+        assertThat(result).isEqualTo(Map.of(1L, member));
+        verify(guild, never()).retrieveMembersByIds(anyCollection());
+    }
+
+    @Test
+    void findMembers_retrieveFails() {
+        final var guild = mock(Guild.class);
+        @SuppressWarnings("unchecked")
+        final Task<List<Member>> task = mock(Task.class);
+
+        when(guild.getMemberById(1L))
+            .thenReturn(null);
+        when(guild.retrieveMembersByIds(anyCollection()))
+            .thenReturn(task);
+        when(task.get())
+            .thenThrow(new IllegalStateException("Gateway closed"));
+
+        final var result = memberCacheService.findMembers(guild, List.of(1L));
+
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,299 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentEvent;
+import com.th3hero.eventbot.repositories.StudentRepository;
+import com.th3hero.eventbot.repositories.StudentRepository.StudentChannel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.CacheRestAction;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrivateChannelServiceTest {
+    @Mock
+    private JDA jda;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OkHttpClient httpClient;
+    @Mock
+    private Call call;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrivateChannelService privateChannelService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        privateChannelService = new PrivateChannelService(jda, studentRepository, applicationEventPublisher, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        privateChannelService.stop();
+    }
+
+    @Test
+    void load() {
+        final var studentChannel = mock(StudentChannel.class);
+
+        when(studentChannel.getStudentId())
+            .thenReturn(1L);
+        when(studentChannel.getChannelId())
+            .thenReturn(555L);
+        when(studentRepository.findAllPrivateChannels())
+            .thenReturn(List.of(studentChannel));
+
+        privateChannelService.load();
+
+        assertThat(privateChannelService.findChannelId(1L)).isEqualTo(OptionalLong.of(555L));
+        assertThat(privateChannelService.findChannelId(2L)).isEmpty();
+    }
+
+    @Test
+    void sendMessage_savedChannelAfterRestart() throws IOException {
+        loadSavedChannel(1L, 555L);
+        stubDirectSend();
+
+        final var sent = privateChannelService.sendMessage(1L, "Reminder");
+        final var request = respond(200, "{}");
+
+        assertThat(sent).isCompletedWithValue(null);
+        assertThat(request.method()).isEqualTo("POST");
+        assertThat(request.url().toString()).isEqualTo("https://discord.com/api/v10/channels/555/messages");
+        assertThat(request.header("Authorization")).isEqualTo("Bot token");
+        verify(jda, never()).getPrivateChannelById(anyLong());
+        verify(jda, never()).openPrivateChannelById(anyLong());
+        assertThat(meterRegistry.get("eventbot.private_channels.lookups").tag("result", "saved").counter().count()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void sendMessage_savedChannelUnknown() throws IOException {
+        final CacheRestAction<PrivateChannel> openAction = mock(CacheRestAction.class);
+        final RestAction<Message> sendAction = mock(RestAction.class);
+        final RestAction<Void> result = mock(RestAction.class);
+
+        loadSavedChannel(1L, 555L);
+        stubDirectSend();
+        when(jda.openPrivateChannelById(1L))
+            .thenReturn(openAction);
+        when(openAction.flatMap(any()))
+            .thenReturn(sendAction);
+        when(sendAction.map(any()))
+            .thenReturn((RestAction) result);
+        when(result.submit())
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        final var sent = privateChannelService.sendMessage(1L, "Reminder");
+        respond(404, "{\"code\": 10003, \"message\": \"Unknown Channel\"}");
+
+        assertThat(sent).isCompletedWithValue(null);
+        verify(jda).openPrivateChannelById(1L);
+        assertThat(meterRegistry.get("eventbot.private_channels.lookups").tag("result", "reopened").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendMessage_savedChannelUserBlocksMessages() throws IOException {
+        loadSavedChannel(1L, 555L);
+        stubDirectSend();
+
+        final var sent = privateChannelService.sendMessage(1L, "Reminder");
+        respond(403, "{\"code\": 50007, \"message\": \"Cannot send messages to this user\"}");
+
+        assertThat(sent).isCompletedExceptionally();
+        assertThat(PrivateChannelService.errorResponseOf(sent.handle((value, error) -> error).join()))
+            .contains(ErrorResponse.CANNOT_SEND_TO_USER);
+        verify(jda, never()).openPrivateChannelById(anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void sendMessage_noSavedChannel() {
+        final var student = TestEntities.studentJpa(1, List.of());
+        final var userId = student.getId();
+        final CacheRestAction<PrivateChannel> openAction = mock(CacheRestAction.class);
+        final RestAction<Message> sendAction = mock(RestAction.class);
+        final RestAction<Void> result = mock(RestAction.class);
+        final var channel = mock(PrivateChannel.class);
+        final var createAction = mock(MessageCreateAction.class);
+        final CompletableFuture<Void> sent = new CompletableFuture<>();
+
+        when(jda.openPrivateChannelById(userId))
+            .thenReturn(openAction);
+        when(openAction.flatMap(any()))
+            .thenReturn(sendAction);
+        when(sendAction.map(any()))
+            .thenReturn((RestAction) result);
+        when(result.submit())
+            .thenReturn(sent);
+        when(channel.getIdLong())
+            .thenReturn(555L);
+        when(channel.sendMessage("Reminder"))
+            .thenReturn(createAction);
+        when(studentRepository.findById(userId))
+            .thenReturn(Optional.of(student));
+
+        assertThat(privateChannelService.sendMessage(userId, "Reminder")).isSameAs(sent);
+
+        final ArgumentCaptor<Function<PrivateChannel, RestAction<Message>>> openedCaptor = ArgumentCaptor.forClass(Function.class);
+        verify(openAction).flatMap(openedCaptor.capture());
+        assertThat(openedCaptor.getValue().apply(channel)).isEqualTo(createAction);
+        assertThat(privateChannelService.findChannelId(userId)).isEqualTo(OptionalLong.of(555L));
+
+        // Saved by the worker once it has finished
+        privateChannelService.stop();
+        assertThat(student.getPrivateChannelId()).isEqualTo(555L);
+        verify(applicationEventPublisher).publishEvent(new UpdatedStudentEvent(userId));
+        assertThat(meterRegistry.get("eventbot.private_channels.lookups").tag("result", "opened").counter().count()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void sendMessage_notStudent() {
+        final var userId = 1L;
+        final CacheRestAction<PrivateChannel> openAction = mock(CacheRestAction.class);
+        final RestAction<Message> sendAction = mock(RestAction.class);
+        final RestAction<Void> result = mock(RestAction.class);
+        final var channel = mock(PrivateChannel.class);
+
+        when(jda.openPrivateChannelById(userId))
+            .thenReturn(openAction);
+        when(openAction.flatMap(any()))
+            .thenReturn(sendAction);
+        when(sendAction.map(any()))
+            .thenReturn((RestAction) result);
+        when(result.submit())
+            .thenReturn(new CompletableFuture<>());
+        when(channel.getIdLong())
+            .thenReturn(555L);
+        when(studentRepository.findById(userId))
+            .thenReturn(Optional.empty());
+
+        privateChannelService.sendMessage(userId, "Reminder");
+
+        final ArgumentCaptor<Function<PrivateChannel, RestAction<Message>>> openedCaptor = ArgumentCaptor.forClass(Function.class);
+        verify(openAction).flatMap(openedCaptor.capture());
+        openedCaptor.getValue().apply(channel);
+        privateChannelService.stop();
+
+        // Kept in memory for the next message even though there is no student to save it on
+        assertThat(privateChannelService.findChannelId(userId)).isEqualTo(OptionalLong.of(555L));
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void sendMessage_reopenedChannelNotSavedAgain() throws IOException {
+        final CacheRestAction<PrivateChannel> openAction = mock(CacheRestAction.class);
+        final RestAction<Message> sendAction = mock(RestAction.class);
+        final RestAction<Void> result = mock(RestAction.class);
+        final var channel = mock(PrivateChannel.class);
+
+        loadSavedChannel(1L, 555L);
+        stubDirectSend();
+        when(jda.openPrivateChannelById(1L))
+            .thenReturn(openAction);
+        when(openAction.flatMap(any()))
+            .thenReturn(sendAction);
+        when(sendAction.map(any()))
+            .thenReturn((RestAction) result);
+        when(result.submit())
+            .thenReturn(new CompletableFuture<>());
+        when(channel.getIdLong())
+            .thenReturn(555L);
+
+        privateChannelService.sendMessage(1L, "Reminder");
+        respond(404, "{\"code\": 10003, \"message\": \"Unknown Channel\"}");
+
+        final ArgumentCaptor<Function<PrivateChannel, RestAction<Message>>> openedCaptor = ArgumentCaptor.forClass(Function.class);
+        verify(openAction).flatMap(openedCaptor.capture());
+        openedCaptor.getValue().apply(channel);
+        privateChannelService.stop();
+
+        verify(studentRepository, never()).findById(any());
+    }
+
+    private void stubDirectSend() {
+        when(jda.getToken())
+            .thenReturn("Bot token");
+        when(jda.getHttpClient())
+            .thenReturn(httpClient);
+        when(httpClient.newCall(any()))
+            .thenReturn(call);
+    }
+
+    private void loadSavedChannel(long userId, long channelId) {
+        final var studentChannel = mock(StudentChannel.class);
+
+        when(studentChannel.getStudentId())
+            .thenReturn(userId);
+        when(studentChannel.getChannelId())
+            .thenReturn(channelId);
+        when(studentRepository.findAllPrivateChannels())
+            .thenReturn(List.of(studentChannel));
+
+        privateChannelService.load();
+    }
+
+    /**
+     * Answers the message sent directly to a saved channel.
+     *
+     * @return The request that was sent
+     */
+    private Request respond(int status, String body) throws IOException {
+        final var requestCaptor = ArgumentCaptor.forClass(Request.class);
+        final var callbackCaptor = ArgumentCaptor.forClass(Callback.class);
+        verify(httpClient).newCall(requestCaptor.capture());
+        verify(call).enqueue(callbackCaptor.capture());
+
+        final var request = requestCaptor.getValue();
+        callbackCaptor.getValue().onResponse(call, new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(status)
+            .message("Status " + status)
+            .body(ResponseBody.create(body, MediaType.get("application/json")))
+            .build());
+        return request;
+    }
+}
@@ -0,0 +1,264 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.commands.requests.CommandRequest;
+import com.th3hero.eventbot.commands.requests.InteractionRequest.MessageMode;
+import com.th3hero.eventbot.config.SlashCommandConfig;
+import com.th3hero.eventbot.entities.CourseJpa;
+import com.th3hero.eventbot.entities.StudentJpa;
+import com.th3hero.eventbot.repositories.ConfigRepository;
+import com.th3hero.eventbot.repositories.CourseRepository;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.StudentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.requests.restaction.interactions.AutoCompleteCallbackAction;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the query only paths against the database without a surrounding test transaction,
+ * so each one runs in the transaction of its service and any write it makes would be flushed and counted.
+ * Read only transactions are sent to a separate read pool, which points at the same database here.
+ * Caches are refilled on the primary pool only.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.replica.jdbc-url=jdbc:tc:postgresql:14.0:///event-bot",
+    "spring.datasource.replica.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+@ActiveProfiles("test")
+class ReadOnlyTransactionIT {
+
+    @MockBean
+    private JDA jda;
+    @MockBean
+    private SlashCommandConfig slashCommandConfig;
+    @MockBean
+    private SchedulingService schedulingService;
+
+    @Autowired
+    private ConfigRepository configRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ConfigService configService;
+    @Autowired
+    private CourseService courseService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private Statistics statistics;
+    private List<CourseJpa> courses;
+    private StudentJpa student;
+    private final AtomicBoolean readOnly = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        configRepository.save(TestEntities.configJpa());
+        courses = courseRepository.saveAll(List.of(TestEntities.courseJpa(1), TestEntities.courseJpa(2)));
+        student = studentRepository.save(TestEntities.studentJpa(1, courses));
+        final var event = TestEntities.eventJpa(1, courses);
+        event.setEventDate(LocalDateTime.now().plusDays(1));
+        eventRepository.save(event);
+
+        configService.invalidateConfigCache();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+        configRepository.deleteAll();
+        configService.invalidateConfigCache();
+    }
+
+    @Test
+    void getConfig() {
+        configService.getConfig();
+
+        assertNoWrites();
+    }
+
+    @Test
+    void getAllCourses() {
+        assertThat(courseService.getAllCourses()).hasSize(2);
+
+        assertNoWrites();
+    }
+
+    @Test
+    void listStudentCourses() {
+        final var request = commandRequest(student.getId());
+
+        studentService.listStudentCourses(request);
+
+        verify(request).sendResponse(any(), eq(MessageMode.USER));
+        assertThat(readOnly).isTrue();
+        assertNoWrites();
+    }
+
+    @Test
+    void filterViewEvents() {
+        final var request = commandRequest(student.getId());
+
+        when(request.getArguments())
+            .thenReturn(Map.of());
+
+        eventService.filterViewEvents(request);
+
+        verify(request).sendResponse(any(MessageCreateData.class), eq(MessageMode.USER));
+        assertThat(readOnly).isTrue();
+        assertNoWrites();
+    }
+
+    @Test
+    void autoCompleteCourseOptions() {
+        courseService.autoCompleteCourseOptions(autoCompleteEvent(student.getId()));
+
+        assertThat(readOnly).isTrue();
+        assertNoWrites();
+    }
+
+    @Test
+    void reminderOffsetAutoComplete_newStudent() {
+        final var newStudentId = 99L;
+
+        studentService.reminderOffsetAutoComplete(autoCompleteEvent(newStudentId));
+
+        assertThat(readOnly).isTrue();
+        assertNoWrites();
+        assertThat(studentRepository.existsById(newStudentId)).isFalse();
+    }
+
+    @Test
+    void readOnlyTransaction_skipsDirtyChecking() {
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        final var course = courses.getFirst();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            final var loaded = courseRepository.findById(course.getId()).orElseThrow();
+            loaded.setName("Renamed");
+            assertThat(replicaDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+        });
+
+        assertNoWrites();
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getName()).isEqualTo(course.getName());
+    }
+
+    @Test
+    void readOnlyTransaction_doesNotFillSecondLevelCache() {
+        final var readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+        final var cache = entityManagerFactory.getCache();
+        cache.evictAll();
+
+        readOnlyTemplate.executeWithoutResult(status -> studentService.findStudentOrDefault(student.getId()));
+        assertThat(cache.contains(StudentJpa.class, student.getId())).isFalse();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> studentService.findStudentOrDefault(student.getId()));
+        assertThat(cache.contains(StudentJpa.class, student.getId())).isTrue();
+    }
+
+    @Test
+    void getConfig_loadsOnPrimary() {
+        final var readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+
+        readOnlyTemplate.executeWithoutResult(status -> {
+            configService.getConfigJpa();
+            // Only the surrounding transaction's connection is taken from the read pool, the config is loaded in its own transaction
+            assertThat(replicaDataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+        });
+    }
+
+    private CommandRequest commandRequest(Long studentId) {
+        final var request = mock(CommandRequest.class);
+        final var requester = TestEntities.member();
+
+        when(request.getRequester())
+            .thenReturn(requester);
+        when(requester.getIdLong())
+            .thenReturn(studentId);
+        doAnswer(invocation -> {
+            readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return null;
+        }).when(request).sendResponse(any(), any());
+        return request;
+    }
+
+    private CommandAutoCompleteInteractionEvent autoCompleteEvent(Long studentId) {
+        final var event = mock(CommandAutoCompleteInteractionEvent.class);
+        final var user = mock(User.class);
+        final var option = mock(AutoCompleteQuery.class);
+        final var action = mock(AutoCompleteCallbackAction.class);
+
+        when(event.getUser())
+            .thenReturn(user);
+        when(user.getIdLong())
+            .thenReturn(studentId);
+        when(event.getFocusedOption())
+            .thenReturn(option);
+        when(option.getValue())
+            .thenReturn("");
+        when(event.replyChoices(anyList()))
+            .thenAnswer(invocation -> {
+                readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                return action;
+            });
+        return event;
+    }
+
+    private void assertNoWrites() {
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+    }
+}
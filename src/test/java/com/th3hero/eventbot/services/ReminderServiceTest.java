@@ -0,0 +1,329 @@
+package com.th3hero.eventbot.services;
+
+import com.th3hero.eventbot.TestEntities;
+import com.th3hero.eventbot.entities.EventJpa.EventStatus;
+import com.th3hero.eventbot.entities.ReminderDeliveryJpa.DeliveryStatus;
+import com.th3hero.eventbot.entities.ReminderWindowJpa;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentCoursesEvent;
+import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.repositories.ReminderDeliveryRepository;
+import com.th3hero.eventbot.repositories.ReminderWindowRepository;
+import com.th3hero.eventbot.repositories.StudentRepository;
+import com.th3hero.eventbot.services.DirectMessageQueue.DeliveryOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderServiceTest {
+    @Mock
+    private ReminderWindowRepository reminderWindowRepository;
+    @Mock
+    private ReminderDeliveryRepository reminderDeliveryRepository;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private ConfigService configService;
+    @Mock
+    private DirectMessageQueue directMessageQueue;
+
+    @InjectMocks
+    private ReminderService reminderService;
+
+    @Test
+    void scheduleEventReminders() {
+        final var eventId = 1L;
+
+        reminderService.scheduleEventReminders(eventId);
+
+        verify(reminderWindowRepository).insertWindowsForEvent(eq(eventId), any(LocalDateTime.class));
+    }
+
+    @Test
+    void scheduleStudentReminders() {
+        final var studentId = 1L;
+
+        reminderService.scheduleStudentReminders(studentId);
+
+        verify(reminderWindowRepository).insertWindowsForStudent(eq(studentId), any(LocalDateTime.class));
+    }
+
+    @Test
+    void rescheduleEventReminders() {
+        final var eventId = 1L;
+
+        reminderService.rescheduleEventReminders(eventId);
+
+        final var inOrder = inOrder(reminderWindowRepository);
+        inOrder.verify(reminderWindowRepository).updateFireTimesForEvent(eventId);
+        inOrder.verify(reminderWindowRepository).deleteStaleWindowsForEvent(eq(eventId), any(LocalDateTime.class));
+        inOrder.verify(reminderWindowRepository).insertWindowsForEvent(eq(eventId), any(LocalDateTime.class));
+        verify(reminderWindowRepository, never()).deleteAllByEventId(any());
+    }
+
+    @Test
+    void updateStudentReminders() {
+        final var event = new UpdatedStudentCoursesEvent(1L, Set.of(2L, 3L));
+
+        reminderService.updateStudentReminders(event);
+
+        verify(reminderWindowRepository).deleteStaleWindowsForCourses(eq(event.removedCourseIds()), any(LocalDateTime.class));
+        verify(reminderWindowRepository).insertWindowsForStudent(eq(event.studentId()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void updateStudentReminders_noRemovedCourses() {
+        final var event = new UpdatedStudentCoursesEvent(1L, Set.of());
+
+        reminderService.updateStudentReminders(event);
+
+        verify(reminderWindowRepository, never()).deleteStaleWindowsForCourses(any(), any());
+        verify(reminderWindowRepository).insertWindowsForStudent(eq(event.studentId()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void removeEventReminders() {
+        final var eventId = 1L;
+
+        reminderService.removeEventReminders(eventId);
+
+        verify(reminderWindowRepository).deleteAllByEventId(eventId);
+        verify(reminderWindowRepository, never()).insertWindowsForEvent(any(), any());
+    }
+
+    @Test
+    void dispatchDueReminders() {
+        final var event = TestEntities.eventJpaWithId(1);
+        final var config = TestEntities.configJpa();
+        final var dayWindow = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(24));
+        final var hourWindow = ReminderWindowJpa.create(event.getId(), 1, event.getEventDate().minusHours(1));
+        final var jumpUrl = "https://discord.com/channels/%d/%d/%d".formatted(config.getServerId(), config.getEventChannel(), event.getMessageId());
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(dayWindow, hourWindow));
+        when(eventRepository.findAllById(Set.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(configService.getConfigJpa())
+            .thenReturn(config);
+        when(directMessageQueue.remainingCapacity())
+            .thenReturn(100);
+        when(studentRepository.findReminderRecipients(event.getId(), 24, 0L, 101))
+            .thenReturn(List.of(5L, 6L));
+        when(studentRepository.findReminderRecipients(event.getId(), 1, 0L, 99))
+            .thenReturn(List.of(5L));
+
+        reminderService.dispatchDueReminders();
+
+        verify(eventRepository).findAllById(any());
+        verify(configService).getConfigJpa();
+        verify(reminderDeliveryRepository).insertQueued(eq(event.getId()), eq(24), eq(List.of(5L, 6L)), any(LocalDateTime.class));
+        verify(reminderDeliveryRepository).insertQueued(eq(event.getId()), eq(1), eq(List.of(5L)), any(LocalDateTime.class));
+        verify(directMessageQueue).enqueueAll(event.getId(), 24, List.of(5L, 6L), "24 hour reminder for event: " + jumpUrl, dayWindow.getFireTime());
+        verify(directMessageQueue).enqueueAll(event.getId(), 1, List.of(5L), "1 hour reminder for event: " + jumpUrl, hourWindow.getFireTime());
+        verify(reminderWindowRepository).deleteAllInBatch(List.of(dayWindow, hourWindow));
+    }
+
+    @Test
+    void dispatchDueReminders_enqueuedAfterCommit() {
+        final var event = TestEntities.eventJpaWithId(1);
+        final var window = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(24));
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(window));
+        when(eventRepository.findAllById(Set.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+        when(directMessageQueue.remainingCapacity())
+            .thenReturn(100);
+        when(studentRepository.findReminderRecipients(event.getId(), 24, 0L, 101))
+            .thenReturn(List.of(5L, 6L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reminderService.dispatchDueReminders();
+
+            verify(reminderWindowRepository).deleteAllInBatch(List.of(window));
+            verify(reminderDeliveryRepository).insertQueued(eq(event.getId()), eq(24), eq(List.of(5L, 6L)), any(LocalDateTime.class));
+            verify(directMessageQueue, never()).enqueueAll(any(), any(), any(), any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(directMessageQueue).enqueueAll(eq(event.getId()), eq(24), eq(List.of(5L, 6L)), anyString(), eq(window.getFireTime()));
+    }
+
+    @Test
+    void dispatchDueReminders_queueFull() {
+        final var event = TestEntities.eventJpaWithId(1);
+        final var dayWindow = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(24));
+        final var hourWindow = ReminderWindowJpa.create(event.getId(), 1, event.getEventDate().minusHours(1));
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(dayWindow, hourWindow));
+        when(eventRepository.findAllById(Set.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+        when(directMessageQueue.remainingCapacity())
+            .thenReturn(2);
+        when(studentRepository.findReminderRecipients(event.getId(), 24, 0L, 3))
+            .thenReturn(List.of(5L, 6L, 7L));
+
+        reminderService.dispatchDueReminders();
+
+        // The day window is queued up to the second student and the hour window waits for the next tick
+        verify(directMessageQueue).enqueueAll(eq(event.getId()), eq(24), eq(List.of(5L, 6L)), anyString(), any(LocalDateTime.class));
+        verify(studentRepository, never()).findReminderRecipients(eq(event.getId()), eq(1), any(), anyInt());
+        verify(reminderWindowRepository, never()).deleteAllInBatch(any());
+        assertThat(dayWindow.getLastStudentId()).isEqualTo(6L);
+        assertThat(hourWindow.getLastStudentId()).isNull();
+    }
+
+    @Test
+    void dispatchDueReminders_resumeWindow() {
+        final var event = TestEntities.eventJpaWithId(1);
+        final var window = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(24));
+        window.setLastStudentId(6L);
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(window));
+        when(eventRepository.findAllById(Set.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+        when(directMessageQueue.remainingCapacity())
+            .thenReturn(2);
+        when(studentRepository.findReminderRecipients(event.getId(), 24, 6L, 3))
+            .thenReturn(List.of(7L));
+
+        reminderService.dispatchDueReminders();
+
+        verify(directMessageQueue).enqueueAll(eq(event.getId()), eq(24), eq(List.of(7L)), anyString(), any(LocalDateTime.class));
+        verify(reminderWindowRepository).deleteAllInBatch(List.of(window));
+    }
+
+    @Test
+    void dispatchDueReminders_nothingFits() {
+        final var event = TestEntities.eventJpaWithId(1);
+        final var window = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(24));
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(window));
+        when(eventRepository.findAllById(Set.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+        when(directMessageQueue.remainingCapacity())
+            .thenReturn(0);
+
+        reminderService.dispatchDueReminders();
+
+        verify(studentRepository, never()).findReminderRecipients(any(), any(), any(), anyInt());
+        verify(directMessageQueue, never()).enqueueAll(any(), any(), any(), any(), any());
+        verify(reminderWindowRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void dispatchDueReminders_recordsOutcomes() {
+        when(directMessageQueue.drainOutcomes())
+            .thenReturn(List.of(
+                new DeliveryOutcome(1L, 24, 5L, DeliveryStatus.SENT),
+                new DeliveryOutcome(1L, 24, 6L, DeliveryStatus.SENT),
+                new DeliveryOutcome(1L, 24, 7L, DeliveryStatus.BLOCKED),
+                new DeliveryOutcome(1L, 1, 5L, DeliveryStatus.FAILED)
+            ));
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of());
+
+        reminderService.dispatchDueReminders();
+
+        verify(reminderDeliveryRepository).updateStatus(eq(1L), eq(24), eq(List.of(5L, 6L)), eq(DeliveryStatus.SENT), any(LocalDateTime.class));
+        verify(reminderDeliveryRepository).updateStatus(eq(1L), eq(24), eq(List.of(7L)), eq(DeliveryStatus.BLOCKED), any(LocalDateTime.class));
+        verify(reminderDeliveryRepository).updateStatus(eq(1L), eq(1), eq(List.of(5L)), eq(DeliveryStatus.FAILED), any(LocalDateTime.class));
+    }
+
+    @Test
+    void dispatchDueReminders_noWindows() {
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of());
+
+        reminderService.dispatchDueReminders();
+
+        verify(eventRepository, never()).findAllById(any());
+        verify(configService, never()).getConfigJpa();
+        verify(reminderWindowRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void dispatchDueReminders_eventNotActive() {
+        final var event = TestEntities.eventJpaWithId(1);
+        event.setStatus(EventStatus.DELETED);
+        final var window = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(24));
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(window));
+        when(eventRepository.findAllById(Set.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+
+        reminderService.dispatchDueReminders();
+
+        verify(studentRepository, never()).findReminderRecipients(any(), any(), any(), anyInt());
+        verify(directMessageQueue, never()).enqueueAll(any(), any(), any(), any(), any());
+        verify(reminderWindowRepository).deleteAllInBatch(List.of(window));
+    }
+
+    @Test
+    void dispatchDueReminders_missingEvent() {
+        final var window = ReminderWindowJpa.create(1234L, 24, LocalDateTime.now());
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(window));
+        when(eventRepository.findAllById(Set.of(1234L)))
+            .thenReturn(List.of());
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+
+        reminderService.dispatchDueReminders();
+
+        verify(studentRepository, never()).findReminderRecipients(any(), any(), any(), anyInt());
+        verify(reminderWindowRepository).deleteAllInBatch(List.of(window));
+    }
+
+    @Test
+    void dispatchDueReminders_eventPassed() {
+        final var event = TestEntities.eventJpaWithId(1);
+        event.setEventDate(LocalDateTime.now().minusHours(1));
+        final var window = ReminderWindowJpa.create(event.getId(), 24, event.getEventDate().minusHours(24));
+
+        when(reminderWindowRepository.findAllDue(any(LocalDateTime.class)))
+            .thenReturn(List.of(window));
+        when(eventRepository.findAllById(Set.of(event.getId())))
+            .thenReturn(List.of(event));
+        when(configService.getConfigJpa())
+            .thenReturn(TestEntities.configJpa());
+
+        reminderService.dispatchDueReminders();
+
+        verify(studentRepository, never()).findReminderRecipients(any(), any(), any(), anyInt());
+        verify(reminderWindowRepository).deleteAllInBatch(List.of(window));
+    }
+}
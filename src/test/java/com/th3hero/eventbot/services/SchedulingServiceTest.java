@@ -2,23 +2,19 @@ package com.th3hero.eventbot.services;
 
 import com.th3hero.eventbot.TestEntities;
 import com.th3hero.eventbot.formatting.DateFormatter;
+import com.th3hero.eventbot.jobs.ArchiveEventsJob;
 import com.th3hero.eventbot.jobs.DeletedEventCleanupJob;
 import com.th3hero.eventbot.jobs.DraftCleanupJob;
-import com.th3hero.eventbot.jobs.EventReminderJob;
+import com.th3hero.eventbot.jobs.ReminderDispatchJob;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.*;
-import org.quartz.impl.matchers.GroupMatcher;
 import org.springframework.scheduling.SchedulingException;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,8 +23,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class SchedulingServiceTest {
 
-    private static final String REMINDER_TRIGGER_GROUP_FORMAT = "%d-%d";
-
     @Mock
     private Scheduler scheduler;
     @Mock
@@ -37,9 +31,6 @@ class SchedulingServiceTest {
     @InjectMocks
     private SchedulingService schedulingService;
 
-    @Captor
-    private ArgumentCaptor<List<TriggerKey>> triggerKeysCaptor;
-
     @Test
     void addDraftCleanupTrigger() throws SchedulerException {
         final var draftId = 1L;
@@ -95,224 +86,72 @@ class SchedulingServiceTest {
     }
 
     @Test
-    void addEventReminderTrigger() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-        final var offset = 3;
-        final var eventEndTime = LocalDateTime.now();
-        final var triggerTime = eventEndTime.minusHours(24);
+    void addReminderDispatchTrigger() throws SchedulerException {
+        when(scheduler.checkExists(ReminderDispatchJob.JOB_KEY))
+            .thenReturn(false);
+        when(scheduler.checkExists(any(TriggerKey.class)))
+            .thenReturn(false);
 
-        schedulingService.addEventReminderTrigger(eventId, studentId, offset, triggerTime, eventEndTime);
+        schedulingService.addReminderDispatchTrigger();
 
-        verify(scheduler).scheduleJob(any(Trigger.class));
-        verify(scheduler).scheduleJob(argThat(
-            trigger ->
-                trigger.getJobDataMap().get(EventReminderJob.STUDENT_ID).equals(studentId) &&
-                    trigger.getJobDataMap().get(EventReminderJob.EVENT_ID).equals(eventId) &&
-                    trigger.getJobDataMap().get(EventReminderJob.OFFSET_ID).equals(offset) &&
-                    trigger.getEndTime().equals(DateFormatter.toDate(eventEndTime)) &&
-                    trigger.getStartTime().equals(DateFormatter.toDate(triggerTime))
+        verify(scheduler).addJob(argThat(job -> job.getKey().equals(ReminderDispatchJob.JOB_KEY)), eq(true));
+        verify(scheduler).scheduleJob(argThat(trigger ->
+            trigger.getJobKey().equals(ReminderDispatchJob.JOB_KEY) &&
+                ((SimpleTrigger) trigger).getRepeatInterval() == 60_000L
         ));
     }
 
     @Test
-    void addEventReminderTrigger_existingTrigger() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-        final var offset = 3;
-        final var eventEndTime = LocalDateTime.now();
-        final var triggerTime = eventEndTime.minusHours(24);
-
-        when(scheduler.checkExists(any(JobKey.class)))
+    void addReminderDispatchTrigger_existingTrigger() throws SchedulerException {
+        when(scheduler.checkExists(ReminderDispatchJob.JOB_KEY))
             .thenReturn(true);
         when(scheduler.checkExists(any(TriggerKey.class)))
             .thenReturn(true);
 
-        schedulingService.addEventReminderTrigger(eventId, studentId, offset, triggerTime, eventEndTime);
+        schedulingService.addReminderDispatchTrigger();
 
-        verify(scheduler, never()).scheduleJob(any(Trigger.class));
+        verify(scheduler, never()).scheduleJob(any());
     }
 
     @Test
-    void addEventReminderTrigger_schedulerFail() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-        final var offset = 3;
-        final var eventEndTime = LocalDateTime.now();
-        final var triggerTime = eventEndTime.minusHours(24);
-
+    void addReminderDispatchTrigger_schedulerFail() throws SchedulerException {
+        when(scheduler.checkExists(ReminderDispatchJob.JOB_KEY))
+            .thenReturn(true);
+        when(scheduler.checkExists(any(TriggerKey.class)))
+            .thenReturn(false);
         when(scheduler.scheduleJob(any(Trigger.class)))
             .thenThrow(SchedulerException.class);
 
         assertThatExceptionOfType(SchedulingException.class)
-            .isThrownBy(() -> schedulingService.addEventReminderTrigger(eventId, studentId, offset, triggerTime, eventEndTime));
-    }
-
-    @Test
-    void removeEventReminderTriggers() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-        final Integer offset = 3;
-
-        final var groupKey = REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId);
-        final var triggerKey = TriggerKey.triggerKey(offset.toString(), groupKey);
-
-        schedulingService.removeEventReminderTriggers(eventId, studentId, offset);
-
-        verify(scheduler).unscheduleJob(triggerKey);
-    }
-
-    @Test
-    void removeEventReminderTriggers_noTrigger() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-        final Integer offset = 3;
-
-        final var groupKey = REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId);
-        final var triggerKey = TriggerKey.triggerKey(offset.toString(), groupKey);
-
-        when(scheduler.unscheduleJob(triggerKey))
-            .thenThrow(SchedulerException.class);
-
-        assertThatExceptionOfType(SchedulingException.class)
-            .isThrownBy(() -> schedulingService.removeEventReminderTriggers(eventId, studentId, offset));
-    }
-
-    @Test
-    void testRemoveEventReminderTriggers() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-
-        final var groupKey = REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId);
-        final var triggerKey = TriggerKey.triggerKey("1", groupKey);
-
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupEquals(groupKey)))
-            .thenReturn(Set.of(triggerKey));
-        when(scheduler.unscheduleJobs(anyList()))
-            .thenReturn(true);
-
-        boolean result = schedulingService.removeEventReminderTriggers(eventId, studentId);
-
-        assertThat(result).isTrue();
-        verify(scheduler).unscheduleJobs(List.of(triggerKey));
-    }
-
-    @Test
-    void testRemoveEventReminderTriggers_noTrigger() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-
-        final var groupKey = REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId);
-
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupEquals(groupKey)))
-            .thenReturn(Set.of());
-
-        boolean result = schedulingService.removeEventReminderTriggers(eventId, studentId);
-
-        assertThat(result).isFalse();
-        verify(scheduler, never()).unscheduleJobs(anyList());
+            .isThrownBy(() -> schedulingService.addReminderDispatchTrigger());
     }
 
     @Test
-    void testRemoveEventReminderTriggers_schedulerFail() throws SchedulerException {
-        final var eventId = 1L;
-        final var studentId = 2L;
-
-        final var groupKey = REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, studentId);
+    void addEventArchiveTrigger() throws SchedulerException {
+        when(scheduler.checkExists(ArchiveEventsJob.JOB_KEY))
+            .thenReturn(false);
+        when(scheduler.checkExists(any(TriggerKey.class)))
+            .thenReturn(false);
 
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupEquals(groupKey)))
-            .thenThrow(SchedulerException.class);
+        schedulingService.addEventArchiveTrigger();
 
-        assertThatExceptionOfType(SchedulingException.class)
-            .isThrownBy(() -> schedulingService.removeEventReminderTriggers(eventId, studentId));
+        verify(scheduler).addJob(argThat(job -> job.getKey().equals(ArchiveEventsJob.JOB_KEY)), eq(true));
+        verify(scheduler).scheduleJob(argThat(trigger ->
+            trigger.getJobKey().equals(ArchiveEventsJob.JOB_KEY) &&
+                ((SimpleTrigger) trigger).getRepeatInterval() == 86_400_000L
+        ));
     }
 
     @Test
-    void removeAllEventReminderTriggers() throws SchedulerException {
-        final var studentId = 2L;
-
-        final var triggerKeyOne = TriggerKey.triggerKey("1", REMINDER_TRIGGER_GROUP_FORMAT.formatted(1L, studentId));
-        final var triggerKeyTwo = TriggerKey.triggerKey("2", REMINDER_TRIGGER_GROUP_FORMAT.formatted(1L, studentId));
-
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupEndsWith("-%s".formatted(studentId))))
-            .thenReturn(Set.of(triggerKeyOne, triggerKeyTwo));
-        when(scheduler.unscheduleJobs(anyList()))
+    void addEventArchiveTrigger_existingTrigger() throws SchedulerException {
+        when(scheduler.checkExists(ArchiveEventsJob.JOB_KEY))
             .thenReturn(true);
-
-        schedulingService.removeAllEventReminderTriggers(studentId);
-
-        verify(scheduler).getTriggerKeys(GroupMatcher.triggerGroupEndsWith("-%s".formatted(studentId)));
-
-        verify(scheduler).unscheduleJobs(triggerKeysCaptor.capture());
-        List<TriggerKey> triggerKeys = triggerKeysCaptor.getValue();
-        assertThat(triggerKeys).containsExactlyInAnyOrder(triggerKeyOne, triggerKeyTwo);
-    }
-
-    @Test
-    void removeAllEventReminderTriggers_noTriggers() throws SchedulerException {
-        final var studentId = 2L;
-
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupEndsWith("-%s".formatted(studentId))))
-            .thenReturn(Set.of());
-
-        schedulingService.removeAllEventReminderTriggers(studentId);
-
-        verify(scheduler, never()).unscheduleJobs(anyList());
-    }
-
-    @Test
-    void removeAllEventReminderTriggers_schedulerFail() throws SchedulerException {
-        final var studentId = 2L;
-
-        when(scheduler.getTriggerKeys(any()))
-            .thenThrow(SchedulerException.class);
-
-        schedulingService.removeAllEventReminderTriggers(studentId);
-
-        verify(scheduler, never()).unscheduleJobs(anyList());
-    }
-
-    @Test
-    void removeReminderTriggers() throws SchedulerException {
-        final var eventId = 1L;
-
-        final var triggerKeyOne = TriggerKey.triggerKey("1", REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, 2L));
-        final var triggerKeyTwo = TriggerKey.triggerKey("2", REMINDER_TRIGGER_GROUP_FORMAT.formatted(eventId, 3L));
-
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupStartsWith("%d-".formatted(eventId))))
-            .thenReturn(Set.of(triggerKeyOne, triggerKeyTwo));
-        when(scheduler.unscheduleJobs(anyList()))
+        when(scheduler.checkExists(any(TriggerKey.class)))
             .thenReturn(true);
 
-        schedulingService.removeReminderTriggers(eventId);
-
-        verify(scheduler).unscheduleJobs(triggerKeysCaptor.capture());
-        List<TriggerKey> triggerKeys = triggerKeysCaptor.getValue();
-        assertThat(triggerKeys).containsExactlyInAnyOrder(triggerKeyOne, triggerKeyTwo);
-    }
+        schedulingService.addEventArchiveTrigger();
 
-    @Test
-    void removeReminderTriggers_noTriggers() throws SchedulerException {
-        final var eventId = 1L;
-
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupStartsWith("%d-".formatted(eventId))))
-            .thenReturn(Set.of());
-
-        schedulingService.removeReminderTriggers(eventId);
-
-        verify(scheduler, never()).unscheduleJobs(anyList());
-    }
-
-    @Test
-    void removeReminderTriggers_schedulerFail() throws SchedulerException {
-        final var eventId = 1L;
-
-        when(scheduler.getTriggerKeys(GroupMatcher.triggerGroupStartsWith("%d-".formatted(eventId))))
-            .thenThrow(SchedulerException.class);
-
-        schedulingService.removeReminderTriggers(eventId);
-
-        verify(scheduler, never()).unscheduleJobs(anyList());
+        verify(scheduler, never()).scheduleJob(any());
     }
 
     @Test
@@ -1,11 +1,10 @@
 package com.th3hero.eventbot.services;
 
 import com.th3hero.eventbot.TestEntities;
-import com.th3hero.eventbot.commands.requests.ButtonRequest;
 import com.th3hero.eventbot.commands.requests.CommandRequest;
 import com.th3hero.eventbot.commands.requests.InteractionRequest;
 import com.th3hero.eventbot.entities.StudentJpa;
-import com.th3hero.eventbot.repositories.EventRepository;
+import com.th3hero.eventbot.listeners.events.UpdatedStudentEvent;
 import com.th3hero.eventbot.repositories.StudentRepository;
 import jakarta.persistence.EntityNotFoundException;
 import net.dv8tion.jda.api.entities.Member;
@@ -19,8 +18,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,9 +37,13 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
     @Mock
-    private SchedulingService schedulingService;
+    private ReminderService reminderService;
     @Mock
-    private EventRepository eventRepository;
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private MemberCacheService memberCacheService;
+    @Mock
+    private PrivateChannelService privateChannelService;
 
     @InjectMocks
     private StudentService studentService;
@@ -56,6 +59,7 @@ class StudentServiceTest {
         final var result = studentService.fetchStudent(studentId);
 
         assertThat(result).isEqualTo(studentJpa);
+        verifyNoInteractions(memberCacheService);
     }
 
     @Test
@@ -72,6 +76,43 @@ class StudentServiceTest {
         final var result = studentService.fetchStudent(studentId);
 
         assertThat(result).isEqualTo(student);
+        verify(memberCacheService).addStudent(studentId);
+    }
+
+    @Test
+    void findStudentOrDefault_notFound() {
+        final var studentId = 1L;
+
+        when(studentRepository.findById(studentId))
+            .thenReturn(Optional.empty());
+
+        final var result = studentService.findStudentOrDefault(studentId);
+
+        assertThat(result).isEqualTo(StudentJpa.create(studentId));
+        assertThat(result.getReminderOffsetTimes()).containsExactly(24, 72);
+        verify(studentRepository, never()).save(any());
+    }
+
+    @Test
+    void toggleCompletedEvent_notCompleted() {
+        when(studentRepository.removeCompletedEvent(1L, 2L))
+            .thenReturn(0);
+
+        final var result = studentService.toggleCompletedEvent(1L, 2L);
+
+        assertThat(result).isTrue();
+        verify(studentRepository).addCompletedEvent(1L, 2L);
+    }
+
+    @Test
+    void toggleCompletedEvent_alreadyCompleted() {
+        when(studentRepository.removeCompletedEvent(1L, 2L))
+            .thenReturn(1);
+
+        final var result = studentService.toggleCompletedEvent(1L, 2L);
+
+        assertThat(result).isFalse();
+        verify(studentRepository, never()).addCompletedEvent(any(), any());
     }
 
     @Test
@@ -218,7 +259,6 @@ class StudentServiceTest {
         arguments.put(OFFSET, "48");
         final var request = mock(CommandRequest.class);
         final var member = mock(Member.class);
-        final var events = List.of(TestEntities.eventJpa(1), TestEntities.eventJpa(2));
         final var courses = List.of(TestEntities.courseJpa(1), TestEntities.courseJpa(2));
         final var student = TestEntities.studentJpa(1, courses);
 
@@ -231,14 +271,14 @@ class StudentServiceTest {
             .thenReturn(student.getId());
         when(studentRepository.findById(student.getId()))
             .thenReturn(Optional.of(student));
-        when(eventRepository.findAllByCourse(student.getCourses()))
-            .thenReturn(events);
 
         studentService.reminderOffsetSubcommandHandler(request);
 
         verify(request).sendResponse(anyString(), eq(InteractionRequest.MessageMode.USER));
         verify(request, never()).sendResponse("You already have an offset for 48", InteractionRequest.MessageMode.USER);
-        verify(schedulingService, times(events.size())).addEventReminderTrigger(any(), any(), any(), any(), any());
+        assertThat(student.getReminderOffsetTimes()).contains(48);
+        verify(reminderService).scheduleStudentReminders(student.getId());
+        verify(applicationEventPublisher).publishEvent(new UpdatedStudentEvent(student.getId()));
     }
 
     @Test
@@ -264,7 +304,7 @@ class StudentServiceTest {
         studentService.reminderOffsetSubcommandHandler(request);
 
         verify(request).sendResponse("You already have an offset for 48", InteractionRequest.MessageMode.USER);
-        verify(eventRepository, never()).findAllByCourse(any());
+        verify(reminderService, never()).scheduleStudentReminders(any());
     }
 
     @Test
@@ -275,7 +315,6 @@ class StudentServiceTest {
         final var request = mock(CommandRequest.class);
         final var member = mock(Member.class);
         final var student = TestEntities.studentJpa(1, List.of());
-        final var events = List.of(TestEntities.eventJpa(1), TestEntities.eventJpa(2));
         student.getReminderOffsetTimes().add(48);
 
 
@@ -287,15 +326,12 @@ class StudentServiceTest {
             .thenReturn(student.getId());
         when(studentRepository.findById(student.getId()))
             .thenReturn(Optional.of(student));
-        when(eventRepository.findAllByCourse(student.getCourses()))
-            .thenReturn(events);
 
         studentService.reminderOffsetSubcommandHandler(request);
 
         verify(request).sendResponse(anyString(), eq(InteractionRequest.MessageMode.USER));
         verify(request, never()).sendResponse("You have no offset for 48", InteractionRequest.MessageMode.USER);
-        verify(eventRepository).findAllByCourse(any());
-        verify(schedulingService, times(2)).removeEventReminderTriggers(any(), any(), any());
+        assertThat(student.getReminderOffsetTimes()).doesNotContain(48);
     }
 
     @Test
@@ -319,78 +355,6 @@ class StudentServiceTest {
         studentService.reminderOffsetSubcommandHandler(request);
 
         verify(request).sendResponse("You have no offset for 48", InteractionRequest.MessageMode.USER);
-        verify(eventRepository, never()).findAllByCourse(any());
-    }
-
-    @Test
-    void scheduleStudentForEvent() {
-        final var studentJpa = TestEntities.studentJpa(1, List.of());
-        final var eventJpa = TestEntities.eventJpa(1);
-
-        studentService.scheduleStudentForEvent(eventJpa, studentJpa);
-
-        verify(schedulingService, times(studentJpa.getReminderOffsetTimes().size())).addEventReminderTrigger(
-            eq(eventJpa.getId()),
-            eq(studentJpa.getId()),
-            argThat(i -> studentJpa.getReminderOffsetTimes().contains(i)),
-            any(LocalDateTime.class),
-            any(LocalDateTime.class)
-        );
-    }
-
-    @Test
-    void scheduleStudentForEvent_reminderHasPassed() {
-        final var studentJpa = TestEntities.studentJpa(1, List.of());
-        final var eventJpa = TestEntities.eventJpa(1);
-        eventJpa.setEventDate(LocalDateTime.now().minusHours(1));
-
-        studentService.scheduleStudentForEvent(eventJpa, studentJpa);
-
-        verify(schedulingService, never()).addEventReminderTrigger(any(), any(), any(), any(), any());
-    }
-
-    @Test
-    void unscheduleStudentRemindersForEvent() {
-        final var eventId = 1L;
-        final var buttonRequest = mock(ButtonRequest.class);
-        final var member = mock(Member.class);
-        final var studentJpa = TestEntities.studentJpa(1, List.of());
-
-        when(buttonRequest.getRequester())
-            .thenReturn(member);
-        when(member.getIdLong())
-            .thenReturn(studentJpa.getId());
-        when(studentRepository.findById(studentJpa.getId()))
-            .thenReturn(Optional.of(studentJpa));
-        when(schedulingService.removeEventReminderTriggers(eventId, studentJpa.getId()))
-            .thenReturn(true);
-
-        studentService.unscheduleStudentRemindersForEvent(buttonRequest, eventId);
-
-        verify(schedulingService).removeEventReminderTriggers(eventId, studentJpa.getId());
-        verify(buttonRequest).sendResponse("All reminders have been removed for this event.", InteractionRequest.MessageMode.USER);
-    }
-
-    @Test
-    void unscheduleStudentRemindersForEvent_noReminders() {
-        final var eventId = 1L;
-        final var buttonRequest = mock(ButtonRequest.class);
-        final var member = mock(Member.class);
-        final var studentJpa = TestEntities.studentJpa(1, List.of());
-
-        when(buttonRequest.getRequester())
-            .thenReturn(member);
-        when(member.getIdLong())
-            .thenReturn(studentJpa.getId());
-        when(studentRepository.findById(studentJpa.getId()))
-            .thenReturn(Optional.of(studentJpa));
-        when(schedulingService.removeEventReminderTriggers(eventId, studentJpa.getId()))
-            .thenReturn(false);
-
-        studentService.unscheduleStudentRemindersForEvent(buttonRequest, eventId);
-
-        verify(schedulingService).removeEventReminderTriggers(eventId, studentJpa.getId());
-        verify(buttonRequest).sendResponse("You have no reminders on this event.", InteractionRequest.MessageMode.USER);
     }
 
     @Test
@@ -406,6 +370,8 @@ class StudentServiceTest {
 
         assertThat(studentOne.getCourses()).doesNotContain(course);
         assertThat(studentTwo.getCourses()).doesNotContain(course);
+        verify(applicationEventPublisher).publishEvent(new UpdatedStudentEvent(studentOne.getId()));
+        verify(applicationEventPublisher).publishEvent(new UpdatedStudentEvent(studentTwo.getId()));
     }
 
     @Test
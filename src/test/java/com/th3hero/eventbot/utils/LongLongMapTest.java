@@ -0,0 +1,83 @@
+package com.th3hero.eventbot.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LongLongMapTest {
+
+    @Test
+    void putAndGet() {
+        final var map = new LongLongMap(4);
+
+        assertThat(map.put(1234L, 1L)).isZero();
+        assertThat(map.put(1234L, 2L)).isEqualTo(1L);
+
+        assertThat(map.get(1234L)).isEqualTo(2L);
+        assertThat(map.get(5678L)).isZero();
+        assertThat(map.containsKey(1234L)).isTrue();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_zeroKey() {
+        final var map = new LongLongMap(4);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> map.put(0L, 1L));
+        assertThat(map.get(0L)).isZero();
+    }
+
+    @Test
+    void remove() {
+        final var map = new LongLongMap(4);
+        map.put(1234L, 1L);
+
+        assertThat(map.remove(1234L)).isEqualTo(1L);
+        assertThat(map.remove(1234L)).isZero();
+        assertThat(map.containsKey(1234L)).isFalse();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void matchesHashMap() {
+        // Snowflake like keys from a narrow range collide often, which exercises growing and removing within runs of taken slots
+        final var map = new LongLongMap(4);
+        final Map<Long, Long> expected = new HashMap<>();
+        final var random = new Random(42);
+        final var base = 1_250_000_000_000_000_000L;
+
+        for (int i = 0; i < 20_000; i++) {
+            final long key = base + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, 0L));
+                expected.remove(key);
+            } else {
+                assertThat(map.put(key, i + 1)).isEqualTo(expected.getOrDefault(key, 0L));
+                expected.put(key, (long) i + 1);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = base; key < base + 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, 0L));
+        }
+    }
+
+    @Test
+    void clear() {
+        final var map = new LongLongMap(4);
+        map.put(1L, 1L);
+        map.put(2L, 2L);
+
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.containsKey(1L)).isFalse();
+    }
+}